@@ -1,3 +1,5 @@
+import com.edu.english.content.ContentPackWriter
+
 plugins {
     alias(libs.plugins.android.application)
 }
@@ -29,6 +31,65 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    androidResources {
+        // Content packs are memory-mapped straight out of the APK
+        noCompress += "pack"
+    }
+    sourceSets {
+        // Tests compile the real content sources with the same writer as the build
+        getByName("test").java.srcDir("$rootDir/buildSrc/src/main/java")
+    }
+}
+
+/**
+ * Compiles src/main/content/<name>.txt into assets/content/<name>.pack, the
+ * indexed binary format read by com.edu.english.util.ContentPack.
+ * The format lives in ContentPackWriter (buildSrc), which the unit tests share.
+ */
+abstract class CompileContentPacks : DefaultTask() {
+    @get:InputDirectory
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val sourceDir: DirectoryProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun compile() {
+        val packDir = outputDir.get().dir("content").asFile
+        packDir.deleteRecursively()
+        packDir.mkdirs()
+        sourceDir.get().asFile.listFiles { file -> file.extension == "txt" }?.forEach { source ->
+            compilePack(source, File(packDir, source.nameWithoutExtension + ".pack"))
+        }
+    }
+
+    private fun compilePack(source: File, pack: File) {
+        try {
+            source.reader(Charsets.UTF_8).use { reader ->
+                pack.outputStream().buffered().use { out ->
+                    ContentPackWriter.compile(reader, source.name, out)
+                }
+            }
+        } catch (e: IllegalArgumentException) {
+            throw GradleException(e.message ?: "Bad content source ${source.name}", e)
+        }
+    }
+}
+
+val compileContentPacks = tasks.register<CompileContentPacks>("compileContentPacks") {
+    sourceDir.set(layout.projectDirectory.dir("src/main/content"))
+}
+
+androidComponents {
+    onVariants { variant ->
+        variant.sources.assets?.addGeneratedSourceDirectory(compileContentPacks, CompileContentPacks::outputDir)
+    }
+}
+
+tasks.withType<Test>().configureEach {
+    // Timing benchmarks in the unit tests only run when asked: ./gradlew test -Pbenchmarks
+    systemProperty("benchmarks", project.hasProperty("benchmarks"))
 }
 
 dependencies {
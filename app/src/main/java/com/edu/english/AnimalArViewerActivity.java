@@ -7,7 +7,6 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.speech.tts.TextToSpeech;
 import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
@@ -26,6 +25,8 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 import com.edu.english.data.AnimalArRepository;
 import com.edu.english.model.AnimalArItem;
 import com.edu.english.util.ArCoreHelper;
@@ -37,7 +38,6 @@ import com.google.ar.sceneform.rendering.ModelRenderable;
 import com.google.ar.sceneform.ux.ArFragment;
 import com.google.ar.sceneform.ux.TransformableNode;
 
-import java.util.Locale;
 
 /**
  * Activity for viewing animals in AR or 2D fallback mode
@@ -49,12 +49,16 @@ import java.util.Locale;
  * - Lifecycle-aware resource management
  * - Fallback to 2D mode for devices without AR
  */
-public class AnimalArViewerActivity extends AppCompatActivity implements TextToSpeech.OnInitListener {
+public class AnimalArViewerActivity extends AppCompatActivity {
 
     private static final String TAG = "AnimalArViewer";
     private static final int CAMERA_PERMISSION_REQUEST = 100;
     private static final long TTS_INTERVAL_MS = 5000; // 5 seconds
 
+    // Normal speed and pitch for animal names
+    public static final float SPEECH_RATE = 1.0f;
+    public static final float SPEECH_PITCH = 1.0f;
+
     // Views
     private FrameLayout arContainer;
     private LinearLayout fallback2dContainer;
@@ -78,7 +82,7 @@ public class AnimalArViewerActivity extends AppCompatActivity implements TextToS
 
     // Audio & TTS
     private MediaPlayer mediaPlayer;
-    private TextToSpeech textToSpeech;
+    private SpeechService.Client speech;
     private boolean isTtsReady = false;
     private boolean isTtsLoopEnabled = true;
     private Handler ttsHandler;
@@ -153,25 +157,19 @@ public class AnimalArViewerActivity extends AppCompatActivity implements TextToS
     }
 
     private void initTts() {
-        textToSpeech = new TextToSpeech(this, this);
+        speech = SpeechService.getInstance(this).openClient(SPEECH_RATE, SPEECH_PITCH);
+        speech.setReadyListener(this::onTtsReady);
     }
 
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            int result = textToSpeech.setLanguage(Locale.US);
-            if (result == TextToSpeech.LANG_MISSING_DATA || result == TextToSpeech.LANG_NOT_SUPPORTED) {
-                Log.e(TAG, "TTS: English language not supported");
-                isTtsReady = false;
-            } else {
-                isTtsReady = true;
-                // Start TTS loop after initialization if activity is resumed
-                if (isActivityResumed) {
-                    startTtsLoop();
-                }
+    private void onTtsReady(boolean success) {
+        if (success) {
+            isTtsReady = true;
+            // Start TTS loop after initialization if activity is resumed
+            if (isActivityResumed) {
+                startTtsLoop();
             }
         } else {
-            Log.e(TAG, "TTS initialization failed");
+            Log.e(TAG, "TTS: English language not supported");
             isTtsReady = false;
         }
     }
@@ -373,9 +371,7 @@ public class AnimalArViewerActivity extends AppCompatActivity implements TextToS
         releaseMediaPlayer();
 
         // Use TTS for pronunciation
-        if (isTtsReady) {
-            textToSpeech.speak(currentAnimal.getNameEn(), TextToSpeech.QUEUE_FLUSH, null, "animal_sound");
-        }
+        speakName(SpeechQueue.PRIORITY_FEEDBACK, "animal_sound");
 
         // Show a toast with animal emoji
         String emoji = getAnimalEmoji(currentAnimal.getId());
@@ -423,20 +419,20 @@ public class AnimalArViewerActivity extends AppCompatActivity implements TextToS
         if (ttsHandler != null && ttsRunnable != null) {
             ttsHandler.removeCallbacks(ttsRunnable);
         }
-        if (textToSpeech != null) {
-            try {
-                textToSpeech.stop();
-            } catch (Exception e) {
-                Log.e(TAG, "Error stopping TTS", e);
-            }
+        if (speech != null) {
+            speech.stop();
         }
     }
 
     private void speakAnimalName() {
-        if (textToSpeech != null && isTtsReady && currentAnimal != null) {
-            // Use QUEUE_FLUSH to prevent overlapping speech
-            textToSpeech.speak(currentAnimal.getNameEn(), TextToSpeech.QUEUE_FLUSH, null, "animal_name");
-        }
+        // Skipped while a tap is being answered
+        speakName(SpeechQueue.PRIORITY_AUTO_REPEAT, "animal_name");
+    }
+
+    private void speakName(int priority, String utteranceId) {
+        if (speech == null || currentAnimal == null) return;
+
+        speech.speak(currentAnimal.getNameEn(), priority, utteranceId);
     }
 
     private void toggleTtsLoop() {
@@ -522,14 +518,9 @@ public class AnimalArViewerActivity extends AppCompatActivity implements TextToS
         super.onDestroy();
 
         // Clean up TTS
-        if (textToSpeech != null) {
-            try {
-                textToSpeech.stop();
-                textToSpeech.shutdown();
-            } catch (Exception e) {
-                Log.e(TAG, "Error shutting down TTS", e);
-            }
-            textToSpeech = null;
+        if (speech != null) {
+            speech.close();
+            speech = null;
         }
 
         // Clean up MediaPlayer
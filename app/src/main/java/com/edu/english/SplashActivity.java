@@ -2,6 +2,7 @@ package com.edu.english;
 
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
+import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
 import android.os.Handler;
@@ -18,6 +19,10 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
+import com.edu.english.audio.SpeechCache;
+import com.edu.english.audio.SpeechService;
+import com.edu.english.audio.SpeechVocabulary;
+
 public class SplashActivity extends AppCompatActivity {
 
     private static final int SPLASH_DURATION = 2000; // Reduced to 2 seconds for faster transition
@@ -45,6 +50,13 @@ public class SplashActivity extends AppCompatActivity {
         // Start animations
         startAnimations();
 
+        // Start binding the shared TTS engine so it is warm when the first lesson opens
+        SpeechService.getInstance(this);
+
+        // Render lesson words to the speech cache in the background (skips cached ones)
+        Context appContext = getApplicationContext();
+        SpeechCache.getInstance(this).prerender(() -> SpeechVocabulary.getAllPhrases(appContext));
+
         // Navigate to MainActivity after splash duration
         new Handler(Looper.getMainLooper()).postDelayed(() -> {
             Intent intent = new Intent(SplashActivity.this, MainActivity.class);
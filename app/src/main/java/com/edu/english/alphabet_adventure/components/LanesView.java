@@ -1,24 +1,147 @@
 package com.edu.english.alphabet_adventure.components;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.DashPathEffect;
+import android.graphics.LinearGradient;
+import android.graphics.Matrix;
 import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.Typeface;
+import android.os.SystemClock;
 import android.util.AttributeSet;
+import android.util.TypedValue;
 import android.view.View;
+import android.view.animation.AccelerateDecelerateInterpolator;
+import android.view.animation.OvershootInterpolator;
 
 import androidx.annotation.Nullable;
 
+import com.edu.english.alphabet_adventure.engine.GameEngine;
+import com.edu.english.alphabet_adventure.engine.TokenEvents;
+import com.edu.english.alphabet_adventure.models.GameState;
+import com.edu.english.util.EmojiAtlas;
+
+import java.util.Arrays;
+import java.util.Random;
+
 /**
- * Custom view that draws 5 lanes with dashed separator lines.
+ * Custom view that draws the whole Word Race playfield: 5 lanes with dashed
+ * separator lines, the scrolling scenery, the letter tokens and the mascot.
+ * Tokens are kept in a small table updated each frame from the token events
+ * the engine publishes, and the mascot's lane is read from the GameState,
+ * so play adds or moves no views at all.
  */
 public class LanesView extends View {
 
+    private static final int LANE_COUNT = 5;
+
+    // Token look (was a TextView with bg_letter_token_gradient)
+    private static final float TOKEN_TEXT_SP = 32f;
+    private static final int TOKEN_PADDING_X = 28;
+    private static final int TOKEN_PADDING_Y = 20;
+    private static final float TOKEN_CORNER_DP = 20f;
+    private static final int TOKEN_SHADOW = 8;
+    private static final long TOKEN_ENTER_MS = 300;
+    private static final int MAX_TOKENS = 16; // Power of two: slots are picked by id
+    private static final int NO_TOKEN = -1;
+
+    // Mascot
+    private static final float MASCOT_TEXT_SP = 48f;
+    private static final float MASCOT_MARGIN_DP = 24f;
+    private static final long LANE_CHANGE_MS = 260;
+    private static final long CORRECT_MS = 300;
+    private static final long WRONG_MS = 350;
+
+    private static final long HIGHLIGHT_MOVE_MS = 150;
+    private static final long FLASH_MS = 300;
+
+    // Scenery: 3px per 16ms frame, to match the tokens
+    private static final float SCROLL_SPEED = 187.5f;
+    private static final String[] GROUND_ITEMS = {"🌿", "🍀", "🌻", "🌼", "🌷", "🌸", "🌹", "🌺"};
+    private static final String[] SKY_ITEMS = {"☁️", "⭐", "🪶", "🦋", "🐦"};
+    private static final String[] TREE_ITEMS = {"🌳", "🌲", "🌴", "🌵"};
+    private static final int GROUND_COUNT = 20;
+    private static final int SKY_COUNT = 8;
+    private static final int TREE_COUNT = 6;
+    // The ground layer repeats this far past the view's width
+    private static final int SCENERY_EXTRA_WIDTH = 200;
+
     private Paint linePaint;
     private Paint bgPaint;
+    private Paint highlightPaint;
+    private Paint flashPaint;
+    private Paint spritePaint;
+    private Paint tokenTextPaint;
     private int highlightedLane = 2;
 
+    private final AccelerateDecelerateInterpolator easeInOut = new AccelerateDecelerateInterpolator();
+    private final OvershootInterpolator tokenOvershoot = new OvershootInterpolator(1.5f);
+    private final OvershootInterpolator mascotOvershoot = new OvershootInterpolator();
+    private final Random random = new Random();
+
+    private GameState gameState;
+    private GameEngine gameEngine;
+    private final TokenEvents frameEvents = new TokenEvents(64);
+    private boolean running = false;
+    private long lastFrameTime = 0;
+    private float laneHeight;
+
+    // Lane highlight slides between lanes
+    private float highlightFromY;
+    private float highlightToY;
+    private long highlightStart = 0;
+
+    // Token sprites by letter, rendered on first use
+    private final Bitmap[] tokenSprites = new Bitmap[128];
+    private float tokenCorner;
+
+    // Tokens on screen by slot, and when each appeared for the pop-in
+    private final int[] tokenIds = new int[MAX_TOKENS];
+    private final char[] tokenLetters = new char[MAX_TOKENS];
+    private final int[] tokenLanes = new int[MAX_TOKENS];
+    private final float[] tokenXs = new float[MAX_TOKENS];
+    private final float[] tokenSpeeds = new float[MAX_TOKENS];
+    private final long[] tokenTimes = new long[MAX_TOKENS];
+    private final long[] tokenSince = new long[MAX_TOKENS];
+
+    // Mascot
+    private String mascotEmoji = "🐰";
+    private float mascotTextSize;
+    private float mascotCenterX;
+    private float mascotBaselineOffset;
+    private int mascotLane = -1;
+    private float mascotFromY;
+    private float mascotY;
+    private long laneChangeStart = 0;
+    private long correctStart = 0;
+    private long wrongStart = 0;
+    private long walkStart = 0;
+
+    // Success flash over the lanes
+    private int flashColor;
+    private long flashStart = 0;
+
+    // Ground scenery (grass, flowers, trees): baked into one tile that repeats
+    // horizontally and scrolls by moving the shader, so it is a single draw
+    private Bitmap sceneryTile;
+    private final Paint sceneryPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Matrix sceneryMatrix = new Matrix();
+    private float sceneryOffset = 0f;
+
+    // Sky scenery bobs on its own, so each item is drawn; one slot per item
+    private final String[] skyEmoji = new String[SKY_COUNT];
+    private final float[] skyX = new float[SKY_COUNT];
+    private final float[] skyY = new float[SKY_COUNT];
+    private final float[] skySize = new float[SKY_COUNT];
+    private final int[] skyColor = new int[SKY_COUNT];
+    private final long[] skyFloatPeriod = new long[SKY_COUNT];
+    private float emojiTopRatio;
+
     public LanesView(Context context) {
         super(context);
         init();
@@ -44,34 +167,533 @@ public class LanesView extends View {
         bgPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         bgPaint.setColor(Color.parseColor("#20FFFFFF"));
         bgPaint.setStyle(Paint.Style.FILL);
+
+        highlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        highlightPaint.setStyle(Paint.Style.FILL);
+
+        flashPaint = new Paint();
+        flashPaint.setStyle(Paint.Style.FILL);
+
+        spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+        tokenTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        tokenTextPaint.setColor(Color.WHITE);
+        tokenTextPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        tokenTextPaint.setTextSize(sp(TOKEN_TEXT_SP));
+        tokenCorner = dp(TOKEN_CORNER_DP);
+
+        Paint metrics = new Paint();
+        metrics.setTextSize(100f);
+        emojiTopRatio = -metrics.getFontMetrics().top / 100f;
+
+        mascotTextSize = sp(MASCOT_TEXT_SP);
+        setMascot(mascotEmoji);
+
+        Arrays.fill(tokenIds, NO_TOKEN);
+    }
+
+    /**
+     * Engine to take token changes from, and state to read the mascot's lane from
+     */
+    public void bind(GameState gameState, GameEngine gameEngine) {
+        this.gameState = gameState;
+        this.gameEngine = gameEngine;
+        highlightedLane = gameState.getCurrentLane();
+    }
+
+    public void setMascot(String emoji) {
+        mascotEmoji = emoji;
+        Paint metrics = new Paint();
+        metrics.setTextSize(mascotTextSize);
+        Paint.FontMetrics fm = metrics.getFontMetrics();
+        mascotCenterX = dp(MASCOT_MARGIN_DP) + metrics.measureText(emoji) / 2f;
+        mascotBaselineOffset = -(fm.ascent + fm.descent) / 2f;
+        invalidate();
     }
 
     public void setHighlightedLane(int lane) {
+        moveHighlight(lane, SystemClock.uptimeMillis());
+        invalidate();
+    }
+
+    private void moveHighlight(int lane, long now) {
+        if (lane == highlightedLane) return;
+        highlightFromY = getHighlightY(now);
+        highlightToY = lane * laneHeight;
+        highlightStart = now;
         this.highlightedLane = lane;
+    }
+
+    // ==================== Animation control ====================
+
+    /**
+     * Start redrawing every frame (scenery, walk cycle and tokens)
+     */
+    public void start() {
+        if (running) return;
+        running = true;
+        lastFrameTime = 0;
+        postInvalidateOnAnimation();
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Mascot cheers: grows and wiggles
+     */
+    public void playCorrect(int flashColor) {
+        long now = SystemClock.uptimeMillis();
+        correctStart = now;
+        this.flashColor = flashColor;
+        flashStart = now;
+        invalidate();
+    }
+
+    /**
+     * Mascot shrinks and bounces back
+     */
+    public void playWrong() {
+        wrongStart = SystemClock.uptimeMillis();
+        invalidate();
+    }
+
+    /**
+     * Drop all tokens (new word or retry)
+     */
+    public void clearTokens() {
+        Arrays.fill(tokenIds, NO_TOKEN);
         invalidate();
     }
 
+    // ==================== Layout ====================
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        laneHeight = h / (float) LANE_COUNT;
+
+        // Same fade as bg_lane_highlight
+        highlightPaint.setShader(new LinearGradient(0, 0, w, 0,
+                Color.parseColor("#60FFEB3B"), Color.parseColor("#20FFEB3B"), Shader.TileMode.CLAMP));
+        highlightToY = highlightedLane * laneHeight;
+        highlightStart = 0;
+
+        if (mascotLane >= 0) {
+            mascotY = getLaneCenter(mascotLane);
+        }
+        buildScenery(w, h);
+        layoutSky(w);
+    }
+
+    /**
+     * Render grass, flowers and trees into a tile SCENERY_EXTRA_WIDTH wider than the view
+     */
+    private void buildScenery(int width, int height) {
+        if (sceneryTile != null) {
+            sceneryTile.recycle();
+            sceneryTile = null;
+            sceneryPaint.setShader(null);
+        }
+        if (width <= 0 || height <= 0) return;
+
+        int tileWidth = width + SCENERY_EXTRA_WIDTH;
+        sceneryTile = Bitmap.createBitmap(tileWidth, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(sceneryTile);
+
+        for (int i = 0; i < GROUND_COUNT + TREE_COUNT; i++) {
+            String emoji;
+            float size;
+            int alpha;
+            float y;
+            if (i < GROUND_COUNT) {
+                // Grass and flowers at the bottom of a lane
+                emoji = GROUND_ITEMS[random.nextInt(GROUND_ITEMS.length)];
+                size = sp(random.nextInt(12) + 14);
+                alpha = (int) ((0.4f + random.nextFloat() * 0.3f) * 255);
+                y = random.nextInt(LANE_COUNT) * laneHeight
+                        + laneHeight * 0.6f + random.nextFloat() * (laneHeight * 0.3f);
+            } else {
+                // Bigger trees
+                emoji = TREE_ITEMS[random.nextInt(TREE_ITEMS.length)];
+                size = sp(random.nextInt(15) + 24);
+                alpha = (int) ((0.5f + random.nextFloat() * 0.3f) * 255);
+                y = random.nextInt(LANE_COUNT) * laneHeight
+                        + laneHeight * 0.2f + random.nextFloat() * (laneHeight * 0.3f);
+            }
+            float x = random.nextFloat() * tileWidth;
+            int color = Color.argb(alpha, 0, 0, 0);
+            drawScenery(canvas, emoji, x, y, size, color);
+            // An item over the right edge continues at the left, so the seam doesn't show
+            if (x + size * 1.2f > tileWidth) {
+                drawScenery(canvas, emoji, x - tileWidth, y, size, color);
+            }
+        }
+
+        sceneryPaint.setShader(new BitmapShader(sceneryTile, Shader.TileMode.REPEAT, Shader.TileMode.CLAMP));
+        sceneryOffset = 0f;
+    }
+
+    private void layoutSky(int width) {
+        for (int i = 0; i < SKY_COUNT; i++) {
+            // Clouds, stars and birds at the top of the upper lanes, bobbing
+            skyEmoji[i] = SKY_ITEMS[random.nextInt(SKY_ITEMS.length)];
+            skySize[i] = sp(random.nextInt(15) + 16);
+            skyColor[i] = Color.argb((int) ((0.3f + random.nextFloat() * 0.4f) * 255), 0, 0, 0);
+            skyX[i] = random.nextFloat() * (width + 300) - 100;
+            skyY[i] = random.nextInt(3) * laneHeight + random.nextFloat() * (laneHeight * 0.4f);
+            skyFloatPeriod[i] = 1500 + random.nextInt(1000);
+        }
+    }
+
+    // ==================== Drawing ====================
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
+        long now = SystemClock.uptimeMillis();
+        float dt = lastFrameTime == 0 ? 0f : Math.min(0.05f, (now - lastFrameTime) / 1000f);
+        lastFrameTime = now;
+
         int width = getWidth();
         int height = getHeight();
-        float laneHeight = height / 5f;
+        boolean playing = gameState != null && gameState.isPlaying();
 
         // Draw background
         canvas.drawRect(0, 0, width, height, bgPaint);
 
-        // Draw highlighted lane
-        Paint highlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        highlightPaint.setColor(Color.parseColor("#40FFEB3B"));
-        highlightPaint.setStyle(Paint.Style.FILL);
-        canvas.drawRect(0, highlightedLane * laneHeight, width, (highlightedLane + 1) * laneHeight, highlightPaint);
+        if (running && playing) {
+            scrollDecorations(dt, width);
+        }
+        drawDecorations(canvas, now);
+
+        // Draw highlighted lane, following the mascot
+        if (gameState != null) {
+            moveHighlight(gameState.getCurrentLane(), now);
+        }
+        float highlightY = getHighlightY(now);
+        canvas.drawRect(0, highlightY, width, highlightY + laneHeight, highlightPaint);
 
         // Draw lane separator lines
-        for (int i = 1; i < 5; i++) {
+        for (int i = 1; i < LANE_COUNT; i++) {
             float y = i * laneHeight;
             canvas.drawLine(0, y, width, y, linePaint);
         }
+
+        if (gameEngine != null) {
+            gameEngine.drainTokenEvents(frameEvents);
+            applyTokenEvents(frameEvents, now);
+            frameEvents.clear();
+        }
+
+        if (gameState != null) {
+            drawMascot(canvas, now);
+            drawTokens(canvas, now, playing);
+        }
+
+        if (flashStart > 0 && now - flashStart < FLASH_MS) {
+            float alpha = 0.3f * (1f - (now - flashStart) / (float) FLASH_MS);
+            flashPaint.setColor(flashColor);
+            flashPaint.setAlpha((int) (alpha * 255));
+            canvas.drawRect(0, 0, width, height, flashPaint);
+        }
+
+        if (running) {
+            postInvalidateOnAnimation();
+        }
+    }
+
+    private float getHighlightY(long now) {
+        if (highlightStart == 0) return highlightToY;
+        float t = (now - highlightStart) / (float) HIGHLIGHT_MOVE_MS;
+        if (t >= 1f) return highlightToY;
+        return highlightFromY + (highlightToY - highlightFromY) * easeInOut.getInterpolation(t);
+    }
+
+    private float getLaneCenter(int lane) {
+        return lane * laneHeight + laneHeight / 2f;
+    }
+
+    // ==================== Scenery ====================
+
+    private void scrollDecorations(float dt, int width) {
+        float dx = SCROLL_SPEED * dt;
+
+        if (sceneryTile != null) {
+            sceneryOffset = (sceneryOffset + dx) % sceneryTile.getWidth();
+        }
+
+        for (int i = 0; i < SKY_COUNT; i++) {
+            float x = skyX[i] - dx;
+
+            // Gone off the left side: respawn on the right in a random lane
+            if (x < -100) {
+                x = width + random.nextInt(100);
+                int lane = random.nextInt(LANE_COUNT);
+                skyY[i] = lane * laneHeight + random.nextFloat() * (laneHeight * 0.6f) + laneHeight * 0.2f;
+            }
+            skyX[i] = x;
+        }
+    }
+
+    private void drawDecorations(Canvas canvas, long now) {
+        if (sceneryTile != null) {
+            sceneryMatrix.setTranslate(-sceneryOffset, 0);
+            sceneryPaint.getShader().setLocalMatrix(sceneryMatrix);
+            canvas.drawRect(0, 0, getWidth(), getHeight(), sceneryPaint);
+        }
+
+        for (int i = 0; i < SKY_COUNT; i++) {
+            if (skyEmoji[i] == null) continue;
+            long period = skyFloatPeriod[i];
+            float phase = (now % period) / (float) period;
+            float y = skyY[i] - 8f * (float) Math.sin(Math.PI * phase);
+            drawScenery(canvas, skyEmoji[i], skyX[i], y, skySize[i], skyColor[i]);
+        }
+    }
+
+    /**
+     * x, y are the item's top-left, as they were for the old TextViews
+     */
+    private void drawScenery(Canvas canvas, String emoji, float x, float y, float size, int color) {
+        EmojiAtlas.getInstance().draw(canvas, emoji, x + size * 0.6f, y + size * emojiTopRatio, size, color);
+    }
+
+    // ==================== Tokens ====================
+
+    /**
+     * Apply the engine's token changes; O(events), no allocation
+     */
+    private void applyTokenEvents(TokenEvents events, long now) {
+        for (int i = 0; i < events.size(); i++) {
+            int id = events.getId(i);
+            switch (events.getType(i)) {
+                case TokenEvents.SPAWNED: {
+                    int slot = findFreeSlot(id);
+                    if (slot < 0) break;
+                    tokenIds[slot] = id;
+                    tokenLetters[slot] = events.getLetter(i);
+                    tokenLanes[slot] = events.getLane(i);
+                    tokenXs[slot] = events.getX(i);
+                    tokenSpeeds[slot] = events.getSpeed(i);
+                    tokenTimes[slot] = events.getTime(i);
+                    tokenSince[slot] = now;
+                    break;
+                }
+                case TokenEvents.MOVED: {
+                    int slot = findSlot(id);
+                    if (slot >= 0) {
+                        tokenXs[slot] = events.getX(i);
+                        tokenSpeeds[slot] = events.getSpeed(i);
+                        tokenTimes[slot] = events.getTime(i);
+                        tokenLanes[slot] = events.getLane(i);
+                    }
+                    break;
+                }
+                case TokenEvents.REMOVED:
+                case TokenEvents.COLLIDED: {
+                    int slot = findSlot(id);
+                    if (slot >= 0) {
+                        tokenIds[slot] = NO_TOKEN;
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    // Open addressing: start at id mod MAX_TOKENS and probe forward
+    private int findSlot(int id) {
+        for (int n = 0; n < MAX_TOKENS; n++) {
+            int slot = (id + n) & (MAX_TOKENS - 1);
+            if (tokenIds[slot] == id) return slot;
+        }
+        return -1;
+    }
+
+    private int findFreeSlot(int id) {
+        for (int n = 0; n < MAX_TOKENS; n++) {
+            int slot = (id + n) & (MAX_TOKENS - 1);
+            if (tokenIds[slot] == NO_TOKEN) return slot;
+        }
+        return -1;
+    }
+
+    /**
+     * @param moving Carry tokens on from their last tick (not while paused)
+     */
+    private void drawTokens(Canvas canvas, long now, boolean moving) {
+        for (int slot = 0; slot < MAX_TOKENS; slot++) {
+            if (tokenIds[slot] != NO_TOKEN) {
+                float x = tokenXs[slot];
+                if (moving) {
+                    // Ticks aren't in step with vsync: move on by the time since the tick,
+                    // at most one tick (the engine's next position takes over from there)
+                    long lead = Math.max(0, Math.min(GameEngine.TICK_INTERVAL, now - tokenTimes[slot]));
+                    x -= tokenSpeeds[slot] * lead / 1000f;
+                }
+                drawToken(canvas, slot, x, now - tokenSince[slot]);
+            }
+        }
+    }
+
+    private void drawToken(Canvas canvas, int slot, float x, long age) {
+        Bitmap sprite = getTokenSprite(tokenLetters[slot]);
+        if (sprite == null) return;
+
+        // x is the token's left edge; sprites carry TOKEN_SHADOW of padding
+        float contentWidth = sprite.getWidth() - TOKEN_SHADOW * 2;
+        float cx = x + contentWidth / 2f;
+        float cy = getLaneCenter(tokenLanes[slot]);
+        float left = cx - sprite.getWidth() / 2f;
+        float top = cy - sprite.getHeight() / 2f;
+
+        if (age >= TOKEN_ENTER_MS) {
+            spritePaint.setAlpha(255);
+            canvas.drawBitmap(sprite, left, top, spritePaint);
+            return;
+        }
+
+        // Pop in: fade up, grow from 0.3 with overshoot and straighten from -10°
+        float t = age / (float) TOKEN_ENTER_MS;
+        float eased = tokenOvershoot.getInterpolation(t);
+        float scale = 0.3f + 0.7f * eased;
+        spritePaint.setAlpha((int) (Math.min(1f, eased) * 255));
+        canvas.save();
+        canvas.rotate(-10f * (1f - eased), cx, cy);
+        canvas.scale(scale, scale, cx, cy);
+        canvas.drawBitmap(sprite, left, top, spritePaint);
+        canvas.restore();
+        spritePaint.setAlpha(255);
+    }
+
+    /**
+     * Orange gradient pill with the letter, like bg_letter_token_gradient
+     */
+    private Bitmap getTokenSprite(char letter) {
+        if (letter >= tokenSprites.length) return null;
+        Bitmap sprite = tokenSprites[letter];
+        if (sprite != null) return sprite;
+
+        String text = String.valueOf(letter);
+        Paint.FontMetrics fm = tokenTextPaint.getFontMetrics();
+        float contentWidth = tokenTextPaint.measureText(text) + TOKEN_PADDING_X * 2;
+        float contentHeight = fm.bottom - fm.top + TOKEN_PADDING_Y * 2;
+        sprite = Bitmap.createBitmap((int) Math.ceil(contentWidth) + TOKEN_SHADOW * 2,
+                (int) Math.ceil(contentHeight) + TOKEN_SHADOW * 2, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(sprite);
+
+        RectF rect = new RectF(TOKEN_SHADOW, TOKEN_SHADOW,
+                TOKEN_SHADOW + contentWidth, TOKEN_SHADOW + contentHeight);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        paint.setShadowLayer(TOKEN_SHADOW * 0.75f, 0, TOKEN_SHADOW * 0.375f, Color.argb(64, 0, 0, 0));
+        // 45°: bottom-left to top-right
+        paint.setShader(new LinearGradient(rect.left, rect.bottom, rect.right, rect.top,
+                Color.parseColor("#FF9800"), Color.parseColor("#FF5722"), Shader.TileMode.CLAMP));
+        canvas.drawRoundRect(rect, tokenCorner, tokenCorner, paint);
+
+        tokenTextPaint.setTextAlign(Paint.Align.CENTER);
+        canvas.drawText(text, rect.centerX(), rect.top + TOKEN_PADDING_Y - fm.top, tokenTextPaint);
+
+        tokenSprites[letter] = sprite;
+        return sprite;
+    }
+
+    // ==================== Mascot ====================
+
+    private void drawMascot(Canvas canvas, long now) {
+        int lane = gameState.getCurrentLane();
+        float targetY = getLaneCenter(lane);
+        if (mascotLane < 0) {
+            mascotLane = lane;
+            mascotY = targetY;
+            walkStart = now;
+        } else if (lane != mascotLane) {
+            mascotLane = lane;
+            mascotFromY = mascotY;
+            laneChangeStart = now;
+        }
+
+        float y = targetY;
+        float scaleX = 1f;
+        float scaleY = 1f;
+        float rotation = 0f;
+        boolean walking = true;
+
+        long sinceLaneChange = now - laneChangeStart;
+        if (laneChangeStart > 0 && sinceLaneChange < LANE_CHANGE_MS) {
+            // Jump to the lane squashed, stretch, then settle
+            walking = false;
+            if (sinceLaneChange < 80) {
+                float t = easeInOut.getInterpolation(sinceLaneChange / 80f);
+                y = mascotFromY + (targetY - mascotFromY) * t;
+                scaleX = 1f + 0.2f * t;
+                scaleY = 1f - 0.2f * t;
+            } else if (sinceLaneChange < 160) {
+                float t = easeInOut.getInterpolation((sinceLaneChange - 80) / 80f);
+                scaleX = 1.2f - 0.3f * t;
+                scaleY = 0.8f + 0.3f * t;
+            } else {
+                float t = easeInOut.getInterpolation((sinceLaneChange - 160) / 100f);
+                scaleX = 0.9f + 0.1f * t;
+                scaleY = 1.1f - 0.1f * t;
+            }
+        }
+        mascotY = y;
+
+        long sinceCorrect = now - correctStart;
+        if (correctStart > 0 && sinceCorrect < CORRECT_MS) {
+            // Grow with a wiggle: +15°, -15°, upright
+            if (sinceCorrect < 100) {
+                float t = sinceCorrect / 100f;
+                scaleX = scaleY = 1f + 0.3f * t;
+                rotation = 15f * t;
+            } else if (sinceCorrect < 200) {
+                float t = (sinceCorrect - 100) / 100f;
+                scaleX = scaleY = 1.3f - 0.3f * t;
+                rotation = 15f - 30f * t;
+            } else {
+                rotation = -15f * (1f - (sinceCorrect - 200) / 100f);
+            }
+        }
+
+        long sinceWrong = now - wrongStart;
+        if (wrongStart > 0 && sinceWrong < WRONG_MS) {
+            walking = false;
+            if (sinceWrong < 150) {
+                scaleX = scaleY = 1f - 0.2f * easeInOut.getInterpolation(sinceWrong / 150f);
+            } else {
+                scaleX = scaleY = 0.8f + 0.2f * mascotOvershoot.getInterpolation((sinceWrong - 150) / 200f);
+            }
+        }
+
+        if (walking) {
+            // Hop, sway and breathe
+            long walkTime = now - walkStart;
+            y -= 15f * (float) Math.sin(Math.PI * (walkTime % 350) / 350.0);
+            rotation += -5f * (float) Math.cos(2 * Math.PI * (walkTime % 500) / 500.0);
+            float breath = 1f + 0.05f * (float) Math.sin(Math.PI * (walkTime % 600) / 600.0);
+            scaleX *= breath;
+            scaleY *= breath;
+        }
+
+        canvas.save();
+        canvas.translate(mascotCenterX, y);
+        canvas.rotate(rotation);
+        canvas.scale(scaleX, scaleY);
+        EmojiAtlas.getInstance().draw(canvas, mascotEmoji, 0, mascotBaselineOffset, mascotTextSize, Color.BLACK);
+        canvas.restore();
+    }
+
+    // ==================== Helpers ====================
+
+    private float dp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, value, getResources().getDisplayMetrics());
+    }
+
+    private float sp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, value, getResources().getDisplayMetrics());
     }
 }
@@ -1,61 +1,92 @@
 package com.edu.english.alphabet_adventure.data;
 
+import android.content.Context;
+import android.util.Log;
+
 import com.edu.english.R;
 import com.edu.english.alphabet_adventure.models.Mascot;
 import com.edu.english.alphabet_adventure.models.WordItem;
+import com.edu.english.util.ContentPack;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Mock data for the Alphabet Adventure game.
- * Contains 20 easy words for children (A1 level) and 4 mascots.
+ * Data for the Alphabet Adventure game.
+ * Words come from the word_race content pack (src/main/content/word_race.txt);
+ * the 4 mascots are defined here.
  */
 public class GameData {
+    private static final String TAG = "GameData";
+
+    static final String ASSET_NAME = "content/word_race.pack";
+    private static final String SECTION_WORDS = "words";
 
-    private static List<WordItem> wordList;
+    // Record fields, in source file column order
+    private static final int FIELD_WORD = 0;
+    private static final int FIELD_EMOJI = 1;
+    private static final int FIELD_HINT = 2;
+
+    private static VocabularyIndex vocabularyIndex;
     private static List<Mascot> mascotList;
 
     /**
      * Get all available words for the game.
-     * @return List of 20 WordItem objects
+     * @return Read-only list of WordItem objects, shared between calls
      */
-    public static List<WordItem> getWords() {
-        if (wordList == null) {
-            wordList = new ArrayList<>();
-            
-            // 20 easy words for children (A1 level)
-            wordList.add(new WordItem("apple", "🍎", "A red fruit"));
-            wordList.add(new WordItem("ball", "⚽", "You can kick it"));
-            wordList.add(new WordItem("cat", "🐱", "A cute pet that says meow"));
-            wordList.add(new WordItem("dog", "🐕", "A pet that says woof"));
-            wordList.add(new WordItem("egg", "🥚", "Comes from a chicken"));
-            wordList.add(new WordItem("fish", "🐟", "Lives in water"));
-            wordList.add(new WordItem("goat", "🐐", "An animal with horns"));
-            wordList.add(new WordItem("hat", "🎩", "You wear it on your head"));
-            wordList.add(new WordItem("ice", "🧊", "Very cold water"));
-            wordList.add(new WordItem("juice", "🧃", "A sweet drink"));
-            wordList.add(new WordItem("kite", "🪁", "Flies in the sky"));
-            wordList.add(new WordItem("lion", "🦁", "King of the jungle"));
-            wordList.add(new WordItem("milk", "🥛", "A white drink from cows"));
-            wordList.add(new WordItem("nest", "🪺", "Where birds live"));
-            wordList.add(new WordItem("orange", "🍊", "An orange fruit"));
-            wordList.add(new WordItem("panda", "🐼", "A black and white bear"));
-            wordList.add(new WordItem("queen", "👸", "A royal lady"));
-            wordList.add(new WordItem("robot", "🤖", "A machine that can move"));
-            wordList.add(new WordItem("sun", "☀️", "Gives us light and warmth"));
-            wordList.add(new WordItem("tree", "🌳", "Has leaves and branches"));
+    public static List<WordItem> getWords(Context context) {
+        return getIndex(context).getWords();
+    }
+
+    /**
+     * Get the lookup tables (letter frequencies, confusable letters,
+     * difficulty buckets) over the word list, built on first use.
+     * If the pack can't be read the index is empty (check size()) and the
+     * next call tries again.
+     */
+    public static synchronized VocabularyIndex getIndex(Context context) {
+        if (vocabularyIndex != null) return vocabularyIndex;
+
+        ContentPack pack;
+        try {
+            pack = ContentPack.open(context.getApplicationContext().getAssets(), ASSET_NAME);
+        } catch (IOException e) {
+            Log.e(TAG, "Can't open " + ASSET_NAME, e);
+            return buildIndex(null);
+        }
+        VocabularyIndex index = buildIndex(pack);
+        if (index.size() == 0) {
+            Log.e(TAG, "No words in " + ASSET_NAME);
+            return index;
+        }
+        vocabularyIndex = index;
+        return vocabularyIndex;
+    }
+
+    /**
+     * Index the words section of a word_race pack (empty if the pack is missing)
+     */
+    public static VocabularyIndex buildIndex(ContentPack pack) {
+        List<WordItem> wordList = new ArrayList<>();
+        ContentPack.Section section = pack != null ? pack.getSection(SECTION_WORDS) : null;
+        if (section != null) {
+            for (int i = 0; i < section.size(); i++) {
+                wordList.add(new WordItem(section.get(i, FIELD_WORD),
+                        section.get(i, FIELD_EMOJI), section.get(i, FIELD_HINT)));
+            }
         }
-        return new ArrayList<>(wordList);
+        return new VocabularyIndex(wordList);
     }
 
     /**
      * Get shuffled words for a new game session.
+     * Copies the list; VocabularyIndex.fillSession orders a session without copying.
      * @return Shuffled list of words
      */
-    public static List<WordItem> getShuffledWords() {
-        List<WordItem> shuffled = getWords();
+    public static List<WordItem> getShuffledWords(Context context) {
+        List<WordItem> shuffled = new ArrayList<>(getWords(context));
         Collections.shuffle(shuffled);
         return shuffled;
     }
@@ -0,0 +1,266 @@
+package com.edu.english.alphabet_adventure.data;
+
+import com.edu.english.alphabet_adventure.models.WordItem;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Precomputed lookup tables over a word list for Word Race.
+ * - Letter frequencies, so distractors look like letters the words use
+ * - Letters easily confused with each one (by shape or sound), for harder waves
+ * - Difficulty buckets, so sessions go from easy words to hard ones
+ * Everything is kept in primitive arrays built once; picking distractors and
+ * ordering a session allocate nothing and never copy the word list.
+ */
+public class VocabularyIndex {
+
+    public static final int EASY = 0;
+    public static final int MEDIUM = 1;
+    public static final int HARD = 2;
+    public static final int DIFFICULTY_COUNT = 3;
+
+    private static final int LETTER_COUNT = 26;
+
+    // Chance that a distractor is a look-alike or sound-alike of the target
+    private static final float[] CONFUSABLE_CHANCE = {0f, 0.35f, 0.7f};
+
+    // Frequency-weighted tries before falling back to a scan for a free letter
+    private static final int WEIGHTED_TRIES = 8;
+
+    // Confusable letters for A..Z (uppercase, as the tokens show them)
+    private static final String[] CONFUSABLE_SOURCE = {
+        "EIOUH", "PDRE", "GOKSQ", "BPTO", "FAI", "EVP", "CJQO", "NAK", "LJTEY",
+        "GI", "CQX", "ITJ", "NW", "MH", "QCDUA", "BRFD", "OGK", "PBK", "ZC",
+        "DLI", "VOAY", "UFYW", "MV", "KZY", "VUI", "SX"
+    };
+
+    // Flattened: the confusables of letter L are confusable[confusableStart[L]..confusableStart[L + 1])
+    private static final byte[] confusable;
+    private static final int[] confusableStart = new int[LETTER_COUNT + 1];
+
+    static {
+        int total = 0;
+        for (String letters : CONFUSABLE_SOURCE) {
+            total += letters.length();
+        }
+        confusable = new byte[total];
+        int n = 0;
+        for (int letter = 0; letter < LETTER_COUNT; letter++) {
+            confusableStart[letter] = n;
+            String letters = CONFUSABLE_SOURCE[letter];
+            for (int i = 0; i < letters.length(); i++) {
+                confusable[n++] = (byte) (letters.charAt(i) - 'A');
+            }
+        }
+        confusableStart[LETTER_COUNT] = n;
+    }
+
+    private final List<WordItem> words;
+
+    // Letter counts over all words (plus one, so every letter can be drawn)
+    // as a running total for weighted picks
+    private final int[] letterFrequency = new int[LETTER_COUNT];
+    private final int[] cumulativeFrequency = new int[LETTER_COUNT];
+
+    // Word indexes grouped by difficulty: bucket b is byDifficulty[bucketStart[b]..bucketStart[b + 1])
+    private final byte[] difficulty;
+    private final int[] byDifficulty;
+    private final int[] bucketStart = new int[DIFFICULTY_COUNT + 1];
+
+    public VocabularyIndex(List<WordItem> words) {
+        this.words = Collections.unmodifiableList(words);
+        int count = words.size();
+
+        for (int i = 0; i < count; i++) {
+            String word = words.get(i).getWord();
+            for (int c = 0; c < word.length(); c++) {
+                int letter = letterIndex(word.charAt(c));
+                if (letter >= 0) {
+                    letterFrequency[letter]++;
+                }
+            }
+        }
+        int running = 0;
+        for (int letter = 0; letter < LETTER_COUNT; letter++) {
+            running += letterFrequency[letter] + 1;
+            cumulativeFrequency[letter] = running;
+        }
+
+        // Counting sort of the words into difficulty buckets
+        difficulty = new byte[count];
+        int[] bucketCount = new int[DIFFICULTY_COUNT];
+        for (int i = 0; i < count; i++) {
+            difficulty[i] = (byte) rateDifficulty(words.get(i).getWord());
+            bucketCount[difficulty[i]]++;
+        }
+        for (int b = 0; b < DIFFICULTY_COUNT; b++) {
+            bucketStart[b + 1] = bucketStart[b] + bucketCount[b];
+        }
+        byDifficulty = new int[count];
+        int[] fill = new int[DIFFICULTY_COUNT];
+        for (int i = 0; i < count; i++) {
+            int b = difficulty[i];
+            byDifficulty[bucketStart[b] + fill[b]++] = i;
+        }
+    }
+
+    // ==================== Words ====================
+
+    public int size() {
+        return words.size();
+    }
+
+    public WordItem getWord(int index) {
+        return words.get(index);
+    }
+
+    /**
+     * The indexed words, read-only and shared (not a copy)
+     */
+    public List<WordItem> getWords() {
+        return words;
+    }
+
+    public int getDifficulty(int wordIndex) {
+        return difficulty[wordIndex];
+    }
+
+    public int getBucketSize(int difficulty) {
+        return bucketStart[difficulty + 1] - bucketStart[difficulty];
+    }
+
+    /**
+     * Fill order with a session: every word once, easy words first,
+     * shuffled within each difficulty
+     *
+     * @param order At least size() long; reuse it between sessions
+     */
+    public void fillSession(int[] order, Random random) {
+        System.arraycopy(byDifficulty, 0, order, 0, byDifficulty.length);
+        for (int b = 0; b < DIFFICULTY_COUNT; b++) {
+            int start = bucketStart[b];
+            for (int i = bucketStart[b + 1] - 1; i > start; i--) {
+                int j = start + random.nextInt(i - start + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+        }
+    }
+
+    /**
+     * Difficulty of any word: longer words and rarer letters are harder
+     */
+    public static int rateDifficulty(String word) {
+        int score = word.length();
+        for (int i = 0; i < word.length(); i++) {
+            switch (Character.toLowerCase(word.charAt(i))) {
+                case 'j': case 'q': case 'v': case 'x': case 'z': case 'k':
+                    score += 2;
+                    break;
+            }
+        }
+        if (score <= 3) return EASY;
+        if (score <= 5) return MEDIUM;
+        return HARD;
+    }
+
+    // ==================== Distractors ====================
+
+    /**
+     * Pick distinct uppercase letters, none equal to the target
+     * At higher difficulty more of them look or sound like the target;
+     * the rest follow how often letters appear in the word list.
+     *
+     * @param target Letter the player needs
+     * @param out Receives count letters
+     */
+    public void pickDistractors(char target, int difficulty, Random random, char[] out, int count) {
+        int targetIndex = letterIndex(target);
+        int used = targetIndex >= 0 ? 1 << targetIndex : 0;
+        float confusableChance = CONFUSABLE_CHANCE[Math.max(0, Math.min(DIFFICULTY_COUNT - 1, difficulty))];
+
+        for (int k = 0; k < count; k++) {
+            int letter = -1;
+            if (targetIndex >= 0 && random.nextFloat() < confusableChance) {
+                letter = pickConfusable(targetIndex, used, random);
+            }
+            if (letter < 0) {
+                letter = pickWeighted(used, random);
+            }
+            used |= 1 << letter;
+            out[k] = (char) ('A' + letter);
+        }
+    }
+
+    /**
+     * A confusable of target not yet used, or -1
+     */
+    private int pickConfusable(int target, int used, Random random) {
+        int start = confusableStart[target];
+        int length = confusableStart[target + 1] - start;
+        int offset = random.nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int letter = confusable[start + (offset + i) % length];
+            if ((used & (1 << letter)) == 0) return letter;
+        }
+        return -1;
+    }
+
+    private int pickWeighted(int used, Random random) {
+        int total = cumulativeFrequency[LETTER_COUNT - 1];
+        for (int attempt = 0; attempt < WEIGHTED_TRIES; attempt++) {
+            int letter = findCumulative(random.nextInt(total));
+            if ((used & (1 << letter)) == 0) return letter;
+        }
+        // Unlucky: take the next free letter from a random start
+        int offset = random.nextInt(LETTER_COUNT);
+        for (int i = 0; i < LETTER_COUNT; i++) {
+            int letter = (offset + i) % LETTER_COUNT;
+            if ((used & (1 << letter)) == 0) return letter;
+        }
+        throw new IllegalStateException("No free letters left");
+    }
+
+    /**
+     * First letter whose running total is above value (binary search)
+     */
+    private int findCumulative(int value) {
+        int low = 0;
+        int high = LETTER_COUNT - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeFrequency[mid] > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    public int getLetterFrequency(char letter) {
+        int index = letterIndex(letter);
+        return index >= 0 ? letterFrequency[index] : 0;
+    }
+
+    /**
+     * Whether b is listed as easily confused with a
+     */
+    public static boolean isConfusable(char a, char b) {
+        int from = letterIndex(a);
+        int to = letterIndex(b);
+        if (from < 0 || to < 0) return false;
+        for (int i = confusableStart[from]; i < confusableStart[from + 1]; i++) {
+            if (confusable[i] == to) return true;
+        }
+        return false;
+    }
+
+    private static int letterIndex(char c) {
+        char upper = Character.toUpperCase(c);
+        return upper >= 'A' && upper <= 'Z' ? upper - 'A' : -1;
+    }
+}
@@ -1,26 +1,29 @@
 package com.edu.english.alphabet_adventure.engine;
 
 import android.os.Handler;
-import android.os.Looper;
+import android.os.HandlerThread;
+import android.os.SystemClock;
 
+import com.edu.english.alphabet_adventure.data.VocabularyIndex;
 import com.edu.english.alphabet_adventure.models.GameState;
 import com.edu.english.alphabet_adventure.models.LetterToken;
+import com.edu.english.alphabet_adventure.models.WordItem;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
 
 /**
  * Game engine that handles the game loop, token spawning, movement, and collision detection.
+ * The loop runs on its own thread and moves tokens by elapsed time, so the game
+ * keeps the same speed however busy the UI thread is. Listener callbacks come
+ * from that thread; token changes are published for the renderer to drain, with
+ * the tick time and speed so it can move tokens smoothly between ticks.
  */
 public class GameEngine {
 
+    private static final String TAG = "WordRaceEngine";
+
     public interface GameEventListener {
-        void onTokensUpdated(List<LetterToken> tokens);
         void onCorrectLetter(char letter);
         void onWrongLetter(char letter, char expected);
         void onWordComplete();
@@ -28,8 +31,9 @@ public class GameEngine {
         void onLivesChanged(int lives);
     }
 
-    private static final int TICK_INTERVAL = 16; // ~60 FPS
-    private static final float TOKEN_SPEED = 8.5f; // Pixels per tick (70% faster)
+    public static final int TICK_INTERVAL = 16; // ~60 FPS
+    private static final float TOKEN_SPEED = 531.25f; // Pixels per second (8.5 per 16ms tick)
+    private static final float MAX_TICK_SECONDS = 0.05f; // Longer stalls don't jump tokens past the mascot
     private static final float SPAWN_X = 1200f; // Start position (off screen right)
     private static final float COLLISION_X = 150f; // Mascot position
     private static final float COLLISION_THRESHOLD = 60f;
@@ -38,26 +42,49 @@ public class GameEngine {
 
     private GameState gameState;
     private GameEventListener listener;
+    private HandlerThread thread;
     private Handler handler;
     private Random random;
-    private boolean isRunning;
-    private float screenWidth;
+    private volatile boolean isRunning;
+    private volatile float screenWidth;
+    private volatile long lastTickTime = 0;
+    private volatile boolean waveScheduled = false;
+
+    // Token changes: written on the engine thread, published under the lock for the renderer
+    private final TokenEvents events = new TokenEvents(16);
+    private final TokenEvents published = new TokenEvents(64);
+
+    private final Runnable spawnWaveRunnable = this::spawnWave;
+
+    // Distractor picking
+    private final VocabularyIndex vocabulary;
+    private final char[] distractors = new char[LANE_COUNT - 1];
+    private WordItem ratedWord;
+    private int wordDifficulty;
 
     private Runnable gameLoop = new Runnable() {
         @Override
         public void run() {
             if (isRunning && gameState.isPlaying()) {
-                tick();
+                long now = SystemClock.uptimeMillis();
+                float deltaTime = lastTickTime == 0
+                    ? TICK_INTERVAL / 1000f
+                    : Math.min(MAX_TICK_SECONDS, (now - lastTickTime) / 1000f);
+                lastTickTime = now;
+                tick(deltaTime, now);
                 handler.postDelayed(this, TICK_INTERVAL);
             }
         }
     };
 
-    public GameEngine(GameState gameState, GameEventListener listener) {
+    public GameEngine(GameState gameState, VocabularyIndex vocabulary, GameEventListener listener) {
         this.gameState = gameState;
         this.listener = listener;
-        this.handler = new Handler(Looper.getMainLooper());
+        this.thread = new HandlerThread(TAG);
+        this.thread.start();
+        this.handler = new Handler(thread.getLooper());
         this.random = new Random();
+        this.vocabulary = vocabulary;
         this.isRunning = false;
         this.screenWidth = SPAWN_X;
     }
@@ -69,7 +96,8 @@ public class GameEngine {
     public void start() {
         if (!isRunning) {
             isRunning = true;
-            spawnWave();
+            lastTickTime = 0;
+            handler.post(spawnWaveRunnable);
             handler.post(gameLoop);
         }
     }
@@ -83,6 +111,8 @@ public class GameEngine {
         if (gameState.getStatus() == GameState.Status.PAUSED) {
             gameState.setStatus(GameState.Status.PLAYING);
             isRunning = true;
+            // Don't count the time spent paused
+            lastTickTime = 0;
             handler.post(gameLoop);
         }
     }
@@ -90,9 +120,30 @@ public class GameEngine {
     public void stop() {
         isRunning = false;
         handler.removeCallbacks(gameLoop);
+        handler.removeCallbacks(spawnWaveRunnable);
+        waveScheduled = false;
     }
 
-    private void tick() {
+    /**
+     * Stop and end the engine thread (called when the screen is destroyed)
+     */
+    public void release() {
+        stop();
+        thread.quit();
+    }
+
+    /**
+     * Move the token changes published since the last call into out
+     * Called by the renderer once per frame.
+     */
+    public void drainTokenEvents(TokenEvents out) {
+        synchronized (published) {
+            out.addAll(published);
+            published.clear();
+        }
+    }
+
+    private void tick(float deltaTime, long now) {
         if (!gameState.isPlaying()) return;
 
         List<LetterToken> tokens = gameState.getTokens();
@@ -100,12 +151,11 @@ public class GameEngine {
         LetterToken collidedToken = null;
 
         // Update token positions and check for collisions
-        Iterator<LetterToken> iterator = tokens.iterator();
-        while (iterator.hasNext()) {
-            LetterToken token = iterator.next();
+        for (int i = 0; i < tokens.size(); i++) {
+            LetterToken token = tokens.get(i);
             if (!token.isActive()) continue;
 
-            token.moveLeft(TOKEN_SPEED);
+            token.moveLeft(TOKEN_SPEED * deltaTime);
             needsNewWave = false;
 
             // Check collision with mascot
@@ -115,11 +165,13 @@ public class GameEngine {
                 
                 collidedToken = token;
                 token.setActive(false);
-            }
-
-            // Remove tokens that went off screen
-            if (token.getPositionX() < -100) {
-                iterator.remove();
+                events.add(TokenEvents.COLLIDED, token);
+            } else if (token.getPositionX() < -100) {
+                // Remove tokens that went off screen
+                events.add(TokenEvents.REMOVED, token);
+                tokens.remove(i--);
+            } else {
+                events.add(TokenEvents.MOVED, token, TOKEN_SPEED, now);
             }
         }
 
@@ -130,13 +182,42 @@ public class GameEngine {
 
         // Spawn new wave if needed
         if (needsNewWave && gameState.isPlaying()) {
-            handler.postDelayed(this::spawnWave, SPAWN_DELAY);
+            scheduleWave(SPAWN_DELAY);
+        }
+
+        publishEvents();
+    }
+
+    /**
+     * Remove all tokens, reporting the ones still on screen
+     */
+    private void clearTokens() {
+        List<LetterToken> tokens = gameState.getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            LetterToken token = tokens.get(i);
+            if (token.isActive()) {
+                events.add(TokenEvents.REMOVED, token);
+            }
         }
+        gameState.clearTokens();
+    }
 
-        // Notify listener
-        if (listener != null) {
-            listener.onTokensUpdated(new ArrayList<>(tokens));
+    /**
+     * Spawn the next wave after a delay, once: ticks with no tokens left
+     * keep asking until it arrives
+     */
+    private void scheduleWave(long delay) {
+        if (waveScheduled) return;
+        waveScheduled = true;
+        handler.postDelayed(spawnWaveRunnable, delay);
+    }
+
+    private void publishEvents() {
+        if (events.isEmpty()) return;
+        synchronized (published) {
+            published.addAll(events);
         }
+        events.clear();
     }
 
     private void handleCollision(LetterToken token) {
@@ -160,8 +241,8 @@ public class GameEngine {
                 }
             } else {
                 // Clear remaining tokens and spawn new wave
-                gameState.clearTokens();
-                handler.postDelayed(this::spawnWave, SPAWN_DELAY);
+                clearTokens();
+                scheduleWave(SPAWN_DELAY);
             }
         } else {
             // Wrong letter!
@@ -180,8 +261,8 @@ public class GameEngine {
                 }
             } else {
                 // Still have lives - clear tokens and spawn new wave
-                gameState.clearTokens();
-                handler.postDelayed(this::spawnWave, SPAWN_DELAY + 300); // Extra delay after wrong
+                clearTokens();
+                scheduleWave(SPAWN_DELAY + 300); // Extra delay after wrong
             }
         }
     }
@@ -191,30 +272,26 @@ public class GameEngine {
      * Ensures exactly one correct letter is included.
      */
     public void spawnWave() {
+        waveScheduled = false;
         if (!gameState.isPlaying() || gameState.getCurrentWord() == null) return;
 
-        gameState.clearTokens();
+        clearTokens();
         
         char targetLetter = gameState.getTargetLetter();
         int correctLane = random.nextInt(LANE_COUNT);
 
-        // Generate distractor letters
-        Set<Character> usedLetters = new HashSet<>();
-        usedLetters.add(targetLetter);
-
-        List<Character> distractors = new ArrayList<>();
-        while (distractors.size() < LANE_COUNT - 1) {
-            char c = (char) ('A' + random.nextInt(26));
-            if (!usedLetters.contains(c)) {
-                usedLetters.add(c);
-                distractors.add(c);
-            }
+        // Harder words get more look-alike and sound-alike distractors
+        WordItem word = gameState.getCurrentWord();
+        if (word != ratedWord) {
+            ratedWord = word;
+            wordDifficulty = VocabularyIndex.rateDifficulty(word.getWord());
         }
-        Collections.shuffle(distractors);
+        vocabulary.pickDistractors(targetLetter, wordDifficulty, random, distractors, LANE_COUNT - 1);
 
         // Create tokens for each lane
         int distractorIndex = 0;
         float startX = screenWidth > 0 ? screenWidth + 100 : SPAWN_X;
+        long now = SystemClock.uptimeMillis();
         
         for (int lane = 0; lane < LANE_COUNT; lane++) {
             char letter;
@@ -224,17 +301,16 @@ public class GameEngine {
                 letter = targetLetter;
                 isCorrect = true;
             } else {
-                letter = distractors.get(distractorIndex++);
+                letter = distractors[distractorIndex++];
                 isCorrect = false;
             }
             
             LetterToken token = new LetterToken(letter, lane, startX, isCorrect);
             gameState.addToken(token);
+            events.add(TokenEvents.SPAWNED, token, TOKEN_SPEED, now);
         }
 
-        if (listener != null) {
-            listener.onTokensUpdated(new ArrayList<>(gameState.getTokens()));
-        }
+        publishEvents();
     }
 
     public void moveUp() {
@@ -0,0 +1,135 @@
+package com.edu.english.alphabet_adventure.engine;
+
+import com.edu.english.alphabet_adventure.models.LetterToken;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of token changes sent from the GameEngine to the UI.
+ * Events are stored in parallel primitive arrays and buffers are cleared
+ * and refilled, so reporting a tick allocates nothing once they have grown.
+ * Not thread-safe; the engine hands events over under its own lock.
+ */
+public class TokenEvents {
+
+    // Event types
+    public static final int SPAWNED = 0;
+    public static final int MOVED = 1;
+    public static final int REMOVED = 2;
+    public static final int COLLIDED = 3;
+
+    private int[] types;
+    private int[] ids;
+    private char[] letters;
+    private int[] lanes;
+    private float[] xs;
+    private float[] speeds;
+    private long[] times;
+    private int count = 0;
+
+    public TokenEvents(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        types = new int[capacity];
+        ids = new int[capacity];
+        letters = new char[capacity];
+        lanes = new int[capacity];
+        xs = new float[capacity];
+        speeds = new float[capacity];
+        times = new long[capacity];
+    }
+
+    /**
+     * Record an event with the token's current letter, lane and position
+     */
+    public void add(int type, LetterToken token) {
+        add(type, token, 0f, 0L);
+    }
+
+    /**
+     * Record an event for a moving token, so the renderer can carry it on between ticks
+     *
+     * @param speed Leftward speed in pixels per second
+     * @param time When the position was taken (SystemClock.uptimeMillis)
+     */
+    public void add(int type, LetterToken token, float speed, long time) {
+        if (count == types.length) {
+            grow(count * 2);
+        }
+        types[count] = type;
+        ids[count] = token.getId();
+        letters[count] = token.getLetter();
+        lanes[count] = token.getLane();
+        xs[count] = token.getPositionX();
+        speeds[count] = speed;
+        times[count] = time;
+        count++;
+    }
+
+    /**
+     * Append all of other's events
+     */
+    public void addAll(TokenEvents other) {
+        int total = count + other.count;
+        if (total > types.length) {
+            grow(Math.max(total, types.length * 2));
+        }
+        System.arraycopy(other.types, 0, types, count, other.count);
+        System.arraycopy(other.ids, 0, ids, count, other.count);
+        System.arraycopy(other.letters, 0, letters, count, other.count);
+        System.arraycopy(other.lanes, 0, lanes, count, other.count);
+        System.arraycopy(other.xs, 0, xs, count, other.count);
+        System.arraycopy(other.speeds, 0, speeds, count, other.count);
+        System.arraycopy(other.times, 0, times, count, other.count);
+        count = total;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getType(int index) {
+        return types[index];
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public char getLetter(int index) {
+        return letters[index];
+    }
+
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getSpeed(int index) {
+        return speeds[index];
+    }
+
+    public long getTime(int index) {
+        return times[index];
+    }
+
+    private void grow(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        letters = Arrays.copyOf(letters, capacity);
+        lanes = Arrays.copyOf(lanes, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        times = Arrays.copyOf(times, capacity);
+    }
+}
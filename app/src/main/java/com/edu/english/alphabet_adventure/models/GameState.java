@@ -18,9 +18,9 @@ public class GameState {
     private WordItem currentWord;
     private int currentIndex;
     private int lives;
-    private int currentLane;
+    private volatile int currentLane; // Set from the UI, read by the engine thread
     private List<LetterToken> tokens;
-    private Status status;
+    private volatile Status status;
     private int wordIndex;
     private int score;
     private boolean isMuted;
@@ -1,9 +1,15 @@
 package com.edu.english.alphabet_adventure.models;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Model representing a letter token moving on a lane.
+ * Each token gets a unique id that the UI can key its drawing state on.
  */
 public class LetterToken {
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id;
     private char letter;
     private int lane;
     private float positionX;
@@ -11,6 +17,7 @@ public class LetterToken {
     private boolean isActive;
 
     public LetterToken(char letter, int lane, float startX, boolean isCorrect) {
+        this.id = nextId.getAndIncrement() & Integer.MAX_VALUE;
         this.letter = Character.toUpperCase(letter);
         this.lane = lane;
         this.positionX = startX;
@@ -18,6 +25,10 @@ public class LetterToken {
         this.isActive = true;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public char getLetter() {
         return letter;
     }
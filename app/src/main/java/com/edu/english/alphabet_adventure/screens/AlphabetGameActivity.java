@@ -13,15 +13,13 @@ import android.os.Vibrator;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.ViewGroup;
-import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.BounceInterpolator;
-import android.view.animation.OvershootInterpolator;
 import android.widget.FrameLayout;
 import android.widget.ImageButton;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.TextView;
+import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
@@ -31,19 +29,16 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.edu.english.R;
+import com.edu.english.alphabet_adventure.components.LanesView;
 import com.edu.english.alphabet_adventure.data.GameData;
+import com.edu.english.alphabet_adventure.data.VocabularyIndex;
 import com.edu.english.alphabet_adventure.engine.GameEngine;
 import com.edu.english.alphabet_adventure.models.GameState;
-import com.edu.english.alphabet_adventure.models.LetterToken;
 import com.edu.english.alphabet_adventure.models.Mascot;
 import com.edu.english.alphabet_adventure.models.WordItem;
 import com.edu.english.alphabet_adventure.services.GamePreferences;
 import com.edu.english.alphabet_adventure.services.TTSService;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 /**
@@ -60,8 +55,7 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
     private ImageButton pauseButton;
     private LinearLayout heartsContainer;
     private FrameLayout gameArea;
-    private TextView mascotView;
-    private View laneHighlight;
+    private LanesView lanesView;
     private LinearLayout btnUp;
     private LinearLayout btnDown;
     
@@ -78,23 +72,12 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
     private GestureDetector gestureDetector;
 
     // Data
-    private List<WordItem> words;
+    private VocabularyIndex vocabulary;
+    private int[] sessionOrder;
+    private final Random random = new Random();
     private int currentWordIndex = 0;
     private Mascot selectedMascot;
-    
-    // Token views cache
-    private Map<Integer, TextView> tokenViews = new HashMap<>();
-    private float laneHeight;
     private float gameAreaWidth;
-    private ObjectAnimator mascotBounceAnim;
-    private ObjectAnimator mascotTiltAnim;
-    private ObjectAnimator mascotScaleAnim;
-    
-    // Scrolling decorations
-    private List<TextView> decorationViews = new ArrayList<>();
-    private Handler scrollHandler = new Handler(Looper.getMainLooper());
-    private boolean isScrolling = false;
-    private static final float SCROLL_SPEED = 3f;  // Match token speed
 
     private Handler uiHandler = new Handler(Looper.getMainLooper());
 
@@ -112,20 +95,19 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
 
         initViews();
         initServices();
-        initGame();
+        if (!initGame()) {
+            Toast.makeText(this, "Error: Can't load the word list", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
         setupControls();
         setupGestures();
         
         // Wait for layout to be ready
         gameArea.post(() -> {
             gameAreaWidth = gameArea.getWidth();
-            laneHeight = gameArea.getHeight() / 5f;
             gameEngine.setScreenWidth(gameAreaWidth);
-            updateMascotPosition(false);
-            updateLaneHighlight();
-            addScrollingDecorations();  // Add scrolling scenery
-            startMascotWalkingAnimation();  // Start walking animation
-            startScrollingBackground();  // Start background scrolling
+            lanesView.start();  // Scenery, mascot and tokens
             gameEngine.start();
             ttsService.setWord(gameState.getCurrentWord().getWord());
             // Speak word immediately when game starts
@@ -141,8 +123,7 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         pauseButton = findViewById(R.id.btn_pause);
         heartsContainer = findViewById(R.id.hearts_container);
         gameArea = findViewById(R.id.game_area);
-        mascotView = findViewById(R.id.mascot);
-        laneHighlight = findViewById(R.id.lane_highlight);
+        lanesView = findViewById(R.id.lanes_view);
         btnUp = findViewById(R.id.btn_up);
         btnDown = findViewById(R.id.btn_down);
         
@@ -167,22 +148,30 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         // Load selected mascot
         int mascotId = preferences.getSelectedMascot();
         selectedMascot = GameData.getMascotById(mascotId);
-        mascotView.setText(selectedMascot.getEmoji());
+        lanesView.setMascot(selectedMascot.getEmoji());
     }
 
-    private void initGame() {
-        words = GameData.getShuffledWords();
+    /**
+     * @return false if there are no words to play
+     */
+    private boolean initGame() {
+        vocabulary = GameData.getIndex(this);
+        if (vocabulary.size() == 0) return false;
+        sessionOrder = new int[vocabulary.size()];
+        vocabulary.fillSession(sessionOrder, random);
         currentWordIndex = 0;
 
         gameState = new GameState();
-        gameState.setCurrentWord(words.get(currentWordIndex));
+        gameState.setCurrentWord(getSessionWord());
         gameState.setMuted(preferences.isMuted());
 
-        gameEngine = new GameEngine(gameState, this);
+        gameEngine = new GameEngine(gameState, vocabulary, this);
+        lanesView.bind(gameState, gameEngine);
         
         updateUI();
         updateHearts();
         updateMuteButton();
+        return true;
     }
 
     @SuppressLint("ClickableViewAccessibility")
@@ -266,72 +255,12 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
 
     private void moveUp() {
         if (!gameState.isPlaying()) return;
-        gameEngine.moveUp();
-        animateMascotLaneChange();
-        updateLaneHighlight();
+        gameEngine.moveUp();  // LanesView animates the mascot to its new lane
     }
 
     private void moveDown() {
         if (!gameState.isPlaying()) return;
         gameEngine.moveDown();
-        animateMascotLaneChange();
-        updateLaneHighlight();
-    }
-    
-    private void animateMascotLaneChange() {
-        int lane = gameState.getCurrentLane();
-        float targetY = lane * laneHeight + (laneHeight - mascotView.getHeight()) / 2;
-        
-        // Pause walking animation during lane change
-        stopWalkingAnimation();
-        
-        // Jump animation when changing lane
-        mascotView.animate()
-            .y(targetY)
-            .scaleX(1.2f)
-            .scaleY(0.8f)
-            .setDuration(80)
-            .setInterpolator(new AccelerateDecelerateInterpolator())
-            .withEndAction(() -> {
-                // Squash and stretch effect
-                mascotView.animate()
-                    .scaleX(0.9f)
-                    .scaleY(1.1f)
-                    .setDuration(80)
-                    .withEndAction(() -> {
-                        mascotView.animate()
-                            .scaleX(1f)
-                            .scaleY(1f)
-                            .setDuration(100)
-                            .withEndAction(() -> {
-                                // Resume walking animation
-                                restartWalkingAnimation();
-                            })
-                            .start();
-                    })
-                    .start();
-            })
-            .start();
-    }
-
-    private void updateMascotPosition(boolean animate) {
-        int lane = gameState.getCurrentLane();
-        float targetY = lane * laneHeight + (laneHeight - mascotView.getHeight()) / 2;
-        mascotView.setY(targetY);
-    }
-
-    private void updateLaneHighlight() {
-        int lane = gameState.getCurrentLane();
-        float targetY = lane * laneHeight;
-        
-        ViewGroup.LayoutParams params = laneHighlight.getLayoutParams();
-        params.height = (int) laneHeight;
-        laneHighlight.setLayoutParams(params);
-        
-        laneHighlight.animate()
-            .y(targetY)
-            .setDuration(150)
-            .start();
     }
 
     private void updateUI() {
@@ -380,85 +309,6 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
 
     // ==================== GameEngine.GameEventListener ====================
 
-    @Override
-    public void onTokensUpdated(List<LetterToken> tokens) {
-        runOnUiThread(() -> {
-            // Remove old token views that are no longer active (but keep decorations)
-            List<Integer> toRemove = new ArrayList<>();
-            for (Map.Entry<Integer, TextView> entry : tokenViews.entrySet()) {
-                boolean found = false;
-                for (LetterToken token : tokens) {
-                    if (token.hashCode() == entry.getKey() && token.isActive()) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    TextView view = entry.getValue();
-                    // Only remove if it's actually a token (not decoration)
-                    if (view.getParent() == gameArea && !"decoration".equals(view.getTag())) {
-                        gameArea.removeView(view);
-                    }
-                    toRemove.add(entry.getKey());
-                }
-            }
-            for (Integer key : toRemove) {
-                tokenViews.remove(key);
-            }
-
-            // Update or create token views
-            for (LetterToken token : tokens) {
-                if (!token.isActive()) continue;
-
-                TextView tokenView = tokenViews.get(token.hashCode());
-                if (tokenView == null) {
-                    tokenView = createTokenView(token);
-                    tokenViews.put(token.hashCode(), tokenView);
-                    gameArea.addView(tokenView);
-                }
-
-                // Update position
-                float y = token.getLane() * laneHeight + (laneHeight - tokenView.getHeight()) / 2;
-                tokenView.setX(token.getPositionX());
-                tokenView.setY(y);
-            }
-        });
-    }
-
-    private TextView createTokenView(LetterToken token) {
-        TextView tv = new TextView(this);
-        tv.setText(String.valueOf(token.getLetter()));
-        tv.setTextSize(32);
-        tv.setTextColor(getResources().getColor(R.color.white, null));
-        tv.setTypeface(null, android.graphics.Typeface.BOLD);
-        tv.setBackground(getResources().getDrawable(R.drawable.bg_letter_token_gradient, null));
-        tv.setPadding(28, 20, 28, 20);
-        tv.setGravity(android.view.Gravity.CENTER);
-        tv.setElevation(8f);
-        
-        FrameLayout.LayoutParams params = new FrameLayout.LayoutParams(
-            ViewGroup.LayoutParams.WRAP_CONTENT,
-            ViewGroup.LayoutParams.WRAP_CONTENT
-        );
-        tv.setLayoutParams(params);
-        
-        // Animate entry with bounce effect
-        tv.setAlpha(0f);
-        tv.setScaleX(0.3f);
-        tv.setScaleY(0.3f);
-        tv.setRotation(-10f);
-        tv.animate()
-            .alpha(1f)
-            .scaleX(1f)
-            .scaleY(1f)
-            .rotation(0f)
-            .setDuration(300)
-            .setInterpolator(new OvershootInterpolator(1.5f))
-            .start();
-        
-        return tv;
-    }
-
     @Override
     public void onCorrectLetter(char letter) {
         runOnUiThread(() -> {
@@ -478,39 +328,8 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
                 })
                 .start();
             
-            // Sparkle effect on mascot with color flash
-            mascotView.animate()
-                .scaleX(1.3f)
-                .scaleY(1.3f)
-                .rotation(15f)
-                .setDuration(100)
-                .withEndAction(() -> {
-                    mascotView.animate()
-                        .scaleX(1f)
-                        .scaleY(1f)
-                        .rotation(-15f)
-                        .setDuration(100)
-                        .withEndAction(() -> {
-                            mascotView.animate().rotation(0f).setDuration(100).start();
-                        })
-                        .start();
-                })
-                .start();
-
-            // Green success flash on game area
-            View successFlash = new View(this);
-            successFlash.setLayoutParams(new FrameLayout.LayoutParams(
-                ViewGroup.LayoutParams.MATCH_PARENT,
-                ViewGroup.LayoutParams.MATCH_PARENT
-            ));
-            successFlash.setBackgroundColor(getResources().getColor(R.color.success_green, null));
-            successFlash.setAlpha(0.3f);
-            gameArea.addView(successFlash);
-            successFlash.animate()
-                .alpha(0f)
-                .setDuration(300)
-                .withEndAction(() -> gameArea.removeView(successFlash))
-                .start();
+            // Mascot wiggle and a green success flash over the lanes
+            lanesView.playCorrect(getResources().getColor(R.color.success_green, null));
 
             // TTS speaks the letter
             if (!gameState.isMuted()) {
@@ -540,35 +359,8 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
                     shakeX.start();
                 }
 
-                // Mascot sad animation - stop walking animations first
-                if (mascotView != null) {
-                    if (mascotBounceAnim != null && mascotBounceAnim.isRunning()) {
-                        mascotBounceAnim.pause();
-                    }
-                    if (mascotTiltAnim != null && mascotTiltAnim.isRunning()) {
-                        mascotTiltAnim.pause();
-                    }
-                    
-                    mascotView.animate()
-                        .scaleX(0.8f)
-                        .scaleY(0.8f)
-                        .setDuration(150)
-                        .withEndAction(() -> {
-                            if (mascotView != null) {
-                                mascotView.animate()
-                                    .scaleX(1f)
-                                    .scaleY(1f)
-                                    .setDuration(200)
-                                    .setInterpolator(new OvershootInterpolator())
-                                    .withEndAction(() -> {
-                                        // Resume walking animations
-                                        restartWalkingAnimation();
-                                    })
-                                    .start();
-                            }
-                        })
-                        .start();
-                }
+                // Mascot sad animation
+                lanesView.playWrong();
 
                 // Flash wrong indicator with gradient
                 View wrongIndicator = findViewById(R.id.wrong_indicator);
@@ -609,7 +401,7 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
                 
                 // TTS says "Oops" or similar
                 if (!gameState.isMuted() && ttsService != null) {
-                    ttsService.speak("Oops! Try again!");
+                    ttsService.speak(TTSService.TRY_AGAIN_PHRASE);
                 }
             } catch (Exception e) {
                 // Log error but don't crash
@@ -658,7 +450,7 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         
         // Speak congratulations
         if (!gameState.isMuted()) {
-            ttsService.speak("Congratulations! Well done!");
+            ttsService.speak(TTSService.WIN_PHRASE);
         }
     }
 
@@ -687,7 +479,7 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         }
         
         if (!gameState.isMuted()) {
-            ttsService.speak("Oh no! The word was " + gameState.getCurrentWord().getWord());
+            ttsService.speak(TTSService.getRevealText(gameState.getCurrentWord().getWord()));
         }
     }
 
@@ -713,15 +505,15 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
 
     private void nextWord() {
         hideWinOverlay();
-        clearTokenViews();
+        lanesView.clearTokens();
         
         currentWordIndex++;
-        if (currentWordIndex >= words.size()) {
+        if (currentWordIndex >= sessionOrder.length) {
             currentWordIndex = 0;
-            words = GameData.getShuffledWords();
+            vocabulary.fillSession(sessionOrder, random);
         }
 
-        gameState.nextWord(words.get(currentWordIndex));
+        gameState.nextWord(getSessionWord());
         updateUI();
         updateHearts();
         
@@ -731,10 +523,10 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
 
     private void retryGame() {
         hideLoseOverlay();
-        clearTokenViews();
+        lanesView.clearTokens();
         
         gameState.reset();
-        gameState.setCurrentWord(words.get(currentWordIndex));
+        gameState.setCurrentWord(getSessionWord());
         updateUI();
         updateHearts();
         
@@ -742,14 +534,11 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         ttsService.setWord(gameState.getCurrentWord().getWord());
     }
 
-    private void clearTokenViews() {
-        // Only remove token views, preserve decorations and other views
-        for (TextView tv : tokenViews.values()) {
-            if (tv.getParent() == gameArea) {
-                gameArea.removeView(tv);
-            }
-        }
-        tokenViews.clear();
+    /**
+     * Word at the current position of the session (easy words first)
+     */
+    private WordItem getSessionWord() {
+        return vocabulary.getWord(sessionOrder[currentWordIndex]);
     }
 
     private void animateButton(View view) {
@@ -767,202 +556,6 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
             .start();
     }
 
-    private void startMascotWalkingAnimation() {
-        // Create bouncing walk animation - hop effect
-        mascotBounceAnim = ObjectAnimator.ofFloat(mascotView, "translationY", 0f, -15f, 0f);
-        mascotBounceAnim.setDuration(350);
-        mascotBounceAnim.setRepeatCount(ObjectAnimator.INFINITE);
-        mascotBounceAnim.setRepeatMode(ObjectAnimator.RESTART);
-        mascotBounceAnim.setInterpolator(new AccelerateDecelerateInterpolator());
-        mascotBounceAnim.start();
-
-        // Tilt rotation for walking
-        mascotTiltAnim = ObjectAnimator.ofFloat(mascotView, "rotation", -5f, 5f, -5f);
-        mascotTiltAnim.setDuration(500);
-        mascotTiltAnim.setRepeatCount(ObjectAnimator.INFINITE);
-        mascotTiltAnim.setRepeatMode(ObjectAnimator.RESTART);
-        mascotTiltAnim.start();
-        
-        // Breathing/pulse scale effect
-        mascotScaleAnim = ObjectAnimator.ofFloat(mascotView, "scaleX", 1f, 1.05f, 1f);
-        mascotScaleAnim.setDuration(600);
-        mascotScaleAnim.setRepeatCount(ObjectAnimator.INFINITE);
-        mascotScaleAnim.setRepeatMode(ObjectAnimator.RESTART);
-        mascotScaleAnim.start();
-        
-        // Sync scaleY
-        ObjectAnimator scaleY = ObjectAnimator.ofFloat(mascotView, "scaleY", 1f, 1.05f, 1f);
-        scaleY.setDuration(600);
-        scaleY.setRepeatCount(ObjectAnimator.INFINITE);
-        scaleY.setRepeatMode(ObjectAnimator.RESTART);
-        scaleY.start();
-    }
-
-    private void restartWalkingAnimation() {
-        if (mascotBounceAnim != null && !mascotBounceAnim.isRunning()) {
-            mascotBounceAnim.start();
-        }
-        if (mascotTiltAnim != null && !mascotTiltAnim.isRunning()) {
-            mascotTiltAnim.start();
-        }
-        if (mascotScaleAnim != null && !mascotScaleAnim.isRunning()) {
-            mascotScaleAnim.start();
-        }
-    }
-    
-    private void stopWalkingAnimation() {
-        if (mascotBounceAnim != null) mascotBounceAnim.pause();
-        if (mascotTiltAnim != null) mascotTiltAnim.pause();
-        if (mascotScaleAnim != null) mascotScaleAnim.pause();
-    }
-
-    private void addScrollingDecorations() {
-        // Clear existing decorations
-        for (TextView deco : decorationViews) {
-            if (deco.getParent() == gameArea) {
-                gameArea.removeView(deco);
-            }
-        }
-        decorationViews.clear();
-        
-        // Ground elements on each lane (grass, flowers)
-        String[] groundItems = {"🌿", "🍀", "🌻", "🌼", "🌷", "🌸", "🌹", "🌺"};
-        // Sky/floating elements
-        String[] skyItems = {"☁️", "⭐", "🪶", "🦋", "🐦"};
-        // Trees (bigger, on edges)
-        String[] treeItems = {"🌳", "🌲", "🌴", "🌵"};
-        
-        Random random = new Random();
-        
-        // Add ground decorations spread across screen width - more items
-        for (int i = 0; i < 20; i++) {
-            TextView deco = createDecoration(
-                groundItems[random.nextInt(groundItems.length)],
-                random.nextInt(12) + 14,  // size 14-26sp
-                0.4f + random.nextFloat() * 0.3f  // alpha 0.4-0.7
-            );
-            
-            // Spread across screen width with some going offscreen right
-            float x = random.nextFloat() * (gameAreaWidth + 200) - 50;
-            int lane = random.nextInt(5);
-            float yOffset = laneHeight * 0.6f + random.nextFloat() * (laneHeight * 0.3f);  // Bottom of lane
-            float y = lane * laneHeight + yOffset;
-            
-            deco.setX(x);
-            deco.setY(y);
-            deco.setElevation(0.5f);
-            
-            decorationViews.add(deco);
-            gameArea.addView(deco, 0);
-        }
-        
-        // Add sky decorations (clouds, stars, birds)
-        for (int i = 0; i < 8; i++) {
-            TextView deco = createDecoration(
-                skyItems[random.nextInt(skyItems.length)],
-                random.nextInt(15) + 16,  // size 16-31sp
-                0.3f + random.nextFloat() * 0.4f  // alpha 0.3-0.7
-            );
-            
-            float x = random.nextFloat() * (gameAreaWidth + 300) - 100;
-            int lane = random.nextInt(3);  // Top 3 lanes for sky items
-            float yOffset = random.nextFloat() * (laneHeight * 0.4f);  // Top of lane
-            float y = lane * laneHeight + yOffset;
-            
-            deco.setX(x);
-            deco.setY(y);
-            deco.setElevation(0.3f);
-            
-            // Add floating animation for sky items
-            ObjectAnimator floatAnim = ObjectAnimator.ofFloat(deco, "translationY", 0f, -8f, 0f);
-            floatAnim.setDuration(1500 + random.nextInt(1000));
-            floatAnim.setRepeatCount(ObjectAnimator.INFINITE);
-            floatAnim.start();
-            
-            decorationViews.add(deco);
-            gameArea.addView(deco, 0);
-        }
-        
-        // Add trees on the edges
-        for (int i = 0; i < 6; i++) {
-            TextView deco = createDecoration(
-                treeItems[random.nextInt(treeItems.length)],
-                random.nextInt(15) + 24,  // size 24-39sp (bigger)
-                0.5f + random.nextFloat() * 0.3f  // alpha 0.5-0.8
-            );
-            
-            float x = random.nextFloat() * (gameAreaWidth + 200) - 50;
-            int lane = random.nextInt(5);
-            float yOffset = laneHeight * 0.2f + random.nextFloat() * (laneHeight * 0.3f);
-            float y = lane * laneHeight + yOffset;
-            
-            deco.setX(x);
-            deco.setY(y);
-            deco.setElevation(0.8f);
-            
-            decorationViews.add(deco);
-            gameArea.addView(deco, 0);
-        }
-    }
-    
-    private TextView createDecoration(String emoji, int textSize, float alpha) {
-        TextView decoration = new TextView(this);
-        decoration.setText(emoji);
-        decoration.setTextSize(textSize);
-        decoration.setAlpha(alpha);
-        decoration.setTag("decoration");
-        
-        FrameLayout.LayoutParams params = new FrameLayout.LayoutParams(
-            ViewGroup.LayoutParams.WRAP_CONTENT,
-            ViewGroup.LayoutParams.WRAP_CONTENT
-        );
-        decoration.setLayoutParams(params);
-        
-        return decoration;
-    }
-    
-    private void startScrollingBackground() {
-        isScrolling = true;
-        scrollHandler.post(scrollRunnable);
-    }
-    
-    private void stopScrollingBackground() {
-        isScrolling = false;
-        scrollHandler.removeCallbacks(scrollRunnable);
-    }
-    
-    private Runnable scrollRunnable = new Runnable() {
-        Random random = new Random();
-        
-        @Override
-        public void run() {
-            if (!isScrolling || !gameState.isPlaying()) {
-                scrollHandler.postDelayed(this, 16);
-                return;
-            }
-            
-            // Move all decorations to the left
-            for (TextView deco : decorationViews) {
-                float currentX = deco.getX();
-                float newX = currentX - SCROLL_SPEED;
-                
-                // If decoration goes off left side, respawn on right
-                if (newX < -100) {
-                    newX = gameAreaWidth + random.nextInt(100);
-                    // Randomize Y position within its lane type
-                    int lane = random.nextInt(5);
-                    float yOffset = random.nextFloat() * (laneHeight * 0.6f) + laneHeight * 0.2f;
-                    deco.setY(lane * laneHeight + yOffset);
-                }
-                
-                deco.setX(newX);
-            }
-            
-            // Continue scrolling at ~60fps
-            scrollHandler.postDelayed(this, 16);
-        }
-    };
-
     // ==================== Lifecycle ====================
 
     @Override
@@ -971,18 +564,15 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
         if (gameState != null && gameState.isPlaying()) {
             togglePause();
         }
-        // Pause walking animations
-        stopWalkingAnimation();
-        stopScrollingBackground();
+        lanesView.stop();
     }
 
     @Override
     protected void onResume() {
         super.onResume();
-        // Resume walking animations if game is playing
-        if (gameState != null && gameState.isPlaying()) {
-            restartWalkingAnimation();
-            startScrollingBackground();
+        // Resume scenery and walking if the playfield has been laid out
+        if (gameAreaWidth > 0) {
+            lanesView.start();
         }
     }
 
@@ -990,16 +580,10 @@ public class AlphabetGameActivity extends AppCompatActivity implements GameEngin
     protected void onDestroy() {
         super.onDestroy();
         
-        // Stop all animations
-        stopWalkingAnimation();
-        stopScrollingBackground();
-        
-        if (mascotBounceAnim != null) mascotBounceAnim.cancel();
-        if (mascotTiltAnim != null) mascotTiltAnim.cancel();
-        if (mascotScaleAnim != null) mascotScaleAnim.cancel();
+        lanesView.stop();
         
         if (gameEngine != null) {
-            gameEngine.stop();
+            gameEngine.release();
         }
         if (ttsService != null) {
             ttsService.shutdown();
@@ -3,47 +3,40 @@ package com.edu.english.alphabet_adventure.services;
 import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
-import android.speech.tts.TextToSpeech;
 
-import java.util.Locale;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 
 /**
  * Service for Text-to-Speech functionality in the Alphabet Adventure game.
- * Handles auto-speak every 5 seconds and manual replay.
+ * Handles auto-speak every 5 seconds and manual replay. Auto-speak has the
+ * lowest priority, so it is skipped while a replay or feedback is playing.
  */
-public class TTSService implements TextToSpeech.OnInitListener {
+public class TTSService {
 
     private static final int AUTO_SPEAK_INTERVAL = 5000; // 5 seconds
     
-    private TextToSpeech textToSpeech;
+    // Very slow for clearest pronunciation
+    public static final float SPEECH_RATE = 0.5f;
+    public static final float SPEECH_PITCH = 1.1f;
+
+    // Feedback spoken by the game screen
+    public static final String TRY_AGAIN_PHRASE = "Oops! Try again!";
+    public static final String WIN_PHRASE = "Congratulations! Well done!";
+    
+    private SpeechService.Client speech;
     private Handler handler;
     private String currentWord;
-    private boolean isInitialized;
     private boolean isMuted;
     private boolean isPaused;
     private Runnable autoSpeakRunnable;
 
     public TTSService(Context context) {
         this.handler = new Handler(Looper.getMainLooper());
-        this.isInitialized = false;
         this.isMuted = false;
         this.isPaused = false;
-        this.textToSpeech = new TextToSpeech(context, this);
-    }
-
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            int result = textToSpeech.setLanguage(Locale.US);
-            if (result != TextToSpeech.LANG_MISSING_DATA && 
-                result != TextToSpeech.LANG_NOT_SUPPORTED) {
-                isInitialized = true;
-                
-                // Set speech rate slower for children to hear better
-                textToSpeech.setSpeechRate(0.5f);  // Very slow for clearest pronunciation
-                textToSpeech.setPitch(1.1f);
-            }
-        }
+        // Speech rate slower for children to hear better
+        this.speech = SpeechService.getInstance(context).openClient(SPEECH_RATE, SPEECH_PITCH);
     }
 
     /**
@@ -52,6 +45,9 @@ public class TTSService implements TextToSpeech.OnInitListener {
      */
     public void setWord(String word) {
         this.currentWord = word;
+        // Anything still waiting belongs to the previous word
+        speech.stop();
+        speech.preload(word);
         speakNow();
         startAutoSpeak();
     }
@@ -60,21 +56,32 @@ public class TTSService implements TextToSpeech.OnInitListener {
      * Speak the current word immediately.
      */
     public void speakNow() {
-        if (isInitialized && currentWord != null && !isMuted && !isPaused) {
-            textToSpeech.speak(currentWord, TextToSpeech.QUEUE_FLUSH, null, "word_speak");
+        speakWord(SpeechQueue.PRIORITY_INSTRUCTION);
+    }
+
+    private void speakWord(int priority) {
+        if (currentWord != null && !isMuted && !isPaused) {
+            speech.speak(currentWord, priority, "word_speak");
         }
     }
 
     /**
-     * Speak a specific text immediately.
+     * Speak feedback immediately (cuts off the word).
      * @param text Text to speak
      */
     public void speak(String text) {
-        if (isInitialized && !isMuted) {
-            textToSpeech.speak(text, TextToSpeech.QUEUE_FLUSH, null, "custom_speak");
+        if (!isMuted) {
+            speech.speak(text, SpeechQueue.PRIORITY_FEEDBACK, "custom_speak");
         }
     }
 
+    /**
+     * Text spoken when a game is lost
+     */
+    public static String getRevealText(String word) {
+        return "Oh no! The word was " + word;
+    }
+
     /**
      * Start the auto-speak timer (speaks every 5 seconds).
      */
@@ -85,7 +92,7 @@ public class TTSService implements TextToSpeech.OnInitListener {
             @Override
             public void run() {
                 if (!isPaused && !isMuted && currentWord != null) {
-                    speakNow();
+                    speakWord(SpeechQueue.PRIORITY_AUTO_REPEAT);
                     handler.postDelayed(this, AUTO_SPEAK_INTERVAL);
                 }
             }
@@ -110,9 +117,7 @@ public class TTSService implements TextToSpeech.OnInitListener {
     public void pause() {
         isPaused = true;
         stopAutoSpeak();
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-        }
+        speech.stop();
     }
 
     /**
@@ -131,8 +136,8 @@ public class TTSService implements TextToSpeech.OnInitListener {
      */
     public void setMuted(boolean muted) {
         this.isMuted = muted;
-        if (muted && textToSpeech != null) {
-            textToSpeech.stop();
+        if (muted) {
+            speech.stop();
         }
     }
 
@@ -142,8 +147,8 @@ public class TTSService implements TextToSpeech.OnInitListener {
      */
     public boolean toggleMute() {
         isMuted = !isMuted;
-        if (isMuted && textToSpeech != null) {
-            textToSpeech.stop();
+        if (isMuted) {
+            speech.stop();
         }
         return isMuted;
     }
@@ -157,10 +162,6 @@ public class TTSService implements TextToSpeech.OnInitListener {
      */
     public void shutdown() {
         stopAutoSpeak();
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
-            textToSpeech = null;
-        }
+        speech.close();
     }
 }
@@ -144,6 +144,11 @@ public class AlphabetGameView extends SurfaceView implements SurfaceHolder.Callb
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
+        
+        // A new carousel is built when the surface comes back; stop this one's worker
+        if (flashcardCarousel != null) {
+            flashcardCarousel.release();
+        }
     }
     
     private void initGameComponents() {
@@ -158,7 +163,8 @@ public class AlphabetGameView extends SurfaceView implements SurfaceHolder.Callb
         letterAnimator = new LetterAnimator(screenWidth, screenHeight);
         
         // Initialize flashcard carousel
-        flashcardCarousel = new FlashcardCarousel(screenWidth, screenHeight);
+        LetterWords letterWords = LetterWords.getInstance(getContext());
+        flashcardCarousel = new FlashcardCarousel(screenWidth, screenHeight, letterWords);
         flashcardCarousel.setOnCardClickListener(card -> {
             if (audioManager != null) {
                 audioManager.speakWord(card.word);
@@ -170,7 +176,7 @@ public class AlphabetGameView extends SurfaceView implements SurfaceHolder.Callb
         });
         
         // Initialize image display
-        imageDisplay = new ImageDisplay(screenWidth, screenHeight);
+        imageDisplay = new ImageDisplay(screenWidth, screenHeight, letterWords);
     }
     
     @Override
@@ -445,6 +451,10 @@ public class AlphabetGameView extends SurfaceView implements SurfaceHolder.Callb
         if (audioManager != null) {
             audioManager.release();
         }
+        if (flashcardCarousel != null) {
+            flashcardCarousel.release();
+        }
+        BubbleSprites.clear();
     }
     
     /**
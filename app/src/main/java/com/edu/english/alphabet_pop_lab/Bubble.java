@@ -1,12 +1,7 @@
 package com.edu.english.alphabet_pop_lab;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.LinearGradient;
 import android.graphics.Paint;
-import android.graphics.RadialGradient;
-import android.graphics.Shader;
-import android.graphics.Typeface;
 
 /**
  * Bubble class representing a floating alphabet bubble
@@ -39,11 +34,9 @@ public class Bubble {
     public float wobblePhase = 0f;
     public float wobbleAmplitude = 0f;
     
-    // Paints
-    private Paint bubblePaint;
-    private Paint highlightPaint;
-    private Paint letterPaint;
-    private Paint shadowPaint;
+    // Pre-rendered look (shadow, body, highlight and letter), fetched on first draw
+    private BubbleSprites.Sprite sprite;
+    private Paint spritePaint;
     
     // Screen bounds
     private int screenWidth, screenHeight;
@@ -75,24 +68,7 @@ public class Bubble {
     }
     
     private void initPaints() {
-        // Main bubble paint with gradient
-        bubblePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        bubblePaint.setStyle(Paint.Style.FILL);
-        
-        // Highlight paint for glossy effect
-        highlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        highlightPaint.setStyle(Paint.Style.FILL);
-        
-        // Letter paint
-        letterPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        letterPaint.setColor(Color.WHITE);
-        letterPaint.setTextAlign(Paint.Align.CENTER);
-        letterPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        
-        // Shadow paint
-        shadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        shadowPaint.setStyle(Paint.Style.FILL);
-        shadowPaint.setColor(Color.argb(30, 0, 0, 0));
+        spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
     }
     
     /**
@@ -152,55 +128,13 @@ public class Bubble {
     public void draw(Canvas canvas) {
         if (isPopped) return;
         
-        float currentAlpha = alpha;
-        float drawRadius = radius;
-        
-        // Draw shadow
-        canvas.drawCircle(x + 4, y + 6, drawRadius, shadowPaint);
-        
-        // Create gradient for bubble
-        RadialGradient gradient = new RadialGradient(
-            x - drawRadius * 0.3f,
-            y - drawRadius * 0.3f,
-            drawRadius * 2,
-            new int[] {
-                adjustAlpha(lightenColor(baseColor, 0.4f), currentAlpha),
-                adjustAlpha(baseColor, currentAlpha),
-                adjustAlpha(darkenColor(baseColor, 0.2f), currentAlpha)
-            },
-            new float[] {0f, 0.5f, 1f},
-            Shader.TileMode.CLAMP
-        );
-        bubblePaint.setShader(gradient);
-        
-        // Draw main bubble
-        canvas.drawCircle(x, y, drawRadius, bubblePaint);
-        
-        // Draw highlight (glossy effect)
-        RadialGradient highlightGradient = new RadialGradient(
-            x - drawRadius * 0.35f,
-            y - drawRadius * 0.35f,
-            drawRadius * 0.6f,
-            new int[] {
-                adjustAlpha(Color.WHITE, currentAlpha * 0.7f),
-                adjustAlpha(Color.WHITE, currentAlpha * 0.2f),
-                adjustAlpha(Color.WHITE, 0f)
-            },
-            new float[] {0f, 0.5f, 1f},
-            Shader.TileMode.CLAMP
-        );
-        highlightPaint.setShader(highlightGradient);
-        canvas.drawCircle(x - drawRadius * 0.2f, y - drawRadius * 0.25f, drawRadius * 0.5f, highlightPaint);
-        
-        // Draw letter
-        letterPaint.setTextSize(drawRadius * 1.2f);
-        letterPaint.setAlpha((int) (currentAlpha * 255));
-        
-        // Center text vertically
-        Paint.FontMetrics fm = letterPaint.getFontMetrics();
-        float textY = y - (fm.ascent + fm.descent) / 2;
+        if (sprite == null) {
+            sprite = BubbleSprites.get(baseColor, baseRadius, letter);
+        }
         
-        canvas.drawText(String.valueOf(letter), x, textY, letterPaint);
+        // Scaled to the wobbled radius and faded as a whole
+        spritePaint.setAlpha((int) (alpha * 255));
+        sprite.draw(canvas, x, y, radius, spritePaint);
     }
     
     /**
@@ -260,37 +194,4 @@ public class Bubble {
     public void pop() {
         isPopped = true;
     }
-    
-    // Helper methods for color manipulation
-    private int lightenColor(int color, float factor) {
-        int r = Color.red(color);
-        int g = Color.green(color);
-        int b = Color.blue(color);
-        
-        r = (int) Math.min(255, r + (255 - r) * factor);
-        g = (int) Math.min(255, g + (255 - g) * factor);
-        b = (int) Math.min(255, b + (255 - b) * factor);
-        
-        return Color.rgb(r, g, b);
-    }
-    
-    private int darkenColor(int color, float factor) {
-        int r = Color.red(color);
-        int g = Color.green(color);
-        int b = Color.blue(color);
-        
-        r = (int) (r * (1 - factor));
-        g = (int) (g * (1 - factor));
-        b = (int) (b * (1 - factor));
-        
-        return Color.rgb(r, g, b);
-    }
-    
-    private int adjustAlpha(int color, float alphaFactor) {
-        int alpha = (int) (Color.alpha(color) * alphaFactor);
-        if (Color.alpha(color) == 0) {
-            alpha = (int) (255 * alphaFactor);
-        }
-        return Color.argb(alpha, Color.red(color), Color.green(color), Color.blue(color));
-    }
 }
@@ -17,6 +17,11 @@ public class BubbleManager {
     private int screenWidth, screenHeight;
     private Random random;
     
+    // Broad phase: only bubbles in neighboring cells are tested against each other
+    private final SpatialGrid collisionGrid = new SpatialGrid(32);
+    private final SpatialGrid.PairVisitor collisionVisitor =
+        (a, b) -> bubbles.get(a).handleCollision(bubbles.get(b));
+    
     // Bubble colors (bright neon palette for dark background)
     private static final int[] BUBBLE_COLORS = {
         0xFFFF6B8A,  // Bright Pink
@@ -96,12 +101,15 @@ public class BubbleManager {
             bubble.update(deltaTime);
         }
         
-        // Handle collisions between bubbles
+        // Handle collisions between bubbles (popped ones don't collide)
+        collisionGrid.clear();
         for (int i = 0; i < bubbles.size(); i++) {
-            for (int j = i + 1; j < bubbles.size(); j++) {
-                bubbles.get(i).handleCollision(bubbles.get(j));
+            Bubble bubble = bubbles.get(i);
+            if (!bubble.isPopped) {
+                collisionGrid.insert(i, bubble.x, bubble.y, bubble.radius);
             }
         }
+        collisionGrid.forEachPair(collisionVisitor);
     }
     
     /**
@@ -0,0 +1,178 @@
+package com.edu.english.alphabet_pop_lab;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RadialGradient;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.Typeface;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BubbleSprites - Pre-rendered bubble cache
+ * Each (color, radius bucket, letter) is rasterized once with its shadow,
+ * glossy body, highlight and letter, so drawing a bubble is a single scaled
+ * bitmap blit instead of two new gradients and a text draw per frame
+ */
+public class BubbleSprites {
+    
+    // Sprites are rendered at the next multiple of this radius, so bubbles of
+    // similar size share one and a bubble only ever scales its sprite down a little
+    private static final int RADIUS_BUCKET = 8;
+    
+    // Wobble swells the radius by up to 10%; render big enough not to upscale
+    private static final float WOBBLE_HEADROOM = 1.1f;
+    
+    // Shadow offset as a fraction of the radius (4px, 6px at the original 50px)
+    private static final float SHADOW_DX = 0.08f;
+    private static final float SHADOW_DY = 0.12f;
+    private static final int PADDING = 2;
+    
+    private static final Map<Long, Sprite> sprites = new HashMap<>();
+    private static Typeface letterTypeface;
+    
+    /**
+     * One rendered bubble; the circle's center is at (center, center) in the bitmap
+     */
+    public static class Sprite {
+        private final Bitmap bitmap;
+        private final float radius;
+        private final float center;
+        private final RectF dst = new RectF();
+        
+        Sprite(Bitmap bitmap, float radius, float center) {
+            this.bitmap = bitmap;
+            this.radius = radius;
+            this.center = center;
+        }
+        
+        /**
+         * Draw centered on (x, y) at the given radius; paint alpha fades the whole bubble
+         */
+        public void draw(Canvas canvas, float x, float y, float drawRadius, Paint paint) {
+            float s = drawRadius / radius;
+            dst.set(x - center * s, y - center * s,
+                x + (bitmap.getWidth() - center) * s, y + (bitmap.getHeight() - center) * s);
+            canvas.drawBitmap(bitmap, null, dst, paint);
+        }
+    }
+    
+    private BubbleSprites() {
+    }
+    
+    /**
+     * Get the sprite for a bubble, rendering it on first use
+     */
+    public static synchronized Sprite get(int color, float baseRadius, char letter) {
+        int bucket = getBucket(baseRadius);
+        long key = ((long) color << 32) | ((long) bucket << 16) | letter;
+        Sprite sprite = sprites.get(key);
+        if (sprite == null) {
+            sprite = render(color, bucket, letter);
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+    
+    /**
+     * Drop all cached sprites (called when the game is released)
+     */
+    public static synchronized void clear() {
+        sprites.clear();
+    }
+    
+    static int getBucket(float baseRadius) {
+        int needed = (int) Math.ceil(baseRadius * WOBBLE_HEADROOM);
+        return ((needed + RADIUS_BUCKET - 1) / RADIUS_BUCKET) * RADIUS_BUCKET;
+    }
+    
+    // ==================== Rendering ====================
+    
+    private static Sprite render(int baseColor, int r, char letter) {
+        float center = r + PADDING;
+        int width = (int) Math.ceil(center + r + r * SHADOW_DX + PADDING);
+        int height = (int) Math.ceil(center + r + r * SHADOW_DY + PADDING);
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        paint.setStyle(Paint.Style.FILL);
+        float x = center;
+        float y = center;
+        
+        // Shadow
+        paint.setColor(Color.argb(30, 0, 0, 0));
+        canvas.drawCircle(x + r * SHADOW_DX, y + r * SHADOW_DY, r, paint);
+        
+        // Main bubble
+        paint.setShader(new RadialGradient(
+            x - r * 0.3f,
+            y - r * 0.3f,
+            r * 2,
+            new int[] {
+                lightenColor(baseColor, 0.4f),
+                baseColor | 0xFF000000,
+                darkenColor(baseColor, 0.2f)
+            },
+            new float[] {0f, 0.5f, 1f},
+            Shader.TileMode.CLAMP
+        ));
+        canvas.drawCircle(x, y, r, paint);
+        
+        // Highlight (glossy effect)
+        paint.setShader(new RadialGradient(
+            x - r * 0.35f,
+            y - r * 0.35f,
+            r * 0.6f,
+            new int[] {
+                Color.argb(178, 255, 255, 255),
+                Color.argb(51, 255, 255, 255),
+                Color.argb(0, 255, 255, 255)
+            },
+            new float[] {0f, 0.5f, 1f},
+            Shader.TileMode.CLAMP
+        ));
+        canvas.drawCircle(x - r * 0.2f, y - r * 0.25f, r * 0.5f, paint);
+        paint.setShader(null);
+        
+        // Letter, centered vertically
+        if (letterTypeface == null) {
+            letterTypeface = Typeface.create(Typeface.DEFAULT, Typeface.BOLD);
+        }
+        paint.setColor(Color.WHITE);
+        paint.setTextAlign(Paint.Align.CENTER);
+        paint.setTypeface(letterTypeface);
+        paint.setTextSize(r * 1.2f);
+        Paint.FontMetrics fm = paint.getFontMetrics();
+        canvas.drawText(String.valueOf(letter), x, y - (fm.ascent + fm.descent) / 2, paint);
+        
+        return new Sprite(bitmap, r, center);
+    }
+    
+    private static int lightenColor(int color, float factor) {
+        int r = Color.red(color);
+        int g = Color.green(color);
+        int b = Color.blue(color);
+        
+        r = (int) Math.min(255, r + (255 - r) * factor);
+        g = (int) Math.min(255, g + (255 - g) * factor);
+        b = (int) Math.min(255, b + (255 - b) * factor);
+        
+        return Color.rgb(r, g, b);
+    }
+    
+    private static int darkenColor(int color, float factor) {
+        int r = Color.red(color);
+        int g = Color.green(color);
+        int b = Color.blue(color);
+        
+        r = (int) (r * (1 - factor));
+        g = (int) (g * (1 - factor));
+        b = (int) (b * (1 - factor));
+        
+        return Color.rgb(r, g, b);
+    }
+}
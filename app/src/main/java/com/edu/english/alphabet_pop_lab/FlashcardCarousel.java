@@ -1,23 +1,31 @@
 package com.edu.english.alphabet_pop_lab;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.RectF;
-import android.graphics.Shader;
 import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.HandlerThread;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * FlashcardCarousel - Displays flashcards for a selected letter
  * Supports horizontal swipe with snap-to-center behavior
+ * Cards are rasterized on a background thread when the letter is set (the
+ * focused card and its neighbors first), so scrolling only draws the cached
+ * bitmaps of the cards on screen
  */
 public class FlashcardCarousel {
+    private static final String TAG = "FlashcardCarousel";
+    
+    // Room around a cached card for its shadow
+    private static final float SHADOW_DX = 6f;
+    private static final float SHADOW_DY = 8f;
+    private static final int BITMAP_PADDING = 2;
     
     // Screen dimensions
     private int screenWidth, screenHeight;
@@ -50,46 +58,28 @@ public class FlashcardCarousel {
     // Current letter
     private char currentLetter = 'A';
     
-    // Paints
-    private Paint cardPaint;
-    private Paint shadowPaint;
-    private Paint textPaint;
-    private Paint wordPaint;
+    // Painters: one for this thread (cards not cached yet), one for the worker
+    private CardPainter painter;
+    private CardPainter rasterPainter;
+    private Paint focusPaint;
+    private Paint bitmapPaint;
+    private final RectF focusRect = new RectF();
+    private final RectF bitmapRect = new RectF();
+    
+    // Background rasterization; a new letter or size bumps the generation
+    // so queued work for old cards is skipped
+    private Handler worker;
+    private HandlerThread workerThread;
+    private volatile int generation = 0;
+    
+    // Cached bitmaps of replaced cards, reused by the worker
+    private final List<Bitmap> spareBitmaps = new ArrayList<>();
     
     // Callback
     private OnCardClickListener cardClickListener;
     
     // Flashcard data for all letters
-    private static final Map<Character, String[]> LETTER_WORDS = new HashMap<>();
-    
-    static {
-        LETTER_WORDS.put('A', new String[]{"Apple", "Ant", "Airplane", "Alligator", "Astronaut", "Avocado"});
-        LETTER_WORDS.put('B', new String[]{"Ball", "Bear", "Banana", "Butterfly", "Boat", "Bird"});
-        LETTER_WORDS.put('C', new String[]{"Cat", "Car", "Cake", "Cow", "Carrot", "Cloud"});
-        LETTER_WORDS.put('D', new String[]{"Dog", "Duck", "Donut", "Dinosaur", "Drum", "Dolphin"});
-        LETTER_WORDS.put('E', new String[]{"Elephant", "Egg", "Eagle", "Earth", "Ear", "Eye"});
-        LETTER_WORDS.put('F', new String[]{"Fish", "Frog", "Flower", "Fox", "Fire", "Fan"});
-        LETTER_WORDS.put('G', new String[]{"Giraffe", "Grape", "Guitar", "Goat", "Gift", "Garden"});
-        LETTER_WORDS.put('H', new String[]{"House", "Horse", "Heart", "Hat", "Honey", "Hamburger"});
-        LETTER_WORDS.put('I', new String[]{"Ice cream", "Igloo", "Island", "Insect", "Iron", "Iris"});
-        LETTER_WORDS.put('J', new String[]{"Jellyfish", "Juice", "Jacket", "Jam", "Jet", "Jungle"});
-        LETTER_WORDS.put('K', new String[]{"Kite", "Kangaroo", "Key", "King", "Koala", "Kitchen"});
-        LETTER_WORDS.put('L', new String[]{"Lion", "Lemon", "Lamp", "Leaf", "Ladybug", "Lizard"});
-        LETTER_WORDS.put('M', new String[]{"Monkey", "Moon", "Mango", "Mouse", "Music", "Mountain"});
-        LETTER_WORDS.put('N', new String[]{"Nest", "Nut", "Nose", "Noodle", "Nurse", "Notebook"});
-        LETTER_WORDS.put('O', new String[]{"Orange", "Owl", "Ocean", "Octopus", "Onion", "Oven"});
-        LETTER_WORDS.put('P', new String[]{"Pig", "Pizza", "Penguin", "Panda", "Piano", "Pumpkin"});
-        LETTER_WORDS.put('Q', new String[]{"Queen", "Quilt", "Question", "Quail", "Quarter", "Quiet"});
-        LETTER_WORDS.put('R', new String[]{"Rabbit", "Rainbow", "Robot", "Rocket", "Rose", "Rain"});
-        LETTER_WORDS.put('S', new String[]{"Sun", "Star", "Snake", "Strawberry", "Ship", "Smile"});
-        LETTER_WORDS.put('T', new String[]{"Tiger", "Tree", "Train", "Turtle", "Tomato", "Trumpet"});
-        LETTER_WORDS.put('U', new String[]{"Umbrella", "Unicorn", "Up", "Under", "Uniform", "UFO"});
-        LETTER_WORDS.put('V', new String[]{"Violin", "Vegetable", "Van", "Volcano", "Vase", "Valentine"});
-        LETTER_WORDS.put('W', new String[]{"Water", "Whale", "Watermelon", "Wolf", "Window", "Watch"});
-        LETTER_WORDS.put('X', new String[]{"Xylophone", "X-ray", "Fox", "Box", "Six", "Mix"});
-        LETTER_WORDS.put('Y', new String[]{"Yogurt", "Yacht", "Yellow", "Yak", "Yarn", "Yo-yo"});
-        LETTER_WORDS.put('Z', new String[]{"Zebra", "Zoo", "Zero", "Zipper", "Zucchini", "Zigzag"});
-    }
+    private final LetterWords letterWords;
     
     // Card colors (darker semi-transparent for dark theme)
     private static final int[] CARD_COLORS = {
@@ -105,10 +95,11 @@ public class FlashcardCarousel {
         void onCardClick(Flashcard card);
     }
     
-    public FlashcardCarousel(int screenWidth, int screenHeight) {
+    public FlashcardCarousel(int screenWidth, int screenHeight, LetterWords letterWords) {
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
         this.cards = new ArrayList<>();
+        this.letterWords = letterWords;
         
         calculateDimensions();
         initPaints();
@@ -122,21 +113,15 @@ public class FlashcardCarousel {
     }
     
     private void initPaints() {
-        cardPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        cardPaint.setStyle(Paint.Style.FILL);
-        
-        shadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        shadowPaint.setStyle(Paint.Style.FILL);
-        shadowPaint.setColor(Color.argb(40, 0, 0, 0));
+        Typeface bold = Typeface.create(Typeface.DEFAULT, Typeface.BOLD);
+        painter = new CardPainter(bold);
+        rasterPainter = new CardPainter(bold);
         
-        textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        textPaint.setTextAlign(Paint.Align.CENTER);
-        textPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        focusPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        focusPaint.setStyle(Paint.Style.STROKE);
+        focusPaint.setStrokeWidth(4f);
         
-        wordPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        wordPaint.setTextAlign(Paint.Align.CENTER);
-        wordPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        wordPaint.setColor(0xFFFFFFFF);  // White for dark theme
+        bitmapPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
     }
     
     /**
@@ -144,9 +129,10 @@ public class FlashcardCarousel {
      */
     public void setLetter(char letter, int letterColor) {
         this.currentLetter = letter;
+        recycleCards(new ArrayList<>(cards));
         cards.clear();
         
-        String[] words = LETTER_WORDS.get(letter);
+        String[] words = letterWords.getWords(letter);
         if (words == null) {
             words = new String[]{"Example"};
         }
@@ -160,6 +146,8 @@ public class FlashcardCarousel {
         currentIndex = 0;
         scrollX = 0;
         targetScrollX = 0;
+        
+        rasterizeCards();
     }
     
     /**
@@ -232,12 +220,14 @@ public class FlashcardCarousel {
         
         float slideY = (1f - easeOutCubic(visibilityProgress)) * cardHeight;
         
-        // Draw each card
+        // Draw only the cards on screen
         float centerX = screenWidth / 2f;
-        float totalWidth = cards.size() * (cardWidth + cardSpacing) - cardSpacing;
         float startX = centerX - cardWidth / 2f - scrollX;
+        float cardStep = cardWidth + cardSpacing;
+        int first = Math.max(0, (int) Math.ceil((-startX - cardWidth - SHADOW_DX) / cardStep));
+        int last = Math.min(cards.size() - 1, (int) Math.floor((screenWidth - startX) / cardStep));
         
-        for (int i = 0; i < cards.size(); i++) {
+        for (int i = first; i <= last; i++) {
             Flashcard card = cards.get(i);
             float cardX = startX + i * (cardWidth + cardSpacing);
             
@@ -260,41 +250,120 @@ public class FlashcardCarousel {
         float cx = x + (cardWidth - w) / 2f;
         float cy = y + (cardHeight - h) / 2f;
         
-        // Draw shadow
-        shadowPaint.setAlpha((int) (alpha * 40));
-        RectF shadowRect = new RectF(cx + 6, cy + 8, cx + w + 6, cy + h + 8);
-        canvas.drawRoundRect(shadowRect, 30f, 30f, shadowPaint);
-        
-        // Draw card background
-        cardPaint.setColor(card.cardColor);
-        cardPaint.setAlpha((int) (alpha * 255));
-        RectF cardRect = new RectF(cx, cy, cx + w, cy + h);
-        canvas.drawRoundRect(cardRect, 30f, 30f, cardPaint);
-        
-        // Draw emoji/icon placeholder (large first letter)
-        textPaint.setTextSize(w * 0.5f);
-        textPaint.setColor(Color.argb((int) (alpha * 255), 
-            Color.red(card.letterColor), 
-            Color.green(card.letterColor), 
-            Color.blue(card.letterColor)));
-        canvas.drawText(String.valueOf(card.word.charAt(0)), 
-            cx + w / 2f, cy + h * 0.45f, textPaint);
-        
-        // Draw word
-        wordPaint.setTextSize(w * 0.14f);
-        wordPaint.setAlpha((int) (alpha * 255));
-        canvas.drawText(card.word, cx + w / 2f, cy + h * 0.85f, wordPaint);
+        Bitmap bitmap = card.bitmap;
+        if (bitmap != null) {
+            // Cached card, scaled from the size it was rendered at
+            float s = w / (bitmap.getWidth() - BITMAP_PADDING * 2 - SHADOW_DX);
+            bitmapRect.set(cx - BITMAP_PADDING * s, cy - BITMAP_PADDING * s,
+                cx + (bitmap.getWidth() - BITMAP_PADDING) * s, cy + (bitmap.getHeight() - BITMAP_PADDING) * s);
+            bitmapPaint.setAlpha((int) (alpha * 255));
+            canvas.drawBitmap(bitmap, null, bitmapRect, bitmapPaint);
+        } else {
+            // Not rasterized yet
+            painter.paint(canvas, card, cx, cy, w, h, alpha);
+        }
         
         // Draw focus indicator
         if (isFocused && alpha > 0.9f) {
-            Paint focusPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-            focusPaint.setStyle(Paint.Style.STROKE);
-            focusPaint.setStrokeWidth(4f);
             focusPaint.setColor(Color.argb((int) (alpha * 150), 
                 Color.red(card.letterColor), 
                 Color.green(card.letterColor), 
                 Color.blue(card.letterColor)));
-            canvas.drawRoundRect(cardRect, 30f, 30f, focusPaint);
+            focusRect.set(cx, cy, cx + w, cy + h);
+            canvas.drawRoundRect(focusRect, 30f, 30f, focusPaint);
+        }
+    }
+    
+    // ==================== Rasterization ====================
+    
+    /**
+     * Queue every card for rasterization, nearest to the focused card first
+     */
+    private void rasterizeCards() {
+        final int gen = ++generation;
+        if (worker == null) {
+            workerThread = new HandlerThread(TAG);
+            workerThread.start();
+            worker = new Handler(workerThread.getLooper());
+        }
+        
+        final float w = cardWidth;
+        final float h = cardHeight;
+        int count = cards.size();
+        for (int step = 0; step < count * 2; step++) {
+            // currentIndex, +1, -1, +2, -2, ...
+            int offset = (step + 1) / 2;
+            int index = currentIndex + (step % 2 == 1 ? offset : -offset);
+            if (index < 0 || index >= count) continue;
+            
+            final Flashcard card = cards.get(index);
+            worker.post(() -> {
+                if (gen == generation) {
+                    card.bitmap = renderCard(card, w, h);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Runs on the worker: the card at (padding, padding), shadow included
+     */
+    private Bitmap renderCard(Flashcard card, float w, float h) {
+        int width = (int) Math.ceil(w + SHADOW_DX) + BITMAP_PADDING * 2;
+        int height = (int) Math.ceil(h + SHADOW_DY) + BITMAP_PADDING * 2;
+        
+        Bitmap bitmap = null;
+        for (int i = spareBitmaps.size() - 1; i >= 0; i--) {
+            Bitmap spare = spareBitmaps.remove(i);
+            if (spare.getWidth() == width && spare.getHeight() == height) {
+                bitmap = spare;
+                bitmap.eraseColor(Color.TRANSPARENT);
+                break;
+            }
+            spare.recycle();
+        }
+        if (bitmap == null) {
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        }
+        
+        // Fill the rounded-up width, so drawCard can recover the scale from the bitmap
+        float renderedW = width - BITMAP_PADDING * 2 - SHADOW_DX;
+        rasterPainter.paint(new Canvas(bitmap), card, BITMAP_PADDING, BITMAP_PADDING,
+            renderedW, renderedW * h / w, 1f);
+        return bitmap;
+    }
+    
+    /**
+     * Hand the bitmaps of replaced cards back to the worker for reuse
+     * (nothing draws these cards any more)
+     */
+    private void recycleCards(final List<Flashcard> oldCards) {
+        if (worker == null || oldCards.isEmpty()) return;
+        worker.post(() -> {
+            for (Flashcard card : oldCards) {
+                if (card.bitmap != null) {
+                    spareBitmaps.add(card.bitmap);
+                    card.bitmap = null;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Stop the worker and free its spare bitmaps (called when the surface or game goes away)
+     */
+    public void release() {
+        generation++;
+        if (workerThread != null) {
+            worker.post(() -> {
+                for (Bitmap spare : spareBitmaps) {
+                    spare.recycle();
+                }
+                spareBitmaps.clear();
+            });
+            workerThread.quitSafely();
+            workerThread = null;
+            worker = null;
         }
     }
     
@@ -397,6 +466,11 @@ public class FlashcardCarousel {
         this.screenWidth = width;
         this.screenHeight = height;
         calculateDimensions();
+        
+        // Cached cards are scaled until they are rendered again at the new size
+        if (!cards.isEmpty()) {
+            rasterizeCards();
+        }
     }
     
     private float easeOutCubic(float t) {
@@ -412,6 +486,9 @@ public class FlashcardCarousel {
         public int cardColor;
         public int letterColor;
         
+        // Rasterized card, set by the worker thread
+        volatile Bitmap bitmap;
+        
         public Flashcard(String word, char letter, int cardColor, int letterColor) {
             this.word = word;
             this.letter = letter;
@@ -419,4 +496,61 @@ public class FlashcardCarousel {
             this.letterColor = letterColor;
         }
     }
+    
+    /**
+     * Draws a card's shadow, background, big letter and word
+     * Each thread that draws cards has its own, since paints aren't thread safe
+     */
+    private static class CardPainter {
+        private final Paint cardPaint;
+        private final Paint shadowPaint;
+        private final Paint textPaint;
+        private final Paint wordPaint;
+        private final RectF rect = new RectF();
+        
+        CardPainter(Typeface typeface) {
+            cardPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            cardPaint.setStyle(Paint.Style.FILL);
+            
+            shadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            shadowPaint.setStyle(Paint.Style.FILL);
+            shadowPaint.setColor(Color.argb(40, 0, 0, 0));
+            
+            textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            textPaint.setTextAlign(Paint.Align.CENTER);
+            textPaint.setTypeface(typeface);
+            
+            wordPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            wordPaint.setTextAlign(Paint.Align.CENTER);
+            wordPaint.setTypeface(typeface);
+            wordPaint.setColor(0xFFFFFFFF);  // White for dark theme
+        }
+        
+        void paint(Canvas canvas, Flashcard card, float cx, float cy, float w, float h, float alpha) {
+            // Draw shadow
+            shadowPaint.setAlpha((int) (alpha * 40));
+            rect.set(cx + SHADOW_DX, cy + SHADOW_DY, cx + w + SHADOW_DX, cy + h + SHADOW_DY);
+            canvas.drawRoundRect(rect, 30f, 30f, shadowPaint);
+            
+            // Draw card background
+            cardPaint.setColor(card.cardColor);
+            cardPaint.setAlpha((int) (alpha * 255));
+            rect.set(cx, cy, cx + w, cy + h);
+            canvas.drawRoundRect(rect, 30f, 30f, cardPaint);
+            
+            // Draw emoji/icon placeholder (large first letter)
+            textPaint.setTextSize(w * 0.5f);
+            textPaint.setColor(Color.argb((int) (alpha * 255), 
+                Color.red(card.letterColor), 
+                Color.green(card.letterColor), 
+                Color.blue(card.letterColor)));
+            canvas.drawText(String.valueOf(card.word.charAt(0)), 
+                cx + w / 2f, cy + h * 0.45f, textPaint);
+            
+            // Draw word
+            wordPaint.setTextSize(w * 0.14f);
+            wordPaint.setAlpha((int) (alpha * 255));
+            canvas.drawText(card.word, cx + w / 2f, cy + h * 0.85f, wordPaint);
+        }
+    }
 }
@@ -1,14 +1,13 @@
 package com.edu.english.alphabet_pop_lab;
 
 import android.content.Context;
-import android.media.AudioAttributes;
 import android.media.MediaPlayer;
-import android.media.SoundPool;
-import android.speech.tts.TextToSpeech;
 
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import com.edu.english.audio.AudioEngine;
+import com.edu.english.audio.SoundBank;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
+import com.edu.english.audio.VoicePolicy;
 
 /**
  * GameAudioManager - Handles all audio for Alphabet Pop Lab
@@ -18,14 +17,15 @@ public class GameAudioManager {
     
     private Context context;
     
-    // SoundPool for short sound effects
-    private SoundPool soundPool;
-    private Map<String, Integer> soundIds;
-    private boolean soundPoolReady = false;
+    // Sound effects from the shared audio engine
+    private SoundBank soundBank;
     
-    // TextToSpeech for letter and word pronunciation
-    private TextToSpeech tts;
-    private boolean ttsReady = false;
+    // Shared speech engine for letter and word pronunciation
+    private SpeechService.Client speech;
+    
+    // Slightly slower for kids
+    public static final float SPEECH_RATE = 0.85f;
+    public static final float SPEECH_PITCH = 1.1f;
     
     // Volume settings
     private float sfxVolume = 1.0f;
@@ -33,78 +33,52 @@ public class GameAudioManager {
     private boolean isMuted = false;
     
     // Sound effect IDs
-    public static final String SOUND_POP = "pop";
-    public static final String SOUND_WHOOSH = "whoosh";
-    public static final String SOUND_SUCCESS = "success";
-    public static final String SOUND_TAP = "tap";
+    public static final int SOUND_POP = 0;
+    public static final int SOUND_WHOOSH = 1;
+    public static final int SOUND_SUCCESS = 2;
+    public static final int SOUND_TAP = 3;
+    private static final int SOUND_COUNT = 4;
     
     public GameAudioManager(Context context) {
         this.context = context;
-        this.soundIds = new HashMap<>();
         
-        initSoundPool();
+        initSoundBank();
         initTextToSpeech();
     }
     
-    private void initSoundPool() {
-        AudioAttributes audioAttributes = new AudioAttributes.Builder()
-            .setUsage(AudioAttributes.USAGE_GAME)
-            .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
-            .build();
-        
-        soundPool = new SoundPool.Builder()
-            .setMaxStreams(5)
-            .setAudioAttributes(audioAttributes)
-            .build();
+    private void initSoundBank() {
+        soundBank = AudioEngine.getInstance(context).openBank(AudioEngine.CATEGORY_SFX, SOUND_COUNT);
         
-        soundPool.setOnLoadCompleteListener((soundPool, sampleId, status) -> {
-            if (status == 0) {
-                soundPoolReady = true;
-            }
-        });
+        // Popping bubbles quickly plays at most three pops, 60ms apart
+        soundBank.setPolicy(SOUND_POP, new VoicePolicy(3, 60, 1, 400));
+        soundBank.setPolicy(SOUND_WHOOSH, new VoicePolicy(1, 150, 1, 500));
+        soundBank.setPolicy(SOUND_SUCCESS, new VoicePolicy(1, 0, 3, 1500));
+        soundBank.setPolicy(SOUND_TAP, new VoicePolicy(2, 60, 1, 200));
         
         // Note: In a real app, you would load actual sound files here
-        // For now, we'll generate simple sounds programmatically
         // loadSound(SOUND_POP, R.raw.pop);
         // loadSound(SOUND_WHOOSH, R.raw.whoosh);
-        
-        soundPoolReady = true;
     }
     
     private void initTextToSpeech() {
-        tts = new TextToSpeech(context, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                int result = tts.setLanguage(Locale.US);
-                if (result != TextToSpeech.LANG_MISSING_DATA && 
-                    result != TextToSpeech.LANG_NOT_SUPPORTED) {
-                    ttsReady = true;
-                    
-                    // Set speech rate slightly slower for kids
-                    tts.setSpeechRate(0.85f);
-                    tts.setPitch(1.1f);
-                }
-            }
-        });
+        // Speech rate slightly slower for kids
+        speech = SpeechService.getInstance(context).openClient(SPEECH_RATE, SPEECH_PITCH);
     }
     
     /**
      * Load a sound effect from resources
      */
-    public void loadSound(String name, int resourceId) {
-        int soundId = soundPool.load(context, resourceId, 1);
-        soundIds.put(name, soundId);
+    public void loadSound(int soundId, int resourceId) {
+        soundBank.loadResource(soundId, resourceId);
     }
     
     /**
      * Play a sound effect
      */
-    public void playSound(String soundName) {
-        if (isMuted || !soundPoolReady) return;
+    public void playSound(int soundId) {
+        if (isMuted) return;
         
-        Integer soundId = soundIds.get(soundName);
-        if (soundId != null) {
-            soundPool.play(soundId, sfxVolume, sfxVolume, 1, 0, 1.0f);
-        }
+        soundBank.play(soundId, sfxVolume);
     }
     
     /**
@@ -120,20 +94,20 @@ public class GameAudioManager {
      * Speak a single letter clearly
      */
     public void speakLetter(char letter) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
         // Speak the letter name clearly
         String letterText = String.valueOf(letter);
-        tts.speak(letterText, TextToSpeech.QUEUE_FLUSH, null, "letter_" + letter);
+        speech.speak(letterText, SpeechQueue.PRIORITY_FEEDBACK, "letter_" + letter);
     }
     
     /**
      * Speak a word
      */
     public void speakWord(String word) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
-        tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "word_" + word);
+        speech.speak(word, SpeechQueue.PRIORITY_FEEDBACK, "word_" + word);
     }
     
     /**
@@ -141,27 +115,33 @@ public class GameAudioManager {
      * Example: "A... Apple!"
      */
     public void speakLetterAndWord(char letter, String word) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
         // First speak the letter
-        String text = letter + "... " + word + "!";
-        tts.speak(text, TextToSpeech.QUEUE_FLUSH, null, "letter_word");
+        speech.speak(getLetterAndWordText(letter, word), SpeechQueue.PRIORITY_INSTRUCTION, "letter_word");
+    }
+    
+    /**
+     * Text spoken by speakLetterAndWord
+     */
+    public static String getLetterAndWordText(char letter, String word) {
+        return letter + "... " + word + "!";
     }
     
     /**
      * Speak the phonetic sound of a letter
      */
     public void speakPhonetic(char letter) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
         String phonetic = getPhoneticSound(letter);
-        tts.speak(phonetic, TextToSpeech.QUEUE_ADD, null, "phonetic_" + letter);
+        speech.speak(phonetic, SpeechQueue.PRIORITY_INSTRUCTION, "phonetic_" + letter);
     }
     
     /**
      * Get phonetic sound for a letter
      */
-    private String getPhoneticSound(char letter) {
+    public static String getPhoneticSound(char letter) {
         switch (Character.toUpperCase(letter)) {
             case 'A': return "ah";
             case 'B': return "buh";
@@ -197,8 +177,8 @@ public class GameAudioManager {
      * Stop any current speech
      */
     public void stopSpeaking() {
-        if (tts != null) {
-            tts.stop();
+        if (speech != null) {
+            speech.stop();
         }
     }
     
@@ -234,15 +214,14 @@ public class GameAudioManager {
      * Release all resources
      */
     public void release() {
-        if (soundPool != null) {
-            soundPool.release();
-            soundPool = null;
+        if (soundBank != null) {
+            soundBank.close();
+            soundBank = null;
         }
         
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-            tts = null;
+        if (speech != null) {
+            speech.close();
+            speech = null;
         }
     }
     
@@ -250,6 +229,6 @@ public class GameAudioManager {
      * Check if TTS is ready
      */
     public boolean isTtsReady() {
-        return ttsReady;
+        return speech != null && speech.isReady();
     }
 }
@@ -8,8 +8,7 @@ import android.graphics.RectF;
 import android.graphics.Shader;
 import android.graphics.Typeface;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.edu.english.util.EmojiAtlas;
 
 /**
  * ImageDisplay - Displays image/emoji corresponding to the current flashcard
@@ -17,6 +16,9 @@ import java.util.Map;
  */
 public class ImageDisplay {
     
+    // Shown for words without an emoji of their own
+    private static final String DEFAULT_EMOJI = "📝";
+    
     // Screen dimensions
     private int screenWidth, screenHeight;
     
@@ -28,6 +30,7 @@ public class ImageDisplay {
     
     // Current word and letter info
     private String currentWord = "";
+    private String currentEmoji = DEFAULT_EMOJI;
     private char currentLetter = 'A';
     private int letterColor = 0xFF6C63FF;
     
@@ -43,225 +46,16 @@ public class ImageDisplay {
     // Paints
     private Paint backgroundPaint;
     private Paint borderPaint;
-    private Paint emojiPaint;
     private Paint wordPaint;
     private Paint shadowPaint;
     
-    // Emoji mapping for common words
-    private static final Map<String, String> WORD_EMOJIS = new HashMap<>();
-    
-    static {
-        // A words
-        WORD_EMOJIS.put("Apple", "🍎");
-        WORD_EMOJIS.put("Ant", "🐜");
-        WORD_EMOJIS.put("Airplane", "✈️");
-        WORD_EMOJIS.put("Alligator", "🐊");
-        WORD_EMOJIS.put("Astronaut", "👨‍🚀");
-        WORD_EMOJIS.put("Avocado", "🥑");
-        
-        // B words
-        WORD_EMOJIS.put("Ball", "⚽");
-        WORD_EMOJIS.put("Bear", "🐻");
-        WORD_EMOJIS.put("Banana", "🍌");
-        WORD_EMOJIS.put("Butterfly", "🦋");
-        WORD_EMOJIS.put("Boat", "⛵");
-        WORD_EMOJIS.put("Bird", "🐦");
-        
-        // C words
-        WORD_EMOJIS.put("Cat", "🐱");
-        WORD_EMOJIS.put("Car", "🚗");
-        WORD_EMOJIS.put("Cake", "🎂");
-        WORD_EMOJIS.put("Cow", "🐄");
-        WORD_EMOJIS.put("Carrot", "🥕");
-        WORD_EMOJIS.put("Cloud", "☁️");
-        
-        // D words
-        WORD_EMOJIS.put("Dog", "🐕");
-        WORD_EMOJIS.put("Duck", "🦆");
-        WORD_EMOJIS.put("Donut", "🍩");
-        WORD_EMOJIS.put("Dinosaur", "🦕");
-        WORD_EMOJIS.put("Drum", "🥁");
-        WORD_EMOJIS.put("Dolphin", "🐬");
-        
-        // E words
-        WORD_EMOJIS.put("Elephant", "🐘");
-        WORD_EMOJIS.put("Egg", "🥚");
-        WORD_EMOJIS.put("Eagle", "🦅");
-        WORD_EMOJIS.put("Earth", "🌍");
-        WORD_EMOJIS.put("Ear", "👂");
-        WORD_EMOJIS.put("Eye", "👁️");
-        
-        // F words
-        WORD_EMOJIS.put("Fish", "🐟");
-        WORD_EMOJIS.put("Frog", "🐸");
-        WORD_EMOJIS.put("Flower", "🌸");
-        WORD_EMOJIS.put("Fox", "🦊");
-        WORD_EMOJIS.put("Fire", "🔥");
-        WORD_EMOJIS.put("Fan", "🌀");
-        
-        // G words
-        WORD_EMOJIS.put("Giraffe", "🦒");
-        WORD_EMOJIS.put("Grape", "🍇");
-        WORD_EMOJIS.put("Guitar", "🎸");
-        WORD_EMOJIS.put("Goat", "🐐");
-        WORD_EMOJIS.put("Gift", "🎁");
-        WORD_EMOJIS.put("Garden", "🌻");
-        
-        // H words
-        WORD_EMOJIS.put("House", "🏠");
-        WORD_EMOJIS.put("Horse", "🐴");
-        WORD_EMOJIS.put("Heart", "❤️");
-        WORD_EMOJIS.put("Hat", "🎩");
-        WORD_EMOJIS.put("Honey", "🍯");
-        WORD_EMOJIS.put("Hamburger", "🍔");
-        
-        // I words
-        WORD_EMOJIS.put("Ice cream", "🍦");
-        WORD_EMOJIS.put("Igloo", "🏠");
-        WORD_EMOJIS.put("Island", "🏝️");
-        WORD_EMOJIS.put("Insect", "🐛");
-        WORD_EMOJIS.put("Iron", "🔧");
-        WORD_EMOJIS.put("Iris", "🌺");
-        
-        // J words
-        WORD_EMOJIS.put("Jellyfish", "🎐");
-        WORD_EMOJIS.put("Juice", "🧃");
-        WORD_EMOJIS.put("Jacket", "🧥");
-        WORD_EMOJIS.put("Jam", "🍓");
-        WORD_EMOJIS.put("Jet", "🛩️");
-        WORD_EMOJIS.put("Jungle", "🌴");
-        
-        // K words
-        WORD_EMOJIS.put("Kite", "🪁");
-        WORD_EMOJIS.put("Kangaroo", "🦘");
-        WORD_EMOJIS.put("Key", "🔑");
-        WORD_EMOJIS.put("King", "👑");
-        WORD_EMOJIS.put("Koala", "🐨");
-        WORD_EMOJIS.put("Kitchen", "🍳");
-        
-        // L words
-        WORD_EMOJIS.put("Lion", "🦁");
-        WORD_EMOJIS.put("Lemon", "🍋");
-        WORD_EMOJIS.put("Lamp", "💡");
-        WORD_EMOJIS.put("Leaf", "🍃");
-        WORD_EMOJIS.put("Ladybug", "🐞");
-        WORD_EMOJIS.put("Lizard", "🦎");
-        
-        // M words
-        WORD_EMOJIS.put("Monkey", "🐵");
-        WORD_EMOJIS.put("Moon", "🌙");
-        WORD_EMOJIS.put("Mango", "🥭");
-        WORD_EMOJIS.put("Mouse", "🐭");
-        WORD_EMOJIS.put("Music", "🎵");
-        WORD_EMOJIS.put("Mountain", "⛰️");
-        
-        // N words
-        WORD_EMOJIS.put("Nest", "🪹");
-        WORD_EMOJIS.put("Nut", "🥜");
-        WORD_EMOJIS.put("Nose", "👃");
-        WORD_EMOJIS.put("Noodle", "🍜");
-        WORD_EMOJIS.put("Nurse", "👩‍⚕️");
-        WORD_EMOJIS.put("Notebook", "📓");
-        
-        // O words
-        WORD_EMOJIS.put("Orange", "🍊");
-        WORD_EMOJIS.put("Owl", "🦉");
-        WORD_EMOJIS.put("Ocean", "🌊");
-        WORD_EMOJIS.put("Octopus", "🐙");
-        WORD_EMOJIS.put("Onion", "🧅");
-        WORD_EMOJIS.put("Oven", "🔲");
-        
-        // P words
-        WORD_EMOJIS.put("Pig", "🐷");
-        WORD_EMOJIS.put("Pizza", "🍕");
-        WORD_EMOJIS.put("Penguin", "🐧");
-        WORD_EMOJIS.put("Panda", "🐼");
-        WORD_EMOJIS.put("Piano", "🎹");
-        WORD_EMOJIS.put("Pumpkin", "🎃");
-        
-        // Q words
-        WORD_EMOJIS.put("Queen", "👸");
-        WORD_EMOJIS.put("Quilt", "🛏️");
-        WORD_EMOJIS.put("Question", "❓");
-        WORD_EMOJIS.put("Quail", "🐦");
-        WORD_EMOJIS.put("Quarter", "🪙");
-        WORD_EMOJIS.put("Quiet", "🤫");
-        
-        // R words
-        WORD_EMOJIS.put("Rabbit", "🐰");
-        WORD_EMOJIS.put("Rainbow", "🌈");
-        WORD_EMOJIS.put("Robot", "🤖");
-        WORD_EMOJIS.put("Rocket", "🚀");
-        WORD_EMOJIS.put("Rose", "🌹");
-        WORD_EMOJIS.put("Rain", "🌧️");
-        
-        // S words
-        WORD_EMOJIS.put("Sun", "☀️");
-        WORD_EMOJIS.put("Star", "⭐");
-        WORD_EMOJIS.put("Snake", "🐍");
-        WORD_EMOJIS.put("Strawberry", "🍓");
-        WORD_EMOJIS.put("Ship", "🚢");
-        WORD_EMOJIS.put("Smile", "😊");
-        
-        // T words
-        WORD_EMOJIS.put("Tiger", "🐯");
-        WORD_EMOJIS.put("Tree", "🌳");
-        WORD_EMOJIS.put("Train", "🚂");
-        WORD_EMOJIS.put("Turtle", "🐢");
-        WORD_EMOJIS.put("Tomato", "🍅");
-        WORD_EMOJIS.put("Trumpet", "🎺");
-        
-        // U words
-        WORD_EMOJIS.put("Umbrella", "☂️");
-        WORD_EMOJIS.put("Unicorn", "🦄");
-        WORD_EMOJIS.put("Up", "⬆️");
-        WORD_EMOJIS.put("Under", "⬇️");
-        WORD_EMOJIS.put("Uniform", "👔");
-        WORD_EMOJIS.put("UFO", "🛸");
-        
-        // V words
-        WORD_EMOJIS.put("Violin", "🎻");
-        WORD_EMOJIS.put("Vegetable", "🥬");
-        WORD_EMOJIS.put("Van", "🚐");
-        WORD_EMOJIS.put("Volcano", "🌋");
-        WORD_EMOJIS.put("Vase", "🏺");
-        WORD_EMOJIS.put("Valentine", "💝");
-        
-        // W words
-        WORD_EMOJIS.put("Water", "💧");
-        WORD_EMOJIS.put("Whale", "🐋");
-        WORD_EMOJIS.put("Watermelon", "🍉");
-        WORD_EMOJIS.put("Wolf", "🐺");
-        WORD_EMOJIS.put("Window", "🪟");
-        WORD_EMOJIS.put("Watch", "⌚");
-        
-        // X words
-        WORD_EMOJIS.put("Xylophone", "🎵");
-        WORD_EMOJIS.put("X-ray", "🩻");
-        WORD_EMOJIS.put("Box", "📦");
-        WORD_EMOJIS.put("Six", "6️⃣");
-        WORD_EMOJIS.put("Mix", "🥣");
-        
-        // Y words
-        WORD_EMOJIS.put("Yogurt", "🥛");
-        WORD_EMOJIS.put("Yacht", "🛥️");
-        WORD_EMOJIS.put("Yellow", "💛");
-        WORD_EMOJIS.put("Yak", "🐃");
-        WORD_EMOJIS.put("Yarn", "🧶");
-        WORD_EMOJIS.put("Yo-yo", "🪀");
-        
-        // Z words
-        WORD_EMOJIS.put("Zebra", "🦓");
-        WORD_EMOJIS.put("Zoo", "🦁");
-        WORD_EMOJIS.put("Zero", "0️⃣");
-        WORD_EMOJIS.put("Zipper", "🔗");
-        WORD_EMOJIS.put("Zucchini", "🥒");
-        WORD_EMOJIS.put("Zigzag", "〰️");
-    }
+    // Emoji for each flashcard word
+    private final LetterWords letterWords;
     
-    public ImageDisplay(int screenWidth, int screenHeight) {
+    public ImageDisplay(int screenWidth, int screenHeight, LetterWords letterWords) {
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
+        this.letterWords = letterWords;
         
         calculateDimensions();
         initPaints();
@@ -287,9 +81,6 @@ public class ImageDisplay {
         shadowPaint.setStyle(Paint.Style.FILL);
         shadowPaint.setColor(Color.argb(50, 0, 0, 0));
         
-        emojiPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        emojiPaint.setTextAlign(Paint.Align.CENTER);
-        
         wordPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         wordPaint.setTextAlign(Paint.Align.CENTER);
         wordPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
@@ -305,6 +96,9 @@ public class ImageDisplay {
             this.currentLetter = letter;
             this.letterColor = letterColor;
             
+            String emoji = letterWords.getEmoji(letter, word);
+            this.currentEmoji = emoji != null ? emoji : DEFAULT_EMOJI;
+            
             // Trigger scale animation
             scaleProgress = 0.8f;
             targetScale = 1f;
@@ -390,17 +184,10 @@ public class ImageDisplay {
         borderPaint.setAlpha((int) (alpha * 200));
         canvas.drawRoundRect(displayRect, 40f, 40f, borderPaint);
         
-        // Get emoji for word
-        String emoji = WORD_EMOJIS.get(currentWord);
-        if (emoji == null) {
-            emoji = "📝";
-        }
-        
-        // Draw large emoji
-        emojiPaint.setTextSize(scaledWidth * 0.4f);
-        emojiPaint.setAlpha((int) (alpha * 255));
+        // Draw large emoji (from the shared glyph atlas)
         float emojiY = scaledY + scaledHeight * 0.45f;
-        canvas.drawText(emoji, scaledX + scaledWidth / 2f, emojiY, emojiPaint);
+        EmojiAtlas.getInstance().draw(canvas, currentEmoji, scaledX + scaledWidth / 2f, emojiY,
+                scaledWidth * 0.4f, Color.argb((int) (alpha * 255), 0, 0, 0));
         
         // Draw word with highlighted first letter
         float wordY = scaledY + scaledHeight * 0.78f;
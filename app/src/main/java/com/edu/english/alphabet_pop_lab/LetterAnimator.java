@@ -5,6 +5,8 @@ import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Typeface;
 
+import com.edu.english.util.TextCache;
+
 /**
  * LetterAnimator - Handles letter animation after bubble pop
  * Manages zoom to center, shrink to corner transitions
@@ -13,6 +15,7 @@ public class LetterAnimator {
     
     // Letter properties
     private char letter;
+    private String letterText = "";
     private int color;
     
     // Position animation
@@ -54,6 +57,9 @@ public class LetterAnimator {
     private Paint shadowPaint;
     private Paint glowPaint;
     
+    // Baseline offset that centers the letter vertically, per pixel of text size
+    private float centerOffsetPerSize;
+    
     // Constants
     private static final float ZOOM_DURATION = 0.4f;
     private static final float HOLD_DURATION = 0.5f;
@@ -77,19 +83,26 @@ public class LetterAnimator {
     }
     
     private void initPaints() {
+        Typeface bold = Typeface.create(Typeface.DEFAULT, Typeface.BOLD);
+        
         letterPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         letterPaint.setTextAlign(Paint.Align.CENTER);
-        letterPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        letterPaint.setTypeface(bold);
         letterPaint.setColor(Color.WHITE);
         
         shadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         shadowPaint.setTextAlign(Paint.Align.CENTER);
-        shadowPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        shadowPaint.setTypeface(bold);
         shadowPaint.setColor(Color.argb(60, 0, 0, 0));
         
         glowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         glowPaint.setTextAlign(Paint.Align.CENTER);
-        glowPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        glowPaint.setTypeface(bold);
+        
+        // Font metrics scale with the text size, so measure once
+        letterPaint.setTextSize(CENTER_SIZE);
+        Paint.FontMetrics fm = letterPaint.getFontMetrics();
+        centerOffsetPerSize = -(fm.ascent + fm.descent) / 2 / CENTER_SIZE;
     }
     
     /**
@@ -97,6 +110,7 @@ public class LetterAnimator {
      */
     public void startZoomToCenter(char letter, int color, float fromX, float fromY) {
         this.letter = letter;
+        this.letterText = TextCache.valueOf(letter);
         this.color = color;
         
         // Set start position (from bubble)
@@ -233,8 +247,7 @@ public class LetterAnimator {
         shadowPaint.setAlpha((int) (currentAlpha * 60));
         
         // Center text vertically
-        Paint.FontMetrics fm = letterPaint.getFontMetrics();
-        float textY = currentY - (fm.ascent + fm.descent) / 2;
+        float textY = currentY + centerOffsetPerSize * currentSize;
         
         // Draw glow when zooming
         if (currentState == State.ZOOM_TO_CENTER || currentState == State.HOLD) {
@@ -242,20 +255,20 @@ public class LetterAnimator {
             glowPaint.setColor(Color.argb((int) (currentAlpha * 80), 
                 Color.red(color), Color.green(color), Color.blue(color)));
             glowPaint.setTextSize(currentSize * 1.1f);
-            canvas.drawText(String.valueOf(letter), currentX, textY, glowPaint);
+            canvas.drawText(letterText, currentX, textY, glowPaint);
         }
         
         // Draw shadow
-        canvas.drawText(String.valueOf(letter), currentX + 4, textY + 6, shadowPaint);
+        canvas.drawText(letterText, currentX + 4, textY + 6, shadowPaint);
         
         // Draw letter with color
         letterPaint.setColor(Color.argb((int) (currentAlpha * 255),
             Color.red(color), Color.green(color), Color.blue(color)));
-        canvas.drawText(String.valueOf(letter), currentX, textY, letterPaint);
+        canvas.drawText(letterText, currentX, textY, letterPaint);
         
         // Draw white overlay for highlight
         letterPaint.setColor(Color.argb((int) (currentAlpha * 60), 255, 255, 255));
-        canvas.drawText(String.valueOf(letter), currentX - 2, textY - 2, letterPaint);
+        canvas.drawText(letterText, currentX - 2, textY - 2, letterPaint);
     }
     
     /**
@@ -0,0 +1,76 @@
+package com.edu.english.alphabet_pop_lab;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.edu.english.util.ContentPack;
+
+import java.io.IOException;
+
+/**
+ * LetterWords - Flashcard words and their emoji for each letter
+ * Read from the alphabet_pop_lab content pack (src/main/content/alphabet_pop_lab.txt);
+ * a letter's words are decoded the first time that letter is opened
+ */
+public class LetterWords {
+    private static final String TAG = "LetterWords";
+
+    static final String ASSET_NAME = "content/alphabet_pop_lab.pack";
+
+    // Record fields, in source file column order
+    static final int FIELD_WORD = 0;
+    static final int FIELD_EMOJI = 1;
+
+    private static LetterWords instance;
+
+    private final ContentPack pack;
+    private final String[][] words = new String[26][];
+
+    LetterWords(ContentPack pack) {
+        this.pack = pack;
+    }
+
+    public static synchronized LetterWords getInstance(Context context) {
+        if (instance == null) {
+            ContentPack pack = null;
+            try {
+                pack = ContentPack.open(context.getApplicationContext().getAssets(), ASSET_NAME);
+            } catch (IOException e) {
+                Log.e(TAG, "Can't open " + ASSET_NAME, e);
+            }
+            instance = new LetterWords(pack);
+        }
+        return instance;
+    }
+
+    /**
+     * Flashcard words for a letter (null if the letter has none)
+     */
+    public synchronized String[] getWords(char letter) {
+        int index = Character.toUpperCase(letter) - 'A';
+        if (index < 0 || index >= words.length) return null;
+        if (words[index] == null) {
+            ContentPack.Section section = getSection(letter);
+            if (section == null) return null;
+            words[index] = section.getColumn(FIELD_WORD);
+        }
+        return words[index];
+    }
+
+    /**
+     * Emoji picturing a word from a letter's flashcards (null if it has none)
+     */
+    public String getEmoji(char letter, String word) {
+        ContentPack.Section section = getSection(letter);
+        if (section == null) return null;
+        int record = section.indexOf(FIELD_WORD, word);
+        if (record < 0) return null;
+        String emoji = section.get(record, FIELD_EMOJI);
+        return emoji.isEmpty() ? null : emoji;
+    }
+
+    private ContentPack.Section getSection(char letter) {
+        if (pack == null) return null;
+        return pack.getSection(String.valueOf(Character.toUpperCase(letter)));
+    }
+}
@@ -2,13 +2,11 @@ package com.edu.english.alphabet_pop_lab;
 
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.RadialGradient;
-import android.graphics.Shader;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
+
 import java.util.Random;
 
 /**
@@ -17,22 +15,38 @@ import java.util.Random;
  */
 public class ParticleSystem {
     
-    private List<Particle> particles;
+    private ParticleEngine engine;
+    private SpriteBatch batch;
     private Random random;
-    private Paint particlePaint;
     
     // Particle settings
     private static final int PARTICLES_PER_POP = 20;
+    private static final int SPARKLES_PER_POP = 8;
+    private static final int MAX_PARTICLES = 512; // About 18 pops in flight at once
     private static final float PARTICLE_LIFETIME = 0.8f; // seconds
     private static final float PARTICLE_SPEED_MIN = 200f;
     private static final float PARTICLE_SPEED_MAX = 500f;
     private static final float GRAVITY = 400f;
     
+    // Colored pieces: rounded squares that tumble, fade and shrink at the end
+    private static final ParticleEmitter PIECES = new ParticleEmitter(SpriteBatch.SHAPE_ROUND_RECT)
+        .setGravity(GRAVITY)
+        .setDrag(0.98f, 0.98f)
+        .setFade(ParticleEmitter.FADE_QUAD)
+        .setSize(ParticleEmitter.SIZE_SHRINK_LATE);
+    
+    // Sparkles: small bright dots with a soft yellow glow
+    private static final ParticleEmitter SPARKLES = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+        .setGravity(GRAVITY)
+        .setDrag(0.98f, 0.98f)
+        .setFade(ParticleEmitter.FADE_QUAD)
+        .setSize(ParticleEmitter.SIZE_SHRINK_LATE)
+        .setGlow(SpriteBatch.SHAPE_CIRCLE, Color.argb(100, 255, 255, 200), 2f);
+    
     public ParticleSystem() {
-        particles = new ArrayList<>();
+        engine = new ParticleEngine(MAX_PARTICLES);
+        batch = new SpriteBatch(MAX_PARTICLES);
         random = new Random();
-        particlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        particlePaint.setStyle(Paint.Style.FILL);
     }
     
     /**
@@ -56,68 +70,57 @@ public class ParticleSystem {
             // Vary the color slightly
             int particleColor = varyColor(color, 30);
             
-            // Create particle
-            Particle particle = new Particle(
+            engine.emit(PIECES,
                 x + (random.nextFloat() - 0.5f) * radius * 0.5f,
                 y + (random.nextFloat() - 0.5f) * radius * 0.5f,
-                vx, vy, size, particleColor
-            );
-            
-            particles.add(particle);
+                vx, vy, size / 2, randomLifetime(), particleColor,
+                random.nextFloat() * 360f, (random.nextFloat() - 0.5f) * 720f);
         }
         
         // Add some sparkle particles
-        for (int i = 0; i < 8; i++) {
+        for (int i = 0; i < SPARKLES_PER_POP; i++) {
             float angle = (float) (random.nextFloat() * Math.PI * 2);
             float speed = PARTICLE_SPEED_MAX * (0.8f + random.nextFloat() * 0.4f);
             
             float vx = (float) Math.cos(angle) * speed;
             float vy = (float) Math.sin(angle) * speed;
             
-            Particle sparkle = new Particle(x, y, vx, vy, radius * 0.08f, Color.WHITE);
-            sparkle.isSparkle = true;
-            particles.add(sparkle);
+            engine.emit(SPARKLES, x, y, vx, vy, radius * 0.08f, randomLifetime(), Color.WHITE);
         }
     }
     
+    private float randomLifetime() {
+        return PARTICLE_LIFETIME * (0.7f + random.nextFloat() * 0.3f);
+    }
+    
     /**
      * Update all particles
      */
     public void update(float deltaTime) {
-        Iterator<Particle> iterator = particles.iterator();
-        
-        while (iterator.hasNext()) {
-            Particle particle = iterator.next();
-            particle.update(deltaTime);
-            
-            // Remove dead particles
-            if (particle.isDead()) {
-                iterator.remove();
-            }
-        }
+        engine.update(deltaTime);
     }
     
     /**
      * Draw all particles
      */
     public void draw(Canvas canvas) {
-        for (Particle particle : particles) {
-            particle.draw(canvas, particlePaint);
-        }
+        batch.begin(canvas);
+        engine.draw(batch);
+        batch.end();
     }
     
     /**
      * Check if there are active particles
      */
     public boolean hasActiveParticles() {
-        return !particles.isEmpty();
+        return !engine.isEmpty();
     }
     
     /**
      * Clear all particles
      */
     public void clear() {
-        particles.clear();
+        engine.clear();
     }
     
     /**
@@ -134,109 +137,4 @@ public class ParticleSystem {
         
         return Color.rgb(r, g, b);
     }
-    
-    /**
-     * Inner class for individual particle
-     */
-    private class Particle {
-        float x, y;
-        float vx, vy;
-        float size;
-        int color;
-        float lifetime;
-        float maxLifetime;
-        boolean isSparkle = false;
-        float rotation;
-        float rotationSpeed;
-        
-        public Particle(float x, float y, float vx, float vy, float size, int color) {
-            this.x = x;
-            this.y = y;
-            this.vx = vx;
-            this.vy = vy;
-            this.size = size;
-            this.color = color;
-            this.lifetime = PARTICLE_LIFETIME * (0.7f + random.nextFloat() * 0.3f);
-            this.maxLifetime = lifetime;
-            this.rotation = random.nextFloat() * 360f;
-            this.rotationSpeed = (random.nextFloat() - 0.5f) * 720f;
-        }
-        
-        public void update(float deltaTime) {
-            // Apply velocity
-            x += vx * deltaTime;
-            y += vy * deltaTime;
-            
-            // Apply gravity
-            vy += GRAVITY * deltaTime;
-            
-            // Apply drag
-            vx *= 0.98f;
-            vy *= 0.98f;
-            
-            // Rotate
-            rotation += rotationSpeed * deltaTime;
-            
-            // Decrease lifetime
-            lifetime -= deltaTime;
-            
-            // Shrink over time
-            if (lifetime < maxLifetime * 0.3f) {
-                size *= 0.95f;
-            }
-        }
-        
-        public void draw(Canvas canvas, Paint paint) {
-            if (isDead()) return;
-            
-            // Calculate alpha based on lifetime
-            float progress = 1f - (lifetime / maxLifetime);
-            float alpha = 1f - easeInQuad(progress);
-            
-            if (isSparkle) {
-                // Draw sparkle as a small bright dot
-                paint.setColor(Color.argb(
-                    (int) (alpha * 255),
-                    255, 255, 255
-                ));
-                canvas.drawCircle(x, y, size, paint);
-                
-                // Add glow effect
-                paint.setColor(Color.argb(
-                    (int) (alpha * 100),
-                    255, 255, 200
-                ));
-                canvas.drawCircle(x, y, size * 2, paint);
-            } else {
-                // Draw colored particle
-                int r = Color.red(color);
-                int g = Color.green(color);
-                int b = Color.blue(color);
-                
-                paint.setColor(Color.argb((int) (alpha * 255), r, g, b));
-                
-                // Save canvas state
-                canvas.save();
-                canvas.translate(x, y);
-                canvas.rotate(rotation);
-                
-                // Draw as rounded rectangle for variety
-                float halfSize = size / 2;
-                canvas.drawRoundRect(-halfSize, -halfSize, halfSize, halfSize, 
-                    size * 0.3f, size * 0.3f, paint);
-                
-                // Restore canvas
-                canvas.restore();
-            }
-        }
-        
-        public boolean isDead() {
-            return lifetime <= 0 || size < 1f;
-        }
-        
-        // Easing function
-        private float easeInQuad(float t) {
-            return t * t;
-        }
-    }
 }
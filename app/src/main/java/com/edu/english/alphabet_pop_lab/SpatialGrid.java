@@ -0,0 +1,195 @@
+package com.edu.english.alphabet_pop_lab;
+
+import java.util.Arrays;
+
+/**
+ * SpatialGrid - Uniform-grid broad phase for circle collisions
+ * Circles are bucketed by center into square cells at least one diameter
+ * wide, so two circles can only touch if their cells are neighbors. The
+ * grid is rebuilt every frame with a counting sort into reused arrays:
+ * O(n) work and no allocation once the arrays have grown to size.
+ * Plain Java so it can be unit tested and benchmarked off-device.
+ */
+public class SpatialGrid {
+    
+    // Upper bound on cells per circle, so a few far-apart circles can't blow up the grid
+    private static final int MAX_CELLS_PER_ITEM = 4;
+    
+    /**
+     * Receives candidate pairs; a < b
+     */
+    public interface PairVisitor {
+        void visit(int a, int b);
+    }
+    
+    // Inserted circles
+    private int[] ids;
+    private float[] xs;
+    private float[] ys;
+    private float maxRadius;
+    private int count = 0;
+    
+    // Built grid: circles sorted by cell, cellStart[c]..cellStart[c + 1] per cell
+    private int[] cellOf;
+    private int[] sorted;
+    private int[] cellStart = new int[1];
+    private int cols, rows;
+    
+    private int lastCandidateCount = 0;
+    
+    public SpatialGrid(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        ids = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        cellOf = new int[capacity];
+        sorted = new int[capacity];
+    }
+    
+    /**
+     * Start a new frame
+     */
+    public void clear() {
+        count = 0;
+        maxRadius = 0f;
+    }
+    
+    /**
+     * Add a circle for this frame
+     *
+     * @param id Caller's index, passed back to the visitor
+     */
+    public void insert(int id, float x, float y, float radius) {
+        if (count == ids.length) {
+            grow(count * 2);
+        }
+        ids[count] = id;
+        xs[count] = x;
+        ys[count] = y;
+        maxRadius = Math.max(maxRadius, radius);
+        count++;
+    }
+    
+    /**
+     * Visit every pair of circles in the same or neighboring cells
+     * These are candidates only; the caller does the exact overlap test.
+     */
+    public void forEachPair(PairVisitor visitor) {
+        lastCandidateCount = 0;
+        if (count < 2) return;
+        
+        build();
+        
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int cell = cy * cols + cx;
+                int start = cellStart[cell];
+                int end = cellStart[cell + 1];
+                if (start == end) continue;
+                
+                // Within the cell, then with the four neighbors ahead of it
+                // (right, and the three below) so each pair is seen once
+                for (int i = start; i < end; i++) {
+                    for (int j = i + 1; j < end; j++) {
+                        emit(sorted[i], sorted[j], visitor);
+                    }
+                }
+                visitCells(start, end, cx + 1, cy, visitor);
+                visitCells(start, end, cx - 1, cy + 1, visitor);
+                visitCells(start, end, cx, cy + 1, visitor);
+                visitCells(start, end, cx + 1, cy + 1, visitor);
+            }
+        }
+    }
+    
+    /**
+     * Candidate pairs reported by the last forEachPair
+     */
+    public int getLastCandidateCount() {
+        return lastCandidateCount;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    // ==================== Build ====================
+    
+    private void build() {
+        float minX = xs[0], maxX = xs[0];
+        float minY = ys[0], maxY = ys[0];
+        for (int i = 1; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        
+        // A cell one diameter wide keeps touching circles in neighboring cells
+        float cellSize = Math.max(1f, maxRadius * 2f);
+        float width = maxX - minX;
+        float height = maxY - minY;
+        long cells = (long) (width / cellSize + 1) * (long) (height / cellSize + 1);
+        long maxCells = (long) count * MAX_CELLS_PER_ITEM;
+        if (cells > maxCells) {
+            cellSize *= (float) Math.sqrt(cells / (double) maxCells);
+        }
+        cols = (int) (width / cellSize) + 1;
+        rows = (int) (height / cellSize) + 1;
+        
+        int cellCount = cols * rows;
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[Math.max(cellCount + 1, cellStart.length * 2)];
+        }
+        
+        // Counting sort by cell: count, prefix sum to cell ends, then fill
+        // backwards so each cell keeps insertion order and cellStart ends at the starts
+        Arrays.fill(cellStart, 0, cellCount + 1, 0);
+        float inverse = 1f / cellSize;
+        for (int i = 0; i < count; i++) {
+            int cx = Math.min(cols - 1, (int) ((xs[i] - minX) * inverse));
+            int cy = Math.min(rows - 1, (int) ((ys[i] - minY) * inverse));
+            int cell = cy * cols + cx;
+            cellOf[i] = cell;
+            cellStart[cell]++;
+        }
+        for (int c = 1; c < cellCount; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        cellStart[cellCount] = count;
+        for (int i = count - 1; i >= 0; i--) {
+            sorted[--cellStart[cellOf[i]]] = i;
+        }
+    }
+    
+    private void visitCells(int start, int end, int cx, int cy, PairVisitor visitor) {
+        if (cx < 0 || cx >= cols || cy >= rows) return;
+        int cell = cy * cols + cx;
+        int otherStart = cellStart[cell];
+        int otherEnd = cellStart[cell + 1];
+        for (int i = start; i < end; i++) {
+            for (int j = otherStart; j < otherEnd; j++) {
+                emit(sorted[i], sorted[j], visitor);
+            }
+        }
+    }
+    
+    private void emit(int a, int b, PairVisitor visitor) {
+        lastCandidateCount++;
+        int idA = ids[a];
+        int idB = ids[b];
+        if (idA < idB) {
+            visitor.visit(idA, idB);
+        } else {
+            visitor.visit(idB, idA);
+        }
+    }
+    
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        cellOf = new int[capacity];
+        sorted = new int[capacity];
+    }
+}
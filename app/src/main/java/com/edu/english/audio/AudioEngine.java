@@ -0,0 +1,341 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.media.AudioAttributes;
+import android.media.SoundPool;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide audio engine
+ * Owns the single SoundPool shared by every screen. Screens open reference-counted
+ * SoundBanks; samples stay decoded after a bank closes so moving between lessons
+ * doesn't reload the same clips, and unreferenced samples are evicted LRU once
+ * the sample budget is exceeded. Music and longer voice clips go through the two
+ * shared StreamPlayers instead.
+ */
+public class AudioEngine {
+    private static final String TAG = "AudioEngine";
+
+    // Audio categories (each has its own volume)
+    public static final int CATEGORY_SFX = 0;
+    public static final int CATEGORY_UI = 1;
+    public static final int CATEGORY_VOICE = 2;
+    public static final int CATEGORY_MUSIC = 3;
+
+    // Shared limits
+    private static final int MAX_STREAMS = 12;
+    private static final int MAX_LOADED_SAMPLES = 48;
+
+    private static AudioEngine instance;
+
+    private final Context context;
+    private final SoundPool soundPool;
+
+    // Samples by source key, in least-recently-used order
+    private final LinkedHashMap<String, Sample> samplesByKey = new LinkedHashMap<>(16, 0.75f, true);
+    private final SparseArray<Sample> samplesByPoolId = new SparseArray<>();
+
+    // res/raw ids resolved by name (reflective lookup runs once per name)
+    private final Map<String, Integer> rawResIds = new HashMap<>();
+
+    private final List<SoundBank> openBanks = new ArrayList<>();
+
+    // Streaming players (created on first use) and their decoded loops
+    private final PcmCache pcmCache;
+    private StreamPlayer musicPlayer;
+    private StreamPlayer voicePlayer;
+
+    // Stream allocation (the pool never exceeds MAX_STREAMS on its own)
+    private final VoiceAllocator voices = new VoiceAllocator(MAX_STREAMS);
+
+    // Volume per category
+    private final float[] categoryVolumes = {1.0f, 1.0f, 1.0f, 1.0f};
+    private volatile boolean isMuted = false;
+
+    /**
+     * A decoded clip in the shared SoundPool
+     */
+    static class Sample {
+        final int poolId;
+        int refCount;
+        volatile boolean loaded;
+        volatile boolean failed;
+
+        Sample(int poolId) {
+            this.poolId = poolId;
+        }
+    }
+
+    private AudioEngine(Context context) {
+        this.context = context.getApplicationContext();
+        this.pcmCache = new PcmCache(this.context);
+
+        AudioAttributes audioAttributes = new AudioAttributes.Builder()
+                .setUsage(AudioAttributes.USAGE_GAME)
+                .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                .build();
+
+        soundPool = new SoundPool.Builder()
+                .setMaxStreams(MAX_STREAMS)
+                .setAudioAttributes(audioAttributes)
+                .build();
+
+        soundPool.setOnLoadCompleteListener((pool, sampleId, status) -> onLoadComplete(sampleId, status));
+    }
+
+    public static synchronized AudioEngine getInstance(Context context) {
+        if (instance == null) {
+            instance = new AudioEngine(context);
+        }
+        return instance;
+    }
+
+    // ==================== Banks ====================
+
+    /**
+     * Open a sound bank for a screen
+     *
+     * @param category Volume category the bank plays in
+     * @param capacity Number of sound ids the bank holds (ids are 0..capacity-1)
+     */
+    public synchronized SoundBank openBank(int category, int capacity) {
+        SoundBank bank = new SoundBank(this, category, capacity);
+        openBanks.add(bank);
+        return bank;
+    }
+
+    synchronized void closeBank(SoundBank bank) {
+        openBanks.remove(bank);
+        trimCache();
+    }
+
+    // ==================== Streams ====================
+
+    /**
+     * Player for background music (CATEGORY_MUSIC)
+     */
+    public synchronized StreamPlayer getMusicPlayer() {
+        if (musicPlayer == null) {
+            musicPlayer = new StreamPlayer(context, this, CATEGORY_MUSIC, pcmCache);
+        }
+        return musicPlayer;
+    }
+
+    /**
+     * Player for recorded voice clips too long for the SoundPool (CATEGORY_VOICE)
+     */
+    public synchronized StreamPlayer getVoicePlayer() {
+        if (voicePlayer == null) {
+            voicePlayer = new StreamPlayer(context, this, CATEGORY_VOICE, pcmCache);
+        }
+        return voicePlayer;
+    }
+
+    // ==================== Samples ====================
+
+    /**
+     * Acquire a raw resource sample by name; returns null if there is no such resource
+     */
+    synchronized Sample acquireRaw(String rawName) {
+        Integer resId = rawResIds.get(rawName);
+        if (resId == null) {
+            resId = context.getResources().getIdentifier(rawName, "raw", context.getPackageName());
+            rawResIds.put(rawName, resId);
+        }
+        return resId != 0 ? acquireResource(resId) : null;
+    }
+
+    /**
+     * Acquire a resource sample; returns null if it can't be loaded
+     */
+    synchronized Sample acquireResource(int resId) {
+        String key = "res:" + resId;
+        Sample sample = samplesByKey.get(key);
+        if (sample == null) {
+            try {
+                sample = register(key, soundPool.load(context, resId, 1));
+            } catch (Exception e) {
+                Log.w(TAG, "Failed to load sound resource " + resId, e);
+                return null;
+            }
+        }
+        sample.refCount++;
+        trimCache();
+        return sample;
+    }
+
+    /**
+     * Acquire an asset sample; returns null if the file doesn't exist
+     */
+    synchronized Sample acquireAsset(String assetPath) {
+        String key = "asset:" + assetPath;
+        Sample sample = samplesByKey.get(key);
+        if (sample == null) {
+            try (AssetFileDescriptor afd = context.getAssets().openFd(assetPath)) {
+                sample = register(key, soundPool.load(afd, 1));
+            } catch (IOException e) {
+                Log.w(TAG, "Sound file not found: " + assetPath);
+                return null;
+            }
+        }
+        sample.refCount++;
+        trimCache();
+        return sample;
+    }
+
+    /**
+     * Acquire a sample from a file on disk; returns null if the file doesn't exist
+     */
+    synchronized Sample acquireFile(String path) {
+        String key = "file:" + path;
+        Sample sample = samplesByKey.get(key);
+        if (sample == null) {
+            if (!new File(path).isFile()) {
+                return null;
+            }
+            sample = register(key, soundPool.load(path, 1));
+        }
+        sample.refCount++;
+        trimCache();
+        return sample;
+    }
+
+    private Sample register(String key, int poolId) {
+        Sample sample = new Sample(poolId);
+        samplesByKey.put(key, sample);
+        samplesByPoolId.put(poolId, sample);
+        return sample;
+    }
+
+    synchronized void release(Sample sample) {
+        if (sample.refCount > 0) {
+            sample.refCount--;
+        }
+    }
+
+    private void onLoadComplete(int poolId, int status) {
+        Sample sample;
+        List<SoundBank> banks;
+        synchronized (this) {
+            sample = samplesByPoolId.get(poolId);
+            if (sample == null) return;
+            sample.loaded = (status == 0);
+            sample.failed = (status != 0);
+            banks = new ArrayList<>(openBanks);
+        }
+
+        for (SoundBank bank : banks) {
+            bank.onSampleLoaded(sample);
+        }
+    }
+
+    /**
+     * Unload least recently used, unreferenced samples beyond the budget
+     */
+    private void trimCache() {
+        Iterator<Sample> it = samplesByKey.values().iterator();
+        while (samplesByKey.size() > MAX_LOADED_SAMPLES && it.hasNext()) {
+            Sample sample = it.next();
+            if (sample.refCount == 0) {
+                soundPool.unload(sample.poolId);
+                samplesByPoolId.remove(sample.poolId);
+                it.remove();
+            }
+        }
+    }
+
+    // ==================== Playback ====================
+
+    /**
+     * Play a loaded sample in a category, subject to its voice policy
+     *
+     * @param lengthMs Length of one pass at normal rate
+     * @return stream id, or 0 if nothing was played (muted, not loaded or dropped)
+     */
+    int play(Sample sample, int category, float volume, int loop, float rate,
+             VoicePolicy policy, long lengthMs) {
+        if (isMuted || !sample.loaded) return 0;
+
+        float finalVolume = volume * categoryVolumes[category];
+        if (finalVolume <= 0f) return 0;
+
+        synchronized (this) {
+            long now = SystemClock.uptimeMillis();
+            int result = voices.reserve(sample, policy, now);
+            if (result == VoiceAllocator.RESULT_DROP) return 0;
+            if (result != VoiceAllocator.RESULT_FREE) {
+                soundPool.stop(result);
+            }
+
+            int streamId = soundPool.play(sample.poolId, finalVolume, finalVolume, policy.priority, loop, rate);
+            long playedMs = loop < 0 ? -1 : (long) (lengthMs * (loop + 1) / rate);
+            voices.add(sample, streamId, policy.priority, playedMs, now);
+            return streamId;
+        }
+    }
+
+    public synchronized void stop(int streamId) {
+        if (streamId != 0) {
+            soundPool.stop(streamId);
+            voices.remove(streamId);
+        }
+    }
+
+    /**
+     * Plays refused by a voice policy (retriggered too fast, or outranked)
+     */
+    public synchronized int getDroppedPlays() {
+        return voices.getDroppedCount();
+    }
+
+    /**
+     * Playing voices cut off to make room for newer or more important plays
+     */
+    public synchronized int getStolenPlays() {
+        return voices.getStolenCount();
+    }
+
+    /**
+     * Pause all playing streams (e.g. when the screen goes to background)
+     */
+    public void autoPause() {
+        soundPool.autoPause();
+    }
+
+    /**
+     * Resume streams paused by autoPause
+     */
+    public void autoResume() {
+        soundPool.autoResume();
+    }
+
+    // ==================== Volume ====================
+
+    public void setCategoryVolume(int category, float volume) {
+        categoryVolumes[category] = Math.max(0f, Math.min(1f, volume));
+    }
+
+    public float getCategoryVolume(int category) {
+        return categoryVolumes[category];
+    }
+
+    public void setMuted(boolean muted) {
+        this.isMuted = muted;
+    }
+
+    public boolean isMuted() {
+        return isMuted;
+    }
+}
@@ -0,0 +1,122 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Short loops kept fully decoded in memory
+ * A resident clip loops sample-accurately (the player just wraps its read
+ * position) and restarts without touching the codec. Longer files are streamed.
+ */
+class PcmCache {
+    private static final String TAG = "PcmCache";
+
+    // Clips longer than this are streamed instead of kept resident
+    private static final long MAX_RESIDENT_DURATION_US = 20_000_000L;
+
+    // Total decoded PCM kept (16-bit stereo samples)
+    private static final long MAX_RESIDENT_BYTES = 8L * 1024 * 1024;
+
+    /**
+     * Decoded stereo PCM of a whole file
+     */
+    static class Clip {
+        final short[] samples;
+        final int frames;
+        final int sampleRate;
+
+        Clip(short[] samples, int frames, int sampleRate) {
+            this.samples = samples;
+            this.frames = frames;
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    private final Context context;
+    private final LinkedHashMap<String, Clip> clips = new LinkedHashMap<>(8, 0.75f, true);
+    private long residentBytes = 0;
+
+    PcmCache(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    synchronized Clip get(String key) {
+        return clips.get(key);
+    }
+
+    /**
+     * Whether a file this long is kept resident
+     */
+    static boolean isResidentDuration(long durationUs) {
+        return durationUs >= 0 && durationUs <= MAX_RESIDENT_DURATION_US;
+    }
+
+    /**
+     * Decode a short file into memory (call from a loader thread, never the mixer)
+     *
+     * @return the clip, or null if the file is long (stream it) or can't be decoded
+     */
+    Clip decode(String key) {
+        Clip clip = get(key);
+        if (clip != null) return clip;
+
+        // Check the length from the container before paying for a codec
+        PcmDecoder decoder;
+        try {
+            if (!isResidentDuration(PcmDecoder.probeDurationUs(context, key))) return null;
+            decoder = PcmDecoder.open(context, key);
+        } catch (IOException e) {
+            Log.w(TAG, "Can't open " + key, e);
+            return null;
+        }
+
+        try {
+            long durationUs = decoder.getDurationUs();
+            int capacity = (int) (durationUs * decoder.getSampleRate() / 1_000_000L + 1024) * 2;
+            short[] samples = new short[capacity];
+            short[] frame = new short[2];
+            int frames = 0;
+            while (decoder.readFrame(frame)) {
+                if (frames * 2 + 2 > samples.length) {
+                    samples = Arrays.copyOf(samples, samples.length * 2);
+                }
+                samples[frames * 2] = frame[0];
+                samples[frames * 2 + 1] = frame[1];
+                frames++;
+            }
+
+            // The decoder already dropped the encoder's padding, so the loop point is exact
+            if (frames == 0) return null;
+
+            clip = new Clip(Arrays.copyOf(samples, frames * 2), frames, decoder.getSampleRate());
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Can't decode " + key, e);
+            return null;
+        } finally {
+            decoder.release();
+        }
+
+        put(key, clip);
+        return clip;
+    }
+
+    private synchronized void put(String key, Clip clip) {
+        if (clips.put(key, clip) == null) {
+            residentBytes += clip.samples.length * 2L;
+        }
+
+        // Evict least recently used clips over the budget (never the new one)
+        Iterator<Clip> it = clips.values().iterator();
+        while (residentBytes > MAX_RESIDENT_BYTES && clips.size() > 1 && it.hasNext()) {
+            Clip eldest = it.next();
+            if (eldest == clip) continue;
+            residentBytes -= eldest.samples.length * 2L;
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.media.MediaCodec;
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Decodes a compressed audio file to 16-bit PCM with MediaExtractor and MediaCodec
+ * Decoded output is copied into a small ring of direct buffers and read frame by
+ * frame, without the encoder's priming and padding samples. Blocks on the codec -
+ * use from a loader or decode thread, never the mixer. Not thread-safe.
+ */
+class PcmDecoder {
+
+    private static final long TIMEOUT_US = 10000;
+
+    // Decode-ahead ring (each slot holds one codec output buffer)
+    private static final int RING_SLOTS = 4;
+    private static final int SLOT_BYTES = 16 * 1024;
+
+    private final MediaExtractor extractor;
+    private final MediaCodec codec;
+    private final MediaCodec.BufferInfo info = new MediaCodec.BufferInfo();
+    private final long durationUs;
+
+    private int sampleRate;
+    private int channels;
+
+    // Priming and padding samples added by the encoder (frames)
+    private final int encoderDelay;
+    private final int encoderPadding;
+    private int framesToSkip;
+
+    // The last encoderPadding frames read, held back until the stream shows they aren't the padding
+    private final short[] heldBack;
+    private int heldBackStart = 0;
+    private int heldBackCount = 0;
+    private final short[] decoded = new short[2];
+
+    private boolean inputDone = false;
+    private boolean outputDone = false;
+
+    private final ByteBuffer[] ring = new ByteBuffer[RING_SLOTS];
+    private int ringRead = 0;
+    private int ringCount = 0;
+
+    private PcmDecoder(MediaExtractor extractor, MediaFormat format) throws IOException {
+        this.extractor = extractor;
+        this.sampleRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE);
+        this.channels = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT);
+        this.durationUs = format.containsKey(MediaFormat.KEY_DURATION) ? format.getLong(MediaFormat.KEY_DURATION) : -1;
+        this.encoderDelay = format.containsKey("encoder-delay") ? format.getInteger("encoder-delay") : 0;
+        this.encoderPadding = format.containsKey("encoder-padding") ? format.getInteger("encoder-padding") : 0;
+        this.framesToSkip = encoderDelay;
+        this.heldBack = new short[encoderPadding * 2];
+
+        for (int i = 0; i < RING_SLOTS; i++) {
+            ring[i] = ByteBuffer.allocateDirect(SLOT_BYTES).order(ByteOrder.nativeOrder());
+        }
+
+        codec = MediaCodec.createDecoderByType(format.getString(MediaFormat.KEY_MIME));
+        codec.configure(format, null, null, 0);
+        codec.start();
+    }
+
+    /**
+     * Open a source by key ("res:<id>" or "asset:<path>")
+     */
+    static PcmDecoder open(Context context, String key) throws IOException {
+        MediaExtractor extractor = openExtractor(context, key);
+        for (int i = 0; i < extractor.getTrackCount(); i++) {
+            MediaFormat format = extractor.getTrackFormat(i);
+            String mime = format.getString(MediaFormat.KEY_MIME);
+            if (mime != null && mime.startsWith("audio/")) {
+                extractor.selectTrack(i);
+                try {
+                    return new PcmDecoder(extractor, format);
+                } catch (IOException | RuntimeException e) {
+                    extractor.release();
+                    throw new IOException("Can't decode " + key, e);
+                }
+            }
+        }
+        extractor.release();
+        throw new IOException("No audio track in " + key);
+    }
+
+    /**
+     * Duration of a source's audio track in us (-1 if unknown), read from the
+     * container without creating a codec
+     */
+    static long probeDurationUs(Context context, String key) throws IOException {
+        MediaExtractor extractor = openExtractor(context, key);
+        try {
+            for (int i = 0; i < extractor.getTrackCount(); i++) {
+                MediaFormat format = extractor.getTrackFormat(i);
+                String mime = format.getString(MediaFormat.KEY_MIME);
+                if (mime != null && mime.startsWith("audio/")) {
+                    return format.containsKey(MediaFormat.KEY_DURATION) ? format.getLong(MediaFormat.KEY_DURATION) : -1;
+                }
+            }
+        } finally {
+            extractor.release();
+        }
+        throw new IOException("No audio track in " + key);
+    }
+
+    private static MediaExtractor openExtractor(Context context, String key) throws IOException {
+        MediaExtractor extractor = new MediaExtractor();
+        try (AssetFileDescriptor afd = openFd(context, key)) {
+            extractor.setDataSource(afd.getFileDescriptor(), afd.getStartOffset(), afd.getLength());
+        } catch (IOException | RuntimeException e) {
+            extractor.release();
+            throw new IOException("Can't open " + key, e);
+        }
+        return extractor;
+    }
+
+    private static AssetFileDescriptor openFd(Context context, String key) throws IOException {
+        if (key.startsWith("res:")) {
+            return context.getResources().openRawResourceFd(Integer.parseInt(key.substring(4)));
+        }
+        return context.getAssets().openFd(key.substring("asset:".length()));
+    }
+
+    int getSampleRate() {
+        return sampleRate;
+    }
+
+    long getDurationUs() {
+        return durationUs;
+    }
+
+    // ==================== Decoding ====================
+
+    /**
+     * Decode ahead until the ring is full or the stream ended
+     */
+    private void fill() {
+        while (ringCount < RING_SLOTS && !outputDone) {
+            if (!inputDone) {
+                feedInput();
+            }
+            drainOutput();
+        }
+    }
+
+    private void feedInput() {
+        int index = codec.dequeueInputBuffer(TIMEOUT_US);
+        if (index < 0) return;
+
+        ByteBuffer input = codec.getInputBuffer(index);
+        int size = input != null ? extractor.readSampleData(input, 0) : -1;
+        if (size < 0) {
+            codec.queueInputBuffer(index, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+            inputDone = true;
+        } else {
+            codec.queueInputBuffer(index, 0, size, extractor.getSampleTime(), 0);
+            extractor.advance();
+        }
+    }
+
+    private void drainOutput() {
+        int index = codec.dequeueOutputBuffer(info, TIMEOUT_US);
+        if (index == MediaCodec.INFO_OUTPUT_FORMAT_CHANGED) {
+            MediaFormat format = codec.getOutputFormat();
+            sampleRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE);
+            channels = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT);
+            return;
+        }
+        if (index < 0) return;
+
+        ByteBuffer output = codec.getOutputBuffer(index);
+        if (output != null && info.size > 0) {
+            output.position(info.offset);
+            output.limit(info.offset + info.size);
+            copyToRing(output);
+        }
+        codec.releaseOutputBuffer(index, false);
+
+        if ((info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+            outputDone = true;
+        }
+    }
+
+    private void copyToRing(ByteBuffer output) {
+        int slot = (ringRead + ringCount) % RING_SLOTS;
+        ByteBuffer buffer = ring[slot];
+        if (buffer.capacity() < output.remaining()) {
+            buffer = ByteBuffer.allocateDirect(output.remaining()).order(ByteOrder.nativeOrder());
+            ring[slot] = buffer;
+        }
+        buffer.clear();
+        buffer.put(output);
+        buffer.flip();
+        ringCount++;
+    }
+
+    /**
+     * Read the next frame as stereo
+     *
+     * @param frame Receives left and right samples
+     * @return false once the stream has ended (the trailing padding is dropped)
+     */
+    boolean readFrame(short[] frame) {
+        if (encoderPadding == 0) {
+            return readDecodedFrame(frame);
+        }
+
+        // Frames come out encoderPadding behind the decoder, so the end of stream
+        // arrives while the padding is still held back
+        while (readDecodedFrame(decoded)) {
+            int slot = ((heldBackStart + heldBackCount) % encoderPadding) * 2;
+            if (heldBackCount < encoderPadding) {
+                heldBack[slot] = decoded[0];
+                heldBack[slot + 1] = decoded[1];
+                heldBackCount++;
+                continue;
+            }
+            frame[0] = heldBack[slot];
+            frame[1] = heldBack[slot + 1];
+            heldBack[slot] = decoded[0];
+            heldBack[slot + 1] = decoded[1];
+            heldBackStart = (heldBackStart + 1) % encoderPadding;
+            return true;
+        }
+        heldBackCount = 0;
+        return false;
+    }
+
+    private boolean readDecodedFrame(short[] frame) {
+        while (true) {
+            if (ringCount == 0) {
+                if (outputDone) return false;
+                fill();
+                continue;
+            }
+
+            ByteBuffer buffer = ring[ringRead];
+            if (buffer.remaining() < channels * 2) {
+                ringRead = (ringRead + 1) % RING_SLOTS;
+                ringCount--;
+                continue;
+            }
+
+            short left = buffer.getShort();
+            short right = channels > 1 ? buffer.getShort() : left;
+            for (int c = 2; c < channels; c++) {
+                buffer.getShort();
+            }
+
+            if (framesToSkip > 0) {
+                framesToSkip--;
+                continue;
+            }
+            frame[0] = left;
+            frame[1] = right;
+            return true;
+        }
+    }
+
+    /**
+     * Seek back to the start for the next loop (decoded frames follow on without a gap)
+     */
+    void rewind() {
+        extractor.seekTo(0, MediaExtractor.SEEK_TO_CLOSEST_SYNC);
+        codec.flush();
+        inputDone = false;
+        outputDone = false;
+        framesToSkip = encoderDelay;
+        ringRead = 0;
+        ringCount = 0;
+        heldBackStart = 0;
+        heldBackCount = 0;
+    }
+
+    void release() {
+        try {
+            codec.stop();
+        } catch (IllegalStateException e) {
+            // Codec already in error state
+        }
+        codec.release();
+        extractor.release();
+    }
+}
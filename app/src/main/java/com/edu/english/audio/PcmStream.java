@@ -0,0 +1,158 @@
+package com.edu.english.audio;
+
+import android.os.Handler;
+import android.util.Log;
+
+/**
+ * A long file streamed through a PcmDecoder
+ * A decode thread keeps a ring of stereo frames ahead of the player, so the mixer
+ * only copies out of it and never waits on the codec. A looping stream seeks back
+ * as soon as the decoder reaches the end, so the next loop is decoded while the
+ * tail is still playing and follows it sample-accurately.
+ * One writer (the decode thread) and one reader (the mixer).
+ */
+class PcmStream {
+    private static final String TAG = "PcmStream";
+
+    // About 0.75 s ahead at 44.1 kHz
+    private static final int RING_FRAMES = 32 * 1024;
+
+    // How often the decode thread tops the ring up
+    private static final long REFILL_INTERVAL_MS = 20;
+
+    // Publish the write position this often while filling
+    private static final int PUBLISH_FRAMES = 1024;
+
+    // readFrame results
+    static final int FRAME = 0;
+    static final int UNDERRUN = 1;
+    static final int ENDED = 2;
+
+    private final String key;
+    private final PcmDecoder decoder;
+    private final boolean loop;
+    private final Handler handler;
+    private final Runnable refill = this::refill;
+
+    private final short[] ring = new short[RING_FRAMES * 2];
+    private final short[] frame = new short[2];
+
+    // Frames written and read so far (each only advanced by its own side)
+    private volatile long written = 0;
+    private volatile long read = 0;
+    private volatile boolean isEnded = false;
+    private volatile boolean isReleased = false;
+
+    // Frames in one loop, known once the decoder first reaches the end (0 until then)
+    private volatile long loopFrames = 0;
+
+    /**
+     * @param handler The decode thread
+     */
+    PcmStream(String key, PcmDecoder decoder, boolean loop, Handler handler) {
+        this.key = key;
+        this.decoder = decoder;
+        this.loop = loop;
+        this.handler = handler;
+    }
+
+    // ==================== Decode thread ====================
+
+    /**
+     * Decode until the ring is full. Called on the loader before start() to
+     * pre-roll, then only on the decode thread.
+     */
+    void fill() {
+        long position = written;
+        long limit = read + RING_FRAMES;
+        int unpublished = 0;
+        while (!isEnded && position < limit) {
+            if (!decoder.readFrame(frame)) {
+                if (loop && position > 0) {
+                    if (loopFrames == 0) {
+                        loopFrames = position;
+                    }
+                    decoder.rewind();
+                    continue;
+                }
+                written = position;
+                isEnded = true;
+                return;
+            }
+
+            int index = (int) (position % RING_FRAMES) * 2;
+            ring[index] = frame[0];
+            ring[index + 1] = frame[1];
+            position++;
+
+            if (++unpublished == PUBLISH_FRAMES) {
+                written = position;
+                unpublished = 0;
+                limit = read + RING_FRAMES;
+            }
+        }
+        written = position;
+    }
+
+    /**
+     * Start topping the ring up on the decode thread
+     */
+    void start() {
+        handler.post(refill);
+    }
+
+    private void refill() {
+        if (isReleased) return;
+        try {
+            fill();
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Can't decode " + key, e);
+            isEnded = true;
+        }
+        if (!isEnded) {
+            handler.postDelayed(refill, REFILL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Stop decoding and release the codec (on the decode thread, after any fill in progress)
+     */
+    void release() {
+        isReleased = true;
+        handler.post(() -> {
+            handler.removeCallbacks(refill);
+            decoder.release();
+        });
+    }
+
+    // ==================== Mixer ====================
+
+    /**
+     * Read the next frame as stereo
+     *
+     * @return FRAME, UNDERRUN if the decoder has fallen behind, or ENDED
+     */
+    int readFrame(short[] out) {
+        // Ended before written, so a finished stream's last frames are seen
+        boolean ended = isEnded;
+        long position = read;
+        if (position == written) {
+            return ended ? ENDED : UNDERRUN;
+        }
+
+        int index = (int) (position % RING_FRAMES) * 2;
+        out[0] = ring[index];
+        out[1] = ring[index + 1];
+        read = position + 1;
+        return FRAME;
+    }
+
+    /**
+     * Whether the next frame starts a loop (only known after the first loop was decoded)
+     */
+    boolean isAtLoopStart() {
+        long frames = loopFrames;
+        long position = read;
+        return frames > 0 && position > 0 && position % frames == 0;
+    }
+}
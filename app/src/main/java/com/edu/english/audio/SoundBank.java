@@ -0,0 +1,156 @@
+package com.edu.english.audio;
+
+import java.util.Arrays;
+
+/**
+ * A screen's view of the shared AudioEngine
+ * Maps the screen's own integer sound ids to shared samples. Closing the bank
+ * releases the references but leaves the samples cached for the next screen.
+ */
+public class SoundBank {
+
+    private final AudioEngine engine;
+    private final int category;
+    private final AudioEngine.Sample[] samples;
+    private final boolean[] notified;
+    private final VoicePolicy[] policies;
+    private OnSoundLoadedListener loadedListener;
+    private boolean isClosed = false;
+
+    /**
+     * Called once per sound id when its sample finished (or failed) loading
+     */
+    public interface OnSoundLoadedListener {
+        void onSoundLoaded(int soundId, boolean success);
+    }
+
+    SoundBank(AudioEngine engine, int category, int capacity) {
+        this.engine = engine;
+        this.category = category;
+        this.samples = new AudioEngine.Sample[capacity];
+        this.notified = new boolean[capacity];
+        this.policies = new VoicePolicy[capacity];
+        Arrays.fill(policies, VoicePolicy.DEFAULT);
+    }
+
+    public void setOnSoundLoadedListener(OnSoundLoadedListener listener) {
+        this.loadedListener = listener;
+    }
+
+    // ==================== Loading ====================
+
+    /**
+     * Load a res/raw sound by name
+     *
+     * @return false if there is no such resource
+     */
+    public boolean loadRaw(int soundId, String rawName) {
+        return attach(soundId, engine.acquireRaw(rawName));
+    }
+
+    /**
+     * Load a sound from a resource id
+     */
+    public boolean loadResource(int soundId, int resId) {
+        return attach(soundId, engine.acquireResource(resId));
+    }
+
+    /**
+     * Load a sound from an asset file
+     *
+     * @return false if the file doesn't exist
+     */
+    public boolean loadAsset(int soundId, String assetPath) {
+        return attach(soundId, engine.acquireAsset(assetPath));
+    }
+
+    private synchronized boolean attach(int soundId, AudioEngine.Sample sample) {
+        if (sample == null) return false;
+
+        if (samples[soundId] != null) {
+            engine.release(samples[soundId]);
+        }
+        samples[soundId] = sample;
+        notified[soundId] = false;
+
+        // Already decoded by an earlier screen
+        if (sample.loaded || sample.failed) {
+            onSampleLoaded(sample);
+        }
+        return true;
+    }
+
+    synchronized void onSampleLoaded(AudioEngine.Sample sample) {
+        for (int i = 0; i < samples.length; i++) {
+            if (samples[i] == sample && !notified[i]) {
+                notified[i] = true;
+                if (loadedListener != null) {
+                    loadedListener.onSoundLoaded(i, sample.loaded);
+                }
+            }
+        }
+    }
+
+    // ==================== Playback ====================
+
+    /**
+     * Cap a sound's polyphony and retrigger rate (sounds are uncapped by default)
+     */
+    public void setPolicy(int soundId, VoicePolicy policy) {
+        policies[soundId] = policy;
+    }
+
+    /**
+     * Check if a sound is decoded and playable
+     */
+    public boolean isLoaded(int soundId) {
+        AudioEngine.Sample sample = samples[soundId];
+        return sample != null && sample.loaded;
+    }
+
+    /**
+     * Play a sound once at normal rate
+     *
+     * @return stream id, or 0 if nothing was played
+     */
+    public int play(int soundId, float volume) {
+        return play(soundId, volume, 1.0f, 0);
+    }
+
+    /**
+     * Play a sound
+     *
+     * @param rate Playback rate (0.5 to 2.0)
+     * @param loop 0 = once, -1 = forever
+     * @return stream id, or 0 if nothing was played
+     */
+    public int play(int soundId, float volume, float rate, int loop) {
+        AudioEngine.Sample sample = samples[soundId];
+        if (sample == null || isClosed) return 0;
+        return engine.play(sample, category, volume, loop, rate, policies[soundId], policies[soundId].lengthMs);
+    }
+
+    public void stop(int streamId) {
+        engine.stop(streamId);
+    }
+
+    /**
+     * Release this screen's references (samples stay cached in the engine)
+     */
+    public void close() {
+        if (isClosed) return;
+        isClosed = true;
+
+        for (int i = 0; i < samples.length; i++) {
+            if (samples[i] != null) {
+                engine.release(samples[i]);
+                samples[i] = null;
+            }
+        }
+        engine.closeBank(this);
+    }
+
+    public AudioEngine getEngine() {
+        return engine;
+    }
+}
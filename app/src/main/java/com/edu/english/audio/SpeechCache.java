@@ -0,0 +1,379 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.speech.tts.TextToSpeech;
+import android.speech.tts.UtteranceProgressListener;
+import android.speech.tts.Voice;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Persistent cache of synthesized speech
+ * Known words and sentences are rendered to WAV files in the background with
+ * TextToSpeech.synthesizeToFile, keyed by text, voice, rate and pitch. Later
+ * plays come from the shared AudioEngine at SoundPool latency; callers fall back
+ * to live TTS while a phrase isn't cached yet.
+ */
+public class SpeechCache {
+    private static final String TAG = "SpeechCache";
+
+    private static final String CACHE_DIR = "speech";
+    private static final String PREFS_NAME = "speech_cache";
+    private static final String KEY_VOICE = "voice";
+
+    // Clips kept decoded in the SoundPool (each holds a reference in the engine)
+    private static final int MAX_RESIDENT_CLIPS = 24;
+
+    // One clip at a time, priority above SFX so a word isn't dropped when the pool is busy
+    private static final VoicePolicy VOICE_POLICY = new VoicePolicy(1, 0, 2, 0);
+
+    private static SpeechCache instance;
+
+    private final Context context;
+    private final AudioEngine engine;
+    private final SharedPreferences preferences;
+    private final File cacheDir;
+
+    // Voice the cached files were rendered with (null until known)
+    private volatile String voiceName;
+
+    // Decoded clips, least recently used first
+    private final LinkedHashMap<String, Clip> residentClips =
+            new LinkedHashMap<String, Clip>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Clip> eldest) {
+                    if (size() > MAX_RESIDENT_CLIPS) {
+                        engine.release(eldest.getValue().sample);
+                        return true;
+                    }
+                    return false;
+                }
+            };
+    private int currentStreamId;
+
+    // Keys with a rendered file, filled by the worker; playback only looks on disk for these
+    private final Set<String> renderedKeys = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    // Background rendering (a separate, short-lived engine so live speech flushes
+    // never cancel a render)
+    private final Handler worker;
+    private final ArrayDeque<Phrase> renderQueue = new ArrayDeque<>();
+    private TextToSpeech renderer;
+    private boolean isRendererReady = false;
+    private boolean isRendering = false;
+    private File renderingFile;
+    private String renderingKey;
+
+    /**
+     * A phrase as a speaker says it
+     */
+    public static class Phrase {
+        public final String text;
+        public final float rate;
+        public final float pitch;
+
+        public Phrase(String text, float rate, float pitch) {
+            this.text = text;
+            this.rate = rate;
+            this.pitch = pitch;
+        }
+    }
+
+    /**
+     * A cached file and its decoded sample
+     */
+    private static class Clip {
+        final AudioEngine.Sample sample;
+        final long durationMs;
+
+        Clip(AudioEngine.Sample sample, long durationMs) {
+            this.sample = sample;
+            this.durationMs = durationMs;
+        }
+    }
+
+    private SpeechCache(Context context) {
+        this.context = context.getApplicationContext();
+        this.engine = AudioEngine.getInstance(context);
+        this.preferences = this.context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.cacheDir = new File(this.context.getCacheDir(), CACHE_DIR);
+        this.voiceName = preferences.getString(KEY_VOICE, null);
+
+        HandlerThread thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    public static synchronized SpeechCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new SpeechCache(context);
+        }
+        return instance;
+    }
+
+    // ==================== Playback ====================
+
+    /**
+     * Play a phrase from the cache
+     *
+     * @return clip duration in ms, or -1 if the phrase isn't ready (speak it live instead)
+     */
+    public synchronized long play(String text, float rate, float pitch) {
+        Clip clip = getClip(text, rate, pitch);
+        if (clip == null || !clip.sample.loaded) return -1;
+
+        stop();
+        currentStreamId = engine.play(clip.sample, AudioEngine.CATEGORY_VOICE, 1.0f, 0, 1.0f,
+                VOICE_POLICY, clip.durationMs);
+        return currentStreamId != 0 ? clip.durationMs : -1;
+    }
+
+    /**
+     * Start decoding a phrase that is about to be spoken (e.g. the current word)
+     */
+    public synchronized void preload(String text, float rate, float pitch) {
+        getClip(text, rate, pitch);
+    }
+
+    /**
+     * Stop the clip currently playing from the cache
+     */
+    public synchronized void stop() {
+        if (currentStreamId != 0) {
+            engine.stop(currentStreamId);
+            currentStreamId = 0;
+        }
+    }
+
+    private Clip getClip(String text, float rate, float pitch) {
+        String voice = voiceName;
+        if (voice == null || text == null) return null;
+
+        String key = getKey(voice, text, rate, pitch);
+        Clip clip = residentClips.get(key);
+        if (clip == null) {
+            if (!renderedKeys.contains(key)) return null;
+
+            File file = getFile(key);
+            long durationMs = readWavDurationMs(file);
+            if (durationMs <= 0) {
+                // Cleared from under us (e.g. the system trimmed the cache dir)
+                renderedKeys.remove(key);
+                return null;
+            }
+
+            AudioEngine.Sample sample = engine.acquireFile(file.getPath());
+            if (sample == null) return null;
+
+            clip = new Clip(sample, durationMs);
+            residentClips.put(key, clip);
+        }
+        return clip;
+    }
+
+    // ==================== Pre-rendering ====================
+
+    /**
+     * Render every phrase that isn't cached yet, one at a time in the background
+     *
+     * @param phrases Collected on the worker too, since listing them can read lesson content
+     */
+    public void prerender(Supplier<List<Phrase>> phrases) {
+        worker.post(() -> {
+            List<Phrase> list = phrases.get();
+            markRendered(list);
+            renderQueue.addAll(list);
+            if (renderer == null) {
+                renderer = new TextToSpeech(context, this::onRendererInit);
+            } else if (isRendererReady && !isRendering) {
+                renderNext();
+            }
+        });
+    }
+
+    /**
+     * Note which phrases already have a file (for the voice known so far)
+     */
+    private void markRendered(List<Phrase> phrases) {
+        String voice = voiceName;
+        if (voice == null) return;
+        for (Phrase phrase : phrases) {
+            String key = getKey(voice, phrase.text, phrase.rate, phrase.pitch);
+            if (getFile(key).exists()) {
+                renderedKeys.add(key);
+            }
+        }
+    }
+
+    private void onRendererInit(int status) {
+        worker.post(() -> {
+            if (status != TextToSpeech.SUCCESS) {
+                Log.w(TAG, "TTS init failed, speech will not be cached");
+                releaseRenderer();
+                return;
+            }
+
+            int result = renderer.setLanguage(Locale.US);
+            if (result == TextToSpeech.LANG_MISSING_DATA || result == TextToSpeech.LANG_NOT_SUPPORTED) {
+                Log.w(TAG, "US English not available, speech will not be cached");
+                releaseRenderer();
+                return;
+            }
+
+            renderer.setOnUtteranceProgressListener(new UtteranceProgressListener() {
+                @Override
+                public void onStart(String utteranceId) {
+                }
+
+                @Override
+                public void onDone(String utteranceId) {
+                    worker.post(() -> onRenderFinished(true));
+                }
+
+                @Override
+                public void onError(String utteranceId) {
+                    worker.post(() -> onRenderFinished(false));
+                }
+            });
+
+            updateVoice();
+            isRendererReady = true;
+            renderNext();
+        });
+    }
+
+    /**
+     * Files rendered by a different voice don't match the live fallback - drop them
+     */
+    private void updateVoice() {
+        Voice voice = renderer.getVoice();
+        String name = renderer.getDefaultEngine() + "/"
+                + (voice != null ? voice.getName() : Locale.US.toLanguageTag());
+
+        if (!name.equals(voiceName)) {
+            renderedKeys.clear();
+            File[] files = cacheDir.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            preferences.edit().putString(KEY_VOICE, name).apply();
+            voiceName = name;
+        }
+    }
+
+    private void renderNext() {
+        isRendering = false;
+        if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+            Log.w(TAG, "Can't create " + cacheDir);
+            releaseRenderer();
+            return;
+        }
+
+        Phrase phrase;
+        while ((phrase = renderQueue.poll()) != null) {
+            String key = getKey(voiceName, phrase.text, phrase.rate, phrase.pitch);
+            File file = getFile(key);
+            if (file.exists()) {
+                renderedKeys.add(key);
+                continue;
+            }
+
+            renderer.setSpeechRate(phrase.rate);
+            renderer.setPitch(phrase.pitch);
+
+            // Render to a temp file so a half-written clip is never played
+            renderingFile = file;
+            renderingKey = key;
+            File tempFile = new File(file.getPath() + ".tmp");
+            int result = renderer.synthesizeToFile(phrase.text, new Bundle(), tempFile, file.getName());
+            if (result == TextToSpeech.SUCCESS) {
+                isRendering = true;
+                return;
+            }
+            Log.w(TAG, "Can't render: " + phrase.text);
+        }
+
+        // Queue drained - the renderer isn't needed until the next prerender call
+        releaseRenderer();
+    }
+
+    private void releaseRenderer() {
+        renderQueue.clear();
+        renderer.shutdown();
+        renderer = null;
+        isRendererReady = false;
+    }
+
+    private void onRenderFinished(boolean success) {
+        if (renderingFile != null) {
+            File tempFile = new File(renderingFile.getPath() + ".tmp");
+            if (success && tempFile.renameTo(renderingFile)) {
+                renderedKeys.add(renderingKey);
+            } else {
+                tempFile.delete();
+            }
+            renderingFile = null;
+            renderingKey = null;
+        }
+        renderNext();
+    }
+
+    // ==================== Files ====================
+
+    private static String getKey(String voice, String text, float rate, float pitch) {
+        return voice + "|" + rate + "|" + pitch + "|" + text;
+    }
+
+    private File getFile(String key) {
+        return new File(cacheDir, hash(key) + ".wav");
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(String.format(Locale.US, "%02x", b & 0xFF));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(key.hashCode());
+        }
+    }
+
+    /**
+     * Clip length from the WAV header (byte rate) and the file size, or -1 if unreadable
+     */
+    private static long readWavDurationMs(File file) {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            input.seek(28);
+            int byteRate = Integer.reverseBytes(input.readInt());
+            if (byteRate <= 0) return -1;
+            return Math.max(0, input.length() - 44) * 1000 / byteRate;
+        } catch (IOException e) {
+            // Not rendered yet
+            return -1;
+        }
+    }
+}
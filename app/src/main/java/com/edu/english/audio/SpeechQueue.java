@@ -0,0 +1,269 @@
+package com.edu.english.audio;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Priority scheduling for speech requests
+ * One utterance plays at a time. Feedback cuts in over instructions and
+ * instructions over auto-repeats; an auto-repeat is only spoken when nothing
+ * else is playing or waiting. A request for text that is already playing or
+ * waiting is coalesced, so rapid taps never build up a backlog. Plain Java -
+ * the SpeechService drives it and supplies the clock.
+ */
+public class SpeechQueue {
+
+    // Priorities, lowest first
+    public static final int PRIORITY_AUTO_REPEAT = 0;
+    public static final int PRIORITY_INSTRUCTION = 1;
+    public static final int PRIORITY_FEEDBACK = 2;
+
+    /**
+     * A request as it moves through the queue
+     */
+    public static class Request {
+        public final Object owner;
+        public final String text;
+        public final int priority;
+        public final int serial;
+        String utteranceId;
+        long enqueuedAt;
+        long startedAt = -1;
+        boolean isSpeaking = false;
+
+        Request(Object owner, String text, int priority, String utteranceId, int serial, long now) {
+            this.owner = owner;
+            this.text = text;
+            this.priority = priority;
+            this.utteranceId = utteranceId;
+            this.serial = serial;
+            this.enqueuedAt = now;
+        }
+
+        public String getUtteranceId() {
+            return utteranceId;
+        }
+    }
+
+    /**
+     * Latency figures since the queue was created
+     */
+    public static class Stats {
+        public final int started;
+        public final long averageQueueWaitMs;
+        public final long maxQueueWaitMs;
+        public final int spoken;
+        public final long averageStartLatencyMs;
+        public final long maxStartLatencyMs;
+        public final int dropped;
+
+        Stats(int started, long averageQueueWaitMs, long maxQueueWaitMs, int spoken,
+              long averageStartLatencyMs, long maxStartLatencyMs, int dropped) {
+            this.started = started;
+            this.averageQueueWaitMs = averageQueueWaitMs;
+            this.maxQueueWaitMs = maxQueueWaitMs;
+            this.spoken = spoken;
+            this.averageStartLatencyMs = averageStartLatencyMs;
+            this.maxStartLatencyMs = maxStartLatencyMs;
+            this.dropped = dropped;
+        }
+
+        @Override
+        public String toString() {
+            return "queue wait avg " + averageQueueWaitMs + "ms (max " + maxQueueWaitMs + "ms), "
+                    + "speak start avg " + averageStartLatencyMs + "ms (max " + maxStartLatencyMs + "ms), "
+                    + dropped + " dropped";
+        }
+    }
+
+    // Waiting requests, highest priority first, FIFO within a priority
+    private final List<Request> pending = new ArrayList<>();
+    private final List<Request> dropped = new ArrayList<>();
+    private Request current;
+    private int nextSerial = 1;
+
+    // Latency counters
+    private int startedCount = 0;
+    private long totalQueueWaitMs = 0;
+    private long maxQueueWaitMs = 0;
+    private int spokenCount = 0;
+    private long totalStartLatencyMs = 0;
+    private long maxStartLatencyMs = 0;
+    private int droppedCount = 0;
+
+    /**
+     * Add a request
+     *
+     * @return the request to start right away (whatever was playing must be
+     *         stopped first), or null if it waits, was coalesced or was dropped
+     */
+    public Request offer(Object owner, String text, int priority, String utteranceId, long now) {
+        Request request = new Request(owner, text, priority, utteranceId, nextSerial++, now);
+
+        // Already being said - the new request adds nothing
+        if (current != null && isSame(current, request)) {
+            drop(request);
+            return null;
+        }
+
+        // Already waiting - keep its place, answer to the newest id
+        Request waiting = findPending(request);
+        if (waiting != null) {
+            if (waiting.priority >= priority) {
+                drop(new Request(owner, text, waiting.priority, waiting.utteranceId, waiting.serial, now));
+                waiting.utteranceId = utteranceId;
+                return null;
+            }
+            pending.remove(waiting);
+            drop(waiting);
+        }
+
+        if (priority == PRIORITY_AUTO_REPEAT && (current != null || !pending.isEmpty())) {
+            drop(request);
+            return null;
+        }
+
+        if (current == null) {
+            return start(request, now);
+        }
+
+        if (priority > current.priority || priority == PRIORITY_FEEDBACK) {
+            // Newer feedback makes the owner's older feedback stale
+            if (priority == PRIORITY_FEEDBACK) {
+                dropPending(owner, PRIORITY_FEEDBACK);
+            }
+            drop(current);
+            current = null;
+            return start(request, now);
+        }
+
+        insert(request);
+        return null;
+    }
+
+    /**
+     * The current request finished (or failed)
+     *
+     * @return the next request to start, or null
+     */
+    public Request finish(Request request, long now) {
+        if (request != current) return null;
+        current = null;
+        return next(now);
+    }
+
+    /**
+     * Start the next waiting request if nothing is playing
+     */
+    public Request next(long now) {
+        if (current != null || pending.isEmpty()) return null;
+        return start(pending.remove(0), now);
+    }
+
+    /**
+     * Audio of the current request began
+     */
+    public void onStarted(Request request, long now) {
+        if (request != current || request.isSpeaking) return;
+        request.isSpeaking = true;
+
+        long latency = now - request.startedAt;
+        spokenCount++;
+        totalStartLatencyMs += latency;
+        maxStartLatencyMs = Math.max(maxStartLatencyMs, latency);
+    }
+
+    /**
+     * Drop everything of an owner (e.g. its scene changed)
+     *
+     * @return true if the owner's request was playing and has to be stopped
+     */
+    public boolean cancel(Object owner) {
+        dropPending(owner, -1);
+        if (current != null && current.owner == owner) {
+            drop(current);
+            current = null;
+            return true;
+        }
+        return false;
+    }
+
+    public Request getCurrent() {
+        return current;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Requests dropped since the last call, to tell their owners
+     */
+    public List<Request> takeDropped() {
+        List<Request> result = new ArrayList<>(dropped);
+        dropped.clear();
+        return result;
+    }
+
+    public Stats getStats() {
+        return new Stats(startedCount,
+                startedCount > 0 ? totalQueueWaitMs / startedCount : 0, maxQueueWaitMs,
+                spokenCount,
+                spokenCount > 0 ? totalStartLatencyMs / spokenCount : 0, maxStartLatencyMs,
+                droppedCount);
+    }
+
+    // ==================== Helpers ====================
+
+    private Request start(Request request, long now) {
+        current = request;
+        request.startedAt = now;
+
+        long wait = now - request.enqueuedAt;
+        startedCount++;
+        totalQueueWaitMs += wait;
+        maxQueueWaitMs = Math.max(maxQueueWaitMs, wait);
+        return request;
+    }
+
+    private void insert(Request request) {
+        int index = 0;
+        while (index < pending.size() && pending.get(index).priority >= request.priority) {
+            index++;
+        }
+        pending.add(index, request);
+    }
+
+    private Request findPending(Request request) {
+        for (Request waiting : pending) {
+            if (isSame(waiting, request)) {
+                return waiting;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop an owner's waiting requests of a priority (-1 for all)
+     */
+    private void dropPending(Object owner, int priority) {
+        Iterator<Request> it = pending.iterator();
+        while (it.hasNext()) {
+            Request waiting = it.next();
+            if (waiting.owner == owner && (priority < 0 || waiting.priority == priority)) {
+                it.remove();
+                drop(waiting);
+            }
+        }
+    }
+
+    private void drop(Request request) {
+        dropped.add(request);
+        droppedCount++;
+    }
+
+    private static boolean isSame(Request a, Request b) {
+        return a.owner == b.owner && a.text.equals(b.text);
+    }
+}
@@ -0,0 +1,413 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.speech.tts.TextToSpeech;
+import android.speech.tts.UtteranceProgressListener;
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Application-wide speech service
+ * Owns the one TextToSpeech engine of the app. It starts binding from the splash
+ * screen and stays warm across activities, so the first word of a lesson doesn't
+ * pay the engine init cost. Each screen opens a Client with its own rate, pitch
+ * and utterance callbacks. Requests are scheduled by a SpeechQueue and handed to
+ * the engine one at a time; phrases found in the SpeechCache are played from
+ * there instead.
+ */
+public class SpeechService {
+    private static final String TAG = "SpeechService";
+
+    // Utterance events
+    private static final int EVENT_START = 0;
+    private static final int EVENT_DONE = 1;
+    private static final int EVENT_ERROR = 2;
+    private static final int EVENT_DROPPED = 3;
+
+    private static SpeechService instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final SpeechCache speechCache;
+    private final TextToSpeech tts;
+
+    private boolean isReady = false;
+    private boolean isFailed = false;
+
+    private final SparseArray<Client> clients = new SparseArray<>();
+    private int nextClientId = 1;
+
+    private final SpeechQueue queue = new SpeechQueue();
+
+    // Request handed to the engine or the cache (the queue's current request
+    // waits here until the engine is up)
+    private SpeechQueue.Request playingRequest;
+
+    // Completion of the cached clip currently playing
+    private Runnable cachedDone;
+
+    /**
+     * Utterance callbacks, delivered on the main thread
+     */
+    public interface UtteranceListener {
+        void onStart(String utteranceId);
+        void onDone(String utteranceId);
+        void onError(String utteranceId);
+
+        /**
+         * The utterance won't be spoken: it was coalesced with an identical
+         * request, cut off by a higher priority one or cancelled by stop()
+         */
+        void onDropped(String utteranceId);
+    }
+
+    /**
+     * Called on the main thread once the engine is ready (or failed)
+     */
+    public interface ReadyListener {
+        void onSpeechReady(boolean success);
+    }
+
+    private SpeechService(Context context) {
+        Context appContext = context.getApplicationContext();
+        this.speechCache = SpeechCache.getInstance(appContext);
+        this.tts = new TextToSpeech(appContext, this::onInit);
+    }
+
+    /**
+     * Get the service, starting the engine on first use
+     */
+    public static synchronized SpeechService getInstance(Context context) {
+        if (instance == null) {
+            instance = new SpeechService(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Open a client for a screen
+     *
+     * @param rate Speech rate for this client's utterances
+     * @param pitch Pitch for this client's utterances
+     */
+    public synchronized Client openClient(float rate, float pitch) {
+        Client client = new Client(nextClientId++, rate, pitch);
+        clients.put(client.id, client);
+        return client;
+    }
+
+    /**
+     * Queue-wait and speak-start latency so far
+     */
+    public synchronized SpeechQueue.Stats getStats() {
+        return queue.getStats();
+    }
+
+    // ==================== Engine ====================
+
+    private void onInit(int status) {
+        List<Client> waiting = new ArrayList<>();
+
+        synchronized (this) {
+            if (status == TextToSpeech.SUCCESS && setEnglish()) {
+                tts.setOnUtteranceProgressListener(new UtteranceProgressListener() {
+                    @Override
+                    public void onStart(String utteranceId) {
+                        dispatch(utteranceId, EVENT_START);
+                    }
+
+                    @Override
+                    public void onDone(String utteranceId) {
+                        dispatch(utteranceId, EVENT_DONE);
+                    }
+
+                    @Override
+                    public void onError(String utteranceId) {
+                        dispatch(utteranceId, EVENT_ERROR);
+                    }
+                });
+                isReady = true;
+                Log.d(TAG, "TTS initialized");
+            } else {
+                Log.e(TAG, "TTS initialization failed with status: " + status);
+                isFailed = true;
+            }
+
+            // Start (or fail) the request that waited for the engine
+            SpeechQueue.Request current = queue.getCurrent();
+            if (current != null && current != playingRequest) {
+                start(current);
+            }
+
+            for (int i = 0; i < clients.size(); i++) {
+                waiting.add(clients.valueAt(i));
+            }
+        }
+
+        for (Client client : waiting) {
+            client.notifyReady();
+        }
+    }
+
+    private boolean setEnglish() {
+        Locale[] locales = {Locale.US, Locale.UK, Locale.ENGLISH};
+        for (Locale locale : locales) {
+            int result = tts.setLanguage(locale);
+            if (result != TextToSpeech.LANG_MISSING_DATA && result != TextToSpeech.LANG_NOT_SUPPORTED) {
+                return true;
+            }
+            Log.w(TAG, locale + " not supported");
+        }
+        return false;
+    }
+
+    /**
+     * Engine callback; callbacks of utterances that were cut off are ignored
+     */
+    private synchronized void dispatch(String engineUtteranceId, int event) {
+        SpeechQueue.Request request = playingRequest;
+        if (request == null || !String.valueOf(request.serial).equals(engineUtteranceId)) return;
+        onEvent(request, event);
+    }
+
+    // ==================== Scheduling ====================
+
+    private synchronized void speak(Client client, String text, int priority, String utteranceId) {
+        SpeechQueue.Request request = queue.offer(client, text, priority, utteranceId, SystemClock.uptimeMillis());
+        if (request != null) {
+            halt();
+            start(request);
+        }
+        reportDropped();
+    }
+
+    /**
+     * Hand a request to the cache or the engine; requests that can't be spoken
+     * fail straight away and the next one is tried
+     */
+    private void start(SpeechQueue.Request request) {
+        while (request != null) {
+            Client client = (Client) request.owner;
+            if (playCached(client, request)) return;
+
+            // Speaks once the engine is up
+            if (!isReady && !isFailed) return;
+
+            if (isReady && speakLive(client, request)) return;
+
+            playingRequest = null;
+            client.post(request.getUtteranceId(), EVENT_ERROR);
+            request = queue.finish(request, SystemClock.uptimeMillis());
+        }
+    }
+
+    private boolean speakLive(Client client, SpeechQueue.Request request) {
+        playingRequest = request;
+
+        // Rate and pitch are captured per utterance
+        tts.setSpeechRate(client.rate);
+        tts.setPitch(client.pitch);
+        int result = tts.speak(request.text, TextToSpeech.QUEUE_FLUSH, null, String.valueOf(request.serial));
+        if (result != TextToSpeech.SUCCESS) {
+            Log.e(TAG, "TTS speak failed: " + request.text);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean playCached(Client client, SpeechQueue.Request request) {
+        long durationMs = speechCache.play(request.text, client.rate, client.pitch);
+        if (durationMs < 0) return false;
+
+        playingRequest = request;
+        onEvent(request, EVENT_START);
+        cachedDone = () -> {
+            synchronized (this) {
+                if (playingRequest == request) {
+                    cachedDone = null;
+                    onEvent(request, EVENT_DONE);
+                }
+            }
+        };
+        mainHandler.postDelayed(cachedDone, durationMs);
+        return true;
+    }
+
+    private void onEvent(SpeechQueue.Request request, int event) {
+        Client client = (Client) request.owner;
+        long now = SystemClock.uptimeMillis();
+
+        if (event == EVENT_START) {
+            queue.onStarted(request, now);
+            Log.d(TAG, "Speaking after " + (request.startedAt - request.enqueuedAt) + "ms in queue, "
+                    + (now - request.startedAt) + "ms to start: " + queue.getStats());
+            client.post(request.getUtteranceId(), EVENT_START);
+            return;
+        }
+
+        playingRequest = null;
+        client.post(request.getUtteranceId(), event);
+        start(queue.finish(request, now));
+    }
+
+    /**
+     * Silence whatever is playing
+     */
+    private void halt() {
+        playingRequest = null;
+        if (isReady) {
+            tts.stop();
+        }
+        speechCache.stop();
+        if (cachedDone != null) {
+            mainHandler.removeCallbacks(cachedDone);
+            cachedDone = null;
+        }
+    }
+
+    private void reportDropped() {
+        for (SpeechQueue.Request request : queue.takeDropped()) {
+            ((Client) request.owner).post(request.getUtteranceId(), EVENT_DROPPED);
+        }
+    }
+
+    private synchronized void stop(Client client) {
+        if (queue.cancel(client)) {
+            halt();
+            start(queue.next(SystemClock.uptimeMillis()));
+        }
+        reportDropped();
+    }
+
+    private synchronized boolean isSpeaking(Client client) {
+        SpeechQueue.Request current = queue.getCurrent();
+        return current != null && current.owner == client;
+    }
+
+    private synchronized void close(Client client) {
+        stop(client);
+        clients.remove(client.id);
+    }
+
+    private synchronized boolean isReady() {
+        return isReady;
+    }
+
+    private synchronized boolean isDone() {
+        return isReady || isFailed;
+    }
+
+    // ==================== Client ====================
+
+    /**
+     * A screen's handle on the shared engine
+     */
+    public class Client {
+        private final int id;
+        private final float rate;
+        private final float pitch;
+        private UtteranceListener utteranceListener;
+        private ReadyListener readyListener;
+        private boolean isClosed = false;
+
+        private Client(int id, float rate, float pitch) {
+            this.id = id;
+            this.rate = rate;
+            this.pitch = pitch;
+        }
+
+        public void setUtteranceListener(UtteranceListener listener) {
+            this.utteranceListener = listener;
+        }
+
+        /**
+         * Set the ready callback; called right away (posted) if the engine is already up
+         */
+        public void setReadyListener(ReadyListener listener) {
+            this.readyListener = listener;
+            if (isDone()) {
+                notifyReady();
+            }
+        }
+
+        /**
+         * Speak text
+         *
+         * @param priority One of the SpeechQueue priorities
+         * @param utteranceId Id passed back to the utterance listener
+         */
+        public void speak(String text, int priority, String utteranceId) {
+            if (isClosed || text == null) return;
+            SpeechService.this.speak(this, text, priority, utteranceId);
+        }
+
+        /**
+         * Start decoding the cached clip of a phrase that is about to be spoken
+         */
+        public void preload(String text) {
+            speechCache.preload(text, rate, pitch);
+        }
+
+        /**
+         * Stop this client's speech and drop its waiting requests (speech of
+         * other screens is left alone). Call it when the scene changes.
+         */
+        public void stop() {
+            SpeechService.this.stop(this);
+        }
+
+        public boolean isSpeaking() {
+            return SpeechService.this.isSpeaking(this);
+        }
+
+        public boolean isReady() {
+            return SpeechService.this.isReady();
+        }
+
+        /**
+         * Stop and detach; the engine itself stays warm for the next screen
+         */
+        public void close() {
+            if (isClosed) return;
+            isClosed = true;
+            utteranceListener = null;
+            readyListener = null;
+            SpeechService.this.close(this);
+        }
+
+        private void notifyReady() {
+            mainHandler.post(() -> {
+                ReadyListener listener = readyListener;
+                if (listener != null && !isClosed) {
+                    readyListener = null;
+                    listener.onSpeechReady(SpeechService.this.isReady());
+                }
+            });
+        }
+
+        private void post(String utteranceId, int event) {
+            mainHandler.post(() -> deliver(utteranceId, event));
+        }
+
+        private void deliver(String utteranceId, int event) {
+            UtteranceListener listener = utteranceListener;
+            if (listener == null || isClosed) return;
+
+            if (event == EVENT_START) {
+                listener.onStart(utteranceId);
+            } else if (event == EVENT_DONE) {
+                listener.onDone(utteranceId);
+            } else if (event == EVENT_ERROR) {
+                listener.onError(utteranceId);
+            } else {
+                listener.onDropped(utteranceId);
+            }
+        }
+    }
+}
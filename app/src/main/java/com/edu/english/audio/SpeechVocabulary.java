@@ -0,0 +1,123 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+
+import com.edu.english.AnimalArViewerActivity;
+import com.edu.english.alphabet_adventure.data.GameData;
+import com.edu.english.alphabet_adventure.models.WordItem;
+import com.edu.english.alphabet_adventure.services.TTSService;
+import com.edu.english.alphabet_pop_lab.GameAudioManager;
+import com.edu.english.alphabet_pop_lab.LetterWords;
+import com.edu.english.coloralchemy.ColorMixer;
+import com.edu.english.coloralchemy.SoundManager;
+import com.edu.english.data.AnimalArRepository;
+import com.edu.english.model.AnimalArItem;
+import com.edu.english.numbers.data.NumberSceneDataProvider;
+import com.edu.english.numbers.utils.NumberTTSManager;
+import com.edu.english.shapes.ShapeTTSManager;
+import com.edu.english.shapes.data.ShapeDataProvider;
+import com.edu.english.shapes.models.Shape;
+import com.edu.english.shapes.models.ShapeObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every word and sentence the lessons know they will speak, with the rate and
+ * pitch of the speaker that says it. Used to pre-render the SpeechCache.
+ */
+public class SpeechVocabulary {
+
+    private SpeechVocabulary() {
+    }
+
+    /**
+     * Collect all known phrases, most frequently heard first
+     */
+    public static List<SpeechCache.Phrase> getAllPhrases(Context context) {
+        List<SpeechCache.Phrase> phrases = new ArrayList<>();
+        addAlphabetAdventure(phrases, context);
+        addAlphabetPopLab(phrases, LetterWords.getInstance(context));
+        addNumbers(phrases);
+        addShapes(phrases);
+        addColorAlchemy(phrases);
+        addAnimals(phrases);
+        return phrases;
+    }
+
+    private static void addAlphabetAdventure(List<SpeechCache.Phrase> phrases, Context context) {
+        float rate = TTSService.SPEECH_RATE;
+        float pitch = TTSService.SPEECH_PITCH;
+
+        for (WordItem item : GameData.getWords(context)) {
+            phrases.add(new SpeechCache.Phrase(item.getWord(), rate, pitch));
+            phrases.add(new SpeechCache.Phrase(TTSService.getRevealText(item.getWord()), rate, pitch));
+        }
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            phrases.add(new SpeechCache.Phrase(String.valueOf(letter), rate, pitch));
+            phrases.add(new SpeechCache.Phrase(String.valueOf(Character.toLowerCase(letter)), rate, pitch));
+        }
+        phrases.add(new SpeechCache.Phrase(TTSService.TRY_AGAIN_PHRASE, rate, pitch));
+        phrases.add(new SpeechCache.Phrase(TTSService.WIN_PHRASE, rate, pitch));
+    }
+
+    private static void addAlphabetPopLab(List<SpeechCache.Phrase> phrases, LetterWords letterWords) {
+        float rate = GameAudioManager.SPEECH_RATE;
+        float pitch = GameAudioManager.SPEECH_PITCH;
+
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            phrases.add(new SpeechCache.Phrase(String.valueOf(letter), rate, pitch));
+            phrases.add(new SpeechCache.Phrase(GameAudioManager.getPhoneticSound(letter), rate, pitch));
+
+            String[] words = letterWords.getWords(letter);
+            if (words == null) continue;
+            for (String word : words) {
+                phrases.add(new SpeechCache.Phrase(word, rate, pitch));
+                phrases.add(new SpeechCache.Phrase(GameAudioManager.getLetterAndWordText(letter, word), rate, pitch));
+            }
+        }
+    }
+
+    private static void addNumbers(List<SpeechCache.Phrase> phrases) {
+        for (int number = 1; number <= 10; number++) {
+            phrases.add(new SpeechCache.Phrase(NumberSceneDataProvider.getNumberWord(number),
+                    NumberTTSManager.SPEECH_RATE, NumberTTSManager.SPEECH_PITCH));
+        }
+    }
+
+    private static void addShapes(List<SpeechCache.Phrase> phrases) {
+        float rate = ShapeTTSManager.SPEECH_RATE;
+        float pitch = ShapeTTSManager.SPEECH_PITCH;
+
+        for (Shape shape : ShapeDataProvider.getInstance().getAllShapes()) {
+            String name = shape.getName();
+            phrases.add(new SpeechCache.Phrase(ShapeTTSManager.getShapeNameText(name), rate, pitch));
+            phrases.add(new SpeechCache.Phrase(ShapeTTSManager.getIntroductionText(name), rate, pitch));
+            phrases.add(new SpeechCache.Phrase(ShapeTTSManager.getTracingInstructionText(name), rate, pitch));
+
+            for (ShapeObject object : shape.getObjects()) {
+                String word = object.getName();
+                phrases.add(new SpeechCache.Phrase(word, rate, pitch));
+                phrases.add(new SpeechCache.Phrase(ShapeTTSManager.getVocabularyItemText(word, name), rate, pitch));
+            }
+        }
+        for (String phrase : ShapeTTSManager.ENCOURAGEMENT_PHRASES) {
+            phrases.add(new SpeechCache.Phrase(phrase, rate, pitch));
+        }
+        phrases.add(new SpeechCache.Phrase(ShapeTTSManager.TRACING_COMPLETE_PHRASE, rate, pitch));
+        phrases.add(new SpeechCache.Phrase(ShapeTTSManager.HELLO_PHRASE, rate, pitch));
+    }
+
+    private static void addColorAlchemy(List<SpeechCache.Phrase> phrases) {
+        for (String phrase : ColorMixer.getSpokenPhrases()) {
+            phrases.add(new SpeechCache.Phrase(phrase, SoundManager.SPEECH_RATE, SoundManager.SPEECH_PITCH));
+        }
+    }
+
+    private static void addAnimals(List<SpeechCache.Phrase> phrases) {
+        for (AnimalArItem animal : AnimalArRepository.getInstance().getAllAnimals()) {
+            phrases.add(new SpeechCache.Phrase(animal.getNameEn(),
+                    AnimalArViewerActivity.SPEECH_RATE, AnimalArViewerActivity.SPEECH_PITCH));
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package com.edu.english.audio;
+
+import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioTrack;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Gapless music and voice player
+ * Mixes into an AudioTrack on its own worker thread, so starting a track never
+ * blocks the UI thread. Files are opened and decoded on a separate loader thread,
+ * so the mixer keeps feeding the playing track (and its crossfade) meanwhile.
+ * Short files are kept decoded (PcmCache) and loop sample-accurately; until their
+ * clip is ready, and for long files, they stream (PcmStream) from a decode thread
+ * that keeps ahead of the mixer and pre-rolls each loop. A new track can crossfade
+ * over the old one.
+ * Get the shared players from AudioEngine.
+ */
+public class StreamPlayer {
+    private static final String TAG = "StreamPlayer";
+
+    private static final int OUTPUT_RATE = 44100;
+    private static final int BLOCK_FRAMES = 1024;
+
+    // Commands
+    private static final int COMMAND_PLAY = 0;
+    private static final int COMMAND_STOP = 1;
+    private static final int COMMAND_START = 2;
+
+    /**
+     * Called on the main thread when a track that doesn't loop has played to the end
+     */
+    public interface OnCompletionListener {
+        /**
+         * @param failed True if the track couldn't be opened or decoded (nothing played)
+         */
+        void onCompletion(boolean failed);
+    }
+
+    private final Context context;
+    private final AudioEngine engine;
+    private final int category;
+    private final PcmCache cache;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Shared with the worker (guarded by lock)
+    private final Object lock = new Object();
+    private final List<Command> commands = new ArrayList<>();
+    private Thread worker;
+    private Handler loader;
+    private Handler decodeHandler;
+    private int generation = 0;
+    private boolean isPaused = false;
+    private volatile float volume = 1.0f;
+    private volatile boolean isPlaying = false;
+
+    // Worker thread only
+    private final List<Voice> voices = new ArrayList<>();
+    private final float[] mixBuffer = new float[BLOCK_FRAMES * 2];
+    private final short[] outputBuffer = new short[BLOCK_FRAMES * 2];
+    private AudioTrack track;
+
+    private static class Command {
+        final int type;
+        final String key;
+        final boolean loop;
+        final long fadeMs;
+        final OnCompletionListener listener;
+
+        // Set by post (play and stop); a loaded voice only starts if nothing came after it
+        int generation;
+
+        // COMMAND_START: the voice the loader prepared
+        Voice voice;
+
+        Command(int type, String key, boolean loop, long fadeMs, OnCompletionListener listener) {
+            this.type = type;
+            this.key = key;
+            this.loop = loop;
+            this.fadeMs = fadeMs;
+            this.listener = listener;
+        }
+    }
+
+    StreamPlayer(Context context, AudioEngine engine, int category, PcmCache cache) {
+        this.context = context.getApplicationContext();
+        this.engine = engine;
+        this.category = category;
+        this.cache = cache;
+    }
+
+    // ==================== Controls ====================
+
+    /**
+     * Play a res/raw track, crossfading from whatever is playing
+     *
+     * @param crossfadeMs 0 to cut over immediately
+     */
+    public void play(int resId, boolean loop, long crossfadeMs) {
+        post(new Command(COMMAND_PLAY, "res:" + resId, loop, crossfadeMs, null));
+    }
+
+    /**
+     * Play an asset track
+     *
+     * @param listener Called when a non-looping track ends (may be null)
+     */
+    public void playAsset(String assetPath, boolean loop, long crossfadeMs, OnCompletionListener listener) {
+        post(new Command(COMMAND_PLAY, "asset:" + assetPath, loop, crossfadeMs, listener));
+    }
+
+    /**
+     * Decode a short res/raw track ahead of time so it starts instantly
+     */
+    public void preload(int resId) {
+        getLoader().post(() -> cache.decode("res:" + resId));
+    }
+
+    public void preloadAsset(String assetPath) {
+        getLoader().post(() -> cache.decode("asset:" + assetPath));
+    }
+
+    /**
+     * Stop everything, fading out over fadeMs
+     */
+    public void stop(long fadeMs) {
+        post(new Command(COMMAND_STOP, null, false, fadeMs, null));
+    }
+
+    public void pause() {
+        synchronized (lock) {
+            isPaused = true;
+        }
+    }
+
+    public void resume() {
+        synchronized (lock) {
+            isPaused = false;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Player volume (scaled by the engine's category volume)
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0f, Math.min(1f, volume));
+    }
+
+    public boolean isPlaying() {
+        return isPlaying;
+    }
+
+    private void post(Command command) {
+        synchronized (lock) {
+            if (command.type != COMMAND_START) {
+                command.generation = ++generation;
+            }
+            commands.add(command);
+            if (worker == null) {
+                worker = new Thread(this::run, TAG);
+                worker.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private synchronized Handler getLoader() {
+        if (loader == null) {
+            HandlerThread thread = new HandlerThread(TAG + "Loader");
+            thread.start();
+            loader = new Handler(thread.getLooper());
+        }
+        return loader;
+    }
+
+    private synchronized Handler getDecodeHandler() {
+        if (decodeHandler == null) {
+            // Falling behind is an audible dropout, so run at audio priority
+            HandlerThread thread = new HandlerThread(TAG + "Decoder", Process.THREAD_PRIORITY_AUDIO);
+            thread.start();
+            decodeHandler = new Handler(thread.getLooper());
+        }
+        return decodeHandler;
+    }
+
+    private boolean isCurrent(Command command) {
+        synchronized (lock) {
+            return command.generation == generation;
+        }
+    }
+
+    // ==================== Worker ====================
+
+    private void run() {
+        List<Command> pending = new ArrayList<>();
+        while (true) {
+            synchronized (lock) {
+                while (commands.isEmpty() && (voices.isEmpty() || isPaused)) {
+                    isPlaying = false;
+                    pauseTrack();
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                pending.addAll(commands);
+                commands.clear();
+            }
+
+            for (Command command : pending) {
+                execute(command);
+            }
+            pending.clear();
+
+            if (!voices.isEmpty() && !isPausedNow()) {
+                isPlaying = true;
+                renderBlock();
+            }
+        }
+    }
+
+    private boolean isPausedNow() {
+        synchronized (lock) {
+            return isPaused;
+        }
+    }
+
+    private void execute(Command command) {
+        switch (command.type) {
+            case COMMAND_PLAY:
+                PcmCache.Clip clip = cache.get(command.key);
+                if (clip != null) {
+                    start(command, new Voice(clip, null, clip.sampleRate, command, cache));
+                } else {
+                    // Opening a codec takes a while; the current track keeps playing meanwhile
+                    getLoader().post(() -> load(command));
+                }
+                break;
+            case COMMAND_START:
+                if (isCurrent(command)) {
+                    start(command, command.voice);
+                } else {
+                    // Stopped or replaced while it was loading
+                    command.voice.release();
+                }
+                break;
+            case COMMAND_STOP:
+                for (Voice playing : voices) {
+                    playing.fadeOut(toFrames(command.fadeMs));
+                }
+                break;
+        }
+    }
+
+    private void start(Command command, Voice voice) {
+        int fadeFrames = toFrames(command.fadeMs);
+        for (Voice playing : voices) {
+            playing.fadeOut(fadeFrames);
+        }
+        voice.fadeIn(fadeFrames);
+        voices.add(voice);
+    }
+
+    /**
+     * Loader thread: open a stream, pre-roll it and hand the voice to the mixer,
+     * then decode a short file into the cache for sample-accurate loops and restarts
+     */
+    private void load(Command command) {
+        if (!isCurrent(command)) return;
+
+        PcmDecoder decoder;
+        try {
+            decoder = PcmDecoder.open(context, command.key);
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "Can't play " + command.key, e);
+            if (command.listener != null) {
+                mainHandler.post(() -> command.listener.onCompletion(true));
+            }
+            return;
+        }
+
+        PcmStream stream = new PcmStream(command.key, decoder, command.loop, getDecodeHandler());
+        Voice voice;
+        try {
+            stream.fill();
+            voice = new Voice(null, stream, decoder.getSampleRate(), command, cache);
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Can't decode " + command.key, e);
+            stream.release();
+            if (command.listener != null) {
+                mainHandler.post(() -> command.listener.onCompletion(true));
+            }
+            return;
+        }
+        stream.start();
+
+        Command start = new Command(COMMAND_START, command.key, command.loop, command.fadeMs, command.listener);
+        start.generation = command.generation;
+        start.voice = voice;
+        post(start);
+
+        if (PcmCache.isResidentDuration(decoder.getDurationUs())) {
+            cache.decode(command.key);
+        }
+    }
+
+    private void renderBlock() {
+        Arrays.fill(mixBuffer, 0f);
+
+        Iterator<Voice> it = voices.iterator();
+        while (it.hasNext()) {
+            Voice voice = it.next();
+            if (!voice.mix(mixBuffer, BLOCK_FRAMES)) {
+                it.remove();
+                voice.release();
+                if (voice.isEnded && voice.listener != null) {
+                    OnCompletionListener listener = voice.listener;
+                    mainHandler.post(() -> listener.onCompletion(false));
+                }
+            }
+        }
+
+        float gain = engine.isMuted() ? 0f : volume * engine.getCategoryVolume(category);
+        for (int i = 0; i < outputBuffer.length; i++) {
+            float sample = mixBuffer[i] * gain;
+            outputBuffer[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+        }
+
+        AudioTrack output = getTrack();
+        if (output == null) return;
+        if (output.getPlayState() != AudioTrack.PLAYSTATE_PLAYING) {
+            output.play();
+        }
+        // Blocks until the track has room, which paces the loop
+        output.write(outputBuffer, 0, outputBuffer.length, AudioTrack.WRITE_BLOCKING);
+    }
+
+    private AudioTrack getTrack() {
+        if (track != null) return track;
+
+        int minBuffer = AudioTrack.getMinBufferSize(OUTPUT_RATE,
+                AudioFormat.CHANNEL_OUT_STEREO, AudioFormat.ENCODING_PCM_16BIT);
+        try {
+            track = new AudioTrack.Builder()
+                    .setAudioAttributes(new AudioAttributes.Builder()
+                            .setUsage(AudioAttributes.USAGE_GAME)
+                            .setContentType(category == AudioEngine.CATEGORY_MUSIC
+                                    ? AudioAttributes.CONTENT_TYPE_MUSIC
+                                    : AudioAttributes.CONTENT_TYPE_SPEECH)
+                            .build())
+                    .setAudioFormat(new AudioFormat.Builder()
+                            .setSampleRate(OUTPUT_RATE)
+                            .setChannelMask(AudioFormat.CHANNEL_OUT_STEREO)
+                            .setEncoding(AudioFormat.ENCODING_PCM_16BIT)
+                            .build())
+                    .setBufferSizeInBytes(Math.max(minBuffer, BLOCK_FRAMES * 4 * 2))
+                    .setTransferMode(AudioTrack.MODE_STREAM)
+                    .build();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            Log.e(TAG, "Can't create audio track", e);
+            voices.clear();
+        }
+        return track;
+    }
+
+    private void pauseTrack() {
+        if (track != null && track.getPlayState() == AudioTrack.PLAYSTATE_PLAYING) {
+            track.pause();
+        }
+    }
+
+    private static int toFrames(long ms) {
+        return (int) (ms * OUTPUT_RATE / 1000);
+    }
+
+    // ==================== Voice ====================
+
+    /**
+     * One playing track: a resident clip or a stream, resampled to
+     * the output rate with its own fade envelope. A looping stream switches to
+     * the resident clip at a loop point once the cache has it.
+     */
+    private static class Voice {
+        PcmCache.Clip clip;
+        PcmStream stream;
+        final String key;
+        final boolean loop;
+        final OnCompletionListener listener;
+        final PcmCache cache;
+
+        // Source frames per output frame
+        final float step;
+        float position = 0f;
+        int clipFrame = 0;
+        final short[] frame = new short[2];
+        float previousLeft, previousRight, nextLeft, nextRight;
+        boolean isEnded = false;
+
+        float gain = 1f;
+        float gainStep = 0f;
+        boolean isFadingOut = false;
+
+        Voice(PcmCache.Clip clip, PcmStream stream, int sampleRate, Command command, PcmCache cache) {
+            this.clip = clip;
+            this.stream = stream;
+            this.key = command.key;
+            this.loop = command.loop;
+            this.listener = command.listener;
+            this.cache = cache;
+            this.step = sampleRate / (float) OUTPUT_RATE;
+
+            // Prime the interpolation pair
+            if (pull()) {
+                previousLeft = frame[0];
+                previousRight = frame[1];
+            }
+            if (pull()) {
+                nextLeft = frame[0];
+                nextRight = frame[1];
+            }
+        }
+
+        void fadeIn(int frames) {
+            if (frames <= 0) return;
+            gain = 0f;
+            gainStep = 1f / frames;
+        }
+
+        void fadeOut(int frames) {
+            isFadingOut = true;
+            gainStep = frames > 0 ? -gain / frames : -1f;
+        }
+
+        /**
+         * Add this voice into the mix
+         *
+         * @return false once it has finished (ended or faded out)
+         */
+        boolean mix(float[] out, int frames) {
+            for (int i = 0; i < frames; i++) {
+                if (isEnded) return false;
+
+                gain += gainStep;
+                if (gain >= 1f) {
+                    gain = 1f;
+                    gainStep = 0f;
+                } else if (gain <= 0f && isFadingOut) {
+                    return false;
+                }
+
+                out[i * 2] += (previousLeft + (nextLeft - previousLeft) * position) * gain;
+                out[i * 2 + 1] += (previousRight + (nextRight - previousRight) * position) * gain;
+
+                position += step;
+                while (position >= 1f) {
+                    position -= 1f;
+                    previousLeft = nextLeft;
+                    previousRight = nextRight;
+                    if (!pull()) {
+                        isEnded = true;
+                        break;
+                    }
+                    nextLeft = frame[0];
+                    nextRight = frame[1];
+                }
+            }
+            return !isEnded;
+        }
+
+        /**
+         * Next source frame into frame[]; wraps around when looping
+         */
+        private boolean pull() {
+            if (clip != null) {
+                if (clipFrame >= clip.frames) {
+                    if (!loop) return false;
+                    clipFrame = 0;
+                }
+                frame[0] = clip.samples[clipFrame * 2];
+                frame[1] = clip.samples[clipFrame * 2 + 1];
+                clipFrame++;
+                return true;
+            }
+
+            if (loop && stream.isAtLoopStart()) {
+                PcmCache.Clip resident = cache.get(key);
+                if (resident != null) {
+                    stream.release();
+                    stream = null;
+                    clip = resident;
+                    clipFrame = 0;
+                    return pull();
+                }
+            }
+
+            switch (stream.readFrame(frame)) {
+                case PcmStream.FRAME:
+                    return true;
+                case PcmStream.UNDERRUN:
+                    // The decoder fell behind: a moment of silence rather than a stall
+                    frame[0] = 0;
+                    frame[1] = 0;
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        void release() {
+            if (stream != null) {
+                stream.release();
+            }
+        }
+    }
+}
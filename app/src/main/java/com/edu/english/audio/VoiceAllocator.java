@@ -0,0 +1,155 @@
+package com.edu.english.audio;
+
+/**
+ * Bookkeeping of the SoundPool's streams
+ * Decides whether a play gets a stream before SoundPool is asked, so the pool
+ * never has to steal on its own. Each sound is held to its VoicePolicy: plays
+ * that retrigger too quickly are dropped, a sound at its voice cap replaces its
+ * own oldest copy, and when every stream is busy the lowest priority, oldest
+ * voice is stolen (or the new play dropped if everything playing outranks it).
+ * Plain Java - the AudioEngine calls it under its lock and supplies the clock.
+ */
+class VoiceAllocator {
+
+    // reserve() results besides a stream id to stop
+    static final int RESULT_FREE = 0;
+    static final int RESULT_DROP = -1;
+
+    private final int capacity;
+
+    // Active voices (parallel arrays, first count entries used)
+    private final Object[] sounds;
+    private final int[] streamIds;
+    private final int[] priorities;
+    private final long[] startTimes;
+    private final long[] endTimes;
+    private int count = 0;
+
+    private int droppedCount = 0;
+    private int stolenCount = 0;
+
+    VoiceAllocator(int capacity) {
+        this.capacity = capacity;
+        this.sounds = new Object[capacity];
+        this.streamIds = new int[capacity];
+        this.priorities = new int[capacity];
+        this.startTimes = new long[capacity];
+        this.endTimes = new long[capacity];
+    }
+
+    /**
+     * Make room for a play
+     *
+     * @param sound Identity of the sound (the sample)
+     * @return RESULT_FREE, RESULT_DROP, or the stream id to stop before playing
+     */
+    int reserve(Object sound, VoicePolicy policy, long now) {
+        expire(now);
+
+        int sameCount = 0;
+        int oldestSame = -1;
+        long newestSameStart = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            if (sounds[i] != sound) continue;
+            sameCount++;
+            if (oldestSame < 0 || startTimes[i] < startTimes[oldestSame]) {
+                oldestSame = i;
+            }
+            newestSameStart = Math.max(newestSameStart, startTimes[i]);
+        }
+
+        // Retriggered too soon - the copy just started covers it
+        if (sameCount > 0 && now - newestSameStart < policy.minIntervalMs) {
+            droppedCount++;
+            return RESULT_DROP;
+        }
+
+        if (sameCount >= policy.maxVoices) {
+            return steal(oldestSame);
+        }
+
+        if (count < capacity) {
+            return RESULT_FREE;
+        }
+
+        // Every stream busy: take the least important, oldest voice
+        int victim = 0;
+        for (int i = 1; i < count; i++) {
+            if (priorities[i] < priorities[victim]
+                    || (priorities[i] == priorities[victim] && startTimes[i] < startTimes[victim])) {
+                victim = i;
+            }
+        }
+        if (priorities[victim] > policy.priority) {
+            droppedCount++;
+            return RESULT_DROP;
+        }
+        return steal(victim);
+    }
+
+    /**
+     * Record a stream that started after reserve()
+     *
+     * @param lengthMs How long it plays, or -1 if it loops until stopped
+     */
+    void add(Object sound, int streamId, int priority, long lengthMs, long now) {
+        if (streamId == 0 || count >= capacity) return;
+        sounds[count] = sound;
+        streamIds[count] = streamId;
+        priorities[count] = priority;
+        startTimes[count] = now;
+        endTimes[count] = lengthMs < 0 ? Long.MAX_VALUE : now + lengthMs;
+        count++;
+    }
+
+    /**
+     * A stream was stopped by its owner
+     */
+    void remove(int streamId) {
+        for (int i = 0; i < count; i++) {
+            if (streamIds[i] == streamId) {
+                removeAt(i);
+                return;
+            }
+        }
+    }
+
+    int getActiveCount(long now) {
+        expire(now);
+        return count;
+    }
+
+    int getDroppedCount() {
+        return droppedCount;
+    }
+
+    int getStolenCount() {
+        return stolenCount;
+    }
+
+    private int steal(int index) {
+        int streamId = streamIds[index];
+        removeAt(index);
+        stolenCount++;
+        return streamId;
+    }
+
+    private void expire(long now) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (endTimes[i] <= now) {
+                removeAt(i);
+            }
+        }
+    }
+
+    private void removeAt(int index) {
+        int last = count - 1;
+        sounds[index] = sounds[last];
+        streamIds[index] = streamIds[last];
+        priorities[index] = priorities[last];
+        startTimes[index] = startTimes[last];
+        endTimes[index] = endTimes[last];
+        sounds[last] = null;
+        count--;
+    }
+}
@@ -0,0 +1,28 @@
+package com.edu.english.audio;
+
+/**
+ * How many copies of a sound may play at once and how it competes for streams
+ */
+public class VoicePolicy {
+
+    // No cap, no rate limit - what a sound gets unless its bank says otherwise
+    public static final VoicePolicy DEFAULT = new VoicePolicy(Integer.MAX_VALUE, 0, 1, 1000);
+
+    public final int maxVoices;
+    public final long minIntervalMs;
+    public final int priority;
+    public final long lengthMs;
+
+    /**
+     * @param maxVoices Copies of this sound playing at once; a new play replaces the oldest
+     * @param minIntervalMs Plays closer together than this are dropped
+     * @param priority Higher priority plays may steal streams from lower ones
+     * @param lengthMs About how long the sound lasts (SoundPool doesn't report when a stream ends)
+     */
+    public VoicePolicy(int maxVoices, long minIntervalMs, int priority, long lengthMs) {
+        this.maxVoices = Math.max(1, maxVoices);
+        this.minIntervalMs = minIntervalMs;
+        this.priority = priority;
+        this.lengthMs = lengthMs;
+    }
+}
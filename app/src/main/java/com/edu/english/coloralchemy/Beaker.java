@@ -10,8 +10,10 @@ import android.graphics.RectF;
 import android.graphics.Shader;
 import android.graphics.Typeface;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
+
 import java.util.Random;
 
 /**
@@ -60,8 +62,7 @@ public class Beaker {
     private float shakeHintBounce;
     
     // Particle effects
-    private List<Particle> particles;
-    private List<Sparkle> sparkles;
+    private ParticleEngine effects;
     private Random random;
     
     // Rendering
@@ -72,91 +73,29 @@ public class Beaker {
     private Paint glowPaint;
     private Paint textPaint;
     private Paint hintPaint;
+    private Paint hintBgPaint;
+    private Paint handlePaint;
+    private Paint markPaint;
+    private Paint spritePaint;
     private Path beakerPath;
+    private SpriteBatch effectBatch;
+    private RectF tempRect;
+    private GlassSpriteCache.GlassSprite glassSprite;
+    private int glowShaderColor;
     
     // Constants
     private static final float BEAKER_CORNER_RADIUS = 25f;
     private static final float HANDLE_WIDTH = 30f;
+    private static final float SPRITE_MARGIN = HANDLE_WIDTH + 10f; // Room for handle, rim and shadow
+    private static final int EFFECT_CAPACITY = 96; // Splash drops and sparkles alive at once
     
-    /**
-     * Particle for bubble/splash effects
-     */
-    private static class Particle {
-        float x, y;
-        float vx, vy;
-        float size;
-        float life;
-        float maxLife;
-        int color;
-        
-        Particle(float x, float y, float vx, float vy, float size, float life, int color) {
-            this.x = x;
-            this.y = y;
-            this.vx = vx;
-            this.vy = vy;
-            this.size = size;
-            this.life = life;
-            this.maxLife = life;
-            this.color = color;
-        }
-        
-        void update(float deltaTime) {
-            x += vx * deltaTime;
-            y += vy * deltaTime;
-            vy += 200 * deltaTime; // Gravity
-            life -= deltaTime;
-        }
-        
-        boolean isDead() {
-            return life <= 0;
-        }
-        
-        float getAlpha() {
-            return Math.max(0, life / maxLife);
-        }
-    }
-    
-    /**
-     * Sparkle effect for success
-     */
-    private static class Sparkle {
-        float x, y;
-        float size;
-        float rotation;
-        float rotationSpeed;
-        float life;
-        float maxLife;
-        int color;
-        
-        Sparkle(float x, float y, float size, int color) {
-            this.x = x;
-            this.y = y;
-            this.size = size;
-            this.rotation = (float) (Math.random() * 360);
-            this.rotationSpeed = 100 + (float) Math.random() * 200;
-            this.life = 1.5f;
-            this.maxLife = 1.5f;
-            this.color = color;
-        }
-        
-        void update(float deltaTime) {
-            rotation += rotationSpeed * deltaTime;
-            life -= deltaTime;
-        }
-        
-        boolean isDead() {
-            return life <= 0;
-        }
-        
-        float getAlpha() {
-            return Math.max(0, life / maxLife);
-        }
-        
-        float getScale() {
-            float t = 1 - (life / maxLife);
-            return EasingFunctions.easeOutBack(Math.min(1, t * 2));
-        }
-    }
+    // Splash drops fall and shrink away; success sparkles pop in and spin
+    private static final ParticleEmitter SPLASH = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+            .setGravity(200)
+            .setSize(ParticleEmitter.SIZE_FADE);
+    private static final ParticleEmitter SPARKLE = new ParticleEmitter(SpriteBatch.SHAPE_STAR)
+            .setSize(ParticleEmitter.SIZE_POP_IN);
+    private static final float SPARKLE_LIFE = 1.5f;
     
     public Beaker(float x, float y, float width, float height) {
         this.x = x;
@@ -181,8 +120,7 @@ public class Beaker {
         this.shakeHintAlpha = 0;
         this.shakeHintBounce = 0;
         
-        this.particles = new ArrayList<>();
-        this.sparkles = new ArrayList<>();
+        this.effects = new ParticleEngine(EFFECT_CAPACITY);
         this.random = new Random();
         
         // Initialize liquid
@@ -194,6 +132,8 @@ public class Beaker {
         initPaints();
         
         beakerPath = new Path();
+        effectBatch = new SpriteBatch(EFFECT_CAPACITY);
+        tempRect = new RectF();
     }
     
     private void initPaints() {
@@ -231,6 +171,25 @@ public class Beaker {
         hintPaint.setTextAlign(Paint.Align.CENTER);
         hintPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
         hintPaint.setColor(Color.parseColor("#2C3E50"));
+        
+        // Hint background pill
+        hintBgPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        hintBgPaint.setColor(Color.WHITE);
+        
+        // Handle
+        handlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        handlePaint.setStyle(Paint.Style.STROKE);
+        handlePaint.setStrokeWidth(8f);
+        handlePaint.setColor(Color.argb(100, 200, 200, 200));
+        handlePaint.setStrokeCap(Paint.Cap.ROUND);
+        
+        // Measurement marks
+        markPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        markPaint.setColor(Color.argb(60, 100, 100, 100));
+        markPaint.setStrokeWidth(2f);
+        
+        // Cached glass sprites
+        spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
     }
     
     private void updateLiquidContainer() {
@@ -314,31 +273,8 @@ public class Beaker {
         updateLiquidContainer();
         liquid.update(deltaTime);
         
-        // Update particles
-        updateParticles(deltaTime);
-        
-        // Update sparkles
-        updateSparkles(deltaTime);
-    }
-    
-    private void updateParticles(float deltaTime) {
-        for (int i = particles.size() - 1; i >= 0; i--) {
-            Particle p = particles.get(i);
-            p.update(deltaTime);
-            if (p.isDead()) {
-                particles.remove(i);
-            }
-        }
-    }
-    
-    private void updateSparkles(float deltaTime) {
-        for (int i = sparkles.size() - 1; i >= 0; i--) {
-            Sparkle s = sparkles.get(i);
-            s.update(deltaTime);
-            if (s.isDead()) {
-                sparkles.remove(i);
-            }
-        }
+        // Update particles and sparkles
+        effects.update(deltaTime);
     }
     
     /**
@@ -361,14 +297,9 @@ public class Beaker {
             drawGlow(canvas);
         }
         
-        // Draw shadow
-        canvas.save();
-        canvas.translate(6, 10);
-        drawBeakerShape(canvas, shadowPaint, null);
-        canvas.restore();
-        
-        // Draw glass beaker
-        drawBeakerShape(canvas, beakerPaint, beakerStrokePaint);
+        // Draw cached shadow and glass beaker
+        GlassSpriteCache.GlassSprite sprite = getGlassSprite();
+        sprite.drawBack(canvas, spritePaint);
         
         // Draw liquid (in local space)
         canvas.save();
@@ -386,22 +317,15 @@ public class Beaker {
         liquid.draw(canvas);
         canvas.restore();
         
-        // Draw glass shine
-        drawGlassShine(canvas);
-        
-        // Draw handle
-        drawHandle(canvas);
-        
-        // Draw measurement marks
-        drawMeasurementMarks(canvas);
+        // Draw cached glass shine, handle and measurement marks
+        sprite.drawFront(canvas, spritePaint);
         
         canvas.restore();
         
-        // Draw particles (in world space)
-        drawParticles(canvas);
-        
-        // Draw sparkles
-        drawSparkles(canvas);
+        // Draw particles and sparkles (in world space, one batched draw)
+        effectBatch.begin(canvas);
+        effects.draw(effectBatch);
+        effectBatch.end();
         
         // Draw shake hint
         if (shakeHintAlpha > 0 && showShakeHint) {
@@ -409,6 +333,36 @@ public class Beaker {
         }
     }
     
+    /**
+     * Get the pre-rendered glass art for this beaker size
+     */
+    private GlassSpriteCache.GlassSprite getGlassSprite() {
+        if (glassSprite == null) {
+            glassSprite = GlassSpriteCache.get("beaker", width, height, SPRITE_MARGIN,
+                new GlassSpriteCache.LayerPainter() {
+                    @Override
+                    public void paintBack(Canvas canvas) {
+                        // Shadow
+                        canvas.save();
+                        canvas.translate(6, 10);
+                        drawBeakerShape(canvas, shadowPaint, null);
+                        canvas.restore();
+                        
+                        // Glass beaker
+                        drawBeakerShape(canvas, beakerPaint, beakerStrokePaint);
+                    }
+                    
+                    @Override
+                    public void paintFront(Canvas canvas) {
+                        drawGlassShine(canvas);
+                        drawHandle(canvas);
+                        drawMeasurementMarks(canvas);
+                    }
+                });
+        }
+        return glassSprite;
+    }
+    
     private void drawBeakerShape(Canvas canvas, Paint fillPaint, Paint strokePaint) {
         beakerPath.reset();
         
@@ -437,16 +391,16 @@ public class Beaker {
             canvas.drawPath(beakerPath, fillPaint);
             
             // Rim
-            RectF rimRect = new RectF(rimLeft - 5, top - 8, rimRight + 5, top + 8);
-            canvas.drawRoundRect(rimRect, 5f, 5f, fillPaint);
+            tempRect.set(rimLeft - 5, top - 8, rimRight + 5, top + 8);
+            canvas.drawRoundRect(tempRect, 5f, 5f, fillPaint);
         }
         
         if (strokePaint != null) {
             canvas.drawPath(beakerPath, strokePaint);
             
             // Rim stroke
-            RectF rimRect = new RectF(rimLeft - 5, top - 8, rimRight + 5, top + 8);
-            canvas.drawRoundRect(rimRect, 5f, 5f, strokePaint);
+            tempRect.set(rimLeft - 5, top - 8, rimRight + 5, top + 8);
+            canvas.drawRoundRect(tempRect, 5f, 5f, strokePaint);
         }
     }
     
@@ -469,17 +423,11 @@ public class Beaker {
         );
         beakerShinePaint.setShader(shineGradient);
         
-        RectF shineRect = new RectF(shineLeft, shineTop, shineLeft + shineWidth, shineBottom);
-        canvas.drawRoundRect(shineRect, shineWidth / 2, shineWidth / 2, beakerShinePaint);
+        tempRect.set(shineLeft, shineTop, shineLeft + shineWidth, shineBottom);
+        canvas.drawRoundRect(tempRect, shineWidth / 2, shineWidth / 2, beakerShinePaint);
     }
     
     private void drawHandle(Canvas canvas) {
-        Paint handlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        handlePaint.setStyle(Paint.Style.STROKE);
-        handlePaint.setStrokeWidth(8f);
-        handlePaint.setColor(Color.argb(100, 200, 200, 200));
-        handlePaint.setStrokeCap(Paint.Cap.ROUND);
-        
         Path handlePath = new Path();
         float handleX = width / 2 + 5;
         float handleTop = -height / 4;
@@ -492,10 +440,6 @@ public class Beaker {
     }
     
     private void drawMeasurementMarks(Canvas canvas) {
-        Paint markPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        markPaint.setColor(Color.argb(60, 100, 100, 100));
-        markPaint.setStrokeWidth(2f);
-        
         float left = -width / 2 + 15;
         float bottom = height / 2 - 30;
         float markHeight = height - 100;
@@ -509,64 +453,24 @@ public class Beaker {
     
     private void drawGlow(Canvas canvas) {
         int glowColor = (currentState == State.RESULT_READY) ? resultColor : liquid.getColor();
-        int alpha = (int) (glowIntensity * 100);
-        
-        RadialGradient glowGradient = new RadialGradient(
-            0, 0,
-            Math.max(width, height),
-            new int[]{
-                Color.argb(alpha, Color.red(glowColor), Color.green(glowColor), Color.blue(glowColor)),
-                Color.argb(0, Color.red(glowColor), Color.green(glowColor), Color.blue(glowColor))
-            },
-            new float[]{0f, 1f},
-            Shader.TileMode.CLAMP
-        );
-        glowPaint.setShader(glowGradient);
-        canvas.drawCircle(0, 0, Math.max(width, height), glowPaint);
-    }
-    
-    private void drawParticles(Canvas canvas) {
-        Paint particlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        
-        for (Particle p : particles) {
-            particlePaint.setColor(p.color);
-            particlePaint.setAlpha((int) (p.getAlpha() * 255));
-            canvas.drawCircle(p.x, p.y, p.size * p.getAlpha(), particlePaint);
-        }
-    }
-    
-    private void drawSparkles(Canvas canvas) {
-        Paint sparklePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         
-        for (Sparkle s : sparkles) {
-            canvas.save();
-            canvas.translate(s.x, s.y);
-            canvas.rotate(s.rotation);
-            canvas.scale(s.getScale(), s.getScale());
-            
-            sparklePaint.setColor(s.color);
-            sparklePaint.setAlpha((int) (s.getAlpha() * 255));
-            
-            // Draw star shape
-            Path starPath = new Path();
-            float outer = s.size;
-            float inner = s.size * 0.4f;
-            for (int i = 0; i < 8; i++) {
-                float angle = (float) (i * Math.PI / 4);
-                float radius = (i % 2 == 0) ? outer : inner;
-                float px = (float) Math.cos(angle) * radius;
-                float py = (float) Math.sin(angle) * radius;
-                if (i == 0) {
-                    starPath.moveTo(px, py);
-                } else {
-                    starPath.lineTo(px, py);
-                }
-            }
-            starPath.close();
-            canvas.drawPath(starPath, sparklePaint);
-            
-            canvas.restore();
+        // Rebuild the gradient only when the color changes; intensity is applied via paint alpha
+        if (glowPaint.getShader() == null || glowColor != glowShaderColor) {
+            RadialGradient glowGradient = new RadialGradient(
+                0, 0,
+                Math.max(width, height),
+                new int[]{
+                    Color.argb(255, Color.red(glowColor), Color.green(glowColor), Color.blue(glowColor)),
+                    Color.argb(0, Color.red(glowColor), Color.green(glowColor), Color.blue(glowColor))
+                },
+                new float[]{0f, 1f},
+                Shader.TileMode.CLAMP
+            );
+            glowPaint.setShader(glowGradient);
+            glowShaderColor = glowColor;
         }
+        glowPaint.setAlpha((int) (glowIntensity * 100));
+        canvas.drawCircle(0, 0, Math.max(width, height), glowPaint);
     }
     
     private void drawShakeHint(Canvas canvas) {
@@ -579,17 +483,15 @@ public class Beaker {
         String hintText = "🫨 Shake me!";
         float textWidth = hintPaint.measureText(hintText);
         
-        Paint bgPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        bgPaint.setColor(Color.WHITE);
-        bgPaint.setAlpha((int) (shakeHintAlpha * 230));
+        hintBgPaint.setAlpha((int) (shakeHintAlpha * 230));
         
-        RectF bgRect = new RectF(
+        tempRect.set(
             x - textWidth / 2 - 20,
             hintY - 30,
             x + textWidth / 2 + 20,
             hintY + 15
         );
-        canvas.drawRoundRect(bgRect, 25, 25, bgPaint);
+        canvas.drawRoundRect(tempRect, 25, 25, hintBgPaint);
         
         canvas.drawText(hintText, x, hintY, hintPaint);
     }
@@ -661,14 +563,14 @@ public class Beaker {
             float vx = (float) Math.cos(angle) * speed;
             float vy = (float) Math.sin(angle) * speed - 100;
             
-            particles.add(new Particle(
+            effects.emit(SPLASH,
                 x + (float) (Math.random() - 0.5) * 30,
                 splashY,
                 vx, vy,
                 4 + (float) Math.random() * 6,
                 0.8f + (float) Math.random() * 0.4f,
                 color
-            ));
+            );
         }
     }
     
@@ -752,7 +654,9 @@ public class Beaker {
             float size = 10 + (float) Math.random() * 15;
             int color = sparkleColors[random.nextInt(sparkleColors.length)];
             
-            sparkles.add(new Sparkle(sx, sy, size, color));
+            float rotation = (float) (Math.random() * 360);
+            float spin = 100 + (float) Math.random() * 200;
+            effects.emit(SPARKLE, sx, sy, 0, 0, size, SPARKLE_LIFE, color, rotation, spin);
         }
     }
     
@@ -766,8 +670,7 @@ public class Beaker {
         isMixing = false;
         showShakeHint = false;
         liquid.setLevel(0);
-        particles.clear();
-        sparkles.clear();
+        effects.clear();
         resultColor = Color.TRANSPARENT;
         resultColorName = null;
         resultSentence = null;
@@ -1,8 +1,10 @@
 package com.edu.english.coloralchemy;
 
 import android.graphics.Color;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -441,6 +443,22 @@ public class ColorMixer {
         return baseColorName;
     }
     
+    /**
+     * Get every phrase the lab can speak (color names, shades and mixing sentences)
+     */
+    public static List<String> getSpokenPhrases() {
+        List<String> phrases = new ArrayList<>();
+        for (String name : colorNames.values()) {
+            phrases.add(name);
+            phrases.add(name + " created!");
+            phrases.add(getShadeName(name, 1f));
+            phrases.add(getShadeName(name, -1f));
+        }
+        phrases.addAll(mixingSentences.values());
+        phrases.addAll(tripleMixingSentences.values());
+        return phrases;
+    }
+    
     /**
      * Check if color is a primary color
      */
@@ -6,7 +6,6 @@ import android.content.Intent;
 import android.graphics.Color;
 import android.graphics.drawable.GradientDrawable;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
@@ -22,16 +21,17 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 
 import com.edu.english.R;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 
 import java.util.List;
-import java.util.Locale;
 
 /**
  * Colors Activity
  * Main landing page for Colors section
  * Shows unlocked colors and provides access to the Color Lab
  */
-public class ColorsActivity extends AppCompatActivity implements TextToSpeech.OnInitListener {
+public class ColorsActivity extends AppCompatActivity {
 
     private GridLayout colorsGrid;
     private FrameLayout colorDetailOverlay;
@@ -43,8 +43,7 @@ public class ColorsActivity extends AppCompatActivity implements TextToSpeech.On
     private TextView tvProgress;
 
     private CollectionManager collectionManager;
-    private TextToSpeech textToSpeech;
-    private boolean ttsReady = false;
+    private SpeechService.Client speech;
 
     // All possible colors to display - synced with Color Lab
     // Primary colors are always unlocked (available as tubes)
@@ -112,8 +111,8 @@ public class ColorsActivity extends AppCompatActivity implements TextToSpeech.On
         // Initialize collection manager
         collectionManager = new CollectionManager(this);
 
-        // Initialize TTS
-        textToSpeech = new TextToSpeech(this, this);
+        // Initialize TTS (shared engine, already warm after the splash screen)
+        speech = SpeechService.getInstance(this).openClient(1.0f, 1.0f);
 
         // Setup UI
         setupBackButton();
@@ -133,20 +132,10 @@ public class ColorsActivity extends AppCompatActivity implements TextToSpeech.On
         updateProgress();
     }
 
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            int result = textToSpeech.setLanguage(Locale.US);
-            ttsReady = result != TextToSpeech.LANG_MISSING_DATA &&
-                    result != TextToSpeech.LANG_NOT_SUPPORTED;
-        }
-    }
-
     @Override
     protected void onDestroy() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
+        if (speech != null) {
+            speech.close();
         }
         super.onDestroy();
     }
@@ -357,8 +346,8 @@ public class ColorsActivity extends AppCompatActivity implements TextToSpeech.On
     }
 
     private void speakColor(String colorName) {
-        if (ttsReady && textToSpeech != null) {
-            textToSpeech.speak(colorName, TextToSpeech.QUEUE_FLUSH, null, "color_speak");
+        if (speech != null) {
+            speech.speak(colorName, SpeechQueue.PRIORITY_FEEDBACK, "color_speak");
 
             // Pulse animation on speak
             ObjectAnimator scaleX = ObjectAnimator.ofFloat(colorCircle, "scaleX", 1f, 1.1f, 1f);
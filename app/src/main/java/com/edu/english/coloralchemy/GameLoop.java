@@ -11,6 +11,9 @@ public class GameLoop implements Runnable {
     private static final long OPTIMAL_TIME = 1000000000 / TARGET_FPS;
     private static final int MAX_FRAME_SKIP = 5;
     
+    // Expected time between rendered frames
+    public static final long FRAME_INTERVAL_MS = 1000 / TARGET_FPS;
+    
     private Thread gameThread;
     private boolean isRunning;
     private boolean isPaused;
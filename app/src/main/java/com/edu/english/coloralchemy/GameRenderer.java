@@ -10,6 +10,8 @@ import android.graphics.RectF;
 import android.graphics.Shader;
 import android.graphics.Typeface;
 
+import com.edu.english.util.TextCache;
+
 /**
  * Game Renderer
  * Handles all drawing operations for the Color Alchemy Lab
@@ -38,6 +40,16 @@ public class GameRenderer {
     // Background gradient colors
     private int[] bgGradientColors;
     
+    // Cached text: title bitmap, result label (rebuilt when the result changes)
+    private static final String TITLE_TEXT = "🧪 Color Lab 🧪";
+    private TextCache.Label titleLabel;
+    private TextCache.Label resultLabel;
+    private int resultLabelColor;
+    private TextCache.Widths resultWidths;
+    private Paint resultBgPaint;
+    private Paint resultIndicatorPaint;
+    private final RectF resultBgRect = new RectF();
+    
     // Animation
     private float time;
     
@@ -90,6 +102,11 @@ public class GameRenderer {
         resultTextPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
         resultTextPaint.setShadowLayer(8, 2, 2, Color.argb(80, 0, 0, 0));
         
+        // Result pill and color dot
+        resultBgPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        resultBgPaint.setColor(Color.WHITE);
+        resultIndicatorPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        
         // Hint text
         hintTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         hintTextPaint.setTextAlign(Paint.Align.CENTER);
@@ -244,15 +261,18 @@ public class GameRenderer {
      * Draw title
      */
     public void drawTitle(Canvas canvas) {
-        textPaint.setTextSize(48);
-        textPaint.setColor(Color.WHITE);
-        
         float titleY = 70;
         
-        // Title shadow for better visibility
-        textPaint.setShadowLayer(6, 2, 2, Color.argb(100, 0, 0, 0));
-        canvas.drawText("🧪 Color Lab 🧪", screenWidth / 2f, titleY, textPaint);
-        textPaint.setShadowLayer(0, 0, 0, Color.TRANSPARENT);
+        if (titleLabel == null) {
+            textPaint.setTextSize(48);
+            textPaint.setColor(Color.WHITE);
+            
+            // Title shadow for better visibility
+            textPaint.setShadowLayer(6, 2, 2, Color.argb(100, 0, 0, 0));
+            titleLabel = new TextCache.Label(TITLE_TEXT, textPaint, 6 + 2);
+            textPaint.setShadowLayer(0, 0, 0, Color.TRANSPARENT);
+        }
+        titleLabel.draw(canvas, screenWidth / 2f, titleY);
     }
     
     /**
@@ -415,31 +435,36 @@ public class GameRenderer {
         
         // Background pill
         resultTextPaint.setTextSize(56);
-        float textWidth = resultTextPaint.measureText(colorName);
-        
-        Paint bgPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        bgPaint.setColor(Color.WHITE);
-        bgPaint.setAlpha((int) (resultAlpha * 230));
-        bgPaint.setShadowLayer(12, 0, 4, Color.argb((int) (resultAlpha * 80), 0, 0, 0));
+        if (resultWidths == null) {
+            resultWidths = new TextCache.Widths(resultTextPaint);
+        }
+        float textWidth = resultWidths.measure(colorName);
         
-        RectF bgRect = new RectF(
+        resultBgPaint.setAlpha((int) (resultAlpha * 230));
+        resultBgPaint.setShadowLayer(12, 0, 4, Color.argb((int) (resultAlpha * 80), 0, 0, 0));
+        resultBgRect.set(
             x - textWidth / 2 - 40,
             y - 45,
             x + textWidth / 2 + 40,
             y + 25
         );
-        canvas.drawRoundRect(bgRect, 35, 35, bgPaint);
+        canvas.drawRoundRect(resultBgRect, 35, 35, resultBgPaint);
         
         // Color indicator circle
-        Paint colorIndicator = new Paint(Paint.ANTI_ALIAS_FLAG);
-        colorIndicator.setColor(color);
-        colorIndicator.setAlpha((int) (resultAlpha * 255));
-        canvas.drawCircle(x - textWidth / 2 - 15, y - 10, 15, colorIndicator);
-        
-        // Text
-        resultTextPaint.setColor(color);
-        resultTextPaint.setAlpha((int) (resultAlpha * 255));
-        canvas.drawText(colorName, x + 10, y, resultTextPaint);
+        resultIndicatorPaint.setColor(color);
+        resultIndicatorPaint.setAlpha((int) (resultAlpha * 255));
+        canvas.drawCircle(x - textWidth / 2 - 15, y - 10, 15, resultIndicatorPaint);
+        
+        // Text, rendered once per result
+        if (resultLabel == null || resultLabelColor != color || !resultLabel.getText().equals(colorName)) {
+            if (resultLabel != null) {
+                resultLabel.recycle();
+            }
+            resultTextPaint.setColor(color);
+            resultLabel = new TextCache.Label(colorName, resultTextPaint, 8 + 2);
+            resultLabelColor = color;
+        }
+        resultLabel.draw(canvas, x + 10, y, resultAlpha);
         
         canvas.restore();
     }
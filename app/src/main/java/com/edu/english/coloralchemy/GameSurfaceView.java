@@ -5,6 +5,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.PixelFormat;
 import android.graphics.PorterDuff;
+import android.os.SystemClock;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
@@ -33,9 +34,12 @@ public class GameSurfaceView extends SurfaceView implements
     private ShadeController shadeController;
     
     // State
-    private TestTube draggedTube;
+    private volatile TestTube draggedTube;
+    private TouchPredictor dragPredictor;
     private boolean isInitialized;
     private boolean isPaused;
+    private volatile boolean isInteractive;
+    private float sfxWaitTime;
     
     // Result display
     private String currentResultName;
@@ -54,6 +58,9 @@ public class GameSurfaceView extends SurfaceView implements
     private float backButtonX, backButtonY;
     private float backButtonSize = 25;
     
+    // Longest the game waits for sound effects before accepting touches
+    private static final long SFX_READY_TIMEOUT_MS = 300;
+    
     // Callbacks
     private OnGameEventListener gameEventListener;
     
@@ -92,6 +99,7 @@ public class GameSurfaceView extends SurfaceView implements
         isInitialized = false;
         isPaused = false;
         draggedTube = null;
+        dragPredictor = new TouchPredictor();
         resetButtonPressed = false;
         shadeValue = 0;
     }
@@ -207,6 +215,13 @@ public class GameSurfaceView extends SurfaceView implements
     public void onUpdate(float deltaTime) {
         if (!isInitialized || isPaused) return;
         
+        // Wait (briefly) for the SFX bank before accepting the first touch, so the
+        // first clink isn't lost. Polled each frame; the game keeps animating meanwhile.
+        if (!isInteractive) {
+            sfxWaitTime += deltaTime;
+            isInteractive = soundManager.isSfxReady() || sfxWaitTime * 1000f >= SFX_READY_TIMEOUT_MS;
+        }
+        
         // Update renderer
         renderer.update(deltaTime);
         
@@ -218,10 +233,27 @@ public class GameSurfaceView extends SurfaceView implements
         beaker.update(deltaTime);
         shadeController.update(deltaTime);
         
+        updateDraggedTube();
+        
         // Check for pouring
         checkPouring();
     }
     
+    /**
+     * Move the dragged tube to where the finger should be when this frame is shown.
+     * Predicted every frame, not per touch event, so the tube settles on the finger
+     * once it stops moving (no events arrive then).
+     */
+    private void updateDraggedTube() {
+        TestTube tube = draggedTube;
+        if (tube == null) return;
+        
+        synchronized (dragPredictor) {
+            dragPredictor.predict(SystemClock.uptimeMillis() + GameLoop.FRAME_INTERVAL_MS);
+            tube.drag(dragPredictor.getPredictedX(), dragPredictor.getPredictedY());
+        }
+    }
+    
     @Override
     public void onRender() {
         if (!isInitialized) return;
@@ -316,14 +348,22 @@ public class GameSurfaceView extends SurfaceView implements
     public boolean onTouchEvent(MotionEvent event) {
         if (!isInitialized) return false;
         
+        // Keep the gesture (returning false would drop the rest of it), but ignore
+        // touches until the sound effects are ready
+        if (!isInteractive) return true;
+        
         float touchX = event.getX();
         float touchY = event.getY();
         
         switch (event.getAction()) {
             case MotionEvent.ACTION_DOWN:
+                synchronized (dragPredictor) {
+                    dragPredictor.reset(touchX, touchY, event.getEventTime());
+                }
                 return handleTouchDown(touchX, touchY);
                 
             case MotionEvent.ACTION_MOVE:
+                feedDragPredictor(event);
                 return handleTouchMove(touchX, touchY);
                 
             case MotionEvent.ACTION_UP:
@@ -334,6 +374,21 @@ public class GameSurfaceView extends SurfaceView implements
         return true;
     }
     
+    /**
+     * Feed the batched historical samples and the current sample to the drag predictor
+     * (the game thread predicts from them each frame)
+     */
+    private void feedDragPredictor(MotionEvent event) {
+        synchronized (dragPredictor) {
+            int historySize = event.getHistorySize();
+            for (int i = 0; i < historySize; i++) {
+                dragPredictor.addSample(event.getHistoricalX(i), event.getHistoricalY(i),
+                    event.getHistoricalEventTime(i));
+            }
+            dragPredictor.addSample(event.getX(), event.getY(), event.getEventTime());
+        }
+    }
+    
     private boolean handleTouchDown(float touchX, float touchY) {
         // Check back button
         if (isPointInCircle(touchX, touchY, backButtonX, backButtonY, backButtonSize + 10)) {
@@ -378,10 +433,8 @@ public class GameSurfaceView extends SurfaceView implements
             return true;
         }
         
-        // Handle tube drag
+        // Handle tube drag (moved to the predicted position in onUpdate, hit-tested at the real one)
         if (draggedTube != null) {
-            draggedTube.drag(touchX, touchY);
-            
             // Check if over beaker
             if (beaker.contains(touchX, touchY) && !draggedTube.isPouring()) {
                 // Start pouring
@@ -612,6 +665,7 @@ public class GameSurfaceView extends SurfaceView implements
         gameLoop.stop();
         sensorHandler.stop();
         soundManager.release();
+        GlassSpriteCache.clear();
     }
     
     // ==================== Utility Methods ====================
@@ -0,0 +1,110 @@
+package com.edu.english.coloralchemy;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Glass Sprite Cache
+ * Rasterizes the static glassware art (outline, rim, shine, cap, handle, marks)
+ * once per container size so tubes and the beaker only draw their liquid per frame
+ */
+public class GlassSpriteCache {
+
+    // Cached sprites keyed by container kind and size
+    private static final Map<String, GlassSprite> sprites = new HashMap<>();
+
+    /**
+     * Draws the two static layers of a container in its local (centered) space
+     */
+    public interface LayerPainter {
+        /** Layer behind the liquid (shadow, glass body, rim) */
+        void paintBack(Canvas canvas);
+
+        /** Layer in front of the liquid (shine, cap, handle, marks) */
+        void paintFront(Canvas canvas);
+    }
+
+    /**
+     * Pre-rendered back and front layers for one container size
+     */
+    public static class GlassSprite {
+        private final Bitmap back;
+        private final Bitmap front;
+        private final float originX;
+        private final float originY;
+
+        GlassSprite(Bitmap back, Bitmap front, float originX, float originY) {
+            this.back = back;
+            this.front = front;
+            this.originX = originX;
+            this.originY = originY;
+        }
+
+        /**
+         * Draw the back layer centered on the current canvas origin
+         */
+        public void drawBack(Canvas canvas, Paint paint) {
+            canvas.drawBitmap(back, -originX, -originY, paint);
+        }
+
+        /**
+         * Draw the front layer centered on the current canvas origin
+         */
+        public void drawFront(Canvas canvas, Paint paint) {
+            canvas.drawBitmap(front, -originX, -originY, paint);
+        }
+    }
+
+    private GlassSpriteCache() {
+    }
+
+    /**
+     * Get the sprite for a container, rendering it on first use.
+     *
+     * @param kind Container kind (e.g. "tube", "beaker")
+     * @param width Container width
+     * @param height Container height
+     * @param margin Extra space around the container for shadow, rim and handle
+     * @param painter Draws the static layers when the sprite is not cached yet
+     */
+    public static synchronized GlassSprite get(String kind, float width, float height,
+                                               float margin, LayerPainter painter) {
+        String key = kind + ":" + Math.round(width) + "x" + Math.round(height);
+        GlassSprite sprite = sprites.get(key);
+        if (sprite == null) {
+            sprite = render(width, height, margin, painter);
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    private static GlassSprite render(float width, float height, float margin, LayerPainter painter) {
+        int bitmapWidth = (int) Math.ceil(width + margin * 2);
+        int bitmapHeight = (int) Math.ceil(height + margin * 2);
+        float originX = bitmapWidth / 2f;
+        float originY = bitmapHeight / 2f;
+
+        Bitmap back = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+        Canvas backCanvas = new Canvas(back);
+        backCanvas.translate(originX, originY);
+        painter.paintBack(backCanvas);
+
+        Bitmap front = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+        Canvas frontCanvas = new Canvas(front);
+        frontCanvas.translate(originX, originY);
+        painter.paintFront(frontCanvas);
+
+        return new GlassSprite(back, front, originX, originY);
+    }
+
+    /**
+     * Drop all cached sprites (called when the lab is released)
+     */
+    public static synchronized void clear() {
+        sprites.clear();
+    }
+}
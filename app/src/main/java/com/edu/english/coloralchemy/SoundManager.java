@@ -1,194 +1,165 @@
 package com.edu.english.coloralchemy;
 
 import android.content.Context;
-import android.media.AudioAttributes;
-import android.media.AudioManager;
-import android.media.MediaPlayer;
-import android.media.SoundPool;
-import android.speech.tts.TextToSpeech;
 
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import com.edu.english.audio.AudioEngine;
+import com.edu.english.audio.SoundBank;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
+import com.edu.english.audio.StreamPlayer;
+import com.edu.english.audio.VoicePolicy;
+
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Sound Manager
  * Handles all audio: SFX, voice, and background music
  */
-public class SoundManager implements TextToSpeech.OnInitListener {
+public class SoundManager {
     
     private Context context;
     
-    // SoundPool for short sound effects
-    private SoundPool soundPool;
-    private Map<String, Integer> soundIds;
-    private Map<String, Integer> streamIds;
+    // Sound effects from the shared audio engine (indexed by SFX id)
+    private SoundBank sfxBank;
+    private final int[] streamIds = new int[SFX_COUNT];
+    private final CountDownLatch sfxReadyLatch = new CountDownLatch(SFX_COUNT);
     
-    // MediaPlayer for background music
-    private MediaPlayer musicPlayer;
+    // Background music on the shared gapless stream player
+    private static final long MUSIC_CROSSFADE_MS = 600;
+    private static final long MUSIC_FADE_OUT_MS = 300;
+    private final StreamPlayer musicPlayer;
     private float musicVolume = 0.3f;
+    private boolean isMusicStarted = false;
+    
+    // Text-to-Speech for color names (pre-rendered clips first, live TTS as fallback)
+    private SpeechService.Client speech;
     
-    // Text-to-Speech for color names
-    private TextToSpeech tts;
-    private boolean ttsReady;
+    // Kid-friendly pace, slightly higher pitch for friendly tone
+    public static final float SPEECH_RATE = 0.85f;
+    public static final float SPEECH_PITCH = 1.1f;
     
     // Volume levels
     private float sfxVolume = 1.0f;
     private float voiceVolume = 1.0f;
     private boolean isMuted = false;
     
-    // Sound effect keys
-    public static final String SFX_GLASS_CLINK = "glass_clink";
-    public static final String SFX_LIQUID_POUR = "liquid_pour";
-    public static final String SFX_BUBBLE = "bubble";
-    public static final String SFX_SHAKE = "shake";
-    public static final String SFX_SUCCESS = "success";
-    public static final String SFX_SPARKLE = "sparkle";
-    public static final String SFX_SLIDER = "slider";
-    public static final String SFX_TAP = "tap";
-    public static final String SFX_DROP = "drop";
+    // Sound effect ids (index into the SFX bank)
+    public static final int SFX_GLASS_CLINK = 0;
+    public static final int SFX_LIQUID_POUR = 1;
+    public static final int SFX_BUBBLE = 2;
+    public static final int SFX_SHAKE = 3;
+    public static final int SFX_SUCCESS = 4;
+    public static final int SFX_SPARKLE = 5;
+    public static final int SFX_SLIDER = 6;
+    public static final int SFX_TAP = 7;
+    public static final int SFX_DROP = 8;
+    private static final int SFX_COUNT = 9;
+    
+    // res/raw names for each SFX id
+    private static final String[] SFX_NAMES = {
+        "glass_clink", "liquid_pour", "bubble", "shake", "success",
+        "sparkle", "slider", "tap", "drop"
+    };
+    
+    // Voice policy for each SFX id (max copies, min retrigger ms, priority, length ms);
+    // the slider fires on every move, so it gets one quiet voice and a rate limit
+    private static final VoicePolicy[] SFX_POLICIES = {
+        new VoicePolicy(2, 60, 1, 400),     // glass_clink
+        new VoicePolicy(1, 0, 1, 1500),     // liquid_pour
+        new VoicePolicy(3, 50, 0, 400),     // bubble
+        new VoicePolicy(1, 100, 1, 600),    // shake
+        new VoicePolicy(1, 0, 3, 1500),     // success
+        new VoicePolicy(2, 0, 2, 1000),     // sparkle
+        new VoicePolicy(1, 80, 0, 250),     // slider
+        new VoicePolicy(2, 60, 1, 200),     // tap
+        new VoicePolicy(2, 60, 1, 400)      // drop
+    };
     
     public SoundManager(Context context) {
         this.context = context;
-        this.soundIds = new HashMap<>();
-        this.streamIds = new HashMap<>();
-        this.ttsReady = false;
+        this.musicPlayer = AudioEngine.getInstance(context).getMusicPlayer();
         
-        initSoundPool();
+        initSoundBank();
         initTTS();
     }
     
     /**
-     * Initialize SoundPool for sound effects
+     * Open the SFX bank on the shared audio engine
      */
-    private void initSoundPool() {
-        AudioAttributes audioAttributes = new AudioAttributes.Builder()
-            .setUsage(AudioAttributes.USAGE_GAME)
-            .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
-            .build();
+    private void initSoundBank() {
+        sfxBank = AudioEngine.getInstance(context).openBank(AudioEngine.CATEGORY_SFX, SFX_COUNT);
         
-        soundPool = new SoundPool.Builder()
-            .setMaxStreams(10)
-            .setAudioAttributes(audioAttributes)
-            .build();
+        // Track asynchronous decoding so the game can wait for the bank
+        sfxBank.setOnSoundLoadedListener((soundId, success) -> sfxReadyLatch.countDown());
         
-        // Load sound effects
-        // Note: You'll need to add actual sound files to res/raw/
-        // For now, we'll create placeholders and generate tones programmatically
         loadSounds();
     }
     
     /**
      * Load all sound effects
+     * These would be .wav or .ogg files in res/raw/; missing files count as loaded
      */
     private void loadSounds() {
-        // Try to load sounds from resources if they exist
-        // These would be .wav or .ogg files in res/raw/
-        try {
-            int resId;
-            
-            resId = context.getResources().getIdentifier("glass_clink", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_GLASS_CLINK, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("liquid_pour", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_LIQUID_POUR, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("bubble", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_BUBBLE, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("shake", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_SHAKE, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("success", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_SUCCESS, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("sparkle", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_SPARKLE, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("slider", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_SLIDER, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("tap", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_TAP, soundPool.load(context, resId, 1));
-            
-            resId = context.getResources().getIdentifier("drop", "raw", context.getPackageName());
-            if (resId != 0) soundIds.put(SFX_DROP, soundPool.load(context, resId, 1));
-            
-        } catch (Exception e) {
-            e.printStackTrace();
+        for (int i = 0; i < SFX_COUNT; i++) {
+            sfxBank.setPolicy(i, SFX_POLICIES[i]);
+            if (!sfxBank.loadRaw(i, SFX_NAMES[i])) {
+                sfxReadyLatch.countDown();
+            }
         }
     }
     
     /**
-     * Initialize Text-to-Speech
+     * Check if every sound effect has finished loading
      */
-    private void initTTS() {
-        tts = new TextToSpeech(context, this);
+    public boolean isSfxReady() {
+        return sfxReadyLatch.getCount() == 0;
     }
     
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            int result = tts.setLanguage(Locale.US);
-            ttsReady = (result != TextToSpeech.LANG_MISSING_DATA && 
-                       result != TextToSpeech.LANG_NOT_SUPPORTED);
-            
-            if (ttsReady) {
-                // Set speech rate for kid-friendly pace
-                tts.setSpeechRate(0.85f);
-                tts.setPitch(1.1f); // Slightly higher pitch for friendly tone
-            }
-        }
+    /**
+     * Open a client on the shared speech engine
+     */
+    private void initTTS() {
+        // Kid-friendly pace
+        speech = SpeechService.getInstance(context).openClient(SPEECH_RATE, SPEECH_PITCH);
     }
     
     /**
      * Play a sound effect
      */
-    public void playSFX(String soundKey) {
-        if (isMuted) return;
-        
-        Integer soundId = soundIds.get(soundKey);
-        if (soundId != null) {
-            int streamId = soundPool.play(soundId, sfxVolume, sfxVolume, 1, 0, 1.0f);
-            streamIds.put(soundKey, streamId);
-        }
+    public void playSFX(int sfxId) {
+        playSFX(sfxId, 1.0f);
     }
     
     /**
      * Play a sound effect with pitch variation
      */
-    public void playSFX(String soundKey, float pitch) {
+    public void playSFX(int sfxId, float pitch) {
         if (isMuted) return;
         
-        Integer soundId = soundIds.get(soundKey);
-        if (soundId != null) {
-            float clampedPitch = EasingFunctions.clamp(pitch, 0.5f, 2.0f);
-            int streamId = soundPool.play(soundId, sfxVolume, sfxVolume, 1, 0, clampedPitch);
-            streamIds.put(soundKey, streamId);
+        float clampedPitch = EasingFunctions.clamp(pitch, 0.5f, 2.0f);
+        int streamId = sfxBank.play(sfxId, sfxVolume, clampedPitch, 0);
+        // A dropped retrigger keeps the stream that is already playing
+        if (streamId != 0) {
+            streamIds[sfxId] = streamId;
         }
     }
     
     /**
      * Play looping sound
      */
-    public void playLoopingSFX(String soundKey) {
+    public void playLoopingSFX(int sfxId) {
         if (isMuted) return;
         
-        Integer soundId = soundIds.get(soundKey);
-        if (soundId != null) {
-            int streamId = soundPool.play(soundId, sfxVolume, sfxVolume, 1, -1, 1.0f);
-            streamIds.put(soundKey, streamId);
-        }
+        streamIds[sfxId] = sfxBank.play(sfxId, sfxVolume, 1.0f, -1);
     }
     
     /**
      * Stop a specific sound
      */
-    public void stopSFX(String soundKey) {
-        Integer streamId = streamIds.get(soundKey);
-        if (streamId != null) {
-            soundPool.stop(streamId);
-            streamIds.remove(soundKey);
+    public void stopSFX(int sfxId) {
+        if (streamIds[sfxId] != 0) {
+            sfxBank.stop(streamIds[sfxId]);
+            streamIds[sfxId] = 0;
         }
     }
     
@@ -196,27 +167,27 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Stop all sounds
      */
     public void stopAllSFX() {
-        for (Integer streamId : streamIds.values()) {
-            soundPool.stop(streamId);
+        for (int i = 0; i < SFX_COUNT; i++) {
+            stopSFX(i);
         }
-        streamIds.clear();
     }
     
     /**
      * Speak text using TTS
      */
     public void speak(String text) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
-        tts.speak(text, TextToSpeech.QUEUE_FLUSH, null, "color_speak");
+        speech.speak(text, SpeechQueue.PRIORITY_FEEDBACK, "color_speak");
     }
     
     /**
      * Speak text after a delay
      */
     public void speakDelayed(final String text, long delayMs) {
-        if (isMuted || !ttsReady) return;
+        if (isMuted || speech == null) return;
         
+        speech.preload(text);
         new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(new Runnable() {
             @Override
             public void run() {
@@ -240,20 +211,14 @@ public class SoundManager implements TextToSpeech.OnInitListener {
     }
     
     /**
-     * Start background music
+     * Start background music (crossfades from any music already playing)
      */
     public void startBackgroundMusic(int resourceId) {
-        stopBackgroundMusic();
-        
-        try {
-            musicPlayer = MediaPlayer.create(context, resourceId);
-            if (musicPlayer != null) {
-                musicPlayer.setLooping(true);
-                musicPlayer.setVolume(musicVolume, musicVolume);
-                musicPlayer.start();
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+        musicPlayer.setVolume(musicVolume);
+        musicPlayer.play(resourceId, true, MUSIC_CROSSFADE_MS);
+        isMusicStarted = true;
+        if (isMuted) {
+            musicPlayer.pause();
         }
     }
     
@@ -261,14 +226,9 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Stop background music
      */
     public void stopBackgroundMusic() {
-        if (musicPlayer != null) {
-            try {
-                musicPlayer.stop();
-                musicPlayer.release();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            musicPlayer = null;
+        if (isMusicStarted) {
+            musicPlayer.stop(MUSIC_FADE_OUT_MS);
+            isMusicStarted = false;
         }
     }
     
@@ -276,7 +236,7 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Pause background music
      */
     public void pauseBackgroundMusic() {
-        if (musicPlayer != null && musicPlayer.isPlaying()) {
+        if (isMusicStarted) {
             musicPlayer.pause();
         }
     }
@@ -285,8 +245,8 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Resume background music
      */
     public void resumeBackgroundMusic() {
-        if (musicPlayer != null && !musicPlayer.isPlaying()) {
-            musicPlayer.start();
+        if (isMusicStarted) {
+            musicPlayer.resume();
         }
     }
     
@@ -302,8 +262,8 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      */
     public void setMusicVolume(float volume) {
         this.musicVolume = EasingFunctions.clamp(volume, 0, 1);
-        if (musicPlayer != null) {
-            musicPlayer.setVolume(musicVolume, musicVolume);
+        if (isMusicStarted) {
+            musicPlayer.setVolume(musicVolume);
         }
     }
     
@@ -321,7 +281,9 @@ public class SoundManager implements TextToSpeech.OnInitListener {
         isMuted = true;
         stopAllSFX();
         pauseBackgroundMusic();
-        tts.stop();
+        if (speech != null) {
+            speech.stop();
+        }
     }
     
     /**
@@ -357,15 +319,14 @@ public class SoundManager implements TextToSpeech.OnInitListener {
         stopAllSFX();
         stopBackgroundMusic();
         
-        if (soundPool != null) {
-            soundPool.release();
-            soundPool = null;
+        if (sfxBank != null) {
+            sfxBank.close();
+            sfxBank = null;
         }
         
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-            tts = null;
+        if (speech != null) {
+            speech.close();
+            speech = null;
         }
     }
     
@@ -373,7 +334,7 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Pause all audio
      */
     public void pause() {
-        soundPool.autoPause();
+        sfxBank.getEngine().autoPause();
         pauseBackgroundMusic();
     }
     
@@ -381,7 +342,7 @@ public class SoundManager implements TextToSpeech.OnInitListener {
      * Resume all audio
      */
     public void resume() {
-        soundPool.autoResume();
+        sfxBank.getEngine().autoResume();
         if (!isMuted) {
             resumeBackgroundMusic();
         }
@@ -5,7 +5,6 @@ import android.graphics.Color;
 import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.Path;
-import android.graphics.RadialGradient;
 import android.graphics.RectF;
 import android.graphics.Shader;
 
@@ -43,8 +42,12 @@ public class TestTube {
     private Paint tubeShinePaint;
     private Paint capPaint;
     private Paint shadowPaint;
+    private Paint capShinePaint;
+    private Paint spritePaint;
     private Path tubePath;
     private Path capPath;
+    private RectF tempRect;
+    private GlassSpriteCache.GlassSprite glassSprite;
     
     // Pour animation
     private float pourProgress;
@@ -56,6 +59,13 @@ public class TestTube {
     private static final float TUBE_CORNER_RADIUS = 15f;
     private static final float CAP_HEIGHT = 30f;
     private static final float POUR_TILT_ANGLE = 60f;
+    private static final float SPRITE_MARGIN = 16f; // Room for shadow offset, lip and stroke
+    private static final float[] TUBE_RADII = {
+        5f, 5f,  // Top left
+        5f, 5f,  // Top right
+        TUBE_CORNER_RADIUS, TUBE_CORNER_RADIUS,  // Bottom right
+        TUBE_CORNER_RADIUS, TUBE_CORNER_RADIUS   // Bottom left
+    };
     
     public TestTube(float x, float y, float width, float height, int liquidColor) {
         this.x = x;
@@ -91,6 +101,7 @@ public class TestTube {
         tubePath = new Path();
         capPath = new Path();
         pourStreamPath = new Path();
+        tempRect = new RectF();
     }
     
     private void initPaints() {
@@ -114,6 +125,10 @@ public class TestTube {
         capPaint.setStyle(Paint.Style.FILL);
         capPaint.setColor(Color.parseColor("#34495E"));
         
+        // Cap shine
+        capShinePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        capShinePaint.setColor(Color.argb(60, 255, 255, 255));
+        
         // Shadow paint
         shadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         shadowPaint.setStyle(Paint.Style.FILL);
@@ -122,6 +137,9 @@ public class TestTube {
         // Pour stream paint
         pourPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         pourPaint.setStyle(Paint.Style.FILL);
+        
+        // Cached glass sprites
+        spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
     }
     
     /**
@@ -201,14 +219,9 @@ public class TestTube {
         canvas.rotate(rotation);
         canvas.scale(scale, scale);
         
-        // Draw shadow (offset)
-        canvas.save();
-        canvas.translate(5, 8);
-        drawTubeShape(canvas, shadowPaint, null);
-        canvas.restore();
-        
-        // Draw glass tube
-        drawTubeShape(canvas, tubePaint, tubeStrokePaint);
+        // Draw cached shadow and glass body
+        GlassSpriteCache.GlassSprite sprite = getGlassSprite();
+        sprite.drawBack(canvas, spritePaint);
         
         // Draw liquid
         canvas.save();
@@ -226,11 +239,8 @@ public class TestTube {
         liquid.draw(canvas);
         canvas.restore();
         
-        // Draw glass shine effect
-        drawGlassShine(canvas);
-        
-        // Draw cap
-        drawCap(canvas);
+        // Draw cached glass shine and cap
+        sprite.drawFront(canvas, spritePaint);
         
         canvas.restore();
         
@@ -240,6 +250,35 @@ public class TestTube {
         }
     }
     
+    /**
+     * Get the pre-rendered glass art for this tube size
+     */
+    private GlassSpriteCache.GlassSprite getGlassSprite() {
+        if (glassSprite == null) {
+            glassSprite = GlassSpriteCache.get("tube", width, height, SPRITE_MARGIN,
+                new GlassSpriteCache.LayerPainter() {
+                    @Override
+                    public void paintBack(Canvas canvas) {
+                        // Shadow (offset)
+                        canvas.save();
+                        canvas.translate(5, 8);
+                        drawTubeShape(canvas, shadowPaint, null);
+                        canvas.restore();
+                        
+                        // Glass tube
+                        drawTubeShape(canvas, tubePaint, tubeStrokePaint);
+                    }
+                    
+                    @Override
+                    public void paintFront(Canvas canvas) {
+                        drawGlassShine(canvas);
+                        drawCap(canvas);
+                    }
+                });
+        }
+        return glassSprite;
+    }
+    
     /**
      * Draw tube shape
      */
@@ -252,14 +291,8 @@ public class TestTube {
         float bottom = height / 2;
         
         // Draw rounded bottom tube
-        RectF tubeRect = new RectF(left, top, right, bottom);
-        float[] radii = new float[]{
-            5f, 5f,  // Top left
-            5f, 5f,  // Top right
-            TUBE_CORNER_RADIUS, TUBE_CORNER_RADIUS,  // Bottom right
-            TUBE_CORNER_RADIUS, TUBE_CORNER_RADIUS   // Bottom left
-        };
-        tubePath.addRoundRect(tubeRect, radii, Path.Direction.CW);
+        tempRect.set(left, top, right, bottom);
+        tubePath.addRoundRect(tempRect, TUBE_RADII, Path.Direction.CW);
         
         if (fillPaint != null) {
             canvas.drawPath(tubePath, fillPaint);
@@ -291,8 +324,8 @@ public class TestTube {
         );
         tubeShinePaint.setShader(shineGradient);
         
-        RectF shineRect = new RectF(shineLeft, shineTop, shineLeft + shineWidth, shineBottom);
-        canvas.drawRoundRect(shineRect, shineWidth / 2, shineWidth / 2, tubeShinePaint);
+        tempRect.set(shineLeft, shineTop, shineLeft + shineWidth, shineBottom);
+        canvas.drawRoundRect(tempRect, shineWidth / 2, shineWidth / 2, tubeShinePaint);
     }
     
     /**
@@ -304,18 +337,16 @@ public class TestTube {
         float capWidth = width * 0.7f;
         
         // Cap body
-        RectF capRect = new RectF(-capWidth / 2, capTop, capWidth / 2, capBottom);
-        canvas.drawRoundRect(capRect, 8f, 8f, capPaint);
+        tempRect.set(-capWidth / 2, capTop, capWidth / 2, capBottom);
+        canvas.drawRoundRect(tempRect, 8f, 8f, capPaint);
         
         // Cap lip (wider part at bottom)
-        RectF lipRect = new RectF(-width / 2 - 2, capBottom - 8, width / 2 + 2, capBottom + 2);
-        canvas.drawRoundRect(lipRect, 4f, 4f, capPaint);
+        tempRect.set(-width / 2 - 2, capBottom - 8, width / 2 + 2, capBottom + 2);
+        canvas.drawRoundRect(tempRect, 4f, 4f, capPaint);
         
         // Cap shine
-        Paint capShinePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        capShinePaint.setColor(Color.argb(60, 255, 255, 255));
-        RectF capShineRect = new RectF(-capWidth / 2 + 5, capTop + 5, -capWidth / 2 + 12, capBottom - 10);
-        canvas.drawRoundRect(capShineRect, 3f, 3f, capShinePaint);
+        tempRect.set(-capWidth / 2 + 5, capTop + 5, -capWidth / 2 + 12, capBottom - 10);
+        canvas.drawRoundRect(tempRect, 3f, 3f, capShinePaint);
     }
     
     /**
@@ -0,0 +1,165 @@
+package com.edu.english.coloralchemy;
+
+/**
+ * Touch Predictor
+ * Estimates finger velocity from recent (historical) touch samples and
+ * extrapolates the position to the time the next frame is shown,
+ * so dragged objects don't trail behind the finger.
+ * Predict every frame: once samples stop arriving the finger has stopped,
+ * and the prediction eases back onto the last real sample.
+ */
+public class TouchPredictor {
+
+    // Sample history
+    private static final int MAX_SAMPLES = 8;
+    private static final long SAMPLE_WINDOW_MS = 60;
+
+    // Prediction limits (keep jitter and sudden stops from overshooting)
+    private static final long MAX_PREDICTION_MS = 32;
+    private static final float MIN_SPEED = 0.05f; // px per ms, below this the finger is "resting"
+    private static final float MAX_PREDICTION_DISTANCE = 60f;
+    private static final long STOP_FADE_MS = 48; // after MAX_PREDICTION_MS without a sample
+    private static final float VELOCITY_SMOOTHING = 0.5f;
+
+    // Ring buffer of samples
+    private final float[] sampleX = new float[MAX_SAMPLES];
+    private final float[] sampleY = new float[MAX_SAMPLES];
+    private final long[] sampleTime = new long[MAX_SAMPLES];
+    private int head;
+    private int count;
+
+    // Smoothed velocity in px per ms
+    private float velocityX;
+    private float velocityY;
+
+    // Last prediction
+    private float predictedX;
+    private float predictedY;
+
+    /**
+     * Start a new gesture at the given position
+     */
+    public void reset(float x, float y, long eventTime) {
+        head = 0;
+        count = 0;
+        velocityX = 0;
+        velocityY = 0;
+        addSample(x, y, eventTime);
+        predictedX = x;
+        predictedY = y;
+    }
+
+    /**
+     * Add a touch sample (call for every historical sample, then the current one)
+     */
+    public void addSample(float x, float y, long eventTime) {
+        if (count > 0) {
+            int last = (head - 1 + MAX_SAMPLES) % MAX_SAMPLES;
+            if (eventTime <= sampleTime[last]) {
+                // Same timestamp - just replace the position
+                sampleX[last] = x;
+                sampleY[last] = y;
+                return;
+            }
+        }
+
+        sampleX[head] = x;
+        sampleY[head] = y;
+        sampleTime[head] = eventTime;
+        head = (head + 1) % MAX_SAMPLES;
+        if (count < MAX_SAMPLES) {
+            count++;
+        }
+
+        updateVelocity();
+    }
+
+    /**
+     * Least-squares velocity over the samples inside the window, then smoothed
+     */
+    private void updateVelocity() {
+        int last = (head - 1 + MAX_SAMPLES) % MAX_SAMPLES;
+        long newestTime = sampleTime[last];
+
+        // Collect sums relative to the newest sample
+        int n = 0;
+        float sumT = 0, sumX = 0, sumY = 0, sumTT = 0, sumTX = 0, sumTY = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (last - i + MAX_SAMPLES) % MAX_SAMPLES;
+            float t = sampleTime[index] - newestTime;
+            if (-t > SAMPLE_WINDOW_MS) break;
+
+            float dx = sampleX[index] - sampleX[last];
+            float dy = sampleY[index] - sampleY[last];
+            sumT += t;
+            sumX += dx;
+            sumY += dy;
+            sumTT += t * t;
+            sumTX += t * dx;
+            sumTY += t * dy;
+            n++;
+        }
+
+        float denominator = n * sumTT - sumT * sumT;
+        if (n < 2 || denominator <= 0) {
+            velocityX = 0;
+            velocityY = 0;
+            return;
+        }
+
+        float rawVX = (n * sumTX - sumT * sumX) / denominator;
+        float rawVY = (n * sumTY - sumT * sumY) / denominator;
+
+        // Direction reversal - drop the old estimate instead of blending through zero
+        if (rawVX * velocityX + rawVY * velocityY < 0) {
+            velocityX = rawVX;
+            velocityY = rawVY;
+        } else {
+            velocityX = EasingFunctions.lerp(velocityX, rawVX, VELOCITY_SMOOTHING);
+            velocityY = EasingFunctions.lerp(velocityY, rawVY, VELOCITY_SMOOTHING);
+        }
+    }
+
+    /**
+     * Predict the finger position at the given time (same clock as event times)
+     */
+    public void predict(long targetTime) {
+        if (count == 0) return;
+
+        int last = (head - 1 + MAX_SAMPLES) % MAX_SAMPLES;
+        predictedX = sampleX[last];
+        predictedY = sampleY[last];
+
+        float speed = (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (speed < MIN_SPEED) return;
+
+        long age = Math.max(0, targetTime - sampleTime[last]);
+        long horizon = Math.min(MAX_PREDICTION_MS, age);
+        float offsetX = velocityX * horizon;
+        float offsetY = velocityY * horizon;
+
+        // No new sample past the horizon - the finger has stopped, fade the lead out
+        if (age > MAX_PREDICTION_MS) {
+            float fade = Math.max(0f, 1f - (float) (age - MAX_PREDICTION_MS) / STOP_FADE_MS);
+            offsetX *= fade;
+            offsetY *= fade;
+        }
+
+        float distance = speed * horizon;
+        if (distance > MAX_PREDICTION_DISTANCE) {
+            float clamp = MAX_PREDICTION_DISTANCE / distance;
+            offsetX *= clamp;
+            offsetY *= clamp;
+        }
+
+        predictedX += offsetX;
+        predictedY += offsetY;
+    }
+
+    // ==================== Getters ====================
+
+    public float getPredictedX() { return predictedX; }
+    public float getPredictedY() { return predictedY; }
+    public float getVelocityX() { return velocityX; }
+    public float getVelocityY() { return velocityY; }
+}
@@ -4,6 +4,10 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.RectF;
 
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
+
 /**
  * Represents a playable character in Number Dash Race
  * Each character has multiple animation states
@@ -38,12 +42,19 @@ public class Character {
     private float bounceOffset = 0f;
     private float glowIntensity = 0f;
     
-    // Particles for boost effect
-    private Particle[] boostParticles;
-    private int activeParticles = 0;
+    // Pre-rendered frames (shared by all characters of this type)
+    private CharacterSprites.Atlas atlas;
+    private final Paint spritePaint;
+    private final RectF glowRect = new RectF();
     
-    // Dust particles for running effect
-    private Particle[] dustParticles;
+    // Boost sparks and running dust (drawn in world space)
+    private static final int DUST_PARTICLES = 10;
+    private static final ParticleEmitter BOOST = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+        .setSize(ParticleEmitter.SIZE_HALF_FADE);
+    private static final ParticleEmitter DUST = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+        .setSize(ParticleEmitter.SIZE_HALF_FADE);
+    private final ParticleEngine particles;
+    private final SpriteBatch particleBatch;
     private float dustSpawnTimer = 0f;
     
     // Character types
@@ -76,17 +87,13 @@ public class Character {
         this.width = GameConstants.CHARACTER_WIDTH;
         this.height = GameConstants.CHARACTER_HEIGHT;
         
-        // Initialize boost particles
-        boostParticles = new Particle[GameConstants.BOOST_PARTICLES];
-        for (int i = 0; i < boostParticles.length; i++) {
-            boostParticles[i] = new Particle();
-        }
+        spritePaint = new Paint();
+        spritePaint.setFilterBitmap(true);
         
-        // Initialize dust particles
-        dustParticles = new Particle[10];
-        for (int i = 0; i < dustParticles.length; i++) {
-            dustParticles[i] = new Particle();
-        }
+        // Initialize boost and dust particles
+        int particleCapacity = GameConstants.BOOST_PARTICLES + DUST_PARTICLES;
+        particles = new ParticleEngine(particleCapacity);
+        particleBatch = new SpriteBatch(particleCapacity);
     }
     
     /**
@@ -145,20 +152,15 @@ public class Character {
             glowIntensity = Math.max(0f, glowIntensity - deltaTime * 0.005f);
         }
         
-        // Update boost particles
-        if (currentState == AnimationState.BOOSTING && activeParticles < boostParticles.length) {
+        // Spawn boost particles
+        if (currentState == AnimationState.BOOSTING
+                && particles.getCount(BOOST) < GameConstants.BOOST_PARTICLES) {
             // Spawn new particle
             if (Math.random() < 0.3) {
                 spawnBoostParticle();
             }
         }
         
-        for (Particle particle : boostParticles) {
-            if (particle.isActive()) {
-                particle.update(deltaTime);
-            }
-        }
-        
         // Update dust particles when running
         if (currentState == AnimationState.RUNNING || currentState == AnimationState.BOOSTING) {
             dustSpawnTimer += deltaTime;
@@ -168,11 +170,7 @@ public class Character {
             }
         }
         
-        for (Particle particle : dustParticles) {
-            if (particle.isActive()) {
-                particle.update(deltaTime);
-            }
-        }
+        particles.update(deltaTime / 1000f);
     }
     
     /**
@@ -195,37 +193,40 @@ public class Character {
             paint.setColor(0x60FFFF00);
             paint.setStyle(Paint.Style.FILL);
             float glowSize = width * 0.2f * glowIntensity;
-            canvas.drawOval(new RectF(-glowSize, -glowSize, width + glowSize, height + glowSize), paint);
+            glowRect.set(-glowSize, -glowSize, width + glowSize, height + glowSize);
+            canvas.drawOval(glowRect, paint);
         }
         
-        // Draw shadow
-        paint.setColor(GameConstants.COLOR_SHADOW);
-        canvas.drawOval(new RectF(10, height - 10, width - 10, height + 10), paint);
-        
-        // Draw character based on type
-        drawCharacterSprite(canvas, paint);
+        // Draw shadow and character from the pre-rendered frames
+        if (atlas == null) {
+            atlas = CharacterSprites.get(type, this::drawFrame);
+        }
+        atlas.draw(canvas, currentState, currentFrame, spritePaint);
         
         canvas.restore();
         
-        // Draw dust particles (behind character)
-        for (Particle particle : dustParticles) {
-            if (particle.isActive()) {
-                particle.draw(canvas, paint);
-            }
-        }
+        // Draw dust and boost particles (in world space)
+        particleBatch.begin(canvas);
+        particles.draw(particleBatch);
+        particleBatch.end();
+    }
+    
+    /**
+     * Render one atlas frame: shadow and character in the given pose
+     */
+    private void drawFrame(Canvas canvas, Paint paint, AnimationState state, int frame) {
+        // Shadow
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(GameConstants.COLOR_SHADOW);
+        canvas.drawOval(new RectF(10, height - 10, width - 10, height + 10), paint);
         
-        // Draw boost particles (in world space)
-        for (Particle particle : boostParticles) {
-            if (particle.isActive()) {
-                particle.draw(canvas, paint);
-            }
-        }
+        drawCharacterSprite(canvas, paint, state, frame);
     }
     
     /**
      * Draw the character sprite based on type and animation state
      */
-    private void drawCharacterSprite(Canvas canvas, Paint paint) {
+    private void drawCharacterSprite(Canvas canvas, Paint paint, AnimationState state, int frame) {
         // Body
         paint.setColor(primaryColor);
         paint.setStyle(Paint.Style.FILL);
@@ -265,9 +266,9 @@ public class Character {
         paint.setColor(eyeColor);
         float pupilRadius = eyeRadius * 0.5f;
         float pupilOffset = 0;
-        if (currentState == AnimationState.BOOSTING) {
+        if (state == AnimationState.BOOSTING) {
             pupilOffset = eyeRadius * 0.2f; // Looking forward
-        } else if (currentState == AnimationState.STUMBLING) {
+        } else if (state == AnimationState.STUMBLING) {
             pupilOffset = -eyeRadius * 0.1f; // Looking down
         }
         canvas.drawCircle(headCenterX - eyeSpacing + pupilOffset, eyeY, pupilRadius, paint);
@@ -282,7 +283,7 @@ public class Character {
                           eyeY - highlightRadius, highlightRadius, paint);
         
         // Mouth - changes based on state
-        drawMouth(canvas, paint, headCenterX, headCenterY + headRadius * 0.4f);
+        drawMouth(canvas, paint, state, headCenterX, headCenterY + headRadius * 0.4f);
         
         // Cheeks (blush)
         paint.setColor(0x40FF6B6B);
@@ -291,7 +292,7 @@ public class Character {
         canvas.drawCircle(headCenterX + eyeSpacing + cheekRadius, eyeY + cheekRadius * 2, cheekRadius, paint);
         
         // Legs - animate based on state
-        drawLegs(canvas, paint);
+        drawLegs(canvas, paint, state, frame);
     }
     
     private void drawEars(Canvas canvas, Paint paint, float headX, float headY, float headRadius) {
@@ -372,13 +373,13 @@ public class Character {
         }
     }
     
-    private void drawMouth(Canvas canvas, Paint paint, float mouthX, float mouthY) {
+    private void drawMouth(Canvas canvas, Paint paint, AnimationState state, float mouthX, float mouthY) {
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(3);
         paint.setColor(0xFF333333);
         
         RectF mouthRect;
-        switch (currentState) {
+        switch (state) {
             case BOOSTING:
                 // Big happy smile
                 mouthRect = new RectF(mouthX - 15, mouthY - 15, mouthX + 15, mouthY + 15);
@@ -399,7 +400,7 @@ public class Character {
         paint.setStyle(Paint.Style.FILL);
     }
     
-    private void drawLegs(Canvas canvas, Paint paint) {
+    private void drawLegs(Canvas canvas, Paint paint, AnimationState state, int frame) {
         paint.setColor(primaryColor);
         
         float legWidth = width * 0.18f;
@@ -410,11 +411,10 @@ public class Character {
         float leftLegOffset = 0;
         float rightLegOffset = 0;
         
-        if (currentState == AnimationState.RUNNING || currentState == AnimationState.BOOSTING) {
-            // Faster leg animation for running
-            float runSpeed = currentState == AnimationState.BOOSTING ? 0.03f : 0.02f;
-            float runPhase = (float) Math.sin(System.currentTimeMillis() * runSpeed);
-            float runAmplitude = currentState == AnimationState.BOOSTING ? 20f : 15f;
+        if (state == AnimationState.RUNNING || state == AnimationState.BOOSTING) {
+            // Each frame is a quarter stride (frame duration sets the pace)
+            float runPhase = (float) Math.sin(frame * Math.PI / 2);
+            float runAmplitude = state == AnimationState.BOOSTING ? 20f : 15f;
             leftLegOffset = runPhase * runAmplitude;
             rightLegOffset = -runPhase * runAmplitude;
         }
@@ -438,31 +438,27 @@ public class Character {
     }
     
     private void spawnBoostParticle() {
-        for (Particle particle : boostParticles) {
-            if (!particle.isActive()) {
-                float startX = x + width * 0.2f;
-                float startY = y + height * 0.5f + bounceOffset + (float)(Math.random() * height * 0.3f);
-                particle.spawn(startX, startY, 0xFFFFD700);
-                activeParticles++;
-                break;
-            }
-        }
+        float startX = x + width * 0.2f;
+        float startY = y + height * 0.5f + bounceOffset + (float)(Math.random() * height * 0.3f);
+        particles.emit(BOOST, startX, startY,
+            -(float)(Math.random() * GameConstants.PARTICLE_SPEED + 50),
+            (float)(Math.random() * 100 - 50),
+            (float)(Math.random() * 15 + 8),
+            GameConstants.PARTICLE_LIFETIME / 1000f,
+            0xFFFFD700);
     }
     
     private void spawnDustParticle() {
-        for (Particle particle : dustParticles) {
-            if (!particle.isActive()) {
-                float startX = x + width * 0.3f;
-                float startY = y + height * 0.9f + bounceOffset;
-                particle.spawn(startX, startY, 0xFFD7CCC8); // Dust color
-                particle.vx = -(float)(Math.random() * 150 + 50); // Move backward
-                particle.vy = (float)(Math.random() * 20 - 10); // Slight vertical
-                particle.lifetime = 300f; // Shorter lifetime
-                particle.maxLifetime = 300f;
-                particle.size = (float)(Math.random() * 10 + 5); // Smaller
-                break;
-            }
-        }
+        if (particles.getCount(DUST) >= DUST_PARTICLES) return;
+        
+        float startX = x + width * 0.3f;
+        float startY = y + height * 0.9f + bounceOffset;
+        particles.emit(DUST, startX, startY,
+            -(float)(Math.random() * 150 + 50), // Move backward
+            (float)(Math.random() * 20 - 10), // Slight vertical
+            (float)(Math.random() * 10 + 5), // Smaller
+            0.3f, // Shorter lifetime
+            0xFFD7CCC8); // Dust color
     }
     
     private float getFrameDuration() {
@@ -499,55 +495,4 @@ public class Character {
     public void setScale(float sx, float sy) { this.scaleX = sx; this.scaleY = sy; }
     public int getPrimaryColor() { return primaryColor; }
     public AnimationState getAnimationState() { return currentState; }
-    
-    /**
-     * Inner class for boost particles
-     */
-    public static class Particle {
-        private float x, y;
-        private float vx, vy;
-        private float lifetime;
-        private float maxLifetime;
-        private int color;
-        private float size;
-        private boolean active = false;
-        
-        public void spawn(float x, float y, int color) {
-            this.x = x;
-            this.y = y;
-            this.color = color;
-            this.vx = -(float)(Math.random() * GameConstants.PARTICLE_SPEED + 50);
-            this.vy = (float)(Math.random() * 100 - 50);
-            this.lifetime = GameConstants.PARTICLE_LIFETIME;
-            this.maxLifetime = GameConstants.PARTICLE_LIFETIME;
-            this.size = (float)(Math.random() * 15 + 8);
-            this.active = true;
-        }
-        
-        public void update(float deltaTime) {
-            if (!active) return;
-            
-            x += vx * (deltaTime / 1000f);
-            y += vy * (deltaTime / 1000f);
-            lifetime -= deltaTime;
-            
-            if (lifetime <= 0) {
-                active = false;
-            }
-        }
-        
-        public void draw(Canvas canvas, Paint paint) {
-            if (!active) return;
-            
-            float alpha = lifetime / maxLifetime;
-            int particleColor = (((int)(alpha * 255) & 0xFF) << 24) | (color & 0x00FFFFFF);
-            paint.setColor(particleColor);
-            paint.setStyle(Paint.Style.FILL);
-            
-            float currentSize = size * (0.5f + alpha * 0.5f);
-            canvas.drawCircle(x, y, currentSize, paint);
-        }
-        
-        public boolean isActive() { return active; }
-    }
 }
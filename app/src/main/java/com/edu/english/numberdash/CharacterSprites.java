@@ -0,0 +1,123 @@
+package com.edu.english.numberdash;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Character Sprite Cache
+ * Pre-renders every animation frame of a character type into one atlas at
+ * CHARACTER_WIDTH x CHARACTER_HEIGHT, the first time that type is drawn, so a
+ * character is a single bitmap blit per frame
+ */
+public class CharacterSprites {
+
+    // Frames per animation state (idle and stumble poses don't change between frames)
+    private static final int[] STATE_FRAMES = {1, 4, 4, 1};
+
+    // Extra room around the body for ears, running legs and feet
+    private static final float PAD_X = GameConstants.CHARACTER_WIDTH * 0.1f;
+    private static final float PAD_TOP = GameConstants.CHARACTER_HEIGHT * 0.45f;
+    private static final float PAD_BOTTOM = GameConstants.CHARACTER_HEIGHT * 0.3f;
+
+    // Cached atlases keyed by character type
+    private static final Map<Character.CharacterType, Atlas> atlases =
+            new EnumMap<>(Character.CharacterType.class);
+
+    /**
+     * Draws one pose in the character's local space (0,0 to width,height)
+     */
+    public interface FramePainter {
+        void paintFrame(Canvas canvas, Paint paint, Character.AnimationState state, int frame);
+    }
+
+    /**
+     * All frames of one character type, side by side in a single bitmap
+     */
+    public static class Atlas {
+        private final Bitmap bitmap;
+        private final int cellWidth;
+        private final int cellHeight;
+        private final Rect src = new Rect();
+        private final RectF dst = new RectF();
+
+        Atlas(Bitmap bitmap, int cellWidth, int cellHeight) {
+            this.bitmap = bitmap;
+            this.cellWidth = cellWidth;
+            this.cellHeight = cellHeight;
+        }
+
+        /**
+         * Draw a frame with the character's top-left at the current canvas origin
+         */
+        public void draw(Canvas canvas, Character.AnimationState state, int frame, Paint paint) {
+            int cell = getCell(state, frame);
+            src.set(cell * cellWidth, 0, (cell + 1) * cellWidth, cellHeight);
+            dst.set(-PAD_X, -PAD_TOP, cellWidth - PAD_X, cellHeight - PAD_TOP);
+            canvas.drawBitmap(bitmap, src, dst, paint);
+        }
+    }
+
+    private CharacterSprites() {
+    }
+
+    /**
+     * Get the atlas for a character type, rendering it on first use
+     *
+     * @param painter Draws a pose when the atlas is not cached yet
+     */
+    public static synchronized Atlas get(Character.CharacterType type, FramePainter painter) {
+        Atlas atlas = atlases.get(type);
+        if (atlas == null) {
+            atlas = render(painter);
+            atlases.put(type, atlas);
+        }
+        return atlas;
+    }
+
+    private static Atlas render(FramePainter painter) {
+        int cellWidth = (int) Math.ceil(GameConstants.CHARACTER_WIDTH + PAD_X * 2);
+        int cellHeight = (int) Math.ceil(GameConstants.CHARACTER_HEIGHT + PAD_TOP + PAD_BOTTOM);
+        int cells = 0;
+        for (int frames : STATE_FRAMES) {
+            cells += frames;
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(cellWidth * cells, cellHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint();
+        paint.setAntiAlias(true);
+
+        for (Character.AnimationState state : Character.AnimationState.values()) {
+            for (int frame = 0; frame < STATE_FRAMES[state.ordinal()]; frame++) {
+                canvas.save();
+                canvas.translate(getCell(state, frame) * cellWidth + PAD_X, PAD_TOP);
+                canvas.clipRect(-PAD_X, -PAD_TOP, cellWidth - PAD_X, cellHeight - PAD_TOP);
+                painter.paintFrame(canvas, paint, state, frame);
+                canvas.restore();
+            }
+        }
+
+        return new Atlas(bitmap, cellWidth, cellHeight);
+    }
+
+    private static int getCell(Character.AnimationState state, int frame) {
+        int cell = 0;
+        for (int i = 0; i < state.ordinal(); i++) {
+            cell += STATE_FRAMES[i];
+        }
+        return cell + frame % STATE_FRAMES[state.ordinal()];
+    }
+
+    /**
+     * Drop all cached atlases (called when the game is released)
+     */
+    public static synchronized void clear() {
+        atlases.clear();
+    }
+}
@@ -2,7 +2,10 @@ package com.edu.english.numberdash;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.RectF;
+
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
 
 import java.util.Random;
 
@@ -11,12 +14,23 @@ import java.util.Random;
  */
 public class ConfettiSystem {
     
-    private ConfettiParticle[] particles;
+    private final ParticleEngine particles;
+    private final int particleCount;
     private boolean active = false;
     private int screenWidth;
     private int screenHeight;
     private Random random;
     
+    // All pieces go out in one batched draw call
+    private final SpriteBatch batch;
+    
+    // One emitter per shape (rect strips, circles, triangles): falling, swaying pieces
+    private final ParticleEmitter[] emitters = {
+        createEmitter(SpriteBatch.SHAPE_RECT).setAspect(0.5f),
+        createEmitter(SpriteBatch.SHAPE_CIRCLE),
+        createEmitter(SpriteBatch.SHAPE_TRIANGLE)
+    };
+    
     // Confetti colors
     private int[] colors = {
         0xFFFF6B6B, // Red
@@ -33,10 +47,18 @@ public class ConfettiSystem {
         this.screenHeight = screenHeight;
         this.random = new Random();
         
-        particles = new ConfettiParticle[particleCount];
-        for (int i = 0; i < particleCount; i++) {
-            particles[i] = new ConfettiParticle();
-        }
+        this.particleCount = particleCount;
+        this.particles = new ParticleEngine(particleCount);
+        this.batch = new SpriteBatch(particleCount);
+        setScreenDimensions(screenWidth, screenHeight);
+    }
+    
+    private static ParticleEmitter createEmitter(int shape) {
+        return new ParticleEmitter(shape)
+            .setGravity(150)
+            .setDrag(0.99f, 1f)
+            .setSway(50, 0.02f)
+            .setFade(ParticleEmitter.FADE_NONE);
     }
     
     /**
@@ -45,8 +67,9 @@ public class ConfettiSystem {
     public void start() {
         active = true;
         
-        for (ConfettiParticle particle : particles) {
-            spawnParticle(particle);
+        particles.clear();
+        for (int i = 0; i < particleCount; i++) {
+            spawnParticle();
         }
     }
     
@@ -57,17 +80,20 @@ public class ConfettiSystem {
         active = false;
     }
     
-    private void spawnParticle(ConfettiParticle particle) {
-        particle.x = random.nextFloat() * screenWidth;
-        particle.y = -random.nextFloat() * screenHeight * 0.5f - 50;
-        particle.vx = (random.nextFloat() - 0.5f) * 100;
-        particle.vy = random.nextFloat() * 200 + 100;
-        particle.rotation = random.nextFloat() * 360;
-        particle.rotationSpeed = (random.nextFloat() - 0.5f) * 500;
-        particle.size = random.nextFloat() * 15 + 8;
-        particle.color = colors[random.nextInt(colors.length)];
-        particle.shape = random.nextInt(3); // 0=rect, 1=circle, 2=triangle
-        particle.active = true;
+    private void spawnParticle() {
+        float size = random.nextFloat() * 15 + 8;
+        particles.emit(
+            emitters[random.nextInt(emitters.length)],
+            random.nextFloat() * screenWidth,
+            -random.nextFloat() * screenHeight * 0.5f - 50,
+            (random.nextFloat() - 0.5f) * 100,
+            random.nextFloat() * 200 + 100,
+            size / 2,
+            Float.POSITIVE_INFINITY, // Lives until it falls off screen
+            colors[random.nextInt(colors.length)],
+            random.nextFloat() * 360,
+            (random.nextFloat() - 0.5f) * 500
+        );
     }
     
     /**
@@ -76,68 +102,24 @@ public class ConfettiSystem {
     public void update(float deltaTime) {
         if (!active) return;
         
-        float dt = deltaTime / 1000f;
+        particles.update(deltaTime / 1000f);
         
-        for (ConfettiParticle particle : particles) {
-            if (particle.active) {
-                // Apply gravity
-                particle.vy += 150 * dt;
-                
-                // Apply air resistance
-                particle.vx *= 0.99f;
-                
-                // Add swaying motion
-                particle.vx += (float) Math.sin(particle.y * 0.02f) * 50 * dt;
-                
-                // Update position
-                particle.x += particle.vx * dt;
-                particle.y += particle.vy * dt;
-                particle.rotation += particle.rotationSpeed * dt;
-                
-                // Respawn if off screen
-                if (particle.y > screenHeight + 50) {
-                    spawnParticle(particle);
-                }
-            }
+        // Respawn pieces that fell off screen
+        while (particles.getCount() < particleCount) {
+            spawnParticle();
         }
     }
     
     /**
      * Draw all particles
+     * @param paint Unused (pieces are tinted sprites from the batch's atlas)
      */
     public void draw(Canvas canvas, Paint paint) {
         if (!active) return;
         
-        for (ConfettiParticle particle : particles) {
-            if (particle.active) {
-                paint.setColor(particle.color);
-                paint.setStyle(Paint.Style.FILL);
-                
-                canvas.save();
-                canvas.translate(particle.x, particle.y);
-                canvas.rotate(particle.rotation);
-                
-                switch (particle.shape) {
-                    case 0: // Rectangle
-                        canvas.drawRect(-particle.size / 2, -particle.size / 4,
-                                       particle.size / 2, particle.size / 4, paint);
-                        break;
-                    case 1: // Circle
-                        canvas.drawCircle(0, 0, particle.size / 2, paint);
-                        break;
-                    case 2: // Triangle
-                        android.graphics.Path path = new android.graphics.Path();
-                        path.moveTo(0, -particle.size / 2);
-                        path.lineTo(-particle.size / 2, particle.size / 2);
-                        path.lineTo(particle.size / 2, particle.size / 2);
-                        path.close();
-                        canvas.drawPath(path, paint);
-                        break;
-                }
-                
-                canvas.restore();
-            }
-        }
+        batch.begin(canvas);
+        particles.draw(batch);
+        batch.end();
     }
     
     public boolean isActive() {
@@ -147,19 +129,8 @@ public class ConfettiSystem {
     public void setScreenDimensions(int width, int height) {
         this.screenWidth = width;
         this.screenHeight = height;
-    }
-    
-    /**
-     * Inner class for confetti particles
-     */
-    private static class ConfettiParticle {
-        float x, y;
-        float vx, vy;
-        float rotation;
-        float rotationSpeed;
-        float size;
-        int color;
-        int shape;
-        boolean active;
+        for (ParticleEmitter emitter : emitters) {
+            emitter.setFloor(height + 50);
+        }
     }
 }
@@ -5,12 +5,16 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.RectF;
 import android.graphics.Typeface;
-import android.media.AudioAttributes;
-import android.media.SoundPool;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
 
+import com.edu.english.audio.AudioEngine;
+import com.edu.english.audio.SoundBank;
+import com.edu.english.audio.VoicePolicy;
+import com.edu.english.util.EmojiAtlas;
+import com.edu.english.util.TextCache;
+
 /**
  * Main game view for Number Dash Race
  * Handles game loop, rendering, and input
@@ -54,16 +58,39 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     private Paint panelPaint;
     private Paint buttonPaint;
     private Paint overlayPaint;
-    private Paint emojiPaint;
     private Paint progressPaint;
     
-    // Sound
-    private SoundPool soundPool;
-    private int soundCorrect;
-    private int soundWrong;
-    private int soundCountdown;
-    private int soundFinish;
-    private boolean soundsLoaded = false;
+    // Sound (optional res/raw clips on the shared audio engine)
+    private SoundBank soundBank;
+    private static final int SOUND_CORRECT = 0;
+    private static final int SOUND_WRONG = 1;
+    private static final int SOUND_COUNTDOWN = 2;
+    private static final int SOUND_FINISH = 3;
+    private static final String[] SOUND_NAMES = {"correct", "wrong", "countdown", "finish"};
+    // Rapid answer taps must not stack up: capped copies, retrigger limit, cues outrank feedback
+    private static final VoicePolicy[] SOUND_POLICIES = {
+        new VoicePolicy(2, 120, 2, 800),
+        new VoicePolicy(1, 150, 2, 600),
+        new VoicePolicy(1, 0, 3, 1000),
+        new VoicePolicy(1, 0, 3, 2000)
+    };
+    
+    // Star rows by rating (fixed strings so the glyph atlas keeps hitting)
+    private static final String[] STAR_TEXTS = {"☆☆☆", "⭐☆☆", "⭐⭐☆", "⭐⭐⭐"};
+    
+    // HUD strings, formatted once
+    private static final String[] COUNT_TEXTS = TextCache.table("", GameConstants.TOTAL_QUESTIONS, "/" + GameConstants.TOTAL_QUESTIONS);
+    private static final String[] CORRECT_TEXTS = TextCache.table("✓ ", GameConstants.TOTAL_QUESTIONS, "");
+    private static final String[] SCORE_TEXTS = TextCache.table("", GameConstants.TOTAL_QUESTIONS, " / " + GameConstants.TOTAL_QUESTIONS + " correct!");
+    private static final String[] RESULT_MESSAGES = {"Amazing!", "Great Job!", "Fantastic!", "You're a Star!", "Wonderful!"};
+    
+    // Static labels, rendered on first draw
+    private TextCache.Label chooseTitleLabel;
+    private TextCache.Label startRaceLabel;
+    private TextCache.Label youWinLabel;
+    private TextCache.Label playAgainLabel;
+    private TextCache.Label homeLabel;
+    private String resultMessage = RESULT_MESSAGES[0];
     
     // Callback
     private GameCallback callback;
@@ -125,34 +152,18 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         overlayPaint = new Paint();
         overlayPaint.setAntiAlias(true);
         
-        emojiPaint = new Paint();
-        emojiPaint.setAntiAlias(true);
-        emojiPaint.setTextAlign(Paint.Align.CENTER);
-        
         progressPaint = new Paint();
         progressPaint.setAntiAlias(true);
     }
     
     private void initSounds(Context context) {
-        AudioAttributes audioAttributes = new AudioAttributes.Builder()
-                .setUsage(AudioAttributes.USAGE_GAME)
-                .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
-                .build();
-        
-        soundPool = new SoundPool.Builder()
-                .setMaxStreams(4)
-                .setAudioAttributes(audioAttributes)
-                .build();
-        
-        soundPool.setOnLoadCompleteListener((pool, sampleId, status) -> {
-            if (status == 0) {
-                soundsLoaded = true;
-            }
-        });
+        soundBank = AudioEngine.getInstance(context).openBank(AudioEngine.CATEGORY_SFX, SOUND_NAMES.length);
         
-        // For now, we'll skip actual sound loading and just set flags
-        // In production, you'd load actual sound resources
-        soundsLoaded = true;
+        // Sounds are optional - game works without them (missing clips are skipped)
+        for (int i = 0; i < SOUND_NAMES.length; i++) {
+            soundBank.setPolicy(i, SOUND_POLICIES[i]);
+            soundBank.loadRaw(i, SOUND_NAMES[i]);
+        }
     }
     
     public void setCallback(GameCallback callback) {
@@ -211,6 +222,11 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
+        
+        // Background layers are rebuilt with the next surface
+        if (background != null && !gameThread.isAlive()) {
+            background.release();
+        }
     }
     
     private void positionAnswerButtons(int screenWidth, int screenHeight) {
@@ -312,9 +328,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                 countdownText = "GO!";
                 countdownScale = GameConstants.COUNTDOWN_SCALE_START;
             } else {
-                countdownText = String.valueOf(count);
+                countdownText = TextCache.valueOf(count);
                 countdownScale = GameConstants.COUNTDOWN_SCALE_START;
-                playSound(soundCountdown);
+                playSound(SOUND_COUNTDOWN);
             }
         } else {
             // Animate scale
@@ -359,8 +375,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         if (gameState.isRaceFinished()) {
             gameState.setCurrentState(GameConstants.STATE_RESULT);
             resultAnimTimer = 0;
+            resultMessage = pickResultMessage(gameState.getStarRating());
             confettiSystem.start();
-            playSound(soundFinish);
+            playSound(SOUND_FINISH);
         }
     }
     
@@ -450,7 +467,10 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         textPaint.setColor(0xFF333333);
         textPaint.setTextSize(48);
         textPaint.setTextAlign(Paint.Align.CENTER);
-        canvas.drawText("Choose Your Racer!", width / 2f, panelY + 60, textPaint);
+        if (chooseTitleLabel == null) {
+            chooseTitleLabel = new TextCache.Label("Choose Your Racer!", textPaint);
+        }
+        chooseTitleLabel.draw(canvas, width / 2f, panelY + 60);
         
         // Draw character options
         float charAreaY = panelY + 100;
@@ -506,7 +526,11 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         
         textPaint.setColor(0xFFFFFFFF);
         textPaint.setTextSize(28);
-        canvas.drawText("START RACE!", width / 2f, buttonY + 40, textPaint);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        if (startRaceLabel == null) {
+            startRaceLabel = new TextCache.Label("START RACE!", textPaint);
+        }
+        startRaceLabel.draw(canvas, width / 2f, buttonY + 40);
     }
     
     private void drawCountdown(Canvas canvas) {
@@ -605,15 +629,27 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         textPaint.setColor(0xFFFFFFFF);
         textPaint.setTextSize(24);
         textPaint.setTextAlign(Paint.Align.LEFT);
-        String countText = gameState.getQuestionsAnswered() + "/" + GameConstants.TOTAL_QUESTIONS;
+        String countText = hudText(COUNT_TEXTS, gameState.getQuestionsAnswered());
         canvas.drawText(countText, barX + barWidth + 15, barY + barHeight - 2, textPaint);
         
         // Correct answers
         textPaint.setColor(0xFF4CAF50);
-        String correctText = "✓ " + gameState.getCorrectAnswers();
+        String correctText = hudText(CORRECT_TEXTS, gameState.getCorrectAnswers());
         canvas.drawText(correctText, barX, barY + barHeight + 25, textPaint);
     }
     
+    private static String hudText(String[] texts, int value) {
+        return texts[Math.max(0, Math.min(texts.length - 1, value))];
+    }
+    
+    /**
+     * One of the two messages for the star rating (higher ratings get the later ones)
+     */
+    private static String pickResultMessage(int stars) {
+        int index = Math.max(0, Math.min(stars - 1, RESULT_MESSAGES.length - 1) + (int) (Math.random() * 2));
+        return RESULT_MESSAGES[Math.min(index, RESULT_MESSAGES.length - 1)];
+    }
+    
     private void drawQuestion(Canvas canvas, int width, int height) {
         Question question = questionManager.getCurrentQuestion();
         if (question == null) return;
@@ -639,10 +675,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         RectF panelRect = new RectF(0, 0, panelWidth, panelHeight);
         canvas.drawRoundRect(panelRect, 25, 25, panelPaint);
         
-        // Visual representation (emojis)
-        emojiPaint.setTextSize(50);
-        emojiPaint.setColor(0xFF333333);
-        canvas.drawText(question.getVisualRepresentation(), panelWidth / 2, 70, emojiPaint);
+        // Visual representation (emojis, from the shared glyph atlas)
+        EmojiAtlas.getInstance().draw(canvas, question.getVisualRepresentation(),
+                panelWidth / 2, 70, 50, 0xFF333333);
         
         // Question text
         textPaint.setColor(0xFF333333);
@@ -693,41 +728,33 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         canvas.drawRoundRect(panelRect, 30, 30, panelPaint);
         
         // Trophy/celebration
-        emojiPaint.setTextSize(80);
-        canvas.drawText("🏆", panelWidth / 2, 80, emojiPaint);
+        EmojiAtlas.getInstance().draw(canvas, "🏆", panelWidth / 2, 80, 80, 0xFF333333);
         
         // You win text
         textPaint.setColor(0xFF4CAF50);
         textPaint.setTextSize(48);
         textPaint.setTextAlign(Paint.Align.CENTER);
-        canvas.drawText("YOU WIN!", panelWidth / 2, 140, textPaint);
+        if (youWinLabel == null) {
+            youWinLabel = new TextCache.Label("YOU WIN!", textPaint);
+        }
+        youWinLabel.draw(canvas, panelWidth / 2, 140);
         
         // Stars
         int stars = gameState.getStarRating();
         float starY = 200;
-        String starText = "";
-        for (int i = 0; i < 3; i++) {
-            if (i < stars) {
-                starText += "⭐";
-            } else {
-                starText += "☆";
-            }
-        }
-        emojiPaint.setTextSize(60);
-        canvas.drawText(starText, panelWidth / 2, starY, emojiPaint);
+        String starText = STAR_TEXTS[Math.max(0, Math.min(3, stars))];
+        EmojiAtlas.getInstance().draw(canvas, starText, panelWidth / 2, starY, 60, 0xFF333333);
         
         // Score
         textPaint.setColor(0xFF666666);
         textPaint.setTextSize(28);
-        String scoreText = gameState.getCorrectAnswers() + " / " + GameConstants.TOTAL_QUESTIONS + " correct!";
+        String scoreText = hudText(SCORE_TEXTS, gameState.getCorrectAnswers());
         canvas.drawText(scoreText, panelWidth / 2, 270, textPaint);
         
-        // Celebration message
-        String[] messages = {"Amazing!", "Great Job!", "Fantastic!", "You're a Star!", "Wonderful!"};
-        String message = messages[Math.min(stars - 1, messages.length - 1) + (int)(Math.random() * 2)];
+        // Celebration message (picked when the race finished)
         textPaint.setColor(0xFFFF9800);
         textPaint.setTextSize(32);
-        canvas.drawText(message, panelWidth / 2, 320, textPaint);
+        canvas.drawText(resultMessage, panelWidth / 2, 320, textPaint);
         
         canvas.restore();
         
@@ -745,7 +772,10 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         
         textPaint.setColor(0xFFFFFFFF);
         textPaint.setTextSize(22);
-        canvas.drawText("Play Again", playAgainX + buttonWidth / 2, buttonY + 33, textPaint);
+        if (playAgainLabel == null) {
+            playAgainLabel = new TextCache.Label("Play Again", textPaint);
+        }
+        playAgainLabel.draw(canvas, playAgainX + buttonWidth / 2, buttonY + 33);
         
         // Home button
         float homeX = panelX + panelWidth / 2 + buttonSpacing / 2;
@@ -754,7 +784,10 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         canvas.drawRoundRect(homeRect, 25, 25, buttonPaint);
         
         textPaint.setColor(0xFFFFFFFF);
-        canvas.drawText("Home", homeX + buttonWidth / 2, buttonY + 33, textPaint);
+        if (homeLabel == null) {
+            homeLabel = new TextCache.Label("Home", textPaint);
+        }
+        homeLabel.draw(canvas, homeX + buttonWidth / 2, buttonY + 33);
     }
     
     @Override
@@ -852,11 +885,11 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                     if (correct) {
                         feedbackText = "Great!";
                         feedbackColor = GameConstants.COLOR_CORRECT;
-                        playSound(soundCorrect);
+                        playSound(SOUND_CORRECT);
                     } else {
                         feedbackText = "Oops!";
                         feedbackColor = GameConstants.COLOR_WRONG;
-                        playSound(soundWrong);
+                        playSound(SOUND_WRONG);
                     }
                     feedbackAlpha = 1f;
                 }
@@ -906,7 +939,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         countdownScale = GameConstants.COUNTDOWN_SCALE_START;
         countdownAnimTimer = 0;
         
-        playSound(soundCountdown);
+        playSound(SOUND_COUNTDOWN);
     }
     
     private void resetGame() {
@@ -917,18 +950,18 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
     
     private void playSound(int soundId) {
-        if (soundsLoaded && soundPool != null) {
-            // soundPool.play(soundId, 1f, 1f, 1, 0, 1f);
-            // Sound playing is optional - game works without sounds
+        if (soundBank != null) {
+            soundBank.play(soundId, 1f);
         }
     }
     
     public void cleanup() {
         isRunning = false;
-        if (soundPool != null) {
-            soundPool.release();
-            soundPool = null;
+        if (soundBank != null) {
+            soundBank.close();
+            soundBank = null;
         }
+        CharacterSprites.clear();
     }
     
     /**
@@ -1008,7 +1041,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
             textPaint.setColor(0xFFFFFFFF);
             textPaint.setTextSize(size * 0.4f);
             textPaint.setTextAlign(Paint.Align.CENTER);
-            canvas.drawText(String.valueOf(value), size / 2, size / 2 + size * 0.15f, textPaint);
+            canvas.drawText(TextCache.valueOf(value), size / 2, size / 2 + size * 0.15f, textPaint);
             
             canvas.restore();
         }
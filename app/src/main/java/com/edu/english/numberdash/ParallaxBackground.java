@@ -1,28 +1,40 @@
 package com.edu.english.numberdash;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.LinearGradient;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.RectF;
 import android.graphics.Shader;
 
 /**
  * Renders the parallax scrolling background for Number Dash Race
+ * Each layer is rasterized once per screen size into a strip one screen wide
+ * that tiles horizontally; a frame is just the strips blitted at their scroll
+ * offsets (two blits per scrolling strip at most).
  */
 public class ParallaxBackground {
     
-    // Layer offsets (for scrolling)
-    private float farLayerOffset = 0;
-    private float midLayerOffset = 0;
-    private float nearLayerOffset = 0;
+    // Center line dash pattern (stretched slightly so whole dashes fill the strip)
+    private static final float DASH_WIDTH = 40;
+    private static final float DASH_GAP = 30;
+    
+    // Scroll offsets of each strip (wrapped to the strip width)
+    private float cloudOffset = 0;
+    private float mountainOffset = 0;
+    private float hillOffset = 0;
+    private float treeOffset = 0;
     private float trackOffset = 0;
+    private float dustOffset = 0;
     
-    // Screen dimensions
-    private int screenWidth;
-    private int screenHeight;
+    // Screen dimensions (may change from the UI thread; strips rebuild on the next draw)
+    private volatile int screenWidth;
+    private volatile int screenHeight;
+    private int stripWidth;
+    private int stripHeight;
     
     // Paints
-    private Paint skyPaint;
     private Paint sunPaint;
     private Paint cloudPaint;
     private Paint mountainPaint;
@@ -32,6 +44,17 @@ public class ParallaxBackground {
     private Paint trackLinePaint;
     private Paint treePaint;
     private Paint treeTopPaint;
+    private Paint bitmapPaint;
+    
+    // Finish line
+    private Paint checkerPaint;
+    private Paint bannerPaint;
+    private Paint finishTextPaint;
+    private final RectF bannerRect = new RectF();
+    
+    // Reused while rendering strips
+    private final Path path = new Path();
+    private final RectF rect = new RectF();
     
     // Decorative elements positions
     private float[] cloudPositions;
@@ -39,6 +62,48 @@ public class ParallaxBackground {
     private float[] treePositions;
     private float[] bushPositions;
     
+    // Pre-rendered layers, back to front
+    private Strip backdrop;
+    private Strip clouds;
+    private Strip mountains;
+    private Strip hills;
+    private Strip trees;
+    private Strip ground;
+    private Strip trackLines;
+    private Strip trackDust;
+    
+    /**
+     * A pre-rendered layer one screen wide, drawn at a vertical position
+     */
+    private static class Strip {
+        final Bitmap bitmap;
+        final float top;
+        
+        Strip(Bitmap bitmap, float top) {
+            this.bitmap = bitmap;
+            this.top = top;
+        }
+        
+        /**
+         * Blit the strip scrolled left by offset, wrapping around
+         */
+        void draw(Canvas canvas, float offset, Paint paint) {
+            int width = bitmap.getWidth();
+            float x = -(offset % width);
+            if (x > 0) {
+                x -= width;
+            }
+            canvas.drawBitmap(bitmap, x, top, paint);
+            if (x + width < width) {
+                canvas.drawBitmap(bitmap, x + width, top, paint);
+            }
+        }
+        
+        void recycle() {
+            bitmap.recycle();
+        }
+    }
+    
     public ParallaxBackground(int screenWidth, int screenHeight) {
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
@@ -48,9 +113,6 @@ public class ParallaxBackground {
     }
     
     private void initPaints() {
-        skyPaint = new Paint();
-        skyPaint.setAntiAlias(true);
-        
         sunPaint = new Paint();
         sunPaint.setAntiAlias(true);
         sunPaint.setColor(0xFFFFEB3B);
@@ -87,6 +149,23 @@ public class ParallaxBackground {
         treeTopPaint = new Paint();
         treeTopPaint.setAntiAlias(true);
         treeTopPaint.setColor(0xFF388E3C);
+        
+        bitmapPaint = new Paint();
+        bitmapPaint.setFilterBitmap(false);
+        
+        checkerPaint = new Paint();
+        checkerPaint.setAntiAlias(true);
+        
+        bannerPaint = new Paint();
+        bannerPaint.setColor(0xFFE53935);
+        bannerPaint.setAntiAlias(true);
+        
+        finishTextPaint = new Paint();
+        finishTextPaint.setColor(0xFFFFFFFF);
+        finishTextPaint.setTextSize(22);
+        finishTextPaint.setTextAlign(Paint.Align.CENTER);
+        finishTextPaint.setFakeBoldText(true);
+        finishTextPaint.setAntiAlias(true);
     }
     
     private void initDecorations() {
@@ -107,63 +186,143 @@ public class ParallaxBackground {
     public void update(float deltaTime, float currentSpeed) {
         float baseMovement = currentSpeed * (deltaTime / 1000f);
         
-        farLayerOffset += baseMovement * GameConstants.BG_FAR_SPEED_RATIO;
-        midLayerOffset += baseMovement * GameConstants.BG_MID_SPEED_RATIO;
-        nearLayerOffset += baseMovement * GameConstants.BG_NEAR_SPEED_RATIO;
+        cloudOffset += baseMovement * GameConstants.BG_FAR_SPEED_RATIO;
+        mountainOffset += baseMovement * GameConstants.BG_FAR_SPEED_RATIO * 0.3f;
+        hillOffset += baseMovement * GameConstants.BG_MID_SPEED_RATIO * 0.5f;
+        treeOffset += baseMovement * GameConstants.BG_NEAR_SPEED_RATIO;
         trackOffset += baseMovement * GameConstants.TRACK_SPEED_RATIO;
+        // Dust drifts against the track
+        dustOffset -= baseMovement * GameConstants.TRACK_SPEED_RATIO * 0.5f;
         
-        // Wrap offsets to prevent floating point issues
+        // Wrap offsets to the strip width (keeps every layer seamless)
         float tileWidth = screenWidth;
-        farLayerOffset %= tileWidth;
-        midLayerOffset %= tileWidth;
-        nearLayerOffset %= tileWidth;
-        trackOffset %= tileWidth;
+        if (tileWidth > 0) {
+            cloudOffset %= tileWidth;
+            mountainOffset %= tileWidth;
+            hillOffset %= tileWidth;
+            treeOffset %= tileWidth;
+            trackOffset %= tileWidth;
+            dustOffset %= tileWidth;
+        }
     }
     
     /**
      * Draw the complete background
      */
     public void draw(Canvas canvas) {
-        // Layer 1: Sky gradient
-        drawSky(canvas);
+        if (stripWidth != screenWidth || stripHeight != screenHeight || backdrop == null) {
+            buildStrips();
+            if (backdrop == null) return;
+        }
         
-        // Layer 2: Sun
-        drawSun(canvas);
+        // Sky and sun
+        backdrop.draw(canvas, 0, bitmapPaint);
         
-        // Layer 3: Clouds (far)
-        drawClouds(canvas, farLayerOffset);
+        // Far: clouds and mountains
+        clouds.draw(canvas, cloudOffset, bitmapPaint);
+        mountains.draw(canvas, mountainOffset, bitmapPaint);
         
-        // Layer 4: Mountains (far)
-        drawMountains(canvas, farLayerOffset);
+        // Mid: hills
+        hills.draw(canvas, hillOffset, bitmapPaint);
         
-        // Layer 5: Hills (mid)
-        drawHills(canvas, midLayerOffset);
+        // Near: trees
+        trees.draw(canvas, treeOffset, bitmapPaint);
         
-        // Layer 6: Trees (near)
-        drawTrees(canvas, nearLayerOffset);
+        // Grass and track surface
+        ground.draw(canvas, 0, bitmapPaint);
         
-        // Layer 7: Grass
-        drawGrass(canvas);
+        // Track markings
+        trackLines.draw(canvas, trackOffset, bitmapPaint);
+        trackDust.draw(canvas, dustOffset, bitmapPaint);
+    }
+    
+    // ==================== Strip rendering ====================
+    
+    private void buildStrips() {
+        release();
+        
+        int width = screenWidth;
+        int height = screenHeight;
+        stripWidth = width;
+        stripHeight = height;
+        if (width <= 0 || height <= 0) return;
+        
+        float skyBottom = height * 0.6f;
+        float grassTop = height * 0.55f;
+        float trackTop = height * 0.70f;
+        float trackHeight = height * 0.20f;
+        
+        // Sky and sun (static)
+        backdrop = renderStrip(width, 0, skyBottom, Bitmap.Config.ARGB_8888, canvas -> {
+            drawSky(canvas, width, skyBottom);
+            drawSun(canvas, width, height);
+        });
+        
+        // Clouds: biggest cloud reaches 0.18h + 0.6 * 80 down
+        clouds = renderStrip(width, 0, height * 0.18f + 80, Bitmap.Config.ARGB_8888,
+                canvas -> drawClouds(canvas, width, height));
+        
+        float mountainY = height * 0.35f;
+        float mountainHeight = height * 0.2f;
+        float mountainTop = mountainY - mountainHeight * 1.2f;
+        mountains = renderStrip(width, mountainTop, mountainY, Bitmap.Config.ARGB_8888,
+                canvas -> drawMountains(canvas, width, mountainY, mountainHeight));
+        
+        // Hills (everything below the grass line is covered by the ground)
+        float hillY = height * 0.45f;
+        float hillHeight = height * 0.15f;
+        hills = renderStrip(width, hillY - hillHeight * 1.1f, grassTop, Bitmap.Config.ARGB_8888,
+                canvas -> drawHills(canvas, width, hillY, hillHeight));
+        
+        // Trees stand on the grass line; tallest is 80px
+        trees = renderStrip(width, grassTop - 80, grassTop, Bitmap.Config.ARGB_8888,
+                canvas -> drawTrees(canvas, width, grassTop));
+        
+        // Grass and track surface are opaque (static)
+        ground = renderStrip(width, grassTop, height, Bitmap.Config.RGB_565,
+                canvas -> drawGround(canvas, width, height, grassTop, trackTop, trackHeight));
         
-        // Layer 8: Track
-        drawTrack(canvas, trackOffset);
+        float dashY = trackTop + trackHeight / 2;
+        trackLines = renderStrip(width, dashY - 2, dashY + 2, Bitmap.Config.ARGB_8888,
+                canvas -> drawTrackLines(canvas, width, dashY));
+        
+        trackDust = renderStrip(width, trackTop + trackHeight * 0.3f - 8,
+                trackTop + trackHeight * 0.7f + 8, Bitmap.Config.ARGB_8888,
+                canvas -> drawTrackDust(canvas, width, trackTop, trackHeight));
+    }
+    
+    private interface StripPainter {
+        void paint(Canvas canvas);
+    }
+    
+    /**
+     * Render the rows top..bottom of a layer (painter draws in screen coordinates)
+     */
+    private Strip renderStrip(int width, float top, float bottom, Bitmap.Config config, StripPainter painter) {
+        int stripTop = (int) Math.floor(top);
+        int height = Math.max(1, (int) Math.ceil(bottom) - stripTop);
+        
+        Bitmap bitmap = Bitmap.createBitmap(width, height, config);
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(0, -stripTop);
+        painter.paint(canvas);
+        return new Strip(bitmap, stripTop);
     }
     
-    private void drawSky(Canvas canvas) {
-        LinearGradient skyGradient = new LinearGradient(
-            0, 0, 0, screenHeight * 0.6f,
+    private void drawSky(Canvas canvas, int width, float skyBottom) {
+        Paint skyPaint = new Paint();
+        skyPaint.setShader(new LinearGradient(
+            0, 0, 0, skyBottom,
             GameConstants.COLOR_SKY_TOP,
             GameConstants.COLOR_SKY_BOTTOM,
             Shader.TileMode.CLAMP
-        );
-        skyPaint.setShader(skyGradient);
-        canvas.drawRect(0, 0, screenWidth, screenHeight * 0.6f, skyPaint);
-        skyPaint.setShader(null);
+        ));
+        canvas.drawRect(0, 0, width, skyBottom, skyPaint);
     }
     
-    private void drawSun(Canvas canvas) {
-        float sunX = screenWidth * 0.85f;
-        float sunY = screenHeight * 0.15f;
+    private void drawSun(Canvas canvas, int width, int height) {
+        float sunX = width * 0.85f;
+        float sunY = height * 0.15f;
         float sunRadius = 50;
         
         // Sun glow
@@ -177,20 +336,17 @@ public class ParallaxBackground {
         canvas.drawCircle(sunX, sunY, sunRadius, sunPaint);
     }
     
-    private void drawClouds(Canvas canvas, float offset) {
-        float tileWidth = screenWidth;
-        
+    // Tileable layers draw their pattern at -1, 0 and +1 tiles so shapes
+    // crossing the strip's edges wrap around
+    
+    private void drawClouds(Canvas canvas, float tileWidth, int height) {
         for (int tile = -1; tile <= 1; tile++) {
-            float tileOffset = tile * tileWidth - offset;
+            float tileOffset = tile * tileWidth;
             
             for (int i = 0; i < cloudPositions.length; i++) {
                 float cloudX = tileOffset + cloudPositions[i] * tileWidth;
-                float cloudY = screenHeight * (0.08f + (i % 3) * 0.05f);
-                float size = cloudSizes[i];
-                
-                if (cloudX > -size * 2 && cloudX < screenWidth + size) {
-                    drawCloud(canvas, cloudX, cloudY, size);
-                }
+                float cloudY = height * (0.08f + (i % 3) * 0.05f);
+                drawCloud(canvas, cloudX, cloudY, cloudSizes[i]);
             }
         }
     }
@@ -205,28 +361,24 @@ public class ParallaxBackground {
         canvas.drawCircle(x + size * 0.2f, y - size * 0.15f, size * 0.35f, cloudPaint);
     }
     
-    private void drawMountains(Canvas canvas, float offset) {
-        float mountainY = screenHeight * 0.35f;
-        float mountainHeight = screenHeight * 0.2f;
-        float tileWidth = screenWidth;
-        
+    private void drawMountains(Canvas canvas, float tileWidth, float mountainY, float mountainHeight) {
         mountainPaint.setColor(0xFF78909C);
         
         for (int tile = -1; tile <= 1; tile++) {
-            float tileOffset = tile * tileWidth - offset * 0.3f;
+            float tileOffset = tile * tileWidth;
             
             // Draw multiple mountains
-            drawMountain(canvas, tileOffset + tileWidth * 0.2f, mountainY, 
+            drawMountain(canvas, tileOffset + tileWidth * 0.2f, mountainY,
                         tileWidth * 0.25f, mountainHeight);
-            drawMountain(canvas, tileOffset + tileWidth * 0.5f, mountainY, 
+            drawMountain(canvas, tileOffset + tileWidth * 0.5f, mountainY,
                         tileWidth * 0.3f, mountainHeight * 1.2f);
-            drawMountain(canvas, tileOffset + tileWidth * 0.8f, mountainY, 
+            drawMountain(canvas, tileOffset + tileWidth * 0.8f, mountainY,
                         tileWidth * 0.22f, mountainHeight * 0.9f);
         }
     }
     
     private void drawMountain(Canvas canvas, float x, float baseY, float width, float height) {
-        android.graphics.Path path = new android.graphics.Path();
+        path.reset();
         path.moveTo(x - width / 2, baseY);
         path.lineTo(x, baseY - height);
         path.lineTo(x + width / 2, baseY);
@@ -236,22 +388,18 @@ public class ParallaxBackground {
         
         // Snow cap
         cloudPaint.setColor(0xFFFFFFFF);
-        android.graphics.Path snowPath = new android.graphics.Path();
         float snowHeight = height * 0.25f;
-        snowPath.moveTo(x - width * 0.15f, baseY - height + snowHeight);
-        snowPath.lineTo(x, baseY - height);
-        snowPath.lineTo(x + width * 0.15f, baseY - height + snowHeight);
-        snowPath.close();
-        canvas.drawPath(snowPath, cloudPaint);
+        path.reset();
+        path.moveTo(x - width * 0.15f, baseY - height + snowHeight);
+        path.lineTo(x, baseY - height);
+        path.lineTo(x + width * 0.15f, baseY - height + snowHeight);
+        path.close();
+        canvas.drawPath(path, cloudPaint);
     }
     
-    private void drawHills(Canvas canvas, float offset) {
-        float hillY = screenHeight * 0.45f;
-        float hillHeight = screenHeight * 0.15f;
-        float tileWidth = screenWidth;
-        
+    private void drawHills(Canvas canvas, float tileWidth, float hillY, float hillHeight) {
         for (int tile = -1; tile <= 1; tile++) {
-            float tileOffset = tile * tileWidth - offset * 0.5f;
+            float tileOffset = tile * tileWidth;
             
             // Draw rolling hills
             hillPaint.setColor(0xFF81C784);
@@ -266,24 +414,18 @@ public class ParallaxBackground {
     }
     
     private void drawHill(Canvas canvas, float x, float baseY, float width, float height) {
-        RectF hillRect = new RectF(x - width / 2, baseY - height, x + width / 2, baseY + height);
-        canvas.drawOval(hillRect, hillPaint);
+        rect.set(x - width / 2, baseY - height, x + width / 2, baseY + height);
+        canvas.drawOval(rect, hillPaint);
     }
     
-    private void drawTrees(Canvas canvas, float offset) {
-        float tileWidth = screenWidth;
-        float treeBaseY = screenHeight * 0.55f;
-        
+    private void drawTrees(Canvas canvas, float tileWidth, float treeBaseY) {
         for (int tile = -1; tile <= 1; tile++) {
-            float tileOffset = tile * tileWidth - offset;
+            float tileOffset = tile * tileWidth;
             
             for (int i = 0; i < treePositions.length; i++) {
                 float treeX = tileOffset + treePositions[i] * tileWidth;
                 float treeHeight = 60 + (i % 2) * 20;
-                
-                if (treeX > -50 && treeX < screenWidth + 50) {
-                    drawTree(canvas, treeX, treeBaseY, treeHeight);
-                }
+                drawTree(canvas, treeX, treeBaseY, treeHeight);
             }
         }
     }
@@ -294,9 +436,8 @@ public class ParallaxBackground {
         
         // Trunk
         treePaint.setColor(0xFF5D4037);
-        RectF trunkRect = new RectF(x - trunkWidth / 2, baseY - trunkHeight, 
-                                    x + trunkWidth / 2, baseY);
-        canvas.drawRoundRect(trunkRect, 5, 5, treePaint);
+        rect.set(x - trunkWidth / 2, baseY - trunkHeight, x + trunkWidth / 2, baseY);
+        canvas.drawRoundRect(rect, 5, 5, treePaint);
         
         // Tree top (triangular shape made of circles)
         treeTopPaint.setColor(0xFF388E3C);
@@ -308,55 +449,52 @@ public class ParallaxBackground {
         canvas.drawCircle(x + topRadius * 0.4f, baseY - trunkHeight, topRadius * 0.7f, treeTopPaint);
     }
     
-    private void drawGrass(Canvas canvas) {
-        float grassTop = screenHeight * 0.55f;
-        
+    private void drawGround(Canvas canvas, int width, int height, float grassTop,
+                            float trackTop, float trackHeight) {
         // Main grass area
         grassPaint.setColor(0xFF66BB6A);
-        canvas.drawRect(0, grassTop, screenWidth, screenHeight, grassPaint);
+        canvas.drawRect(0, grassTop, width, height, grassPaint);
         
         // Grass texture lines
         grassPaint.setColor(0xFF4CAF50);
-        for (int i = 0; i < screenWidth; i += 30) {
+        for (int i = 0; i < width; i += 30) {
             float x = i + (float)(Math.sin(i * 0.1) * 5);
             canvas.drawLine(x, grassTop, x + 5, grassTop + 15, grassPaint);
         }
-    }
-    
-    private void drawTrack(Canvas canvas, float offset) {
-        float trackTop = screenHeight * 0.70f;
-        float trackHeight = screenHeight * 0.20f;
         
         // Track base
         trackPaint.setColor(0xFFFFCC80);
-        canvas.drawRect(0, trackTop, screenWidth, trackTop + trackHeight, trackPaint);
+        canvas.drawRect(0, trackTop, width, trackTop + trackHeight, trackPaint);
         
         // Track border (top)
         trackPaint.setColor(0xFFFF8A65);
-        canvas.drawRect(0, trackTop, screenWidth, trackTop + 8, trackPaint);
+        canvas.drawRect(0, trackTop, width, trackTop + 8, trackPaint);
         
         // Track border (bottom)
-        canvas.drawRect(0, trackTop + trackHeight - 8, screenWidth, trackTop + trackHeight, trackPaint);
+        canvas.drawRect(0, trackTop + trackHeight - 8, width, trackTop + trackHeight, trackPaint);
+    }
+    
+    private void drawTrackLines(Canvas canvas, int width, float dashY) {
+        // Dashed center line, whole dashes per strip so the tile seam is invisible
+        int dashCount = Math.max(1, Math.round(width / (DASH_WIDTH + DASH_GAP)));
+        float period = width / (float) dashCount;
+        float dashWidth = period * DASH_WIDTH / (DASH_WIDTH + DASH_GAP);
         
-        // Dashed center line
         trackLinePaint.setColor(0xFFFFFFFF);
-        float dashWidth = 40;
-        float dashGap = 30;
-        float dashY = trackTop + trackHeight / 2;
-        
-        float tileWidth = dashWidth + dashGap;
-        float startX = -(offset % tileWidth);
-        
-        for (float x = startX; x < screenWidth + dashWidth; x += tileWidth) {
+        for (int i = 0; i < dashCount; i++) {
+            float x = i * period;
             canvas.drawLine(x, dashY, x + dashWidth, dashY, trackLinePaint);
         }
-        
-        // Track dust/texture
+    }
+    
+    private void drawTrackDust(Canvas canvas, int width, float trackTop, float trackHeight) {
         trackPaint.setColor(0x20000000);
-        for (int i = 0; i < 10; i++) {
-            float dustX = ((i * 137 + offset * 0.5f) % screenWidth);
-            float dustY = trackTop + trackHeight * 0.3f + (i % 3) * trackHeight * 0.2f;
-            canvas.drawCircle(dustX, dustY, 5 + i % 3, trackPaint);
+        for (int tile = -1; tile <= 1; tile++) {
+            for (int i = 0; i < 10; i++) {
+                float dustX = tile * width + (i * 137) % width;
+                float dustY = trackTop + trackHeight * 0.3f + (i % 3) * trackHeight * 0.2f;
+                canvas.drawCircle(dustX, dustY, 5 + i % 3, trackPaint);
+            }
         }
     }
     
@@ -369,9 +507,6 @@ public class ParallaxBackground {
             float trackHeight = screenHeight * 0.18f;
             
             // Checkered pattern
-            Paint checkerPaint = new Paint();
-            checkerPaint.setAntiAlias(true);
-            
             float checkerSize = 20;
             int cols = 3;
             int rows = (int)(trackHeight / checkerSize);
@@ -386,27 +521,35 @@ public class ParallaxBackground {
             }
             
             // Finish banner
-            Paint bannerPaint = new Paint();
-            bannerPaint.setColor(0xFFE53935);
-            bannerPaint.setAntiAlias(true);
-            
             float bannerY = trackTop - 50;
-            RectF bannerRect = new RectF(finishX - 20, bannerY, finishX + 80, bannerY + 35);
+            bannerRect.set(finishX - 20, bannerY, finishX + 80, bannerY + 35);
             canvas.drawRoundRect(bannerRect, 10, 10, bannerPaint);
             
             // Finish text
-            Paint textPaint = new Paint();
-            textPaint.setColor(0xFFFFFFFF);
-            textPaint.setTextSize(22);
-            textPaint.setTextAlign(Paint.Align.CENTER);
-            textPaint.setFakeBoldText(true);
-            textPaint.setAntiAlias(true);
-            canvas.drawText("FINISH", finishX + 30, bannerY + 25, textPaint);
+            canvas.drawText("FINISH", finishX + 30, bannerY + 25, finishTextPaint);
         }
     }
     
+    /**
+     * New surface size - strips are rebuilt on the next draw
+     */
     public void setScreenDimensions(int width, int height) {
         this.screenWidth = width;
         this.screenHeight = height;
     }
+    
+    /**
+     * Free the pre-rendered strips (call from the drawing thread or after it stopped)
+     */
+    public void release() {
+        Strip[] strips = {backdrop, clouds, mountains, hills, trees, ground, trackLines, trackDust};
+        for (Strip strip : strips) {
+            if (strip != null) {
+                strip.recycle();
+            }
+        }
+        backdrop = clouds = mountains = hills = trees = ground = trackLines = trackDust = null;
+        stripWidth = 0;
+        stripHeight = 0;
+    }
 }
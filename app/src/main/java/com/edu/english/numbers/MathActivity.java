@@ -5,7 +5,6 @@ import android.animation.ObjectAnimator;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.speech.tts.TextToSpeech;
 import android.view.Gravity;
 import android.view.View;
 import android.widget.GridLayout;
@@ -23,18 +22,19 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.edu.english.R;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Random;
 
 /**
  * Fun Math Activity
  * Simple addition and subtraction for kids
  */
-public class MathActivity extends AppCompatActivity implements TextToSpeech.OnInitListener {
+public class MathActivity extends AppCompatActivity {
 
     private static final int TOTAL_QUESTIONS = 10;
     private static final String[] EMOJIS = {"🍎", "🌟", "🎈", "🍪", "🍬", "🐱", "🐶", "🦋"};
@@ -42,7 +42,7 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
     private enum Operation { ADD, SUBTRACT, MIX }
     private Operation currentOperation = Operation.ADD;
 
-    private TextToSpeech textToSpeech;
+    private SpeechService.Client speech;
     private Random random = new Random();
     private Handler handler = new Handler(Looper.getMainLooper());
 
@@ -72,7 +72,7 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
             return insets;
         });
 
-        textToSpeech = new TextToSpeech(this, this);
+        speech = SpeechService.getInstance(this).openClient(0.9f, 1.0f);
         currentEmoji = EMOJIS[random.nextInt(EMOJIS.length)];
 
         setupViews();
@@ -244,8 +244,8 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
             animateCorrect(button);
 
             // Speak
-            if (textToSpeech != null) {
-                textToSpeech.speak("Correct! " + correctAnswer, TextToSpeech.QUEUE_FLUSH, null, "correct");
+            if (speech != null) {
+                speech.speak("Correct! " + correctAnswer, SpeechQueue.PRIORITY_FEEDBACK, "correct");
             }
         } else {
             // Wrong
@@ -265,8 +265,8 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
             }
 
             // Speak
-            if (textToSpeech != null) {
-                textToSpeech.speak("The answer is " + correctAnswer, TextToSpeech.QUEUE_FLUSH, null, "wrong");
+            if (speech != null) {
+                speech.speak("The answer is " + correctAnswer, SpeechQueue.PRIORITY_FEEDBACK, "wrong");
             }
         }
 
@@ -313,8 +313,8 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
             generateQuestion();
         });
 
-        if (textToSpeech != null) {
-            textToSpeech.speak("Great job! You scored " + score + " points!", TextToSpeech.QUEUE_FLUSH, null, "gameover");
+        if (speech != null) {
+            speech.speak("Great job! You scored " + score + " points!", SpeechQueue.PRIORITY_FEEDBACK, "gameover");
         }
     }
 
@@ -345,19 +345,10 @@ public class MathActivity extends AppCompatActivity implements TextToSpeech.OnIn
         shake.start();
     }
 
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            textToSpeech.setLanguage(Locale.US);
-            textToSpeech.setSpeechRate(0.9f);
-        }
-    }
-
     @Override
     protected void onDestroy() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
+        if (speech != null) {
+            speech.close();
         }
         super.onDestroy();
     }
@@ -3,7 +3,6 @@ package com.edu.english.numbers;
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
 import android.view.Gravity;
 import android.view.View;
 import android.widget.GridLayout;
@@ -19,14 +18,15 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.edu.english.R;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 
-import java.util.Locale;
 
 /**
  * Number Learning Activity
  * Displays numbers 1-20 with English pronunciation
  */
-public class NumberLearnActivity extends AppCompatActivity implements TextToSpeech.OnInitListener {
+public class NumberLearnActivity extends AppCompatActivity {
 
     private static final String[] NUMBER_WORDS = {
             "one", "two", "three", "four", "five",
@@ -42,7 +42,7 @@ public class NumberLearnActivity extends AppCompatActivity implements TextToSpee
             0xFFFF4500, 0xFF9370DB, 0xFF3CB371, 0xFFFF69B4, 0xFF6A5ACD
     };
 
-    private TextToSpeech textToSpeech;
+    private SpeechService.Client speech;
     private int currentNumber = 1;
 
     private TextView txtBigNumber;
@@ -63,8 +63,13 @@ public class NumberLearnActivity extends AppCompatActivity implements TextToSpee
             return insets;
         });
 
-        // Initialize TTS
-        textToSpeech = new TextToSpeech(this, this);
+        // Initialize TTS - slower rate for clearer pronunciation
+        speech = SpeechService.getInstance(this).openClient(0.8f, 1.0f);
+        speech.setReadyListener(success -> {
+            if (!success) {
+                Toast.makeText(this, "English TTS not supported", Toast.LENGTH_SHORT).show();
+            }
+        });
 
         setupViews();
         setupNumbersGrid();
@@ -168,9 +173,9 @@ public class NumberLearnActivity extends AppCompatActivity implements TextToSpee
     }
 
     private void speakNumber(int number) {
-        if (textToSpeech != null) {
+        if (speech != null) {
             String word = NUMBER_WORDS[number - 1];
-            textToSpeech.speak(word, TextToSpeech.QUEUE_FLUSH, null, "number_" + number);
+            speech.speak(word, SpeechQueue.PRIORITY_FEEDBACK, "number_" + number);
 
             // Animate speak button
             ObjectAnimator pulse = ObjectAnimator.ofFloat(btnSpeak, "scaleX", 1f, 1.2f, 1f);
@@ -182,24 +187,10 @@ public class NumberLearnActivity extends AppCompatActivity implements TextToSpee
         }
     }
 
-    @Override
-    public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
-            int result = textToSpeech.setLanguage(Locale.US);
-            if (result == TextToSpeech.LANG_MISSING_DATA || result == TextToSpeech.LANG_NOT_SUPPORTED) {
-                Toast.makeText(this, "English TTS not supported", Toast.LENGTH_SHORT).show();
-            } else {
-                // Set speech rate for clearer pronunciation
-                textToSpeech.setSpeechRate(0.8f);
-            }
-        }
-    }
-
     @Override
     protected void onDestroy() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
+        if (speech != null) {
+            speech.close();
         }
         super.onDestroy();
     }
@@ -1,11 +1,11 @@
 package com.edu.english.numbers.utils;
 
 import android.content.Context;
-import android.speech.tts.TextToSpeech;
-import android.speech.tts.UtteranceProgressListener;
 import android.util.Log;
 
-import java.util.Locale;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
+
 import java.util.UUID;
 
 /**
@@ -16,10 +16,12 @@ public class NumberTTSManager {
     
     private static final String TAG = "NumberTTSManager";
     
-    private TextToSpeech textToSpeech;
-    private boolean isInitialized = false;
+    // Slower for kids, slightly higher and friendlier
+    public static final float SPEECH_RATE = 0.8f;
+    public static final float SPEECH_PITCH = 1.1f;
+    
+    private SpeechService.Client speech;
     private OnTTSListener listener;
-    private Context context;
     
     public interface OnTTSListener {
         void onTTSReady();
@@ -29,75 +31,56 @@ public class NumberTTSManager {
     }
     
     public NumberTTSManager(Context context, OnTTSListener listener) {
-        this.context = context.getApplicationContext();
         this.listener = listener;
-        initTTS();
+        initTTS(context);
     }
     
-    private void initTTS() {
-        textToSpeech = new TextToSpeech(context, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                int result = textToSpeech.setLanguage(Locale.US);
-                
-                if (result == TextToSpeech.LANG_MISSING_DATA || 
-                    result == TextToSpeech.LANG_NOT_SUPPORTED) {
-                    Log.w(TAG, "US English not available, trying UK English");
-                    result = textToSpeech.setLanguage(Locale.UK);
-                }
-                
-                if (result == TextToSpeech.LANG_MISSING_DATA || 
-                    result == TextToSpeech.LANG_NOT_SUPPORTED) {
-                    Log.e(TAG, "English TTS not supported");
-                    if (listener != null) {
-                        listener.onSpeechError("English TTS not supported on this device");
-                    }
-                    return;
+    private void initTTS(Context context) {
+        speech = SpeechService.getInstance(context).openClient(SPEECH_RATE, SPEECH_PITCH);
+        
+        speech.setUtteranceListener(new SpeechService.UtteranceListener() {
+            @Override
+            public void onStart(String utteranceId) {
+                Log.d(TAG, "TTS started: " + utteranceId);
+                if (listener != null) {
+                    listener.onSpeechStart();
                 }
-                
-                // Configure for clear pronunciation
-                textToSpeech.setSpeechRate(0.8f);  // Slower for kids
-                textToSpeech.setPitch(1.1f);       // Slightly higher, friendlier
-                
-                // Set utterance listener
-                textToSpeech.setOnUtteranceProgressListener(new UtteranceProgressListener() {
-                    @Override
-                    public void onStart(String utteranceId) {
-                        Log.d(TAG, "TTS started: " + utteranceId);
-                        if (listener != null) {
-                            listener.onSpeechStart();
-                        }
-                    }
-                    
-                    @Override
-                    public void onDone(String utteranceId) {
-                        Log.d(TAG, "TTS done: " + utteranceId);
-                        if (listener != null) {
-                            listener.onSpeechDone();
-                        }
-                    }
-                    
-                    @Override
-                    public void onError(String utteranceId) {
-                        Log.e(TAG, "TTS error: " + utteranceId);
-                        if (listener != null) {
-                            listener.onSpeechError("TTS playback error");
-                        }
-                    }
-                });
-                
-                isInitialized = true;
-                Log.d(TAG, "TTS initialized successfully");
-                
+            }
+            
+            @Override
+            public void onDone(String utteranceId) {
+                Log.d(TAG, "TTS done: " + utteranceId);
                 if (listener != null) {
-                    listener.onTTSReady();
+                    listener.onSpeechDone();
                 }
-                
-            } else {
-                Log.e(TAG, "TTS initialization failed with status: " + status);
+            }
+            
+            @Override
+            public void onError(String utteranceId) {
+                Log.e(TAG, "TTS error: " + utteranceId);
                 if (listener != null) {
-                    listener.onSpeechError("TTS initialization failed");
+                    listener.onSpeechError("TTS playback error");
                 }
             }
+            
+            @Override
+            public void onDropped(String utteranceId) {
+                // Superseded by a newer request - its own callbacks follow
+                Log.d(TAG, "TTS dropped: " + utteranceId);
+            }
+        });
+        
+        // The shared engine may already be warm - then this fires right away
+        speech.setReadyListener(success -> {
+            if (listener == null) return;
+            
+            if (success) {
+                Log.d(TAG, "TTS ready");
+                listener.onTTSReady();
+            } else {
+                Log.e(TAG, "English TTS not available");
+                listener.onSpeechError("English TTS not supported on this device");
+            }
         });
     }
     
@@ -112,7 +95,7 @@ public class NumberTTSManager {
      * Speak encouragement message
      */
     public void speakEncouragement(String message) {
-        speak(message);
+        speak(message, SpeechQueue.PRIORITY_FEEDBACK);
     }
     
     /**
@@ -126,29 +109,25 @@ public class NumberTTSManager {
      * Speak generic text
      */
     public void speak(String text) {
-        if (!isInitialized) {
-            Log.w(TAG, "TTS not initialized yet");
-            return;
-        }
-        
-        if (textToSpeech == null) {
-            Log.e(TAG, "TTS is null");
+        speak(text, SpeechQueue.PRIORITY_INSTRUCTION);
+    }
+    
+    private void speak(String text, int priority) {
+        if (speech == null) {
+            Log.e(TAG, "TTS is shut down");
             return;
         }
         
-        // Stop any current speech
-        stop();
-        
         String utteranceId = UUID.randomUUID().toString();
-        textToSpeech.speak(text, TextToSpeech.QUEUE_FLUSH, null, utteranceId);
+        speech.speak(text, priority, utteranceId);
     }
     
     /**
      * Stop current speech
      */
     public void stop() {
-        if (textToSpeech != null && textToSpeech.isSpeaking()) {
-            textToSpeech.stop();
+        if (speech != null) {
+            speech.stop();
         }
     }
     
@@ -156,26 +135,24 @@ public class NumberTTSManager {
      * Check if TTS is currently speaking
      */
     public boolean isSpeaking() {
-        return textToSpeech != null && textToSpeech.isSpeaking();
+        return speech != null && speech.isSpeaking();
     }
     
     /**
      * Check if TTS is initialized and ready
      */
     public boolean isReady() {
-        return isInitialized && textToSpeech != null;
+        return speech != null && speech.isReady();
     }
     
     /**
      * Release TTS resources - MUST call in onDestroy
      */
     public void shutdown() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
-            textToSpeech = null;
+        if (speech != null) {
+            speech.close();
+            speech = null;
         }
-        isInitialized = false;
         Log.d(TAG, "TTS shutdown complete");
     }
     
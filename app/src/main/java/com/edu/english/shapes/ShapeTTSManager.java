@@ -1,45 +1,48 @@
 package com.edu.english.shapes;
 
 import android.content.Context;
-import android.speech.tts.TextToSpeech;
-import android.speech.tts.UtteranceProgressListener;
 import android.util.Log;
 
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
 import com.edu.english.shapes.models.ShapeType;
 
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Locale;
-import java.util.Queue;
+import java.util.Map;
 
 /**
- * ShapeTTSManager - Text-to-Speech manager using Android's built-in TTS
+ * ShapeTTSManager - Text-to-Speech manager using the app's shared speech engine
  * Speaks shape names and vocabulary words with US English locale
  */
 public class ShapeTTSManager {
     
     private static final String TAG = "ShapeTTSManager";
     
-    private static ShapeTTSManager instance;
+    // Slightly slower for kids, slightly higher pitch for a friendlier sound
+    public static final float SPEECH_RATE = 0.85f;
+    public static final float SPEECH_PITCH = 1.1f;
     
-    private Context context;
-    private TextToSpeech textToSpeech;
-    private boolean isInitialized = false;
-    private boolean isInitializing = false;
-    private OnSpeechCompleteListener currentListener;
+    public static final String[] ENCOURAGEMENT_PHRASES = {
+        "Great job!",
+        "Well done!",
+        "Excellent!",
+        "You're doing great!",
+        "Wonderful!",
+        "Fantastic!"
+    };
     
-    // Queue for pending speech requests
-    private Queue<SpeechRequest> pendingQueue = new LinkedList<>();
+    public static final String TRACING_COMPLETE_PHRASE = "Yay! You did it! Great tracing!";
     
-    private static class SpeechRequest {
-        String text;
-        OnSpeechCompleteListener listener;
-        
-        SpeechRequest(String text, OnSpeechCompleteListener listener) {
-            this.text = text;
-            this.listener = listener;
-        }
-    }
+    public static final String HELLO_PHRASE = "Hi!";
+    
+    private static ShapeTTSManager instance;
+    
+    private SpeechService.Client speech;
+    private int utteranceCounter = 0;
+    
+    // Completion listeners of spoken and waiting utterances (the service
+    // schedules them; callbacks arrive on the main thread)
+    private final Map<String, OnSpeechCompleteListener> listeners = new HashMap<>();
     
     public interface OnSpeechCompleteListener {
         void onSpeechComplete();
@@ -54,114 +57,42 @@ public class ShapeTTSManager {
     }
     
     private ShapeTTSManager(Context context) {
-        this.context = context;
-        initTTS();
-    }
-    
-    private void initTTS() {
-        if (isInitializing) return;
-        isInitializing = true;
-        
-        textToSpeech = new TextToSpeech(context, status -> {
-            isInitializing = false;
+        // Requests made before the engine is ready wait in the service
+        speech = SpeechService.getInstance(context).openClient(SPEECH_RATE, SPEECH_PITCH);
+        speech.setUtteranceListener(new SpeechService.UtteranceListener() {
+            @Override
+            public void onStart(String utteranceId) {
+                Log.d(TAG, "Speech started: " + utteranceId);
+            }
             
-            if (status == TextToSpeech.SUCCESS) {
-                // Set US English locale
-                int result = textToSpeech.setLanguage(Locale.US);
-                
-                if (result == TextToSpeech.LANG_MISSING_DATA || 
-                    result == TextToSpeech.LANG_NOT_SUPPORTED) {
-                    Log.e(TAG, "US English not supported, trying default");
-                    textToSpeech.setLanguage(Locale.ENGLISH);
+            @Override
+            public void onDone(String utteranceId) {
+                Log.d(TAG, "Speech completed: " + utteranceId);
+                OnSpeechCompleteListener listener = listeners.remove(utteranceId);
+                if (listener != null) {
+                    listener.onSpeechComplete();
                 }
-                
-                // Set speech rate - slightly slower for kids
-                textToSpeech.setSpeechRate(0.85f);
-                
-                // Set pitch - slightly higher for friendlier sound
-                textToSpeech.setPitch(1.1f);
-                
-                // Set utterance progress listener
-                textToSpeech.setOnUtteranceProgressListener(new UtteranceProgressListener() {
-                    @Override
-                    public void onStart(String utteranceId) {
-                        Log.d(TAG, "Speech started: " + utteranceId);
-                    }
-                    
-                    @Override
-                    public void onDone(String utteranceId) {
-                        Log.d(TAG, "Speech completed: " + utteranceId);
-                        handleSpeechDone();
-                    }
-                    
-                    @Override
-                    public void onError(String utteranceId) {
-                        Log.e(TAG, "Speech error: " + utteranceId);
-                        handleSpeechError("TTS Error");
-                    }
-                });
-                
-                isInitialized = true;
-                Log.d(TAG, "TTS initialized successfully");
-                
-                // Process pending queue
-                processPendingQueue();
-                
-            } else {
-                Log.e(TAG, "TTS initialization failed with status: " + status);
-                // Notify all pending listeners of error
-                notifyAllPendingError("TTS initialization failed");
             }
-        });
-    }
-    
-    private void handleSpeechDone() {
-        if (currentListener != null) {
-            android.os.Handler handler = new android.os.Handler(context.getMainLooper());
-            final OnSpeechCompleteListener listener = currentListener;
-            currentListener = null;
-            handler.post(() -> {
-                listener.onSpeechComplete();
-                // Process next in queue
-                processPendingQueue();
-            });
-        } else {
-            processPendingQueue();
-        }
-    }
-    
-    private void handleSpeechError(String error) {
-        if (currentListener != null) {
-            android.os.Handler handler = new android.os.Handler(context.getMainLooper());
-            final OnSpeechCompleteListener listener = currentListener;
-            currentListener = null;
-            handler.post(() -> {
-                listener.onSpeechError(error);
-                // Process next in queue
-                processPendingQueue();
-            });
-        } else {
-            processPendingQueue();
-        }
-    }
-    
-    private void processPendingQueue() {
-        if (!pendingQueue.isEmpty() && isInitialized) {
-            SpeechRequest request = pendingQueue.poll();
-            if (request != null) {
-                speakInternal(request.text, request.listener);
+            
+            @Override
+            public void onError(String utteranceId) {
+                Log.e(TAG, "Speech error: " + utteranceId);
+                notifyError(utteranceId, "TTS Error");
             }
-        }
+            
+            @Override
+            public void onDropped(String utteranceId) {
+                // Coalesced or cut off - let the scene move on as it would after an error
+                Log.d(TAG, "Speech dropped: " + utteranceId);
+                notifyError(utteranceId, "Speech dropped");
+            }
+        });
     }
     
-    private void notifyAllPendingError(String error) {
-        android.os.Handler handler = new android.os.Handler(context.getMainLooper());
-        while (!pendingQueue.isEmpty()) {
-            SpeechRequest request = pendingQueue.poll();
-            if (request != null && request.listener != null) {
-                final OnSpeechCompleteListener listener = request.listener;
-                handler.post(() -> listener.onSpeechError(error));
-            }
+    private void notifyError(String utteranceId, String error) {
+        OnSpeechCompleteListener listener = listeners.remove(utteranceId);
+        if (listener != null) {
+            listener.onSpeechError(error);
         }
     }
     
@@ -170,8 +101,14 @@ public class ShapeTTSManager {
      * E.g., "Square!" or "This is a Circle!"
      */
     public void speakShapeName(ShapeType shapeType, OnSpeechCompleteListener listener) {
-        String text = "This is a " + shapeType.getEnglishName() + "!";
-        speak(text, listener);
+        speak(getShapeNameText(shapeType.getEnglishName()), listener);
+    }
+    
+    /**
+     * Text spoken by speakShapeName
+     */
+    public static String getShapeNameText(String shapeName) {
+        return "This is a " + shapeName + "!";
     }
     
     /**
@@ -179,8 +116,14 @@ public class ShapeTTSManager {
      * E.g., "Hi! I'm a Square!"
      */
     public void speakShapeIntroduction(ShapeType shapeType, OnSpeechCompleteListener listener) {
-        String text = "Hi! I'm a " + shapeType.getEnglishName() + "!";
-        speak(text, listener);
+        speak(getIntroductionText(shapeType.getEnglishName()), listener);
+    }
+    
+    /**
+     * Text spoken by speakShapeIntroduction
+     */
+    public static String getIntroductionText(String shapeName) {
+        return "Hi! I'm a " + shapeName + "!";
     }
     
     /**
@@ -196,94 +139,58 @@ public class ShapeTTSManager {
      */
     public void speakVocabularyItem(String objectName, ShapeType shapeType, 
                                      OnSpeechCompleteListener listener) {
-        String text = objectName + ". " + objectName + " is a " + shapeType.getEnglishName() + ".";
-        speak(text, listener);
+        speak(getVocabularyItemText(objectName, shapeType.getEnglishName()), listener);
+    }
+    
+    /**
+     * Text spoken by speakVocabularyItem
+     */
+    public static String getVocabularyItemText(String objectName, String shapeName) {
+        return objectName + ". " + objectName + " is a " + shapeName + ".";
     }
     
     /**
      * Speak encouragement phrases
      */
     public void speakEncouragement(OnSpeechCompleteListener listener) {
-        String[] phrases = {
-            "Great job!",
-            "Well done!",
-            "Excellent!",
-            "You're doing great!",
-            "Wonderful!",
-            "Fantastic!"
-        };
-        String phrase = phrases[(int) (Math.random() * phrases.length)];
-        speak(phrase, listener);
+        String phrase = ENCOURAGEMENT_PHRASES[(int) (Math.random() * ENCOURAGEMENT_PHRASES.length)];
+        speak(phrase, SpeechQueue.PRIORITY_FEEDBACK, listener);
     }
     
     /**
      * Speak tracing instructions
      */
     public void speakTracingInstruction(ShapeType shapeType, OnSpeechCompleteListener listener) {
-        String text = "Trace the " + shapeType.getEnglishName() + " with your finger!";
-        speak(text, listener);
+        speak(getTracingInstructionText(shapeType.getEnglishName()), listener);
+    }
+    
+    /**
+     * Text spoken by speakTracingInstruction
+     */
+    public static String getTracingInstructionText(String shapeName) {
+        return "Trace the " + shapeName + " with your finger!";
     }
     
     /**
      * Speak completion message
      */
     public void speakTracingComplete(OnSpeechCompleteListener listener) {
-        speak("Yay! You did it! Great tracing!", listener);
+        speak(TRACING_COMPLETE_PHRASE, SpeechQueue.PRIORITY_FEEDBACK, listener);
     }
     
     /**
-     * Speak any text
+     * Speak any text (queued after the current speech)
      */
     public void speak(String text, OnSpeechCompleteListener listener) {
-        if (!isInitialized) {
-            // Queue the text to speak after initialization
-            pendingQueue.add(new SpeechRequest(text, listener));
-            Log.d(TAG, "TTS not ready, queuing: " + text);
-            
-            // Try to reinitialize if not already doing so
-            if (!isInitializing && textToSpeech == null) {
-                initTTS();
-            }
-            return;
-        }
-        
-        // If currently speaking, queue it
-        if (textToSpeech.isSpeaking() || currentListener != null) {
-            pendingQueue.add(new SpeechRequest(text, listener));
-            Log.d(TAG, "TTS busy, queuing: " + text);
-            return;
-        }
-        
-        speakInternal(text, listener);
+        speak(text, SpeechQueue.PRIORITY_INSTRUCTION, listener);
     }
     
-    private void speakInternal(String text, OnSpeechCompleteListener listener) {
-        currentListener = listener;
-        
-        // Create params for utterance ID
-        String utteranceId = "utterance_" + System.currentTimeMillis();
-        
-        // Use the newer speak method if available
-        if (android.os.Build.VERSION.SDK_INT >= android.os.Build.VERSION_CODES.LOLLIPOP) {
-            android.os.Bundle bundle = new android.os.Bundle();
-            int result = textToSpeech.speak(text, TextToSpeech.QUEUE_FLUSH, bundle, utteranceId);
-            if (result != TextToSpeech.SUCCESS) {
-                Log.e(TAG, "TTS speak failed with result: " + result);
-                // Fallback - still notify listener after a delay
-                if (listener != null) {
-                    android.os.Handler handler = new android.os.Handler(context.getMainLooper());
-                    handler.postDelayed(() -> {
-                        listener.onSpeechError("TTS speak failed");
-                        currentListener = null;
-                        processPendingQueue();
-                    }, 1500);
-                }
-            }
-        } else {
-            HashMap<String, String> params = new HashMap<>();
-            params.put(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID, utteranceId);
-            textToSpeech.speak(text, TextToSpeech.QUEUE_FLUSH, params);
+    private void speak(String text, int priority, OnSpeechCompleteListener listener) {
+        String utteranceId = "utterance_" + (++utteranceCounter);
+        if (listener != null) {
+            listeners.put(utteranceId, listener);
         }
+        speech.speak(text, priority, utteranceId);
         
         Log.d(TAG, "Speaking: " + text);
     }
@@ -292,11 +199,9 @@ public class ShapeTTSManager {
      * Stop any ongoing speech and clear queue
      */
     public void stop() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-        }
-        currentListener = null;
-        pendingQueue.clear();
+        // Stopped utterances complete nobody
+        listeners.clear();
+        speech.stop();
         Log.d(TAG, "TTS stopped and queue cleared");
     }
     
@@ -306,33 +211,22 @@ public class ShapeTTSManager {
      */
     public void stopAndSpeak(String text, OnSpeechCompleteListener listener) {
         stop(); // Stop everything first
-        
-        if (!isInitialized) {
-            pendingQueue.add(new SpeechRequest(text, listener));
-            Log.d(TAG, "TTS not ready, queuing after stop: " + text);
-            return;
-        }
-        
-        speakInternal(text, listener);
+        speak(text, listener);
     }
     
     /**
      * Check if currently speaking
      */
     public boolean isSpeaking() {
-        return textToSpeech != null && textToSpeech.isSpeaking();
+        return speech.isSpeaking();
     }
     
     /**
-     * Release TTS resources
+     * Release this manager's speech client (the shared engine stays warm)
      */
     public void shutdown() {
-        if (textToSpeech != null) {
-            textToSpeech.stop();
-            textToSpeech.shutdown();
-            textToSpeech = null;
-        }
-        isInitialized = false;
+        listeners.clear();
+        speech.close();
         instance = null;
     }
     
@@ -340,6 +234,6 @@ public class ShapeTTSManager {
      * Check if TTS is available on this device
      */
     public boolean isAvailable() {
-        return isInitialized && textToSpeech != null;
+        return speech.isReady();
     }
 }
@@ -15,6 +15,7 @@ import android.graphics.PointF;
 import android.graphics.RadialGradient;
 import android.graphics.RectF;
 import android.graphics.Shader;
+import android.os.SystemClock;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
@@ -23,6 +24,9 @@ import android.view.animation.LinearInterpolator;
 import android.view.animation.OvershootInterpolator;
 
 import com.edu.english.shapes.models.ShapeType;
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,7 +50,6 @@ public class ShapeTraceView extends View {
     private Paint checkpointPaint;
     private Paint checkpointInnerPaint;
     private Paint checkpointGlowPaint;
-    private Paint sparklePaint;
     private Paint eyePaint;
     private Paint eyeWhitePaint;
     private Paint eyePupilPaint;
@@ -76,8 +79,21 @@ public class ShapeTraceView extends View {
     private boolean isTracing = false;
     private float tracingTolerance = 120f; // Increased for easier tracing for kids
     
-    // Sparkles
-    private List<Sparkle> sparkles = new ArrayList<>();
+    // Sparkles: stars that drift up, grow and fade
+    private static final int MAX_SPARKLES = 256;
+    private static final ParticleEmitter SPARKLE = new ParticleEmitter(SpriteBatch.SHAPE_STAR)
+        .setSize(ParticleEmitter.SIZE_GROW);
+    private static final int[] SPARKLE_COLORS = {
+        0xFFFFD700, // Gold
+        0xFFFFF176, // Light yellow
+        0xFFFFEB3B, // Yellow
+        0xFF76FF03, // Light green
+        0xFF00E676, // Green
+        Color.WHITE
+    };
+    private final ParticleEngine sparkles = new ParticleEngine(MAX_SPARKLES);
+    private final SpriteBatch sparkleBatch = new SpriteBatch(MAX_SPARKLES);
+    private long lastSparkleTime = 0;
     private Random random = new Random();
     
     // Animation
@@ -159,10 +175,6 @@ public class ShapeTraceView extends View {
         checkpointGlowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         checkpointGlowPaint.setStyle(Paint.Style.FILL);
         
-        // Sparkle paint
-        sparklePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        sparklePaint.setStyle(Paint.Style.FILL);
-        
         // Eye paints
         eyeWhitePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         eyeWhitePaint.setStyle(Paint.Style.FILL);
@@ -590,57 +602,21 @@ public class ShapeTraceView extends View {
     }
     
     private void drawSparkles(Canvas canvas) {
-        long currentTime = System.currentTimeMillis();
+        if (sparkles.isEmpty()) return;
         
-        for (int i = sparkles.size() - 1; i >= 0; i--) {
-            Sparkle sparkle = sparkles.get(i);
-            float age = (currentTime - sparkle.createTime) / (float) sparkle.lifetime;
-            
-            if (age >= 1f) {
-                sparkles.remove(i);
-                continue;
-            }
-            
-            float alpha = 1f - age;
-            float scale = 0.5f + age * 0.5f;
-            
-            sparklePaint.setColor(sparkle.color);
-            sparklePaint.setAlpha((int) (alpha * 255));
-            
-            canvas.save();
-            canvas.translate(sparkle.x + sparkle.vx * age * 30f, 
-                           sparkle.y + sparkle.vy * age * 30f - age * 20f);
-            canvas.scale(scale, scale);
-            
-            // Draw star sparkle
-            drawStarSparkle(canvas, 0, 0, sparkle.size);
-            
-            canvas.restore();
-        }
+        long now = SystemClock.uptimeMillis();
+        sparkles.update((now - lastSparkleTime) / 1000f);
+        lastSparkleTime = now;
+        
+        sparkleBatch.begin(canvas);
+        sparkles.draw(sparkleBatch);
+        sparkleBatch.end();
         
         if (!sparkles.isEmpty()) {
             postInvalidateDelayed(16);
         }
     }
     
-    private void drawStarSparkle(Canvas canvas, float cx, float cy, float size) {
-        Path star = new Path();
-        for (int i = 0; i < 8; i++) {
-            float radius = (i % 2 == 0) ? size : size * 0.4f;
-            float angle = (float) (Math.PI / 4 * i - Math.PI / 2);
-            float px = cx + (float) Math.cos(angle) * radius;
-            float py = cy + (float) Math.sin(angle) * radius;
-            
-            if (i == 0) {
-                star.moveTo(px, py);
-            } else {
-                star.lineTo(px, py);
-            }
-        }
-        star.close();
-        canvas.drawPath(star, sparklePaint);
-    }
-    
     @Override
     public boolean onTouchEvent(MotionEvent event) {
         if (isCompleted) return true;
@@ -799,26 +775,20 @@ public class ShapeTraceView extends View {
     }
     
     private void addSparkles(float x, float y, int count) {
-        int[] colors = {
-            Color.parseColor("#FFD700"), // Gold
-            Color.parseColor("#FFF176"), // Light yellow
-            Color.parseColor("#FFEB3B"), // Yellow
-            Color.parseColor("#76FF03"), // Light green
-            Color.parseColor("#00E676"), // Green
-            Color.WHITE
-        };
-        
+        if (sparkles.isEmpty()) {
+            lastSparkleTime = SystemClock.uptimeMillis();
+        }
         for (int i = 0; i < count; i++) {
-            Sparkle sparkle = new Sparkle();
-            sparkle.x = x + (random.nextFloat() - 0.5f) * 30f;
-            sparkle.y = y + (random.nextFloat() - 0.5f) * 30f;
-            sparkle.vx = (random.nextFloat() - 0.5f) * 2f;
-            sparkle.vy = -random.nextFloat() * 2f;
-            sparkle.size = 8f + random.nextFloat() * 12f;
-            sparkle.color = colors[random.nextInt(colors.length)];
-            sparkle.createTime = System.currentTimeMillis();
-            sparkle.lifetime = 600 + random.nextInt(400);
-            sparkles.add(sparkle);
+            // Same drift as before: up to 30px sideways and 20-80px up over the lifetime
+            float life = (600 + random.nextInt(400)) / 1000f;
+            sparkles.emit(SPARKLE,
+                x + (random.nextFloat() - 0.5f) * 30f,
+                y + (random.nextFloat() - 0.5f) * 30f,
+                (random.nextFloat() - 0.5f) * 2f * 30f / life,
+                (-random.nextFloat() * 2f * 30f - 20f) / life,
+                8f + random.nextFloat() * 12f,
+                life,
+                SPARKLE_COLORS[random.nextInt(SPARKLE_COLORS.length)]);
         }
     }
     
@@ -847,14 +817,4 @@ public class ShapeTraceView extends View {
         if (breatheAnimator != null) breatheAnimator.cancel();
         if (pulseAnimator != null) pulseAnimator.cancel();
     }
-    
-    // Sparkle class
-    private static class Sparkle {
-        float x, y;
-        float vx, vy;
-        float size;
-        int color;
-        long createTime;
-        int lifetime;
-    }
 }
@@ -87,7 +87,7 @@ public class Scene1TraceFragment extends Fragment implements ShapeTraceView.OnTr
             // Stop any previous TTS and play instruction
             handler.postDelayed(() -> {
                 if (isAdded() && ttsManager != null) {
-                    ttsManager.stopAndSpeak("Trace the " + shape.getName() + " with your finger!", null);
+                    ttsManager.stopAndSpeak(ShapeTTSManager.getTracingInstructionText(shape.getName()), null);
                 }
             }, 800);
         }
@@ -178,7 +178,7 @@ public class Scene2CharacterFragment extends Fragment {
                 .start();
         
         // Stop any previous TTS and speak "Hi! I'm a Square!" cleanly
-        String fullIntro = "Hi! I'm a " + shape.getName() + "!";
+        String fullIntro = ShapeTTSManager.getIntroductionText(shape.getName());
         ttsManager.stopAndSpeak(fullIntro, new ShapeTTSManager.OnSpeechCompleteListener() {
             @Override
             public void onSpeechComplete() {
@@ -210,7 +210,7 @@ public class Scene2CharacterFragment extends Fragment {
     }
 
     private void playHelloVoice() {
-        ttsManager.speak("Hi!", new ShapeTTSManager.OnSpeechCompleteListener() {
+        ttsManager.speak(ShapeTTSManager.HELLO_PHRASE, new ShapeTTSManager.OnSpeechCompleteListener() {
             @Override
             public void onSpeechComplete() {
                 if (!isAdded()) return;
@@ -0,0 +1,238 @@
+package com.edu.english.shapes.utils;
+
+import java.util.Arrays;
+
+/**
+ * Polyline sampled from a shape's outline, indexed for tracing
+ * - Points and their arc lengths in flat float arrays
+ * - A lookup table from arc length to segment, so getPosition is O(1)
+ * - A coarse grid of segments, so a nearest-point query only looks at the
+ *   segments near the finger instead of walking the path
+ * Plain Java (no android.graphics), built once per shape.
+ */
+public class PathIndex {
+
+    /**
+     * Result of a nearest-point query; reuse one per caller
+     */
+    public static class Hit {
+        public float length;
+        public float x;
+        public float y;
+        public float distance;
+        public boolean found;
+    }
+
+    // Point i is (points[2i], points[2i + 1]) at arc length lengths[i]
+    private final float[] points;
+    private final float[] lengths;
+    private final int pointCount;
+    private final float totalLength;
+
+    // Segment whose start is at or before arc length b * lengthBucketSize
+    private final int[] lengthBuckets;
+    private final float lengthBucketSize;
+
+    // Grid: the segments touching cell c are cellSegments[cellStart[c]..cellStart[c + 1])
+    private final float gridLeft;
+    private final float gridTop;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellSegments;
+
+    /**
+     * @param points x, y pairs along the path, in order
+     * @param lengths Arc length at each point, increasing from 0
+     * @param count Number of points (at least 2)
+     * @param cellSize Grid cell size; about the usual query radius works best
+     */
+    public PathIndex(float[] points, float[] lengths, int count, float cellSize) {
+        if (count < 2) {
+            throw new IllegalArgumentException("A path needs at least 2 points");
+        }
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.pointCount = count;
+        this.points = new float[count * 2];
+        this.lengths = new float[count];
+        System.arraycopy(points, 0, this.points, 0, count * 2);
+        System.arraycopy(lengths, 0, this.lengths, 0, count);
+        this.totalLength = lengths[count - 1];
+
+        int segmentCount = count - 1;
+
+        // Length buckets, one per segment on average
+        lengthBucketSize = Math.max(totalLength / segmentCount, 1e-3f);
+        lengthBuckets = new int[(int) (totalLength / lengthBucketSize) + 2];
+        int segment = 0;
+        for (int b = 0; b < lengthBuckets.length; b++) {
+            float length = b * lengthBucketSize;
+            while (segment < segmentCount - 1 && this.lengths[segment + 1] <= length) {
+                segment++;
+            }
+            lengthBuckets[b] = segment;
+        }
+
+        // Grid over the bounding box
+        float left = Float.MAX_VALUE, top = Float.MAX_VALUE;
+        float right = -Float.MAX_VALUE, bottom = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            left = Math.min(left, this.points[i * 2]);
+            right = Math.max(right, this.points[i * 2]);
+            top = Math.min(top, this.points[i * 2 + 1]);
+            bottom = Math.max(bottom, this.points[i * 2 + 1]);
+        }
+        this.cellSize = cellSize;
+        gridLeft = left;
+        gridTop = top;
+        columns = (int) ((right - left) / cellSize) + 1;
+        rows = (int) ((bottom - top) / cellSize) + 1;
+
+        // Two passes (count, then fill) into one flat array
+        cellStart = new int[columns * rows + 1];
+        for (int s = 0; s < segmentCount; s++) {
+            addToCells(s, null);
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellSegments = new int[cellStart[columns * rows]];
+        int[] next = Arrays.copyOf(cellStart, columns * rows);
+        for (int s = 0; s < segmentCount; s++) {
+            addToCells(s, next);
+        }
+    }
+
+    /**
+     * Add a segment to every cell its bounding box covers (next == null just counts)
+     */
+    private void addToCells(int segment, int[] next) {
+        int i = segment * 2;
+        float x0 = points[i], y0 = points[i + 1];
+        float x1 = points[i + 2], y1 = points[i + 3];
+        int c0 = column(Math.min(x0, x1)), c1 = column(Math.max(x0, x1));
+        int r0 = row(Math.min(y0, y1)), r1 = row(Math.max(y0, y1));
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                if (next == null) {
+                    cellStart[cell + 1]++;
+                } else {
+                    cellSegments[next[cell]++] = segment;
+                }
+            }
+        }
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) ((x - gridLeft) / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) ((y - gridTop) / cellSize)));
+    }
+
+    // ==================== Queries ====================
+
+    public float getLength() {
+        return totalLength;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Point at an arc length (clamped to the path)
+     *
+     * @param out Receives x, y
+     */
+    public void getPosition(float length, float[] out) {
+        int segment = findSegment(length);
+        float start = lengths[segment];
+        float span = lengths[segment + 1] - start;
+        float t = span > 0 ? (length - start) / span : 0f;
+        t = Math.max(0f, Math.min(1f, t));
+        int i = segment * 2;
+        out[0] = points[i] + (points[i + 2] - points[i]) * t;
+        out[1] = points[i + 1] + (points[i + 3] - points[i + 1]) * t;
+    }
+
+    /**
+     * Segment containing an arc length: a table lookup plus a short walk
+     */
+    private int findSegment(float length) {
+        if (length <= 0) return 0;
+        int bucket = Math.min(lengthBuckets.length - 1, (int) (length / lengthBucketSize));
+        int segment = lengthBuckets[bucket];
+        while (segment < pointCount - 2 && lengths[segment + 1] < length) {
+            segment++;
+        }
+        return segment;
+    }
+
+    /**
+     * Closest point to (x, y) within maxDistance whose arc length is in
+     * [fromLength, toLength]
+     *
+     * @param out found is false when no such point is within maxDistance
+     */
+    public void findNearest(float x, float y, float fromLength, float toLength, float maxDistance, Hit out) {
+        out.found = false;
+        out.distance = Float.MAX_VALUE;
+        float bestSq = maxDistance * maxDistance;
+
+        int c0 = (int) Math.floor((x - maxDistance - gridLeft) / cellSize);
+        int c1 = (int) Math.floor((x + maxDistance - gridLeft) / cellSize);
+        int r0 = (int) Math.floor((y - maxDistance - gridTop) / cellSize);
+        int r1 = (int) Math.floor((y + maxDistance - gridTop) / cellSize);
+        if (c1 < 0 || r1 < 0 || c0 >= columns || r0 >= rows) return;
+        c0 = Math.max(0, c0);
+        r0 = Math.max(0, r0);
+        c1 = Math.min(columns - 1, c1);
+        r1 = Math.min(rows - 1, r1);
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int s = cellSegments[k];
+                    float segmentStart = lengths[s];
+                    float segmentEnd = lengths[s + 1];
+                    if (segmentEnd < fromLength || segmentStart > toLength) continue;
+
+                    // Project onto the segment, then keep within the allowed lengths
+                    int i = s * 2;
+                    float ax = points[i], ay = points[i + 1];
+                    float dx = points[i + 2] - ax, dy = points[i + 3] - ay;
+                    float lenSq = dx * dx + dy * dy;
+                    float t = lenSq > 0 ? ((x - ax) * dx + (y - ay) * dy) / lenSq : 0f;
+                    t = Math.max(0f, Math.min(1f, t));
+                    float length = segmentStart + (segmentEnd - segmentStart) * t;
+                    if (length < fromLength || length > toLength) {
+                        length = Math.max(fromLength, Math.min(toLength, length));
+                        t = segmentEnd > segmentStart ? (length - segmentStart) / (segmentEnd - segmentStart) : 0f;
+                    }
+                    float px = ax + dx * t;
+                    float py = ay + dy * t;
+                    float distSq = (x - px) * (x - px) + (y - py) * (y - py);
+
+                    // Ties go to the earlier point, as a walk along the path would
+                    if (distSq < bestSq || (distSq == bestSq && out.found && length < out.length)) {
+                        bestSq = distSq;
+                        out.found = true;
+                        out.length = length;
+                        out.x = px;
+                        out.y = py;
+                    }
+                }
+            }
+        }
+        if (out.found) {
+            out.distance = (float) Math.sqrt(bestSq);
+        }
+    }
+}
@@ -2,14 +2,15 @@ package com.edu.english.shapes.utils;
 
 import android.content.Context;
 import android.content.res.AssetFileDescriptor;
-import android.media.AudioAttributes;
-import android.media.MediaPlayer;
-import android.media.SoundPool;
 import android.util.Log;
 
+import com.edu.english.audio.AudioEngine;
+import com.edu.english.audio.SoundBank;
+import com.edu.english.audio.SpeechQueue;
+import com.edu.english.audio.SpeechService;
+import com.edu.english.shapes.ShapeTTSManager;
+
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Audio manager for handling sound effects and voice playback
@@ -19,24 +20,31 @@ public class ShapeAudioManager {
     
     private static ShapeAudioManager instance;
     private Context context;
-    private SoundPool soundPool;
-    private MediaPlayer mediaPlayer;
-    private Map<String, Integer> soundMap;
-    private boolean isLoaded = false;
+    private SoundBank soundBank;
+    
+    // Recorded voice clips stream through the shared voice player
+    private OnVoiceCompleteListener voiceListener;
+    private boolean isVoicePlaying = false;
+    
+    // TTS fallback for missing voice files (shared engine)
+    private SpeechService.Client speech;
+    private OnVoiceCompleteListener ttsListener;
+    private String ttsUtteranceId;
+    private int ttsCounter = 0;
     
     // Sound effect IDs
-    public static final String SOUND_CLICK = "click";
-    public static final String SOUND_WOW = "wow";
-    public static final String SOUND_POP = "pop";
-    public static final String SOUND_SUCCESS = "success";
-    public static final String SOUND_SPARKLE = "sparkle";
-    public static final String SOUND_BOUNCE = "bounce";
-    public static final String SOUND_TRACE = "trace";
+    public static final int SOUND_CLICK = 0;
+    public static final int SOUND_WOW = 1;
+    public static final int SOUND_POP = 2;
+    public static final int SOUND_SUCCESS = 3;
+    public static final int SOUND_SPARKLE = 4;
+    public static final int SOUND_BOUNCE = 5;
+    public static final int SOUND_TRACE = 6;
+    private static final int SOUND_COUNT = 7;
     
     private ShapeAudioManager(Context context) {
         this.context = context.getApplicationContext();
-        this.soundMap = new HashMap<>();
-        initSoundPool();
+        initSoundBank();
     }
     
     public static synchronized ShapeAudioManager getInstance(Context context) {
@@ -46,22 +54,8 @@ public class ShapeAudioManager {
         return instance;
     }
     
-    private void initSoundPool() {
-        AudioAttributes audioAttributes = new AudioAttributes.Builder()
-                .setUsage(AudioAttributes.USAGE_GAME)
-                .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
-                .build();
-        
-        soundPool = new SoundPool.Builder()
-                .setMaxStreams(5)
-                .setAudioAttributes(audioAttributes)
-                .build();
-        
-        soundPool.setOnLoadCompleteListener((soundPool, sampleId, status) -> {
-            if (status == 0) {
-                isLoaded = true;
-            }
-        });
+    private void initSoundBank() {
+        soundBank = AudioEngine.getInstance(context).openBank(AudioEngine.CATEGORY_SFX, SOUND_COUNT);
         
         // Load sound effects
         loadSound(SOUND_CLICK, "sounds/click.mp3");
@@ -73,29 +67,23 @@ public class ShapeAudioManager {
         loadSound(SOUND_TRACE, "sounds/trace.mp3");
     }
     
-    private void loadSound(String key, String assetPath) {
-        try {
-            AssetFileDescriptor afd = context.getAssets().openFd(assetPath);
-            int soundId = soundPool.load(afd, 1);
-            soundMap.put(key, soundId);
-            afd.close();
-        } catch (IOException e) {
+    private void loadSound(int soundKey, String assetPath) {
+        if (!soundBank.loadAsset(soundKey, assetPath)) {
             Log.w(TAG, "Sound file not found: " + assetPath + ", using fallback");
             // Will use fallback tones if files don't exist
         }
     }
     
-    public void playSound(String soundKey) {
-        Integer soundId = soundMap.get(soundKey);
-        if (soundId != null && isLoaded) {
-            soundPool.play(soundId, 1.0f, 1.0f, 1, 0, 1.0f);
+    public void playSound(int soundKey) {
+        if (soundBank.isLoaded(soundKey)) {
+            soundBank.play(soundKey, 1.0f);
         } else {
             // Generate a simple tone as fallback
             playFallbackTone(soundKey);
         }
     }
     
-    private void playFallbackTone(String soundKey) {
+    private void playFallbackTone(int soundKey) {
         // Simple beep as fallback when audio files don't exist
         try {
             android.media.ToneGenerator toneGenerator = new android.media.ToneGenerator(
@@ -126,22 +114,36 @@ public class ShapeAudioManager {
     public void playVoice(String voiceFileName, OnVoiceCompleteListener listener) {
         stopVoice();
         
-        try {
-            AssetFileDescriptor afd = context.getAssets().openFd("voices/" + voiceFileName + ".mp3");
-            mediaPlayer = new MediaPlayer();
-            mediaPlayer.setDataSource(afd.getFileDescriptor(), afd.getStartOffset(), afd.getLength());
-            mediaPlayer.prepare();
-            mediaPlayer.setOnCompletionListener(mp -> {
-                if (listener != null) {
-                    listener.onComplete();
-                }
-            });
-            mediaPlayer.start();
-            afd.close();
-        } catch (IOException e) {
+        String assetPath = "voices/" + voiceFileName + ".mp3";
+        if (!hasAsset(assetPath)) {
             Log.w(TAG, "Voice file not found: " + voiceFileName + ", using TTS fallback");
             // Use text-to-speech as fallback
             speakWithTTS(voiceFileName, listener);
+            return;
+        }
+        
+        // Decoding happens on the player's thread
+        voiceListener = listener;
+        isVoicePlaying = true;
+        AudioEngine.getInstance(context).getVoicePlayer().playAsset(assetPath, false, 0, failed -> {
+            if (voiceListener != listener) return;
+            voiceListener = null;
+            isVoicePlaying = false;
+            if (failed) {
+                // File is there but couldn't be decoded - say it instead
+                Log.w(TAG, "Voice file unplayable: " + voiceFileName + ", using TTS fallback");
+                speakWithTTS(voiceFileName, listener);
+            } else if (listener != null) {
+                listener.onComplete();
+            }
+        });
+    }
+    
+    private boolean hasAsset(String assetPath) {
+        try (AssetFileDescriptor afd = context.getAssets().openFd(assetPath)) {
+            return afd != null;
+        } catch (IOException e) {
+            return false;
         }
     }
     
@@ -151,35 +153,68 @@ public class ShapeAudioManager {
                 .replace("obj ", "")
                 .replace("shape ", "");
         
-        android.speech.tts.TextToSpeech tts = new android.speech.tts.TextToSpeech(context, status -> {});
+        if (speech == null) {
+            speech = SpeechService.getInstance(context)
+                    .openClient(ShapeTTSManager.SPEECH_RATE, ShapeTTSManager.SPEECH_PITCH);
+            speech.setUtteranceListener(new SpeechService.UtteranceListener() {
+                @Override
+                public void onStart(String utteranceId) {
+                }
+                
+                @Override
+                public void onDone(String utteranceId) {
+                    notifyTtsComplete(utteranceId);
+                }
+                
+                @Override
+                public void onError(String utteranceId) {
+                    notifyTtsComplete(utteranceId);
+                }
+                
+                @Override
+                public void onDropped(String utteranceId) {
+                    notifyTtsComplete(utteranceId);
+                }
+            });
+        }
         
-        // Simulate speech with a delay and callback
-        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-            if (listener != null) {
-                listener.onComplete();
-            }
-        }, 800);
+        ttsListener = listener;
+        ttsUtteranceId = "voice_" + (++ttsCounter);
+        speech.speak(cleanText, SpeechQueue.PRIORITY_INSTRUCTION, ttsUtteranceId);
+    }
+    
+    private void notifyTtsComplete(String utteranceId) {
+        // Only the latest voice line completes the listener
+        if (!utteranceId.equals(ttsUtteranceId)) return;
+        
+        OnVoiceCompleteListener listener = ttsListener;
+        ttsListener = null;
+        if (listener != null) {
+            listener.onComplete();
+        }
     }
     
     public void stopVoice() {
-        if (mediaPlayer != null) {
-            try {
-                if (mediaPlayer.isPlaying()) {
-                    mediaPlayer.stop();
-                }
-                mediaPlayer.release();
-            } catch (Exception e) {
-                Log.w(TAG, "Error stopping media player", e);
-            }
-            mediaPlayer = null;
+        if (speech != null) {
+            speech.stop();
+        }
+        ttsListener = null;
+        voiceListener = null;
+        if (isVoicePlaying) {
+            isVoicePlaying = false;
+            AudioEngine.getInstance(context).getVoicePlayer().stop(0);
         }
     }
     
     public void release() {
         stopVoice();
-        if (soundPool != null) {
-            soundPool.release();
-            soundPool = null;
+        if (speech != null) {
+            speech.close();
+            speech = null;
+        }
+        if (soundBank != null) {
+            soundBank.close();
+            soundBank = null;
         }
         instance = null;
     }
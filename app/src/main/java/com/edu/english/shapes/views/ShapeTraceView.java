@@ -1,7 +1,5 @@
 package com.edu.english.shapes.views;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
 import android.animation.ValueAnimator;
@@ -15,13 +13,18 @@ import android.graphics.PathMeasure;
 import android.graphics.PointF;
 import android.graphics.RectF;
 import android.graphics.Shader;
+import android.os.SystemClock;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.animation.OvershootInterpolator;
 
 import com.edu.english.shapes.models.ShapeType;
+import com.edu.english.shapes.utils.PathIndex;
 import com.edu.english.shapes.utils.ShapeAudioManager;
+import com.edu.english.util.ParticleEmitter;
+import com.edu.english.util.ParticleEngine;
+import com.edu.english.util.SpriteBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +39,8 @@ public class ShapeTraceView extends View {
     private static final float TRACE_TOLERANCE = 120f;  // Very forgiving for kids
     private static final float START_TOLERANCE = 150f;  // Even more forgiving at start
     private static final int CHECKPOINT_COUNT = 4;
+    private static final float SEARCH_AHEAD = 200f;     // How far along the path a move can jump
+    private static final float SAMPLE_STEP = 4f;        // Arc length between path samples
 
     private ShapeType shapeType = ShapeType.SQUARE;
     private Path shapePath;
@@ -44,13 +49,14 @@ public class ShapeTraceView extends View {
     private Paint glowPaint;         // Glow effect
     private Paint fillPaint;         // Final fill
     private Paint startPointPaint;   // Start point indicator
-    private Paint sparkPaint;        // Sparkles
 
     private PathMeasure pathMeasure;
     private float pathLength;
     private float tracedLength = 0f;
     private float[] pathPos = new float[2];
     private float[] pathTan = new float[2];
+    private PathIndex pathIndex;
+    private final PathIndex.Hit traceHit = new PathIndex.Hit();
 
     private PointF startPoint;       // Where tracing should begin
     private List<PointF> checkpoints;
@@ -59,7 +65,13 @@ public class ShapeTraceView extends View {
     private boolean isCompleted = false;
     private boolean hasStarted = false;
 
-    private List<Sparkle> sparkles;
+    // Sparkles drift up and fade out over a second
+    private static final int MAX_SPARKLES = 256;
+    private static final float SPARKLE_LIFE = 1f;
+    private static final ParticleEmitter SPARKLE = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE);
+    private final ParticleEngine sparkles = new ParticleEngine(MAX_SPARKLES);
+    private final SpriteBatch sparkleBatch = new SpriteBatch(MAX_SPARKLES);
+    private long lastSparkleTime = 0;
     private Random random = new Random();
 
     private float glowPhase = 0f;
@@ -91,7 +103,6 @@ public class ShapeTraceView extends View {
     }
 
     private void init() {
-        sparkles = new ArrayList<>();
         checkpoints = new ArrayList<>();
 
         // Light outline for untraced portion
@@ -122,10 +133,6 @@ public class ShapeTraceView extends View {
         startPointPaint.setStyle(Paint.Style.FILL);
         startPointPaint.setColor(Color.parseColor("#4CAF50")); // Green
 
-        // Sparkle paint
-        sparkPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        sparkPaint.setStyle(Paint.Style.FILL);
-
         shapePath = new Path();
 
         // Start animations
@@ -221,6 +228,18 @@ public class ShapeTraceView extends View {
             checkpoints.add(new PointF(pathPos[0], pathPos[1]));
         }
 
+        // Sample the outline once; touch handling queries the samples instead of PathMeasure
+        int count = (int) Math.ceil(pathLength / SAMPLE_STEP) + 1;
+        float[] points = new float[count * 2];
+        float[] lengths = new float[count];
+        for (int i = 0; i < count; i++) {
+            lengths[i] = Math.min(i * SAMPLE_STEP, pathLength);
+            pathMeasure.getPosTan(lengths[i], pathPos, pathTan);
+            points[i * 2] = pathPos[0];
+            points[i * 2 + 1] = pathPos[1];
+        }
+        pathIndex = new PathIndex(points, lengths, count, TRACE_TOLERANCE);
+
         updatePaintColors();
     }
 
@@ -366,10 +385,22 @@ public class ShapeTraceView extends View {
         }
 
         // Draw sparkles
-        for (Sparkle sparkle : sparkles) {
-            sparkPaint.setColor(sparkle.color);
-            sparkPaint.setAlpha((int) (255 * sparkle.alpha));
-            canvas.drawCircle(sparkle.x, sparkle.y, sparkle.size, sparkPaint);
+        drawSparkles(canvas);
+    }
+
+    private void drawSparkles(Canvas canvas) {
+        if (sparkles.isEmpty()) return;
+
+        long now = SystemClock.uptimeMillis();
+        sparkles.update((now - lastSparkleTime) / 1000f);
+        lastSparkleTime = now;
+
+        sparkleBatch.begin(canvas);
+        sparkles.draw(sparkleBatch);
+        sparkleBatch.end();
+
+        if (!sparkles.isEmpty()) {
+            postInvalidateOnAnimation();
         }
     }
 
@@ -427,7 +458,7 @@ public class ShapeTraceView extends View {
     }
 
     private void drawCurrentPosition(Canvas canvas) {
-        pathMeasure.getPosTan(tracedLength, pathPos, pathTan);
+        pathIndex.getPosition(tracedLength, pathPos);
         
         // Draw finger position indicator
         Paint posPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -482,7 +513,7 @@ public class ShapeTraceView extends View {
             }
         } else {
             // Resume tracing - check if near current position
-            pathMeasure.getPosTan(tracedLength, pathPos, pathTan);
+            pathIndex.getPosition(tracedLength, pathPos);
             float dist = distance(x, y, pathPos[0], pathPos[1]);
             if (dist < TRACE_TOLERANCE) {
                 isTracing = true;
@@ -493,31 +524,18 @@ public class ShapeTraceView extends View {
     private void handleTouchMove(float x, float y) {
         if (!isTracing || !hasStarted) return;
 
-        // Find the best match point ahead on the path
-        float bestLength = tracedLength;
-        float bestDist = Float.MAX_VALUE;
-        
-        // Search ahead on the path (don't allow going backwards)
-        float searchEnd = Math.min(tracedLength + 200f, pathLength);
-        for (float testLen = tracedLength; testLen <= searchEnd; testLen += 3f) {
-            pathMeasure.getPosTan(testLen, pathPos, pathTan);
-            float dist = distance(x, y, pathPos[0], pathPos[1]);
-            
-            if (dist < bestDist) {
-                bestDist = dist;
-                bestLength = testLen;
-            }
-        }
+        // Find the closest point ahead on the path (don't allow going backwards)
+        float searchEnd = Math.min(tracedLength + SEARCH_AHEAD, pathLength);
+        pathIndex.findNearest(x, y, tracedLength, searchEnd, TRACE_TOLERANCE * 1.5f, traceHit);
 
         // Update traced length if touch is close enough to path
-        if (bestDist < TRACE_TOLERANCE && bestLength > tracedLength) {
+        if (traceHit.found && traceHit.distance < TRACE_TOLERANCE && traceHit.length > tracedLength) {
             float previousLength = tracedLength;
-            tracedLength = bestLength;
+            tracedLength = traceHit.length;
             
             // Add sparkles along the traced portion
             if (tracedLength - previousLength > 10f) {
-                pathMeasure.getPosTan(tracedLength, pathPos, pathTan);
-                addSparkles(pathPos[0], pathPos[1], 2);
+                addSparkles(traceHit.x, traceHit.y, 2);
             }
             
             // Check checkpoints
@@ -528,7 +546,7 @@ public class ShapeTraceView extends View {
                 tracedLength = pathLength;
                 completeTracing();
             }
-        } else if (bestDist >= TRACE_TOLERANCE * 1.5f) {
+        } else if (!traceHit.found) {
             // Touch is too far from path - pause tracing but don't reset
             isTracing = false;
         }
@@ -612,33 +630,18 @@ public class ShapeTraceView extends View {
     }
 
     private void addSparkles(float x, float y, int count) {
+        if (sparkles.isEmpty()) {
+            lastSparkleTime = SystemClock.uptimeMillis();
+        }
         for (int i = 0; i < count; i++) {
-            Sparkle sparkle = new Sparkle();
-            sparkle.x = x + random.nextFloat() * 50 - 25;
-            sparkle.y = y + random.nextFloat() * 50 - 25;
-            sparkle.size = random.nextFloat() * 12 + 4;
-            sparkle.alpha = 1f;
-            sparkle.color = getRandomSparkleColor();
-            sparkles.add(sparkle);
-
-            // Animate sparkle
-            ValueAnimator fadeAnim = ValueAnimator.ofFloat(1f, 0f);
-            fadeAnim.setDuration(1000);
-            final Sparkle s = sparkle;
-            fadeAnim.addUpdateListener(animation -> {
-                s.alpha = (float) animation.getAnimatedValue();
-                s.y -= 1.5f;
-                s.x += (random.nextFloat() - 0.5f) * 2f;
-                invalidate();
-            });
-            fadeAnim.addListener(new AnimatorListenerAdapter() {
-                @Override
-                public void onAnimationEnd(Animator animation) {
-                    sparkles.remove(s);
-                }
-            });
-            fadeAnim.start();
+            sparkles.emit(SPARKLE,
+                    x + random.nextFloat() * 50 - 25,
+                    y + random.nextFloat() * 50 - 25,
+                    (random.nextFloat() - 0.5f) * 30f, -90f,
+                    random.nextFloat() * 12 + 4,
+                    SPARKLE_LIFE, getRandomSparkleColor());
         }
+        invalidate();
     }
 
     private int getRandomSparkleColor() {
@@ -684,9 +687,4 @@ public class ShapeTraceView extends View {
         if (glowAnimator != null) glowAnimator.cancel();
         if (startPulseAnimator != null) startPulseAnimator.cancel();
     }
-
-    private static class Sparkle {
-        float x, y, size, alpha;
-        int color;
-    }
 }
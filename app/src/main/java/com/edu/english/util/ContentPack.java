@@ -0,0 +1,224 @@
+package com.edu.english.util;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only lesson content compiled at build time (see compileContentPacks
+ * in app/build.gradle.kts) from the text files in src/main/content.
+ * The pack is memory-mapped from assets and nothing is decoded up front;
+ * a section (one lesson) turns into strings the first time it is asked for.
+ *
+ * Layout, big-endian:
+ * - Header: magic "EKCP", version (short), fields per record (short),
+ *   section count (int), record count (int)
+ * - Sections, sorted by name: name offset, name length, first record, record count (ints)
+ * - Records: fields per record x (offset, length) (ints) into the string data
+ * - String data: UTF-8
+ */
+public class ContentPack {
+
+    public static final int MAGIC = 0x454B4350; // "EKCP"
+    public static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int SECTION_ENTRY_SIZE = 16;
+    static final int FIELD_ENTRY_SIZE = 8;
+
+    private final ByteBuffer buffer;
+    private final int fieldCount;
+    private final int sectionCount;
+    private final int recordsStart;
+    private final int stringsStart;
+
+    // Decoded on demand
+    private final String[] sectionNames;
+    private final Section[] sections;
+
+    /**
+     * One lesson's records, decoded
+     */
+    public static class Section {
+        private final String name;
+        private final int fieldCount;
+        private final String[] values;
+
+        Section(String name, int fieldCount, String[] values) {
+            this.name = name;
+            this.fieldCount = fieldCount;
+            this.values = values;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int size() {
+            return values.length / fieldCount;
+        }
+
+        /**
+         * @return The field's text; empty (never null) when the source left it out
+         */
+        public String get(int record, int field) {
+            return values[record * fieldCount + field];
+        }
+
+        /**
+         * One field of every record, as a new array
+         */
+        public String[] getColumn(int field) {
+            String[] column = new String[size()];
+            for (int i = 0; i < column.length; i++) {
+                column[i] = get(i, field);
+            }
+            return column;
+        }
+
+        /**
+         * First record whose key field equals key, or -1
+         */
+        public int indexOf(int keyField, String key) {
+            for (int i = 0, n = size(); i < n; i++) {
+                if (get(i, keyField).equals(key)) return i;
+            }
+            return -1;
+        }
+    }
+
+    public ContentPack(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a content pack");
+        }
+        int version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported content pack version " + version);
+        }
+        this.buffer = buffer;
+        fieldCount = buffer.getShort(6);
+        sectionCount = buffer.getInt(8);
+        int recordCount = buffer.getInt(12);
+        recordsStart = HEADER_SIZE + sectionCount * SECTION_ENTRY_SIZE;
+        stringsStart = recordsStart + recordCount * fieldCount * FIELD_ENTRY_SIZE;
+        if (fieldCount <= 0 || stringsStart > buffer.capacity()) {
+            throw new IOException("Truncated content pack");
+        }
+        sectionNames = new String[sectionCount];
+        sections = new Section[sectionCount];
+    }
+
+    /**
+     * Map a pack from assets. Packs are stored uncompressed (noCompress "pack"),
+     * so this maps the APK region directly; a compressed asset is read into memory instead.
+     */
+    public static ContentPack open(AssetManager assets, String assetName) throws IOException {
+        ByteBuffer buffer;
+        try (AssetFileDescriptor fd = assets.openFd(assetName);
+             FileInputStream in = fd.createInputStream()) {
+            FileChannel channel = in.getChannel();
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, fd.getStartOffset(), fd.getLength());
+        } catch (FileNotFoundException compressed) {
+            try (InputStream in = assets.open(assetName)) {
+                buffer = ByteBuffer.wrap(readAll(in));
+            }
+        }
+        return new ContentPack(buffer);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    // ==================== Lookup ====================
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    /**
+     * The named section, decoded on first use; null if the pack has none
+     */
+    public synchronized Section getSection(String name) {
+        int index = findSection(name);
+        if (index < 0) return null;
+        Section section = sections[index];
+        if (section == null) {
+            section = decodeSection(index);
+            sections[index] = section;
+        }
+        return section;
+    }
+
+    /**
+     * Binary search over the sorted section names, decoding only the ones it visits
+     */
+    private int findSection(String name) {
+        int low = 0;
+        int high = sectionCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = getSectionName(mid).compareTo(name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private String getSectionName(int index) {
+        String name = sectionNames[index];
+        if (name == null) {
+            int entry = HEADER_SIZE + index * SECTION_ENTRY_SIZE;
+            name = readString(buffer.getInt(entry), buffer.getInt(entry + 4));
+            sectionNames[index] = name;
+        }
+        return name;
+    }
+
+    private Section decodeSection(int index) {
+        int entry = HEADER_SIZE + index * SECTION_ENTRY_SIZE;
+        int firstRecord = buffer.getInt(entry + 8);
+        int recordCount = buffer.getInt(entry + 12);
+
+        String[] values = new String[recordCount * fieldCount];
+        int field = recordsStart + firstRecord * fieldCount * FIELD_ENTRY_SIZE;
+        for (int i = 0; i < values.length; i++, field += FIELD_ENTRY_SIZE) {
+            values[i] = readString(buffer.getInt(field), buffer.getInt(field + 4));
+        }
+        return new Section(getSectionName(index), fieldCount, values);
+    }
+
+    private String readString(int offset, int length) {
+        if (length == 0) return "";
+        byte[] bytes = new byte[length];
+        // Absolute reads only: a duplicate keeps the shared buffer's position untouched
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringsStart + offset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,321 @@
+package com.edu.english.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide emoji glyph atlas
+ * Color emoji are among the most expensive things to draw as text, so each
+ * (text, size bucket, color) is rasterized once into a shared texture page and
+ * drawn from there with a single drawBitmap, scaled down to the requested size.
+ * Pages are packed in shelves; when all pages are full the least recently
+ * used page is cleared and its glyphs are rasterized again on their next use.
+ * Works for short runs too (e.g. "🍎🍎🍎" or a row of stars).
+ */
+public class EmojiAtlas {
+    private static final String TAG = "EmojiAtlas";
+
+    private static final int PAGE_SIZE = 512;
+    private static final int MAX_PAGES = 6;
+    private static final int PADDING = 2;
+
+    // Rasterized text sizes; a draw uses the smallest bucket at least as big
+    private static final int[] SIZE_BUCKETS = {16, 20, 24, 32, 40, 48, 64, 80, 96, 128, 160, 192, 256, 320, 384};
+
+    private static EmojiAtlas instance;
+
+    private final List<Page> pages = new ArrayList<>();
+    private final Map<String, Glyph> glyphs = new HashMap<>();
+
+    private final Paint rasterPaint;
+    private final Paint drawPaint;
+    private final Paint fallbackPaint;
+    private final Paint.FontMetrics fontMetrics = new Paint.FontMetrics();
+    private final RectF dst = new RectF();
+
+    // Use counter for LRU
+    private long tick = 0;
+
+    // Metrics
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long bypasses = 0;
+
+    /**
+     * Atlas counters
+     */
+    public static class Stats {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long bypasses;
+        public final int pages;
+        public final int glyphs;
+
+        Stats(long hits, long misses, long evictions, long bypasses, int pages, int glyphs) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.bypasses = bypasses;
+            this.pages = pages;
+            this.glyphs = glyphs;
+        }
+
+        public float getHitRate() {
+            long total = hits + misses;
+            return total > 0 ? hits / (float) total : 0f;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses
+                    + " hitRate=" + Math.round(getHitRate() * 100) + "%"
+                    + " evictions=" + evictions + " bypasses=" + bypasses
+                    + " pages=" + pages + " glyphs=" + glyphs;
+        }
+    }
+
+    /**
+     * One texture page, filled shelf by shelf
+     */
+    private static class Page {
+        final Bitmap bitmap;
+        final Canvas canvas;
+        final List<Glyph> glyphs = new ArrayList<>();
+        // Shelves: top y, height and the x where the next glyph goes
+        final List<int[]> shelves = new ArrayList<>();
+        int nextShelfY = 0;
+        long lastUse = 0;
+
+        Page() {
+            bitmap = Bitmap.createBitmap(PAGE_SIZE, PAGE_SIZE, Bitmap.Config.ARGB_8888);
+            canvas = new Canvas(bitmap);
+        }
+
+        /**
+         * Find room for a w x h glyph; returns false if the page is full
+         */
+        boolean allocate(int w, int h, Rect out) {
+            for (int[] shelf : shelves) {
+                // Reuse a shelf that fits without wasting more than half its height
+                if (h <= shelf[1] && h * 2 > shelf[1] && shelf[2] + w <= PAGE_SIZE) {
+                    out.set(shelf[2], shelf[0], shelf[2] + w, shelf[0] + h);
+                    shelf[2] += w;
+                    return true;
+                }
+            }
+            if (nextShelfY + h > PAGE_SIZE || w > PAGE_SIZE) {
+                return false;
+            }
+            shelves.add(new int[]{nextShelfY, h, w});
+            out.set(0, nextShelfY, w, nextShelfY + h);
+            nextShelfY += h;
+            return true;
+        }
+
+        void clear() {
+            bitmap.eraseColor(Color.TRANSPARENT);
+            shelves.clear();
+            nextShelfY = 0;
+            for (Glyph glyph : glyphs) {
+                glyph.page = null;
+            }
+            glyphs.clear();
+        }
+    }
+
+    /**
+     * A rasterized run of text; other sizes and colors of the same text are chained
+     */
+    private static class Glyph {
+        final int bucket;
+        final int color;
+        final Rect src = new Rect();
+        float baseline;
+        Page page;
+        boolean oversized; // measured too big for a page, always drawn as text
+        Glyph next;
+
+        Glyph(int bucket, int color) {
+            this.bucket = bucket;
+            this.color = color;
+        }
+    }
+
+    public static synchronized EmojiAtlas getInstance() {
+        if (instance == null) {
+            instance = new EmojiAtlas();
+        }
+        return instance;
+    }
+
+    private EmojiAtlas() {
+        rasterPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        rasterPaint.setTextAlign(Paint.Align.LEFT);
+
+        drawPaint = new Paint();
+        drawPaint.setFilterBitmap(true);
+
+        fallbackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        fallbackPaint.setTextAlign(Paint.Align.CENTER);
+    }
+
+    /**
+     * Draw text horizontally centered on x, like Paint.Align.CENTER
+     *
+     * @param baseline Baseline y, as for drawText
+     * @param textSize Text size in pixels
+     * @param color Text color; its alpha fades the whole glyph (emoji keep their own colors)
+     */
+    public synchronized void draw(Canvas canvas, String text, float x, float baseline,
+                                  float textSize, int color) {
+        if (text == null || text.isEmpty() || textSize <= 0) return;
+
+        int opaque = color | 0xFF000000;
+        int bucket = getBucket(textSize);
+        Glyph glyph = bucket > 0 ? find(text, bucket, opaque) : null;
+        if (glyph == null) {
+            // Too big (or too wide) for a page - draw as text
+            bypasses++;
+            fallbackPaint.setTextSize(textSize);
+            fallbackPaint.setColor(color);
+            canvas.drawText(text, x, baseline, fallbackPaint);
+            return;
+        }
+
+        glyph.page.lastUse = ++tick;
+
+        float scale = textSize / glyph.bucket;
+        float width = glyph.src.width() * scale;
+        float top = baseline - glyph.baseline * scale;
+        dst.set(x - width / 2f, top, x + width / 2f, top + glyph.src.height() * scale);
+        drawPaint.setAlpha(Color.alpha(color));
+        canvas.drawBitmap(glyph.page.bitmap, glyph.src, dst, drawPaint);
+    }
+
+    /**
+     * Rasterize ahead of time (e.g. while a screen loads)
+     */
+    public synchronized void prepare(String text, float textSize, int color) {
+        int bucket = getBucket(textSize);
+        if (text != null && !text.isEmpty() && bucket > 0) {
+            find(text, bucket, color | 0xFF000000);
+        }
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, bypasses, pages.size(), glyphs.size());
+    }
+
+    /**
+     * Release all pages (glyphs are rasterized again when next drawn)
+     */
+    public synchronized void trim() {
+        for (Page page : pages) {
+            page.clear();
+            page.bitmap.recycle();
+        }
+        pages.clear();
+        glyphs.clear();
+    }
+
+    // ==================== Lookup ====================
+
+    private Glyph find(String text, int bucket, int color) {
+        Glyph head = glyphs.get(text);
+        Glyph glyph = head;
+        while (glyph != null && (glyph.bucket != bucket || glyph.color != color)) {
+            glyph = glyph.next;
+        }
+
+        if (glyph != null && glyph.page != null) {
+            hits++;
+            return glyph;
+        }
+        if (glyph != null && glyph.oversized) {
+            return null;
+        }
+
+        if (glyph == null) {
+            glyph = new Glyph(bucket, color);
+            glyph.next = head;
+            glyphs.put(text, glyph);
+        }
+        // Oversized text only counts as a bypass (in draw)
+        if (!rasterize(text, glyph)) {
+            return null;
+        }
+        misses++;
+        return glyph;
+    }
+
+    private boolean rasterize(String text, Glyph glyph) {
+        rasterPaint.setTextSize(glyph.bucket);
+        rasterPaint.setColor(glyph.color);
+        rasterPaint.getFontMetrics(fontMetrics);
+
+        int width = (int) Math.ceil(rasterPaint.measureText(text)) + PADDING * 2;
+        int height = (int) Math.ceil(fontMetrics.bottom - fontMetrics.top) + PADDING * 2;
+        if (width > PAGE_SIZE || height > PAGE_SIZE) {
+            glyph.oversized = true;
+            return false;
+        }
+
+        Page page = allocate(width, height, glyph.src);
+        glyph.page = page;
+        glyph.baseline = PADDING - fontMetrics.top;
+        page.glyphs.add(glyph);
+        page.lastUse = ++tick;
+
+        page.canvas.drawText(text, glyph.src.left + PADDING, glyph.src.top + glyph.baseline, rasterPaint);
+        return true;
+    }
+
+    private Page allocate(int width, int height, Rect out) {
+        for (Page page : pages) {
+            if (page.allocate(width, height, out)) {
+                return page;
+            }
+        }
+
+        if (pages.size() < MAX_PAGES) {
+            Page page = new Page();
+            pages.add(page);
+            page.allocate(width, height, out);
+            return page;
+        }
+
+        // All pages full: recycle the least recently used one
+        Page victim = pages.get(0);
+        for (Page page : pages) {
+            if (page.lastUse < victim.lastUse) {
+                victim = page;
+            }
+        }
+        evictions++;
+        Log.d(TAG, "Evicting page with " + victim.glyphs.size() + " glyphs, " + getStats());
+        victim.clear();
+        victim.allocate(width, height, out);
+        return victim;
+    }
+
+    private static int getBucket(float textSize) {
+        for (int bucket : SIZE_BUCKETS) {
+            if (bucket >= textSize) {
+                return bucket;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,109 @@
+package com.edu.english.util;
+
+/**
+ * How a kind of particle moves, fades and looks
+ * Emitted particles keep a reference to their emitter, so changing a setting
+ * (e.g. the floor after a resize) affects particles already alive.
+ */
+public class ParticleEmitter {
+
+    // How opacity follows the remaining life
+    public static final int FADE_NONE = 0;
+    public static final int FADE_LINEAR = 1;
+    public static final int FADE_QUAD = 2;      // Holds longer, drops off at the end
+
+    // How the drawn size changes over life
+    public static final int SIZE_CONSTANT = 0;
+    public static final int SIZE_FADE = 1;      // Shrinks with the fade
+    public static final int SIZE_HALF_FADE = 2; // Shrinks to half
+    public static final int SIZE_GROW = 3;      // Grows from half
+    public static final int SIZE_POP_IN = 4;    // Overshoots in during the first half
+    public static final int SIZE_SHRINK_LATE = 5; // Shrinks over the last 30%, dies below 1px
+
+    int shape;
+    float aspect = 1f;
+    float gravity = 0f;
+    float dragX = 1f;
+    float dragY = 1f;
+    float swayAmplitude = 0f;
+    float swayFrequency = 0f;
+    float floor = Float.POSITIVE_INFINITY;
+    int fadeMode = FADE_LINEAR;
+    int sizeMode = SIZE_CONSTANT;
+    int glowShape;
+    int glowColor = 0;
+    float glowScale = 0f;
+
+    /**
+     * @param shape SpriteBatch shape the particles are drawn with
+     */
+    public ParticleEmitter(int shape) {
+        this.shape = shape;
+    }
+
+    /**
+     * Height relative to width (e.g. 0.5 for confetti strips)
+     */
+    public ParticleEmitter setAspect(float aspect) {
+        this.aspect = aspect;
+        return this;
+    }
+
+    /**
+     * Downward acceleration in px/s²
+     */
+    public ParticleEmitter setGravity(float gravity) {
+        this.gravity = gravity;
+        return this;
+    }
+
+    /**
+     * Fraction of velocity kept per 1/60 s (1 = no drag)
+     */
+    public ParticleEmitter setDrag(float dragX, float dragY) {
+        this.dragX = dragX;
+        this.dragY = dragY;
+        return this;
+    }
+
+    /**
+     * Sideways push of amplitude * sin(y * frequency) px/s²
+     */
+    public ParticleEmitter setSway(float amplitude, float frequency) {
+        this.swayAmplitude = amplitude;
+        this.swayFrequency = frequency;
+        return this;
+    }
+
+    /**
+     * Particles falling below this y die
+     */
+    public ParticleEmitter setFloor(float floor) {
+        this.floor = floor;
+        return this;
+    }
+
+    public ParticleEmitter setFade(int fadeMode) {
+        this.fadeMode = fadeMode;
+        return this;
+    }
+
+    public ParticleEmitter setSize(int sizeMode) {
+        this.sizeMode = sizeMode;
+        return this;
+    }
+
+    /**
+     * Draw a halo over each particle
+     *
+     * @param shape SpriteBatch shape of the halo
+     * @param color Halo color; its alpha is scaled by the particle's fade
+     * @param scale Halo size relative to the particle
+     */
+    public ParticleEmitter setGlow(int shape, int color, float scale) {
+        this.glowShape = shape;
+        this.glowColor = color;
+        this.glowScale = scale;
+        return this;
+    }
+}
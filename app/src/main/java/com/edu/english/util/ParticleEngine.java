@@ -0,0 +1,289 @@
+package com.edu.english.util;
+
+/**
+ * Fixed-capacity particle engine
+ * Particle state lives in parallel primitive arrays (structure of arrays),
+ * dead slots go back on a free list and live slots are kept in a dense list,
+ * so emitting, simulating and drawing allocate nothing after construction.
+ * Behavior comes from the ParticleEmitter each particle was emitted with.
+ * Plain Java - times are in seconds, drawing goes through a Sink
+ * (SpriteBatch), and callers supply their own randomness.
+ */
+public class ParticleEngine {
+
+    // Different emitters one engine can hold
+    private static final int MAX_EMITTERS = 8;
+
+    /**
+     * Receives one quad per particle (SpriteBatch implements this)
+     */
+    public interface Sink {
+        void add(int shape, float x, float y, float halfWidth, float halfHeight, float rotation, int color);
+    }
+
+    private final int capacity;
+
+    // Particle state by slot
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] size;
+    private final float[] rotation;
+    private final float[] rotationSpeed;
+    private final float[] life;
+    private final float[] maxLife;
+    private final int[] color;
+    private final byte[] emitterIndex;
+
+    // Free slots (stack) and live slots (dense, unordered)
+    private final int[] free;
+    private int freeCount;
+    private final int[] active;
+    private int activeCount = 0;
+
+    // Emitters in use, with their live counts and per-update factors
+    private final ParticleEmitter[] emitters = new ParticleEmitter[MAX_EMITTERS];
+    private final int[] emitterCounts = new int[MAX_EMITTERS];
+    private final float[] dragXFactors = new float[MAX_EMITTERS];
+    private final float[] dragYFactors = new float[MAX_EMITTERS];
+    private final float[] shrinkFactors = new float[MAX_EMITTERS];
+    private int emitterCount = 0;
+
+    private int droppedCount = 0;
+
+    public ParticleEngine(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        x = new float[this.capacity];
+        y = new float[this.capacity];
+        vx = new float[this.capacity];
+        vy = new float[this.capacity];
+        size = new float[this.capacity];
+        rotation = new float[this.capacity];
+        rotationSpeed = new float[this.capacity];
+        life = new float[this.capacity];
+        maxLife = new float[this.capacity];
+        color = new int[this.capacity];
+        emitterIndex = new byte[this.capacity];
+        free = new int[this.capacity];
+        active = new int[this.capacity];
+
+        // Hand out low slots first
+        for (int i = 0; i < this.capacity; i++) {
+            free[i] = this.capacity - 1 - i;
+        }
+        freeCount = this.capacity;
+    }
+
+    // ==================== Emitting ====================
+
+    /**
+     * Emit a particle that doesn't spin
+     */
+    public int emit(ParticleEmitter emitter, float px, float py, float pvx, float pvy,
+                    float halfSize, float lifeSeconds, int argb) {
+        return emit(emitter, px, py, pvx, pvy, halfSize, lifeSeconds, argb, 0f, 0f);
+    }
+
+    /**
+     * Emit a particle
+     *
+     * @param halfSize Half the particle's width (circles and stars: radius)
+     * @param lifeSeconds Lifetime; Float.POSITIVE_INFINITY lives until it reaches the floor
+     * @param rotationDegrees Starting angle
+     * @param spinDegrees Rotation speed in degrees per second
+     * @return The slot used, or -1 if the engine is full (the particle is dropped)
+     */
+    public int emit(ParticleEmitter emitter, float px, float py, float pvx, float pvy,
+                    float halfSize, float lifeSeconds, int argb, float rotationDegrees, float spinDegrees) {
+        int index = indexOf(emitter);
+        if (freeCount == 0 || index < 0) {
+            droppedCount++;
+            return -1;
+        }
+
+        int slot = free[--freeCount];
+        x[slot] = px;
+        y[slot] = py;
+        vx[slot] = pvx;
+        vy[slot] = pvy;
+        size[slot] = halfSize;
+        rotation[slot] = rotationDegrees;
+        rotationSpeed[slot] = spinDegrees;
+        life[slot] = lifeSeconds;
+        maxLife[slot] = lifeSeconds;
+        color[slot] = argb;
+        emitterIndex[slot] = (byte) index;
+
+        active[activeCount++] = slot;
+        emitterCounts[index]++;
+        return slot;
+    }
+
+    private int indexOf(ParticleEmitter emitter) {
+        for (int i = 0; i < emitterCount; i++) {
+            if (emitters[i] == emitter) return i;
+        }
+        if (emitterCount == MAX_EMITTERS) return -1;
+        emitters[emitterCount] = emitter;
+        return emitterCount++;
+    }
+
+    // ==================== Simulation ====================
+
+    /**
+     * Advance all particles
+     *
+     * @param deltaTime Seconds since the last update
+     */
+    public void update(float deltaTime) {
+        if (activeCount == 0 || deltaTime <= 0) return;
+
+        // Per-frame factors are defined at 60 fps; scale them to this step once per emitter
+        float frames = deltaTime * 60f;
+        for (int e = 0; e < emitterCount; e++) {
+            ParticleEmitter emitter = emitters[e];
+            dragXFactors[e] = emitter.dragX == 1f ? 1f : (float) Math.pow(emitter.dragX, frames);
+            dragYFactors[e] = emitter.dragY == 1f ? 1f : (float) Math.pow(emitter.dragY, frames);
+            shrinkFactors[e] = emitter.sizeMode == ParticleEmitter.SIZE_SHRINK_LATE
+                    ? (float) Math.pow(0.95, frames) : 1f;
+        }
+
+        // Backwards, so a dead particle can be swapped with one already updated
+        for (int i = activeCount - 1; i >= 0; i--) {
+            int slot = active[i];
+            int e = emitterIndex[slot];
+            ParticleEmitter emitter = emitters[e];
+
+            if (emitter.swayAmplitude != 0f) {
+                vx[slot] += (float) Math.sin(y[slot] * emitter.swayFrequency) * emitter.swayAmplitude * deltaTime;
+            }
+            vy[slot] += emitter.gravity * deltaTime;
+            vx[slot] *= dragXFactors[e];
+            vy[slot] *= dragYFactors[e];
+
+            x[slot] += vx[slot] * deltaTime;
+            y[slot] += vy[slot] * deltaTime;
+            rotation[slot] += rotationSpeed[slot] * deltaTime;
+            life[slot] -= deltaTime;
+
+            boolean dead = life[slot] <= 0 || y[slot] > emitter.floor;
+            if (emitter.sizeMode == ParticleEmitter.SIZE_SHRINK_LATE && life[slot] < maxLife[slot] * 0.3f) {
+                size[slot] *= shrinkFactors[e];
+                dead |= size[slot] < 1f;
+            }
+            if (dead) {
+                kill(i);
+            }
+        }
+    }
+
+    private void kill(int activeIndex) {
+        int slot = active[activeIndex];
+        active[activeIndex] = active[--activeCount];
+        free[freeCount++] = slot;
+        emitterCounts[emitterIndex[slot]]--;
+    }
+
+    /**
+     * Remove every particle
+     */
+    public void clear() {
+        while (activeCount > 0) {
+            kill(activeCount - 1);
+        }
+    }
+
+    // ==================== Drawing ====================
+
+    /**
+     * Send every live particle (and its halo) to the sink
+     */
+    public void draw(Sink sink) {
+        for (int i = 0; i < activeCount; i++) {
+            int slot = active[i];
+            ParticleEmitter emitter = emitters[emitterIndex[slot]];
+
+            // Remaining life, 1 at birth to 0 at death
+            float remaining = Float.isInfinite(maxLife[slot]) ? 1f
+                    : Math.max(0f, Math.min(1f, life[slot] / maxLife[slot]));
+            float alpha = getAlpha(emitter.fadeMode, remaining);
+            float half = size[slot] * getSizeScale(emitter.sizeMode, remaining);
+
+            sink.add(emitter.shape, x[slot], y[slot], half, half * emitter.aspect,
+                    rotation[slot], scaleAlpha(color[slot], alpha));
+
+            if (emitter.glowScale > 0f) {
+                float glow = half * emitter.glowScale;
+                sink.add(emitter.glowShape, x[slot], y[slot], glow, glow, 0f,
+                        scaleAlpha(emitter.glowColor, alpha));
+            }
+        }
+    }
+
+    private static float getAlpha(int fadeMode, float remaining) {
+        switch (fadeMode) {
+            case ParticleEmitter.FADE_LINEAR:
+                return remaining;
+            case ParticleEmitter.FADE_QUAD:
+                float age = 1f - remaining;
+                return 1f - age * age;
+            default:
+                return 1f;
+        }
+    }
+
+    private static float getSizeScale(int sizeMode, float remaining) {
+        switch (sizeMode) {
+            case ParticleEmitter.SIZE_FADE:
+                return remaining;
+            case ParticleEmitter.SIZE_HALF_FADE:
+                return 0.5f + remaining * 0.5f;
+            case ParticleEmitter.SIZE_GROW:
+                return 1f - remaining * 0.5f;
+            case ParticleEmitter.SIZE_POP_IN:
+                // Ease out back over the first half of life
+                float t = Math.min(1f, (1f - remaining) * 2f) - 1f;
+                float c1 = 1.70158f;
+                return 1f + (c1 + 1f) * t * t * t + c1 * t * t;
+            default:
+                return 1f;
+        }
+    }
+
+    private static int scaleAlpha(int argb, float alpha) {
+        int a = (int) ((argb >>> 24) * alpha);
+        return (a << 24) | (argb & 0x00FFFFFF);
+    }
+
+    // ==================== State ====================
+
+    public int getCount() {
+        return activeCount;
+    }
+
+    /**
+     * Live particles emitted with this emitter
+     */
+    public int getCount(ParticleEmitter emitter) {
+        for (int i = 0; i < emitterCount; i++) {
+            if (emitters[i] == emitter) return emitterCounts[i];
+        }
+        return 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return activeCount == 0;
+    }
+
+    /**
+     * Particles not emitted because the engine was full
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+}
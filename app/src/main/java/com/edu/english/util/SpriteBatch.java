@@ -0,0 +1,273 @@
+package com.edu.english.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Shader;
+import android.os.Build;
+
+/**
+ * Batched sprite renderer for particles
+ * Particles are written as tinted, rotated quads into preallocated vertex
+ * arrays and submitted with one drawVertices call, textured from a small
+ * atlas of white shapes (rect, circle, triangle, rounded square, star).
+ * A burst of hundreds of pieces costs about one draw call instead of a
+ * save/rotate/draw/restore per piece.
+ *
+ * Usage: begin(canvas), add(...) per particle, end(). The batch flushes on
+ * its own if it fills up. Hardware canvases only draw vertices from API 29;
+ * before that the shapes are drawn one by one.
+ */
+public class SpriteBatch implements ParticleEngine.Sink {
+
+    // Shapes in the atlas
+    public static final int SHAPE_RECT = 0;
+    public static final int SHAPE_CIRCLE = 1;
+    public static final int SHAPE_TRIANGLE = 2;
+    public static final int SHAPE_ROUND_RECT = 3;
+    public static final int SHAPE_STAR = 4;
+    private static final int SHAPE_COUNT = 5;
+
+    // Atlas cell size and the transparent border around each shape
+    private static final int CELL = 64;
+    private static final int CELL_PADDING = 2;
+    private static final float HALF_CONTENT = CELL / 2f - CELL_PADDING;
+    // Quad half-size per unit of shape half-size (the quad includes the border)
+    private static final float QUAD_SCALE = (CELL / 2f) / HALF_CONTENT;
+
+    private static Bitmap atlas;
+    private static Path unitTriangle;
+    private static Path unitStar;
+
+    private final int capacity;
+    private final float[] vertices;
+    private final float[] texCoords;
+    private final int[] colors;
+    private final short[] indices;
+    private final Paint paint;
+    private final Paint shapePaint;
+    private int count = 0;
+    private Canvas canvas;
+    private boolean drawDirect = false;
+
+    /**
+     * @param capacity Quads per draw call
+     */
+    public SpriteBatch(int capacity) {
+        this.capacity = Math.max(1, Math.min(capacity, Short.MAX_VALUE / 4));
+        this.vertices = new float[this.capacity * 8];
+        this.texCoords = new float[this.capacity * 8];
+        this.colors = new int[this.capacity * 4];
+        this.indices = new short[this.capacity * 6];
+
+        // Two triangles per quad, fixed for the life of the batch
+        for (int i = 0; i < this.capacity; i++) {
+            short v = (short) (i * 4);
+            int n = i * 6;
+            indices[n] = v;
+            indices[n + 1] = (short) (v + 1);
+            indices[n + 2] = (short) (v + 2);
+            indices[n + 3] = v;
+            indices[n + 4] = (short) (v + 2);
+            indices[n + 5] = (short) (v + 3);
+        }
+
+        paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+        paint.setShader(new BitmapShader(getAtlas(), Shader.TileMode.CLAMP, Shader.TileMode.CLAMP));
+        shapePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    }
+
+    /**
+     * Start collecting quads for a canvas
+     */
+    public void begin(Canvas canvas) {
+        this.canvas = canvas;
+        count = 0;
+        drawDirect = canvas.isHardwareAccelerated() && Build.VERSION.SDK_INT < Build.VERSION_CODES.Q;
+    }
+
+    /**
+     * Queue one sprite
+     *
+     * @param halfWidth Half the shape's width (circle and star: radius)
+     * @param halfHeight Half the shape's height
+     * @param rotation Degrees, clockwise like Canvas.rotate
+     * @param color Tint, alpha included
+     */
+    @Override
+    public void add(int shape, float x, float y, float halfWidth, float halfHeight, float rotation, int color) {
+        if (canvas == null || Color.alpha(color) == 0 || halfWidth <= 0 || halfHeight <= 0) return;
+        if (drawDirect) {
+            drawShape(shape, x, y, halfWidth, halfHeight, rotation, color);
+            return;
+        }
+        if (count == capacity) {
+            flush();
+        }
+
+        float hw = halfWidth * QUAD_SCALE;
+        float hh = halfHeight * QUAD_SCALE;
+        float cos = 1f;
+        float sin = 0f;
+        if (rotation != 0f) {
+            double radians = Math.toRadians(rotation);
+            cos = (float) Math.cos(radians);
+            sin = (float) Math.sin(radians);
+        }
+
+        // Corners: top-left, top-right, bottom-right, bottom-left
+        int v = count * 8;
+        float cx = hw * cos;
+        float sx = hw * sin;
+        float cy = hh * cos;
+        float sy = hh * sin;
+        vertices[v] = x - cx + sy;
+        vertices[v + 1] = y - sx - cy;
+        vertices[v + 2] = x + cx + sy;
+        vertices[v + 3] = y + sx - cy;
+        vertices[v + 4] = x + cx - sy;
+        vertices[v + 5] = y + sx + cy;
+        vertices[v + 6] = x - cx - sy;
+        vertices[v + 7] = y - sx + cy;
+
+        float left = shape * CELL;
+        float right = left + CELL;
+        texCoords[v] = left;
+        texCoords[v + 1] = 0;
+        texCoords[v + 2] = right;
+        texCoords[v + 3] = 0;
+        texCoords[v + 4] = right;
+        texCoords[v + 5] = CELL;
+        texCoords[v + 6] = left;
+        texCoords[v + 7] = CELL;
+
+        int c = count * 4;
+        colors[c] = color;
+        colors[c + 1] = color;
+        colors[c + 2] = color;
+        colors[c + 3] = color;
+
+        count++;
+    }
+
+    /**
+     * Draw everything queued since begin()
+     */
+    public void end() {
+        flush();
+        canvas = null;
+    }
+
+    private void flush() {
+        if (count == 0 || canvas == null) return;
+        canvas.drawVertices(Canvas.VertexMode.TRIANGLES, count * 8, vertices, 0,
+                texCoords, 0, colors, 0, indices, 0, count * 6, paint);
+        count = 0;
+    }
+
+    /**
+     * Draw one shape straight to the canvas (hardware canvas before API 29)
+     */
+    private void drawShape(int shape, float x, float y, float halfWidth, float halfHeight, float rotation, int color) {
+        shapePaint.setColor(color);
+        canvas.save();
+        canvas.translate(x, y);
+        if (rotation != 0f) {
+            canvas.rotate(rotation);
+        }
+        switch (shape) {
+            case SHAPE_RECT:
+                canvas.drawRect(-halfWidth, -halfHeight, halfWidth, halfHeight, shapePaint);
+                break;
+            case SHAPE_CIRCLE:
+                canvas.drawOval(-halfWidth, -halfHeight, halfWidth, halfHeight, shapePaint);
+                break;
+            case SHAPE_ROUND_RECT:
+                canvas.drawRoundRect(-halfWidth, -halfHeight, halfWidth, halfHeight,
+                        halfWidth * 0.6f, halfHeight * 0.6f, shapePaint);
+                break;
+            case SHAPE_TRIANGLE:
+            case SHAPE_STAR:
+                canvas.scale(halfWidth, halfHeight);
+                canvas.drawPath(shape == SHAPE_TRIANGLE ? unitTriangle : unitStar, shapePaint);
+                break;
+        }
+        canvas.restore();
+    }
+
+    // ==================== Atlas ====================
+
+    /**
+     * White shapes side by side; the vertex colors tint them
+     */
+    private static synchronized Bitmap getAtlas() {
+        if (atlas != null) return atlas;
+
+        unitTriangle = createUnitTriangle();
+        unitStar = createUnitStar();
+
+        atlas = Bitmap.createBitmap(CELL * SHAPE_COUNT, CELL, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(atlas);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        paint.setColor(Color.WHITE);
+        float r = HALF_CONTENT;
+
+        for (int shape = 0; shape < SHAPE_COUNT; shape++) {
+            canvas.save();
+            canvas.translate(shape * CELL + CELL / 2f, CELL / 2f);
+            switch (shape) {
+                case SHAPE_RECT:
+                    canvas.drawRect(-r, -r, r, r, paint);
+                    break;
+                case SHAPE_CIRCLE:
+                    canvas.drawCircle(0, 0, r, paint);
+                    break;
+                case SHAPE_TRIANGLE:
+                    canvas.scale(r, r);
+                    canvas.drawPath(unitTriangle, paint);
+                    break;
+                case SHAPE_ROUND_RECT:
+                    canvas.drawRoundRect(-r, -r, r, r, r * 0.6f, r * 0.6f, paint);
+                    break;
+                case SHAPE_STAR:
+                    canvas.scale(r, r);
+                    canvas.drawPath(unitStar, paint);
+                    break;
+            }
+            canvas.restore();
+        }
+        return atlas;
+    }
+
+    private static Path createUnitTriangle() {
+        Path path = new Path();
+        path.moveTo(0, -1);
+        path.lineTo(-1, 1);
+        path.lineTo(1, 1);
+        path.close();
+        return path;
+    }
+
+    /**
+     * 8-point star with outer radius 1 and inner radius 0.4
+     */
+    private static Path createUnitStar() {
+        Path path = new Path();
+        for (int i = 0; i < 8; i++) {
+            double angle = i * Math.PI / 4;
+            float radius = (i % 2 == 0) ? 1f : 0.4f;
+            float px = (float) Math.cos(angle) * radius;
+            float py = (float) Math.sin(angle) * radius;
+            if (i == 0) {
+                path.moveTo(px, py);
+            } else {
+                path.lineTo(px, py);
+            }
+        }
+        path.close();
+        return path;
+    }
+}
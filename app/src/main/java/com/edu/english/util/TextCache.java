@@ -0,0 +1,168 @@
+package com.edu.english.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Text cache for game HUDs
+ * Canvas games draw the same few strings every frame; this keeps them from
+ * costing an allocation (string building), a measure or a glyph layout each time:
+ * - valueOf / table: interned strings for numbers and numeric labels
+ * - Widths: memoized measureText for one paint setup
+ * - Label: a static string pre-rendered to a bitmap, drawn with one blit
+ */
+public class TextCache {
+
+    // Small numbers are the only ones HUDs show
+    private static final int NUMBER_CACHE_SIZE = 1024;
+    private static final String[] numbers = new String[NUMBER_CACHE_SIZE];
+    private static final String[] chars = new String[128];
+
+    private TextCache() {
+    }
+
+    // ==================== Interned strings ====================
+
+    /**
+     * String.valueOf without the allocation, for 0..1023
+     */
+    public static String valueOf(int value) {
+        if (value < 0 || value >= NUMBER_CACHE_SIZE) {
+            return String.valueOf(value);
+        }
+        String text = numbers[value];
+        if (text == null) {
+            text = String.valueOf(value);
+            numbers[value] = text;
+        }
+        return text;
+    }
+
+    /**
+     * String.valueOf without the allocation, for ASCII
+     */
+    public static String valueOf(char c) {
+        if (c >= chars.length) {
+            return String.valueOf(c);
+        }
+        String text = chars[c];
+        if (text == null) {
+            text = String.valueOf(c);
+            chars[c] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Pre-format prefix + i + suffix for i = 0..max (e.g. "3/10", "✓ 3")
+     */
+    public static String[] table(String prefix, int max, String suffix) {
+        String[] table = new String[max + 1];
+        for (int i = 0; i <= max; i++) {
+            table[i] = prefix + i + suffix;
+        }
+        return table;
+    }
+
+    // ==================== Widths ====================
+
+    /**
+     * measureText results for one paint; the caller keeps the paint's
+     * size and typeface the same while measuring through this
+     */
+    public static class Widths {
+        private final Paint paint;
+        private final Map<String, Float> widths = new HashMap<>();
+
+        public Widths(Paint paint) {
+            this.paint = paint;
+        }
+
+        public float measure(String text) {
+            Float width = widths.get(text);
+            if (width == null) {
+                width = paint.measureText(text);
+                widths.put(text, width);
+            }
+            return width;
+        }
+    }
+
+    // ==================== Labels ====================
+
+    /**
+     * A string rendered once with a copy of a paint (size, color, typeface,
+     * alignment and shadow layer), then drawn as a bitmap
+     * Draws line up with drawText at the same x and baseline.
+     */
+    public static class Label {
+        private final String text;
+        private final Bitmap bitmap;
+        private final float offsetX;
+        private final float offsetY;
+        private final RectF dst = new RectF();
+        private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+        public Label(String text, Paint style) {
+            this(text, style, 0f);
+        }
+
+        /**
+         * @param shadowPadding Extra room around the text when the paint has a
+         *                      shadow layer (its radius plus offset)
+         */
+        public Label(String text, Paint style, float shadowPadding) {
+            this.text = text;
+
+            Paint textPaint = new Paint(style);
+            textPaint.setTextAlign(Paint.Align.LEFT);
+            Paint.FontMetrics fm = textPaint.getFontMetrics();
+            float width = textPaint.measureText(text);
+
+            // Plus a pixel for antialiasing
+            float pad = (float) Math.ceil(shadowPadding) + 1;
+
+            int bitmapWidth = Math.max(1, (int) Math.ceil(width + pad * 2));
+            int bitmapHeight = Math.max(1, (int) Math.ceil(fm.bottom - fm.top + pad * 2));
+            bitmap = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+            new Canvas(bitmap).drawText(text, pad, pad - fm.top, textPaint);
+
+            // Where the bitmap's top-left goes relative to drawText's (x, baseline)
+            float alignShift = 0f;
+            if (style.getTextAlign() == Paint.Align.CENTER) {
+                alignShift = width / 2f;
+            } else if (style.getTextAlign() == Paint.Align.RIGHT) {
+                alignShift = width;
+            }
+            offsetX = -alignShift - pad;
+            offsetY = fm.top - pad;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void draw(Canvas canvas, float x, float baseline) {
+            draw(canvas, x, baseline, 1f);
+        }
+
+        /**
+         * @param alpha 0-1, fades the whole label
+         */
+        public void draw(Canvas canvas, float x, float baseline, float alpha) {
+            dst.set(x + offsetX, baseline + offsetY,
+                    x + offsetX + bitmap.getWidth(), baseline + offsetY + bitmap.getHeight());
+            paint.setAlpha((int) (alpha * 255));
+            canvas.drawBitmap(bitmap, null, dst, paint);
+        }
+
+        public void recycle() {
+            bitmap.recycle();
+        }
+    }
+}
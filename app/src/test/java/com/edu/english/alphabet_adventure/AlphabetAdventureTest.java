@@ -3,14 +3,17 @@ package com.edu.english.alphabet_adventure;
 import static org.junit.Assert.*;
 
 import com.edu.english.alphabet_adventure.data.GameData;
+import com.edu.english.alphabet_adventure.engine.TokenEvents;
 import com.edu.english.alphabet_adventure.models.GameState;
 import com.edu.english.alphabet_adventure.models.LetterToken;
 import com.edu.english.alphabet_adventure.models.Mascot;
 import com.edu.english.alphabet_adventure.models.WordItem;
+import com.edu.english.util.TestContentPacks;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -187,8 +190,8 @@ public class AlphabetAdventureTest {
     // ==================== GameData Tests ====================
 
     @Test
-    public void testGetWords() {
-        List<WordItem> words = GameData.getWords();
+    public void testGetWords() throws IOException {
+        List<WordItem> words = GameData.buildIndex(TestContentPacks.load("word_race")).getWords();
         
         assertEquals(20, words.size());
         
@@ -412,4 +415,83 @@ public class AlphabetAdventureTest {
         token.setActive(false);
         assertFalse(token.isActive());
     }
+
+    @Test
+    public void testLetterTokenIdsAreUnique() {
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            LetterToken token = new LetterToken('A', i % 5, 500f, false);
+            assertTrue("Token ids should not repeat", ids.add(token.getId()));
+        }
+    }
+
+    // ==================== TokenEvents Tests ====================
+
+    @Test
+    public void testTokenEventsRecordTokenState() {
+        TokenEvents events = new TokenEvents(1);
+        LetterToken first = new LetterToken('b', 1, 300f, false);
+        LetterToken second = new LetterToken('C', 4, 700f, true);
+
+        events.add(TokenEvents.SPAWNED, first);
+        second.moveLeft(50f);
+        events.add(TokenEvents.MOVED, second);
+        events.add(TokenEvents.COLLIDED, first);
+
+        assertEquals(3, events.size());
+        assertEquals(TokenEvents.SPAWNED, events.getType(0));
+        assertEquals(first.getId(), events.getId(0));
+        assertEquals('B', events.getLetter(0));
+        assertEquals(1, events.getLane(0));
+        assertEquals(300f, events.getX(0), 0.01f);
+        assertEquals(TokenEvents.MOVED, events.getType(1));
+        assertEquals(second.getId(), events.getId(1));
+        assertEquals(650f, events.getX(1), 0.01f);
+        assertEquals(TokenEvents.COLLIDED, events.getType(2));
+    }
+
+    @Test
+    public void testTokenEventsClearReusesBuffer() {
+        TokenEvents events = new TokenEvents(4);
+        LetterToken token = new LetterToken('A', 0, 500f, false);
+        events.add(TokenEvents.MOVED, token);
+        events.clear();
+
+        assertTrue(events.isEmpty());
+        events.add(TokenEvents.REMOVED, token);
+        assertEquals(1, events.size());
+        assertEquals(TokenEvents.REMOVED, events.getType(0));
+    }
+
+    @Test
+    public void testTokenEventsAddAllAppendsAndGrows() {
+        TokenEvents tick = new TokenEvents(2);
+        TokenEvents published = new TokenEvents(1);
+        LetterToken token = new LetterToken('A', 3, 500f, false);
+
+        tick.add(TokenEvents.SPAWNED, token);
+        tick.add(TokenEvents.MOVED, token);
+        published.addAll(tick);
+        published.addAll(tick);
+
+        assertEquals(4, published.size());
+        assertEquals(TokenEvents.SPAWNED, published.getType(2));
+        assertEquals(TokenEvents.MOVED, published.getType(3));
+        assertEquals(3, published.getLane(3));
+    }
+
+    @Test
+    public void testTokenEventsCarrySpeedAndTime() {
+        TokenEvents tick = new TokenEvents(1);
+        TokenEvents published = new TokenEvents(1);
+        LetterToken token = new LetterToken('A', 2, 500f, false);
+
+        tick.add(TokenEvents.MOVED, token, 531.25f, 1234L);
+        tick.add(TokenEvents.REMOVED, token);
+        published.addAll(tick);
+
+        assertEquals(531.25f, published.getSpeed(0), 0.01f);
+        assertEquals(1234L, published.getTime(0));
+        assertEquals(0f, published.getSpeed(1), 0.01f);
+    }
 }
@@ -0,0 +1,167 @@
+package com.edu.english.alphabet_adventure;
+
+import static org.junit.Assert.*;
+
+import com.edu.english.alphabet_adventure.data.GameData;
+import com.edu.english.alphabet_adventure.data.VocabularyIndex;
+import com.edu.english.alphabet_adventure.models.WordItem;
+import com.edu.english.util.TestContentPacks;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the Word Race vocabulary index and distractor picking.
+ */
+public class VocabularyIndexTest {
+
+    private static final int DISTRACTORS = 4;
+
+    private static VocabularyIndex wordRace() throws IOException {
+        return GameData.buildIndex(TestContentPacks.load("word_race"));
+    }
+
+    @Test
+    public void testGetWordsIsSharedNotCopied() throws IOException {
+        VocabularyIndex index = wordRace();
+        assertSame(index.getWords(), index.getWords());
+        assertEquals(20, index.size());
+        assertEquals("apple", index.getWord(0).getWord());
+    }
+
+    @Test
+    public void testLetterFrequency() {
+        List<WordItem> words = new ArrayList<>();
+        words.add(new WordItem("apple", ""));
+        words.add(new WordItem("pea", ""));
+        VocabularyIndex index = new VocabularyIndex(words);
+
+        assertEquals(3, index.getLetterFrequency('P'));
+        assertEquals(2, index.getLetterFrequency('a'));
+        assertEquals(0, index.getLetterFrequency('Z'));
+    }
+
+    @Test
+    public void testDistractorsAreDistinctLettersWithoutTarget() throws IOException {
+        VocabularyIndex index = wordRace();
+        Random random = new Random(7);
+        char[] out = new char[DISTRACTORS];
+
+        for (int difficulty = 0; difficulty < VocabularyIndex.DIFFICULTY_COUNT; difficulty++) {
+            for (char target = 'A'; target <= 'Z'; target++) {
+                for (int run = 0; run < 50; run++) {
+                    index.pickDistractors(target, difficulty, random, out, DISTRACTORS);
+                    int seen = 0;
+                    for (char c : out) {
+                        assertTrue("Distractor should be A-Z", c >= 'A' && c <= 'Z');
+                        assertNotEquals("Distractor should not be the target", target, c);
+                        int bit = 1 << (c - 'A');
+                        assertEquals("Distractors should not repeat", 0, seen & bit);
+                        seen |= bit;
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllButOneLetterCanBePicked() throws IOException {
+        VocabularyIndex index = wordRace();
+        char[] out = new char[25];
+        index.pickDistractors('M', VocabularyIndex.HARD, new Random(3), out, out.length);
+
+        int seen = 0;
+        for (char c : out) {
+            seen |= 1 << (c - 'A');
+        }
+        assertEquals((1 << 26) - 1 - (1 << ('M' - 'A')), seen);
+    }
+
+    @Test
+    public void testHardWavesUseMoreConfusables() throws IOException {
+        VocabularyIndex index = wordRace();
+        Random random = new Random(11);
+        char[] out = new char[DISTRACTORS];
+
+        int easy = countConfusables(index, VocabularyIndex.EASY, random, out);
+        int hard = countConfusables(index, VocabularyIndex.HARD, random, out);
+        assertTrue("Hard waves should have more look-alikes (" + easy + " vs " + hard + ")", hard > easy * 2);
+    }
+
+    private int countConfusables(VocabularyIndex index, int difficulty, Random random, char[] out) {
+        int count = 0;
+        for (int run = 0; run < 2000; run++) {
+            char target = (char) ('A' + run % 26);
+            index.pickDistractors(target, difficulty, random, out, DISTRACTORS);
+            for (char c : out) {
+                if (VocabularyIndex.isConfusable(target, c)) count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testRateDifficulty() {
+        assertEquals(VocabularyIndex.EASY, VocabularyIndex.rateDifficulty("cat"));
+        assertEquals(VocabularyIndex.MEDIUM, VocabularyIndex.rateDifficulty("fish"));
+        assertEquals(VocabularyIndex.EASY, VocabularyIndex.rateDifficulty("ice"));
+        assertEquals(VocabularyIndex.HARD, VocabularyIndex.rateDifficulty("orange"));
+        assertEquals(VocabularyIndex.HARD, VocabularyIndex.rateDifficulty("kite"));
+    }
+
+    @Test
+    public void testSessionHasEveryWordOnceEasyFirst() throws IOException {
+        VocabularyIndex index = wordRace();
+        int[] order = new int[index.size()];
+        index.fillSession(order, new Random(5));
+
+        boolean[] seen = new boolean[index.size()];
+        int lastDifficulty = VocabularyIndex.EASY;
+        for (int wordIndex : order) {
+            assertFalse("Word repeated in session", seen[wordIndex]);
+            seen[wordIndex] = true;
+            int difficulty = index.getDifficulty(wordIndex);
+            assertTrue("Difficulty should not go down", difficulty >= lastDifficulty);
+            lastDifficulty = difficulty;
+        }
+    }
+
+    @Test
+    public void testLargeVocabulary() {
+        // Thousands of random words build once and pick as before
+        Random random = new Random(42);
+        List<WordItem> words = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int length = 2 + random.nextInt(8);
+            StringBuilder word = new StringBuilder();
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words.add(new WordItem(word.toString(), ""));
+        }
+        VocabularyIndex index = new VocabularyIndex(words);
+
+        int total = 0;
+        for (int d = 0; d < VocabularyIndex.DIFFICULTY_COUNT; d++) {
+            assertTrue(index.getBucketSize(d) > 0);
+            total += index.getBucketSize(d);
+        }
+        assertEquals(5000, total);
+
+        int[] order = new int[index.size()];
+        index.fillSession(order, random);
+        char[] out = new char[DISTRACTORS];
+        for (int i = 0; i < 1000; i++) {
+            String word = index.getWord(order[i]).getWord();
+            char target = Character.toUpperCase(word.charAt(0));
+            index.pickDistractors(target, index.getDifficulty(order[i]), random, out, DISTRACTORS);
+            for (char c : out) {
+                assertNotEquals(target, c);
+            }
+        }
+    }
+}
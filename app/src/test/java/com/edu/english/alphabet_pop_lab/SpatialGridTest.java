@@ -0,0 +1,202 @@
+package com.edu.english.alphabet_pop_lab;
+
+import static org.junit.Assert.*;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Unit tests and a scaling benchmark for the bubble collision broad phase.
+ */
+public class SpatialGridTest {
+
+    private static final float SCREEN_WIDTH = 1080f;
+    private static final float SCREEN_HEIGHT = 1920f;
+
+    /**
+     * Bubbles as plain arrays, moved and bounced like Bubble does
+     */
+    private static class Field {
+        final int count;
+        final float[] x, y, vx, vy, r;
+
+        Field(int count, long seed) {
+            this.count = count;
+            Random random = new Random(seed);
+            x = new float[count];
+            y = new float[count];
+            vx = new float[count];
+            vy = new float[count];
+            r = new float[count];
+            for (int i = 0; i < count; i++) {
+                r[i] = 15f + random.nextFloat() * 15f;
+                x[i] = r[i] + random.nextFloat() * (SCREEN_WIDTH - 2 * r[i]);
+                y[i] = r[i] + random.nextFloat() * (SCREEN_HEIGHT - 2 * r[i]);
+                vx[i] = random.nextFloat() * 120f - 60f;
+                vy[i] = random.nextFloat() * 120f - 60f;
+            }
+        }
+
+        void move(float dt) {
+            for (int i = 0; i < count; i++) {
+                x[i] += vx[i] * dt;
+                y[i] += vy[i] * dt;
+                if (x[i] < r[i] || x[i] > SCREEN_WIDTH - r[i]) vx[i] = -vx[i];
+                if (y[i] < r[i] || y[i] > SCREEN_HEIGHT - r[i]) vy[i] = -vy[i];
+            }
+        }
+
+        boolean overlaps(int a, int b) {
+            float dx = x[b] - x[a];
+            float dy = y[b] - y[a];
+            float minDist = r[a] + r[b];
+            return dx * dx + dy * dy < minDist * minDist;
+        }
+
+        /**
+         * Same response as Bubble.handleCollision
+         */
+        void collide(int a, int b) {
+            float dx = x[b] - x[a];
+            float dy = y[b] - y[a];
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+            float minDist = r[a] + r[b];
+            if (distance >= minDist || distance <= 0) return;
+
+            float nx = dx / distance;
+            float ny = dy / distance;
+            float overlap = (minDist - distance) / 2f;
+            x[a] -= nx * overlap;
+            y[a] -= ny * overlap;
+            x[b] += nx * overlap;
+            y[b] += ny * overlap;
+
+            float dot = (vx[a] - vx[b]) * nx + (vy[a] - vy[b]) * ny;
+            if (dot > 0) {
+                vx[a] -= 0.3f * dot * nx;
+                vy[a] -= 0.3f * dot * ny;
+                vx[b] += 0.3f * dot * nx;
+                vy[b] += 0.3f * dot * ny;
+            }
+        }
+
+        void fill(SpatialGrid grid) {
+            grid.clear();
+            for (int i = 0; i < count; i++) {
+                grid.insert(i, x[i], y[i], r[i]);
+            }
+        }
+    }
+
+    @Test
+    public void findsEveryOverlappingPair() {
+        Field field = new Field(600, 1);
+        SpatialGrid grid = new SpatialGrid(8);
+
+        for (int frame = 0; frame < 20; frame++) {
+            field.move(1f / 60f);
+
+            Set<Long> expected = new HashSet<>();
+            for (int a = 0; a < field.count; a++) {
+                for (int b = a + 1; b < field.count; b++) {
+                    if (field.overlaps(a, b)) expected.add((long) a << 32 | b);
+                }
+            }
+
+            Set<Long> found = new HashSet<>();
+            field.fill(grid);
+            grid.forEachPair((a, b) -> {
+                assertTrue(a < b);
+                assertTrue("pair reported twice", found.add((long) a << 32 | b));
+            });
+
+            assertTrue(found.containsAll(expected));
+        }
+    }
+
+    @Test
+    public void candidatesGrowLinearly() {
+        SpatialGrid grid = new SpatialGrid(8);
+        Field field = new Field(1000, 2);
+        field.fill(grid);
+        grid.forEachPair((a, b) -> { });
+
+        // All pairs would be ~500k; the grid should stay within a small multiple of n
+        assertTrue(grid.getLastCandidateCount() < field.count * 20);
+    }
+
+    @Test
+    public void farApartCirclesDontBlowUpGrid() {
+        SpatialGrid grid = new SpatialGrid(2);
+        grid.insert(0, 0f, 0f, 1f);
+        grid.insert(1, 1e7f, 1e7f, 1f);
+        grid.insert(2, 1e7f + 1f, 1e7f, 1f);
+
+        int[] pairs = new int[1];
+        grid.forEachPair((a, b) -> pairs[0]++);
+
+        assertEquals(3, grid.getCount());
+        assertTrue(pairs[0] >= 1);
+    }
+
+    @Test
+    public void fewerThanTwoCirclesVisitNothing() {
+        SpatialGrid grid = new SpatialGrid(4);
+        grid.insert(0, 10f, 10f, 5f);
+        grid.forEachPair((a, b) -> fail());
+        assertEquals(0, grid.getLastCandidateCount());
+    }
+
+    /**
+     * Full collision step (move, broad phase, narrow phase) against the old
+     * all-pairs loop, printed per bubble count. Opt-in, since wall-clock timing
+     * is meaningless on a busy machine: ./gradlew test -Pbenchmarks
+     */
+    @Test
+    public void benchmarkScaling() {
+        Assume.assumeTrue("Benchmarks are opt-in", Boolean.getBoolean("benchmarks"));
+
+        int[] counts = {26, 100, 250, 500, 1000};
+        int frames = 240;
+        SpatialGrid grid = new SpatialGrid(32);
+
+        for (int n : counts) {
+            Field bruteField = new Field(n, n);
+            float bruteMs = time(frames, () -> {
+                bruteField.move(1f / 60f);
+                for (int a = 0; a < bruteField.count; a++) {
+                    for (int b = a + 1; b < bruteField.count; b++) {
+                        bruteField.collide(a, b);
+                    }
+                }
+            });
+
+            Field gridField = new Field(n, n);
+            SpatialGrid.PairVisitor collide = gridField::collide;
+            float gridMs = time(frames, () -> {
+                gridField.move(1f / 60f);
+                gridField.fill(grid);
+                grid.forEachPair(collide);
+            });
+
+            System.out.printf("bubbles=%4d  all-pairs=%7.3f ms/frame  grid=%7.3f ms/frame  candidates=%d%n",
+                    n, bruteMs, gridMs, grid.getLastCandidateCount());
+        }
+    }
+
+    private static float time(int frames, Runnable step) {
+        // Warm up so the JIT has compiled the loop
+        for (int i = 0; i < frames / 4; i++) {
+            step.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            step.run();
+        }
+        return (System.nanoTime() - start) / 1e6f / frames;
+    }
+}
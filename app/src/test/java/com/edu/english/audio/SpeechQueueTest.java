@@ -0,0 +1,144 @@
+package com.edu.english.audio;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for SpeechQueue scheduling.
+ */
+public class SpeechQueueTest {
+
+    private static final Object SCREEN = new Object();
+    private static final Object OTHER_SCREEN = new Object();
+
+    private SpeechQueue queue;
+
+    @Before
+    public void setUp() {
+        queue = new SpeechQueue();
+    }
+
+    @Test
+    public void testIdleQueueStartsRightAway() {
+        SpeechQueue.Request request = queue.offer(SCREEN, "Apple", SpeechQueue.PRIORITY_INSTRUCTION, "a", 0);
+        assertNotNull(request);
+        assertSame(request, queue.getCurrent());
+        assertEquals("a", request.getUtteranceId());
+    }
+
+    @Test
+    public void testInstructionsWaitInOrder() {
+        SpeechQueue.Request first = queue.offer(SCREEN, "One", SpeechQueue.PRIORITY_INSTRUCTION, "1", 0);
+        assertNull(queue.offer(SCREEN, "Two", SpeechQueue.PRIORITY_INSTRUCTION, "2", 10));
+        assertNull(queue.offer(SCREEN, "Three", SpeechQueue.PRIORITY_INSTRUCTION, "3", 20));
+
+        SpeechQueue.Request second = queue.finish(first, 100);
+        assertEquals("Two", second.text);
+        assertEquals("Three", queue.finish(second, 200).text);
+    }
+
+    @Test
+    public void testFeedbackCutsInOverInstruction() {
+        SpeechQueue.Request instruction = queue.offer(SCREEN, "Trace the Circle", SpeechQueue.PRIORITY_INSTRUCTION, "i", 0);
+        SpeechQueue.Request feedback = queue.offer(SCREEN, "Great job!", SpeechQueue.PRIORITY_FEEDBACK, "f", 10);
+
+        assertNotNull(feedback);
+        assertSame(feedback, queue.getCurrent());
+        List<SpeechQueue.Request> dropped = queue.takeDropped();
+        assertEquals(1, dropped.size());
+        assertSame(instruction, dropped.get(0));
+
+        // Late callback of the cut-off utterance is ignored
+        assertNull(queue.finish(instruction, 20));
+        assertSame(feedback, queue.getCurrent());
+    }
+
+    @Test
+    public void testNewerFeedbackReplacesOlderFeedback() {
+        queue.offer(SCREEN, "A", SpeechQueue.PRIORITY_FEEDBACK, "a", 0);
+        SpeechQueue.Request latest = queue.offer(SCREEN, "B", SpeechQueue.PRIORITY_FEEDBACK, "b", 5);
+
+        assertSame(latest, queue.getCurrent());
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    public void testAutoRepeatIsSkippedWhenBusy() {
+        queue.offer(SCREEN, "Oops! Try again!", SpeechQueue.PRIORITY_FEEDBACK, "f", 0);
+        assertNull(queue.offer(SCREEN, "Cat", SpeechQueue.PRIORITY_AUTO_REPEAT, "r", 10));
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(1, queue.takeDropped().size());
+    }
+
+    @Test
+    public void testAutoRepeatGivesWayToInstruction() {
+        SpeechQueue.Request repeat = queue.offer(SCREEN, "Cat", SpeechQueue.PRIORITY_AUTO_REPEAT, "r", 0);
+        assertNotNull(repeat);
+
+        SpeechQueue.Request replay = queue.offer(SCREEN, "Dog", SpeechQueue.PRIORITY_INSTRUCTION, "i", 10);
+        assertSame(replay, queue.getCurrent());
+    }
+
+    @Test
+    public void testRapidTapsAreCoalesced() {
+        SpeechQueue.Request first = queue.offer(SCREEN, "One", SpeechQueue.PRIORITY_INSTRUCTION, "1", 0);
+        for (int i = 0; i < 10; i++) {
+            // Same as the one playing
+            assertNull(queue.offer(SCREEN, "One", SpeechQueue.PRIORITY_INSTRUCTION, "tap" + i, i));
+            // Same as the one waiting
+            assertNull(queue.offer(SCREEN, "Two", SpeechQueue.PRIORITY_INSTRUCTION, "two" + i, i));
+        }
+
+        assertEquals(1, queue.getPendingCount());
+        SpeechQueue.Request next = queue.finish(first, 100);
+        assertEquals("Two", next.text);
+        assertEquals("two9", next.getUtteranceId());
+        assertNull(queue.finish(next, 200));
+    }
+
+    @Test
+    public void testSameTextOfAnotherScreenIsNotCoalesced() {
+        queue.offer(SCREEN, "Red", SpeechQueue.PRIORITY_INSTRUCTION, "a", 0);
+        queue.offer(OTHER_SCREEN, "Red", SpeechQueue.PRIORITY_INSTRUCTION, "b", 0);
+        assertEquals(1, queue.getPendingCount());
+    }
+
+    @Test
+    public void testCancelDropsOnlyThatScreen() {
+        SpeechQueue.Request playing = queue.offer(SCREEN, "One", SpeechQueue.PRIORITY_INSTRUCTION, "1", 0);
+        queue.offer(SCREEN, "Two", SpeechQueue.PRIORITY_INSTRUCTION, "2", 0);
+        queue.offer(OTHER_SCREEN, "Three", SpeechQueue.PRIORITY_INSTRUCTION, "3", 0);
+        queue.takeDropped();
+
+        assertTrue(queue.cancel(SCREEN));
+        assertNull(queue.getCurrent());
+        assertEquals(2, queue.takeDropped().size());
+        assertNull(queue.finish(playing, 10));
+
+        SpeechQueue.Request next = queue.next(10);
+        assertEquals("Three", next.text);
+        assertFalse(queue.cancel(SCREEN));
+    }
+
+    @Test
+    public void testLatencyIsMeasured() {
+        SpeechQueue.Request first = queue.offer(SCREEN, "One", SpeechQueue.PRIORITY_INSTRUCTION, "1", 0);
+        queue.onStarted(first, 40);
+        queue.offer(SCREEN, "Two", SpeechQueue.PRIORITY_INSTRUCTION, "2", 100);
+
+        SpeechQueue.Request second = queue.finish(first, 500);
+        queue.onStarted(second, 520);
+
+        SpeechQueue.Stats stats = queue.getStats();
+        assertEquals(2, stats.started);
+        assertEquals(200, stats.averageQueueWaitMs);
+        assertEquals(400, stats.maxQueueWaitMs);
+        assertEquals(2, stats.spoken);
+        assertEquals(30, stats.averageStartLatencyMs);
+        assertEquals(40, stats.maxStartLatencyMs);
+    }
+}
@@ -0,0 +1,108 @@
+package com.edu.english.audio;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for SFX stream allocation.
+ */
+public class VoiceAllocatorTest {
+
+    private static final Object POP = new Object();
+    private static final Object SLIDER = new Object();
+    private static final Object SUCCESS = new Object();
+
+    private static final VoicePolicy POP_POLICY = new VoicePolicy(3, 60, 1, 400);
+    private static final VoicePolicy SLIDER_POLICY = new VoicePolicy(1, 80, 0, 250);
+    private static final VoicePolicy SUCCESS_POLICY = new VoicePolicy(1, 0, 3, 1500);
+
+    private VoiceAllocator allocator;
+    private int nextStreamId;
+
+    @Before
+    public void setUp() {
+        allocator = new VoiceAllocator(4);
+        nextStreamId = 1;
+    }
+
+    /**
+     * Reserve and start a play like the engine does; returns the reserve result
+     */
+    private int play(Object sound, VoicePolicy policy, long now) {
+        int result = allocator.reserve(sound, policy, now);
+        if (result != VoiceAllocator.RESULT_DROP) {
+            allocator.add(sound, nextStreamId++, policy.priority, policy.lengthMs, now);
+        }
+        return result;
+    }
+
+    @Test
+    public void testRetriggerInsideIntervalIsDropped() {
+        assertEquals(VoiceAllocator.RESULT_FREE, play(POP, POP_POLICY, 0));
+        assertEquals(VoiceAllocator.RESULT_DROP, play(POP, POP_POLICY, 30));
+        assertEquals(VoiceAllocator.RESULT_FREE, play(POP, POP_POLICY, 70));
+
+        assertEquals(1, allocator.getDroppedCount());
+        assertEquals(2, allocator.getActiveCount(70));
+    }
+
+    @Test
+    public void testVoiceCapReplacesOldestCopy() {
+        play(POP, POP_POLICY, 0);
+        play(POP, POP_POLICY, 100);
+        play(POP, POP_POLICY, 200);
+
+        // Fourth pop steals the first one (stream 1)
+        assertEquals(1, play(POP, POP_POLICY, 300));
+        assertEquals(1, allocator.getStolenCount());
+        assertEquals(3, allocator.getActiveCount(300));
+    }
+
+    @Test
+    public void testFinishedVoicesFreeTheirStreams() {
+        play(POP, POP_POLICY, 0);
+        play(POP, POP_POLICY, 100);
+        play(POP, POP_POLICY, 200);
+
+        // The first two have played out by now
+        assertEquals(VoiceAllocator.RESULT_FREE, play(POP, POP_POLICY, 550));
+        assertEquals(0, allocator.getStolenCount());
+        assertEquals(2, allocator.getActiveCount(550));
+    }
+
+    @Test
+    public void testFullPoolStealsLowestPriority() {
+        play(SLIDER, SLIDER_POLICY, 0);
+        play(POP, POP_POLICY, 10);
+        play(POP, POP_POLICY, 80);
+        play(POP, POP_POLICY, 150);
+
+        // Slider (priority 0) gives way to the success jingle
+        assertEquals(1, play(SUCCESS, SUCCESS_POLICY, 160));
+        assertEquals(1, allocator.getStolenCount());
+    }
+
+    @Test
+    public void testLowPriorityIsDroppedWhenOutranked() {
+        play(SUCCESS, SUCCESS_POLICY, 0);
+        play(SUCCESS, new VoicePolicy(4, 0, 3, 1500), 10);
+        play(SUCCESS, new VoicePolicy(4, 0, 3, 1500), 20);
+        play(SUCCESS, new VoicePolicy(4, 0, 3, 1500), 30);
+
+        assertEquals(VoiceAllocator.RESULT_DROP, play(SLIDER, SLIDER_POLICY, 40));
+        assertEquals(1, allocator.getDroppedCount());
+        assertEquals(0, allocator.getStolenCount());
+    }
+
+    @Test
+    public void testLoopsStayUntilRemoved() {
+        allocator.reserve(SLIDER, SLIDER_POLICY, 0);
+        allocator.add(SLIDER, 42, SLIDER_POLICY.priority, -1, 0);
+        assertEquals(1, allocator.getActiveCount(1_000_000));
+
+        allocator.remove(42);
+        assertEquals(0, allocator.getActiveCount(1_000_000));
+    }
+}
@@ -0,0 +1,106 @@
+package com.edu.english.coloralchemy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the drag TouchPredictor.
+ */
+public class TouchPredictorTest {
+
+    private static final float DELTA = 0.5f;
+
+    private TouchPredictor predictor;
+
+    @Before
+    public void setUp() {
+        predictor = new TouchPredictor();
+    }
+
+    @Test
+    public void testRestingFingerIsNotExtrapolated() {
+        predictor.reset(100, 100, 0);
+        predictor.addSample(100, 100, 8);
+        predictor.addSample(100, 100, 16);
+
+        predictor.predict(32);
+        assertEquals(100, predictor.getPredictedX(), DELTA);
+        assertEquals(100, predictor.getPredictedY(), DELTA);
+    }
+
+    @Test
+    public void testConstantVelocityIsExtrapolated() {
+        // 1 px per ms to the right
+        predictor.reset(0, 50, 0);
+        for (int t = 4; t <= 40; t += 4) {
+            predictor.addSample(t, 50, t);
+        }
+
+        predictor.predict(56);
+        assertTrue(predictor.getPredictedX() > 40);
+        assertTrue(predictor.getPredictedX() <= 56 + DELTA);
+        assertEquals(50, predictor.getPredictedY(), DELTA);
+    }
+
+    @Test
+    public void testPredictionDistanceIsClamped() {
+        // Very fast fling: 20 px per ms
+        predictor.reset(0, 0, 0);
+        for (int t = 1; t <= 8; t++) {
+            predictor.addSample(t * 20, 0, t);
+        }
+
+        predictor.predict(40);
+        assertTrue(predictor.getPredictedX() - 160 <= 60 + DELTA);
+    }
+
+    @Test
+    public void testStoppedFingerSettlesOnLastSample() {
+        predictor.reset(0, 50, 0);
+        for (int t = 4; t <= 40; t += 4) {
+            predictor.addSample(t, 50, t);
+        }
+
+        // Still ahead of the finger just after the last sample
+        predictor.predict(56);
+        float lead = predictor.getPredictedX() - 40;
+        assertTrue(lead > 0);
+
+        // Fading once no sample has arrived for longer than the horizon
+        predictor.predict(100);
+        assertTrue(predictor.getPredictedX() - 40 < lead);
+
+        // Back on the finger
+        predictor.predict(200);
+        assertEquals(40, predictor.getPredictedX(), DELTA);
+        assertEquals(50, predictor.getPredictedY(), DELTA);
+    }
+
+    @Test
+    public void testDirectionReversalDoesNotOvershoot() {
+        predictor.reset(0, 0, 0);
+        for (int t = 4; t <= 40; t += 4) {
+            predictor.addSample(t, 0, t);
+        }
+        // Finger turns back
+        for (int t = 44; t <= 80; t += 4) {
+            predictor.addSample(40 - (t - 40), 0, t);
+        }
+
+        predictor.predict(96);
+        assertTrue(predictor.getVelocityX() < 0);
+        assertTrue(predictor.getPredictedX() <= DELTA);
+    }
+
+    @Test
+    public void testDuplicateTimestampReplacesSample() {
+        predictor.reset(0, 0, 0);
+        predictor.addSample(10, 0, 10);
+        predictor.addSample(12, 0, 10);
+
+        predictor.predict(10);
+        assertEquals(12, predictor.getPredictedX(), DELTA);
+    }
+}
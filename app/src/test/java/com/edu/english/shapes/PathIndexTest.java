@@ -0,0 +1,161 @@
+package com.edu.english.shapes;
+
+import com.edu.english.shapes.utils.PathIndex;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for PathIndex
+ * Checks positions along the path and that grid queries agree with a full scan
+ */
+public class PathIndexTest {
+
+    private static final float EPSILON = 1e-3f;
+    private static final float STEP = 4f;
+
+    /**
+     * Square outline from (0, 0) clockwise, closed back at the start
+     */
+    private static PathIndex square(float size) {
+        float[] points = {0, 0, size, 0, size, size, 0, size, 0, 0};
+        float[] lengths = {0, size, size * 2, size * 3, size * 4};
+        return new PathIndex(points, lengths, 5, 120f);
+    }
+
+    /**
+     * Circle sampled every STEP of arc length, like ShapeTraceView does
+     */
+    private static float[][] circle(float cx, float cy, float radius) {
+        float total = (float) (2 * Math.PI * radius);
+        int count = (int) Math.ceil(total / STEP) + 1;
+        float[] points = new float[count * 2];
+        float[] lengths = new float[count];
+        for (int i = 0; i < count; i++) {
+            lengths[i] = Math.min(i * STEP, total);
+            double angle = lengths[i] / radius;
+            points[i * 2] = (float) (cx + radius * Math.cos(angle));
+            points[i * 2 + 1] = (float) (cy + radius * Math.sin(angle));
+        }
+        return new float[][]{points, lengths};
+    }
+
+    @Test
+    public void testGetPosition() {
+        PathIndex index = square(100f);
+        float[] pos = new float[2];
+
+        assertEquals(400f, index.getLength(), EPSILON);
+
+        index.getPosition(0f, pos);
+        assertEquals(0f, pos[0], EPSILON);
+        assertEquals(0f, pos[1], EPSILON);
+
+        index.getPosition(150f, pos);
+        assertEquals(100f, pos[0], EPSILON);
+        assertEquals(50f, pos[1], EPSILON);
+
+        index.getPosition(325f, pos);
+        assertEquals(0f, pos[0], EPSILON);
+        assertEquals(75f, pos[1], EPSILON);
+
+        // Clamped past either end
+        index.getPosition(500f, pos);
+        assertEquals(0f, pos[0], EPSILON);
+        assertEquals(0f, pos[1], EPSILON);
+        index.getPosition(-5f, pos);
+        assertEquals(0f, pos[0], EPSILON);
+        assertEquals(0f, pos[1], EPSILON);
+    }
+
+    @Test
+    public void testFindNearestOnSquare() {
+        PathIndex index = square(100f);
+        PathIndex.Hit hit = new PathIndex.Hit();
+
+        // Just outside the right edge, halfway down
+        index.findNearest(110f, 50f, 0f, 400f, 50f, hit);
+        assertTrue(hit.found);
+        assertEquals(150f, hit.length, EPSILON);
+        assertEquals(10f, hit.distance, EPSILON);
+        assertEquals(100f, hit.x, EPSILON);
+        assertEquals(50f, hit.y, EPSILON);
+    }
+
+    @Test
+    public void testFindNearestStaysInWindow() {
+        PathIndex index = square(100f);
+        PathIndex.Hit hit = new PathIndex.Hit();
+
+        // Closest to the right edge, but only the top edge is allowed: its end wins
+        index.findNearest(110f, 50f, 0f, 100f, 100f, hit);
+        assertTrue(hit.found);
+        assertEquals(100f, hit.length, EPSILON);
+
+        // Too far from anything allowed
+        index.findNearest(110f, 50f, 0f, 40f, 30f, hit);
+        assertFalse(hit.found);
+
+        // Far away from the whole path
+        index.findNearest(1000f, 1000f, 0f, 400f, 180f, hit);
+        assertFalse(hit.found);
+    }
+
+    @Test
+    public void testMatchesFullScan() {
+        float[][] sampled = circle(500f, 600f, 350f);
+        float[] points = sampled[0];
+        float[] lengths = sampled[1];
+        int count = lengths.length;
+        PathIndex index = new PathIndex(points, lengths, count, 120f);
+        PathIndex.Hit hit = new PathIndex.Hit();
+
+        Random random = new Random(1);
+        float maxDistance = 180f;
+        for (int run = 0; run < 2000; run++) {
+            float x = random.nextFloat() * 1000f;
+            float y = 200f + random.nextFloat() * 800f;
+            float from = random.nextFloat() * index.getLength();
+            float to = Math.min(from + 200f, index.getLength());
+
+            index.findNearest(x, y, from, to, maxDistance, hit);
+            float expected = scanNearest(points, lengths, count, x, y, from, to);
+            if (expected < maxDistance) {
+                assertTrue(hit.found);
+                assertEquals(expected, hit.distance, 0.01f);
+                assertTrue(hit.length >= from - EPSILON && hit.length <= to + EPSILON);
+            } else {
+                assertFalse(hit.found);
+            }
+        }
+    }
+
+    /**
+     * Closest distance by checking every segment
+     */
+    private static float scanNearest(float[] points, float[] lengths, int count,
+                                     float x, float y, float from, float to) {
+        float best = Float.MAX_VALUE;
+        for (int s = 0; s < count - 1; s++) {
+            if (lengths[s + 1] < from || lengths[s] > to) continue;
+            // Fine walk along the segment, inside the window
+            for (int k = 0; k <= 400; k++) {
+                float t = k / 400f;
+                float length = lengths[s] + (lengths[s + 1] - lengths[s]) * t;
+                if (length < from || length > to) continue;
+                float px = points[s * 2] + (points[s * 2 + 2] - points[s * 2]) * t;
+                float py = points[s * 2 + 1] + (points[s * 2 + 3] - points[s * 2 + 1]) * t;
+                best = Math.min(best, (float) Math.hypot(x - px, y - py));
+            }
+        }
+        return best;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsSinglePoint() {
+        new PathIndex(new float[]{0, 0}, new float[]{0}, 1, 10f);
+    }
+}
@@ -0,0 +1,114 @@
+package com.edu.english.util;
+
+import static org.junit.Assert.*;
+
+import com.edu.english.content.ContentPackWriter;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for compiling and reading content packs.
+ */
+public class ContentPackTest {
+
+    private static final String LETTERS =
+            "# Test letters\n"
+            + "[B]\n"
+            + "Ball\t⚽\n"
+            + "Bear\n"
+            + "\n"
+            + "[A]\n"
+            + "Apple\t🍎\n"
+            + "Ant\t🐜\n"
+            + "[X]\n"
+            + "Fox\t🦊\n";
+
+    @Test
+    public void testWriterAndReaderAgreeOnHeader() {
+        assertEquals(ContentPackWriter.MAGIC, ContentPack.MAGIC);
+        assertEquals(ContentPackWriter.VERSION, ContentPack.VERSION);
+    }
+
+    @Test
+    public void testReadsSections() throws IOException {
+        ContentPack pack = TestContentPacks.fromSource(LETTERS);
+        assertEquals(2, pack.getFieldCount());
+        assertEquals(3, pack.getSectionCount());
+
+        ContentPack.Section a = pack.getSection("A");
+        assertEquals("A", a.getName());
+        assertEquals(2, a.size());
+        assertEquals("Ant", a.get(1, 0));
+        assertEquals("🐜", a.get(1, 1));
+        assertArrayEquals(new String[]{"Apple", "Ant"}, a.getColumn(0));
+
+        ContentPack.Section x = pack.getSection("X");
+        assertEquals("🦊", x.get(x.indexOf(0, "Fox"), 1));
+    }
+
+    @Test
+    public void testMissingFieldsAndSections() throws IOException {
+        ContentPack pack = TestContentPacks.fromSource(LETTERS);
+        ContentPack.Section b = pack.getSection("B");
+        assertEquals("", b.get(1, 1));
+        assertEquals(-1, b.indexOf(0, "Apple"));
+        assertNull(pack.getSection("C"));
+        assertNull(pack.getSection(""));
+    }
+
+    @Test
+    public void testSectionDecodedOnce() throws IOException {
+        ContentPack pack = TestContentPacks.fromSource(LETTERS);
+        assertSame(pack.getSection("B"), pack.getSection("B"));
+    }
+
+    @Test
+    public void testManySections() throws IOException {
+        int count = 2000;
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            source.append("[lesson").append(i).append("]\n");
+            source.append("word").append(i).append("\tshared\n");
+        }
+        ContentPack pack = TestContentPacks.fromSource(source.toString());
+
+        for (int i = 0; i < count; i += 97) {
+            ContentPack.Section section = pack.getSection("lesson" + i);
+            assertEquals("word" + i, section.get(0, 0));
+            assertEquals("shared", section.get(0, 1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsRecordOutsideSection() throws IOException {
+        TestContentPacks.fromSource("Apple\t🍎\n");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsDuplicateSection() throws IOException {
+        TestContentPacks.fromSource("[A]\nApple\n[A]\nAnt\n");
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsOtherFiles() throws IOException {
+        new ContentPack(ByteBuffer.wrap("not a pack at all".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testAlphabetPopLabContent() throws IOException {
+        ContentPack pack = TestContentPacks.load("alphabet_pop_lab");
+        assertEquals(26, pack.getSectionCount());
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            ContentPack.Section section = pack.getSection(String.valueOf(letter));
+            assertNotNull("Missing letter " + letter, section);
+            assertEquals(6, section.size());
+            for (int i = 0; i < section.size(); i++) {
+                assertFalse("No emoji for " + section.get(i, 0), section.get(i, 1).isEmpty());
+            }
+        }
+    }
+}
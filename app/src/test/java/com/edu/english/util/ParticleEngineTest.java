@@ -0,0 +1,152 @@
+package com.edu.english.util;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the pooled particle engine.
+ */
+public class ParticleEngineTest {
+
+    private static final int WHITE = 0xFFFFFFFF;
+
+    private ParticleEngine engine;
+    private ParticleEmitter plain;
+
+    @Before
+    public void setUp() {
+        engine = new ParticleEngine(4);
+        plain = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE);
+    }
+
+    /**
+     * Collects quads instead of drawing them
+     */
+    private static class RecordingSink implements ParticleEngine.Sink {
+        int count;
+        float lastX, lastY, lastHalfWidth, lastHalfHeight;
+        int lastColor;
+
+        @Override
+        public void add(int shape, float x, float y, float halfWidth, float halfHeight, float rotation, int color) {
+            count++;
+            lastX = x;
+            lastY = y;
+            lastHalfWidth = halfWidth;
+            lastHalfHeight = halfHeight;
+            lastColor = color;
+        }
+    }
+
+    @Test
+    public void emitBeyondCapacityIsDropped() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(engine.emit(plain, 0, 0, 0, 0, 1, 1, WHITE) >= 0);
+        }
+
+        assertEquals(-1, engine.emit(plain, 0, 0, 0, 0, 1, 1, WHITE));
+        assertEquals(4, engine.getCount());
+        assertEquals(1, engine.getDroppedCount());
+    }
+
+    @Test
+    public void deadSlotsAreReused() {
+        int first = engine.emit(plain, 0, 0, 0, 0, 1, 0.1f, WHITE);
+        engine.emit(plain, 0, 0, 0, 0, 1, 1f, WHITE);
+
+        engine.update(0.2f);
+        assertEquals(1, engine.getCount());
+
+        assertEquals(first, engine.emit(plain, 0, 0, 0, 0, 1, 1f, WHITE));
+        assertEquals(2, engine.getCount());
+    }
+
+    @Test
+    public void clearFreesEverySlot() {
+        for (int i = 0; i < 4; i++) {
+            engine.emit(plain, 0, 0, 0, 0, 1, 1, WHITE);
+        }
+
+        engine.clear();
+
+        assertTrue(engine.isEmpty());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(engine.emit(plain, 0, 0, 0, 0, 1, 1, WHITE) >= 0);
+        }
+    }
+
+    @Test
+    public void particlesMoveAndFall() {
+        ParticleEmitter falling = new ParticleEmitter(SpriteBatch.SHAPE_RECT).setGravity(100f);
+        engine.emit(falling, 0, 0, 10f, 0, 1, 10f, WHITE);
+
+        engine.update(0.5f);
+
+        RecordingSink sink = new RecordingSink();
+        engine.draw(sink);
+        assertEquals(1, sink.count);
+        assertEquals(5f, sink.lastX, 0.001f);
+        assertEquals(25f, sink.lastY, 0.001f);
+    }
+
+    @Test
+    public void infiniteLifeDiesOnlyBelowFloor() {
+        ParticleEmitter confetti = new ParticleEmitter(SpriteBatch.SHAPE_RECT)
+                .setFade(ParticleEmitter.FADE_NONE)
+                .setFloor(100f);
+        engine.emit(confetti, 0, 0, 0, 50f, 1, Float.POSITIVE_INFINITY, WHITE);
+
+        engine.update(1f);
+        assertEquals(1, engine.getCount());
+
+        engine.update(1.5f);
+        assertTrue(engine.isEmpty());
+    }
+
+    @Test
+    public void countsArePerEmitter() {
+        ParticleEmitter other = new ParticleEmitter(SpriteBatch.SHAPE_STAR);
+        engine.emit(plain, 0, 0, 0, 0, 1, 0.1f, WHITE);
+        engine.emit(other, 0, 0, 0, 0, 1, 1f, WHITE);
+        engine.emit(other, 0, 0, 0, 0, 1, 1f, WHITE);
+
+        assertEquals(1, engine.getCount(plain));
+        assertEquals(2, engine.getCount(other));
+
+        engine.update(0.5f);
+        assertEquals(0, engine.getCount(plain));
+        assertEquals(2, engine.getCount(other));
+    }
+
+    @Test
+    public void fadeAndSizeFollowRemainingLife() {
+        ParticleEmitter fading = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+                .setSize(ParticleEmitter.SIZE_HALF_FADE)
+                .setAspect(0.5f);
+        engine.emit(fading, 0, 0, 0, 0, 10f, 1f, WHITE);
+
+        engine.update(0.5f);
+
+        RecordingSink sink = new RecordingSink();
+        engine.draw(sink);
+        assertEquals(127, sink.lastColor >>> 24);
+        assertEquals(0x00FFFFFF, sink.lastColor & 0x00FFFFFF);
+        assertEquals(7.5f, sink.lastHalfWidth, 0.001f);
+        assertEquals(3.75f, sink.lastHalfHeight, 0.001f);
+    }
+
+    @Test
+    public void glowAddsSecondQuad() {
+        ParticleEmitter glowing = new ParticleEmitter(SpriteBatch.SHAPE_CIRCLE)
+                .setGlow(SpriteBatch.SHAPE_CIRCLE, 0x80FFFFFF, 2f);
+        engine.emit(glowing, 0, 0, 0, 0, 4f, 1f, WHITE);
+
+        RecordingSink sink = new RecordingSink();
+        engine.draw(sink);
+        assertEquals(2, sink.count);
+        assertEquals(8f, sink.lastHalfWidth, 0.001f);
+        assertEquals(0x80, sink.lastColor >>> 24);
+    }
+}
@@ -0,0 +1,48 @@
+package com.edu.english.util;
+
+import com.edu.english.content.ContentPackWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Content packs for unit tests, compiled with the same writer as the build
+ */
+public final class TestContentPacks {
+
+    // Unit tests run from the app module directory
+    private static final File CONTENT_DIR = new File("src/main/content");
+
+    private TestContentPacks() {
+    }
+
+    /**
+     * Compile a pack from src/main/content/<name>.txt
+     */
+    public static ContentPack load(String name) throws IOException {
+        File source = new File(CONTENT_DIR, name + ".txt");
+        try (Reader reader = new InputStreamReader(new FileInputStream(source), StandardCharsets.UTF_8)) {
+            return compile(reader, source.getName());
+        }
+    }
+
+    /**
+     * Compile a pack from source text
+     */
+    public static ContentPack fromSource(String source) throws IOException {
+        return compile(new StringReader(source), "test.txt");
+    }
+
+    private static ContentPack compile(Reader reader, String sourceName) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ContentPackWriter.compile(reader, sourceName, out);
+        return new ContentPack(ByteBuffer.wrap(out.toByteArray()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.edu.english.content;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles a content source file into the binary pack read by
+ * com.edu.english.util.ContentPack. Used by the compileContentPacks task
+ * (app/build.gradle.kts) and by the app's unit tests, so both always agree
+ * on the format.
+ *
+ * Source: "# comment" lines, "[section]" headers (one per lesson), then one
+ * record per line with tab-separated fields. Blank lines are skipped.
+ */
+public final class ContentPackWriter {
+
+    public static final int MAGIC = 0x454B4350; // "EKCP"
+    public static final int VERSION = 1;
+
+    private ContentPackWriter() {
+    }
+
+    /**
+     * @param sourceName File name for error messages
+     * @throws IllegalArgumentException On a malformed source
+     */
+    public static void compile(Reader source, String sourceName, OutputStream out) throws IOException {
+        // Sorted by name so the app can binary search them
+        TreeMap<String, List<String[]>> sections = new TreeMap<>();
+        List<String[]> current = null;
+        int fieldCount = 1;
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[") && line.trim().endsWith("]")) {
+                String name = line.trim();
+                name = name.substring(1, name.length() - 1).trim();
+                if (sections.containsKey(name)) {
+                    throw new IllegalArgumentException(sourceName + ":" + lineNumber + ": duplicate section [" + name + "]");
+                }
+                current = new ArrayList<>();
+                sections.put(name, current);
+                continue;
+            }
+
+            if (current == null) {
+                throw new IllegalArgumentException(sourceName + ":" + lineNumber + ": record before the first [section]");
+            }
+            String[] fields = line.split("\t", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            current.add(fields);
+            fieldCount = Math.max(fieldCount, fields.length);
+        }
+
+        write(sections, fieldCount, out);
+    }
+
+    private static void write(TreeMap<String, List<String[]>> sections, int fieldCount, OutputStream target)
+            throws IOException {
+        // Each distinct string is stored once
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        Map<String, Integer> offsets = new HashMap<>();
+
+        int recordCount = 0;
+        for (List<String[]> records : sections.values()) {
+            recordCount += records.size();
+        }
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(fieldCount);
+        out.writeInt(sections.size());
+        out.writeInt(recordCount);
+
+        int firstRecord = 0;
+        for (Map.Entry<String, List<String[]>> section : sections.entrySet()) {
+            writeRef(out, section.getKey(), strings, offsets);
+            out.writeInt(firstRecord);
+            out.writeInt(section.getValue().size());
+            firstRecord += section.getValue().size();
+        }
+        for (List<String[]> records : sections.values()) {
+            for (String[] fields : records) {
+                for (int f = 0; f < fieldCount; f++) {
+                    writeRef(out, f < fields.length ? fields[f] : "", strings, offsets);
+                }
+            }
+        }
+        strings.writeTo(out);
+        out.flush();
+    }
+
+    private static void writeRef(DataOutputStream out, String text, ByteArrayOutputStream strings,
+                                 Map<String, Integer> offsets) throws IOException {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Integer offset = offsets.get(text);
+        if (offset == null) {
+            offset = strings.size();
+            offsets.put(text, offset);
+            strings.write(utf8);
+        }
+        out.writeInt(offset);
+        out.writeInt(utf8.length);
+    }
+}